@@ -0,0 +1,88 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of {@link DynamoDBOperations}. Reads are executed
+ * via {@link com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync} - the
+ * returned {@link CompletableFuture}s complete on the threads of the async
+ * client.
+ *
+ * @see AsyncDynamoDBTemplate
+ */
+public interface AsyncDynamoDBOperations extends DynamoDBOperations {
+
+	<T> CompletableFuture<T> loadAsync(Class<T> domainClass, Object hashKey, Object rangeKey);
+	<T> CompletableFuture<T> loadAsync(Class<T> domainClass, Object hashKey);
+	<T> CompletableFuture<List<T>> batchLoadAsync(Map<Class<?>, List<KeyPair>> itemsToGet);
+
+	/**
+	 * @param <T>
+	 *            Type of the entity
+	 * @param clazz
+	 *            Type of the entity
+	 * @param queryRequest
+	 *            The request to execute. All result pages are loaded.
+	 * @return All entities matching the request
+	 */
+	<T> CompletableFuture<List<T>> queryAsync(Class<T> clazz, QueryRequest queryRequest);
+	<T> CompletableFuture<Integer> countAsync(Class<T> clazz, QueryRequest mutableQueryRequest);
+
+	/**
+	 * The returned {@link Publisher}s emit the result page by page - see
+	 * {@link DynamoDBPagePublisher}. An
+	 * {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent}
+	 * is published for each emitted entity.
+	 *
+	 * @param <T>
+	 *            Type of the entity
+	 * @param clazz
+	 *            Type of the entity
+	 * @param queryRequest
+	 *            The request to execute
+	 * @return All entities matching the request
+	 */
+	<T> Publisher<T> queryPublisher(Class<T> clazz, QueryRequest queryRequest);
+	<T> Publisher<T> queryPublisher(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression);
+	<T> Publisher<T> scanPublisher(Class<T> domainClass, DynamoDBScanExpression scanExpression);
+
+	<T> CompletableFuture<T> saveAsync(T entity);
+	<T> CompletableFuture<T> deleteAsync(T entity);
+
+	/**
+	 * Executes a blocking operation - e.g. a {@link DynamoDBOperations} method
+	 * without a non-blocking counterpart - without blocking the calling thread.
+	 * The operation still blocks a thread of a dedicated executor while it runs.
+	 *
+	 * @param <R>
+	 *            Type of the result
+	 * @param operation
+	 *            The operation to execute
+	 * @return The result of the operation
+	 */
+	<R> CompletableFuture<R> executeAsync(Supplier<R> operation);
+}
@@ -0,0 +1,488 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.datamodeling.BatchLoadContext;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.BatchGetItemException;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchLoadRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.services.dynamodbv2.model.Select;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperationTags.Operation;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterQueryEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.DynamoDBMappingEvent;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncDynamoDBOperations} implementation on top of
+ * {@link AmazonDynamoDBAsync}. As a {@link DynamoDBTemplate} it can also be
+ * used for the blocking operations of the repositories.
+ *
+ * Loads, queries and counts are issued as asynchronous requests. The write
+ * path of {@link DynamoDBMapper} (versioning, auto generated keys) has no
+ * asynchronous counterpart - thus {@link #saveAsync(Object)} and
+ * {@link #deleteAsync(Object)} run the blocking operations via
+ * {@link #executeAsync(Supplier)}. The blocking operations are kept off the
+ * threads of the async client, which complete its requests.
+ */
+public class AsyncDynamoDBTemplate extends DynamoDBTemplate implements AsyncDynamoDBOperations {
+	/**
+	 * @see com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest
+	 */
+	private static final int MAX_KEYS_PER_BATCH_GET = 100;
+
+	private final AmazonDynamoDBAsync amazonDynamoDBAsync;
+	private final DynamoDBMapper dynamoDBMapper;
+	private final DynamoDBMapperConfig dynamoDBMapperConfig;
+	@Nullable
+	private final Executor executor;
+	@Nullable
+	private ThreadPoolExecutor blockingExecutor;
+
+	/**
+	 * Initializes a new {@code AsyncDynamoDBTemplate} running blocking operations
+	 * on a pool of daemon threads owned by this template - shut down by
+	 * {@link #destroy()}.
+	 *
+	 * @param amazonDynamoDBAsync
+	 *            must not be {@code null}
+	 * @param dynamoDBMapper
+	 *            must not be {@code null}
+	 * @param dynamoDBMapperConfig
+	 *            must not be {@code null}
+	 */
+	public AsyncDynamoDBTemplate(AmazonDynamoDBAsync amazonDynamoDBAsync, DynamoDBMapper dynamoDBMapper,
+			DynamoDBMapperConfig dynamoDBMapperConfig) {
+		super(amazonDynamoDBAsync, dynamoDBMapper, dynamoDBMapperConfig);
+
+		this.amazonDynamoDBAsync = amazonDynamoDBAsync;
+		this.dynamoDBMapper = dynamoDBMapper;
+		this.dynamoDBMapperConfig = dynamoDBMapperConfig;
+		this.executor = null;
+	}
+
+	/**
+	 * Initializes a new {@code AsyncDynamoDBTemplate}.
+	 *
+	 * @param amazonDynamoDBAsync
+	 *            must not be {@code null}
+	 * @param dynamoDBMapper
+	 *            must not be {@code null}
+	 * @param dynamoDBMapperConfig
+	 *            must not be {@code null}
+	 * @param executor
+	 *            must not be {@code null} - used to run blocking operations. It
+	 *            should not be the executor of the async client, as the blocking
+	 *            operations wait for requests completed by that executor.
+	 */
+	public AsyncDynamoDBTemplate(AmazonDynamoDBAsync amazonDynamoDBAsync, DynamoDBMapper dynamoDBMapper,
+			DynamoDBMapperConfig dynamoDBMapperConfig, Executor executor) {
+		super(amazonDynamoDBAsync, dynamoDBMapper, dynamoDBMapperConfig);
+		Assert.notNull(executor, "executor must not be null!");
+
+		this.amazonDynamoDBAsync = amazonDynamoDBAsync;
+		this.dynamoDBMapper = dynamoDBMapper;
+		this.dynamoDBMapperConfig = dynamoDBMapperConfig;
+		this.executor = executor;
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		ExecutorService pool;
+		synchronized (this) {
+			pool = blockingExecutor;
+			blockingExecutor = null;
+		}
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	private synchronized Executor getBlockingExecutor() {
+		if (executor != null) {
+			return executor;
+		}
+		if (blockingExecutor == null) {
+			blockingExecutor = newDaemonPool("dynamodb-async-template-");
+		}
+		return blockingExecutor;
+	}
+
+	@Override
+	public <T> CompletableFuture<T> loadAsync(Class<T> domainClass, Object hashKey, Object rangeKey) {
+		return instrumentAsync(Operation.LOAD, domainClass, null, metrics -> {
+			DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+			GetItemRequest getItemRequest = new GetItemRequest().withTableName(getTableName(domainClass))
+					.withKey(tableModel.convertKey(hashKey, rangeKey)).withConsistentRead(isConsistentRead());
+
+			CompletableFutureHandler<GetItemRequest, GetItemResult> handler = new CompletableFutureHandler<>();
+			amazonDynamoDBAsync.getItemAsync(getItemRequest, handler);
+			return handler.thenApply(result -> {
+				if (result.getItem() == null) {
+					metrics.items(0);
+					return null;
+				}
+				T entity = dynamoDBMapper.marshallIntoObject(domainClass, result.getItem(), dynamoDBMapperConfig);
+				if (isListenedTo(AfterLoadEvent.class, domainClass)) {
+					maybeEmitEvent(entity, AfterLoadEvent::new);
+				}
+				metrics.items(1);
+				return entity;
+			});
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<T> loadAsync(Class<T> domainClass, Object hashKey) {
+		return loadAsync(domainClass, hashKey, null);
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> batchLoadAsync(Map<Class<?>, List<KeyPair>> itemsToGet) {
+		return instrumentTableAsync(Operation.BATCH_LOAD, null, null, metrics -> batchLoadAsync(itemsToGet, metrics));
+	}
+
+	private <T> CompletableFuture<List<T>> batchLoadAsync(Map<Class<?>, List<KeyPair>> itemsToGet,
+			OperationMetrics metrics) {
+		// Completed before the first request is sent as the callbacks of all
+		// requests read the domain classes concurrently
+		Map<String, Class<?>> domainClassesByTableName = new HashMap<>();
+		Map<String, List<Map<String, AttributeValue>>> keysByTableName = new LinkedHashMap<>();
+		for (Entry<Class<?>, List<KeyPair>> classItems : itemsToGet.entrySet()) {
+			String tableName = getTableName(classItems.getKey());
+			DynamoDBMapperTableModel<?> tableModel = getTableModel(classItems.getKey());
+			domainClassesByTableName.put(tableName, classItems.getKey());
+
+			List<Map<String, AttributeValue>> keys = keysByTableName.computeIfAbsent(tableName,
+					t -> new ArrayList<>());
+			for (KeyPair keyPair : classItems.getValue()) {
+				keys.add(tableModel.convertKey(keyPair.getHashKey(), keyPair.getRangeKey()));
+			}
+		}
+
+		List<CompletableFuture<List<T>>> batches = new ArrayList<>();
+		Map<String, KeysAndAttributes> batch = new HashMap<>();
+		int keysInBatch = 0;
+		for (Entry<String, List<Map<String, AttributeValue>>> tableKeys : keysByTableName.entrySet()) {
+			for (Map<String, AttributeValue> key : tableKeys.getValue()) {
+				batch.computeIfAbsent(tableKeys.getKey(),
+						t -> new KeysAndAttributes().withKeys(new ArrayList<>()).withConsistentRead(isConsistentRead()))
+						.getKeys().add(key);
+				if (++keysInBatch == MAX_KEYS_PER_BATCH_GET) {
+					batches.add(batchGet(batch, domainClassesByTableName));
+					batch = new HashMap<>();
+					keysInBatch = 0;
+				}
+			}
+		}
+		if (keysInBatch > 0) {
+			batches.add(batchGet(batch, domainClassesByTableName));
+		}
+
+		return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+			List<T> entities = new ArrayList<>();
+			batches.forEach(b -> entities.addAll(b.join()));
+			metrics.items(entities.size());
+			return entities;
+		});
+	}
+
+	/**
+	 * Loads the keys - retrying unprocessed keys according to
+	 * {@link DynamoDBMapperConfig#getBatchLoadRetryStrategy()} just like
+	 * {@link DynamoDBMapper#batchLoad(Map)} does.
+	 */
+	private <T> CompletableFuture<List<T>> batchGet(Map<String, KeysAndAttributes> requestItems,
+			Map<String, Class<?>> domainClassesByTableName) {
+		BatchLoadRetryStrategy retryStrategy = dynamoDBMapperConfig.getBatchLoadRetryStrategy() == null
+				? DynamoDBMapperConfig.DEFAULT.getBatchLoadRetryStrategy()
+				: dynamoDBMapperConfig.getBatchLoadRetryStrategy();
+
+		CompletableFuture<List<T>> result = new CompletableFuture<>();
+		batchGet(new BatchGetItemRequest().withRequestItems(requestItems), domainClassesByTableName, retryStrategy, 0,
+				new LinkedHashMap<>(), result);
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void batchGet(BatchGetItemRequest batchGetItemRequest, Map<String, Class<?>> domainClassesByTableName,
+			BatchLoadRetryStrategy retryStrategy, int retries, Map<String, List<Object>> entitiesByTableName,
+			CompletableFuture<List<T>> result) {
+		CompletableFutureHandler<BatchGetItemRequest, BatchGetItemResult> handler = new CompletableFutureHandler<>();
+		amazonDynamoDBAsync.batchGetItemAsync(batchGetItemRequest, handler);
+		handler.whenComplete((batchResult, failure) -> {
+			if (failure != null) {
+				result.completeExceptionally(failure);
+				return;
+			}
+			try {
+				for (Entry<String, List<Map<String, AttributeValue>>> tableItems : batchResult.getResponses()
+						.entrySet()) {
+					Class<?> domainClass = domainClassesByTableName.get(tableItems.getKey());
+					List<Object> entities = entitiesByTableName.computeIfAbsent(tableItems.getKey(),
+							t -> new ArrayList<>());
+					boolean publishAfterLoad = isListenedTo(AfterLoadEvent.class, domainClass);
+					for (Map<String, AttributeValue> item : tableItems.getValue()) {
+						Object entity = dynamoDBMapper.marshallIntoObject(domainClass, item, dynamoDBMapperConfig);
+						if (publishAfterLoad) {
+							maybeEmitEvent(entity, AfterLoadEvent::new);
+						}
+						entities.add(entity);
+					}
+				}
+
+				Map<String, KeysAndAttributes> unprocessedKeys = batchResult.getUnprocessedKeys();
+				if (unprocessedKeys == null || unprocessedKeys.isEmpty()) {
+					List<T> entities = new ArrayList<>();
+					for (List<Object> tableEntities : entitiesByTableName.values()) {
+						tableEntities.forEach(entity -> entities.add((T) entity));
+					}
+					result.complete(entities);
+					return;
+				}
+
+				BatchLoadContext batchLoadContext = new BatchLoadContext(batchGetItemRequest);
+				batchLoadContext.setBatchGetItemResult(batchResult);
+				batchLoadContext.setRetriesAttempted(retries);
+				if (!retryStrategy.shouldRetry(batchLoadContext)) {
+					result.completeExceptionally(new BatchGetItemException(
+							"Exceeded the maximum number of retries for unprocessed keys", unprocessedKeys,
+							entitiesByTableName));
+					return;
+				}
+				BatchGetItemRequest retryRequest = new BatchGetItemRequest().withRequestItems(unprocessedKeys);
+				RetryScheduler.INSTANCE.schedule(
+						() -> batchGet(retryRequest, domainClassesByTableName, retryStrategy, retries + 1,
+								entitiesByTableName, result),
+						retryStrategy.getDelayBeforeNextRetry(batchLoadContext), TimeUnit.MILLISECONDS);
+			} catch (RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> queryAsync(Class<T> clazz, QueryRequest queryRequest) {
+		return instrumentTableAsync(Operation.QUERY, queryRequest.getTableName(), queryRequest.getIndexName(),
+				metrics -> queryPages(clazz, queryRequest.clone(), new ArrayList<>(), metrics).thenApply(results -> {
+					metrics.items(results.size());
+					maybeEmitEvent(results, clazz, AfterQueryEvent.class, AfterQueryEvent::new);
+					return results;
+				}));
+	}
+
+	private <T> CompletableFuture<List<T>> queryPages(Class<T> clazz, QueryRequest queryRequest, List<T> results,
+			OperationMetrics metrics) {
+		CompletableFutureHandler<QueryRequest, QueryResult> handler = new CompletableFutureHandler<>();
+		amazonDynamoDBAsync.queryAsync(queryRequest, handler);
+		return handler.thenCompose(queryResult -> {
+			metrics.pages(1);
+			results.addAll(dynamoDBMapper.marshallIntoObjects(clazz, queryResult.getItems(), dynamoDBMapperConfig));
+			if (queryResult.getLastEvaluatedKey() == null) {
+				return CompletableFuture.completedFuture(results);
+			}
+			queryRequest.setExclusiveStartKey(queryResult.getLastEvaluatedKey());
+			return queryPages(clazz, queryRequest, results, metrics);
+		});
+	}
+
+	@Override
+	public <T> Publisher<T> queryPublisher(Class<T> clazz, QueryRequest queryRequest) {
+		return new DynamoDBPagePublisher<>(inCurrentRepositoryMethod(lastEvaluatedKey -> {
+			QueryRequest pageRequest = queryRequest.clone();
+			if (lastEvaluatedKey != null) {
+				pageRequest.setExclusiveStartKey(lastEvaluatedKey);
+			}
+			return instrumentTableAsync(Operation.QUERY, pageRequest.getTableName(), pageRequest.getIndexName(),
+					metrics -> {
+						CompletableFutureHandler<QueryRequest, QueryResult> handler = new CompletableFutureHandler<>();
+						amazonDynamoDBAsync.queryAsync(pageRequest, handler);
+						return handler.thenApply(queryResult -> new ResultPage<>(
+								toEntities(clazz, queryResult.getItems(), metrics, AfterQueryEvent.class,
+										AfterQueryEvent::new),
+								queryResult.getLastEvaluatedKey()));
+					});
+		}));
+	}
+
+	@Override
+	public <T> Publisher<T> queryPublisher(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
+		return queryPublisher(domainClass, toQueryRequest(domainClass, queryExpression));
+	}
+
+	@Override
+	public <T> Publisher<T> scanPublisher(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		ScanRequest scanRequest = toScanRequest(domainClass, scanExpression);
+		return new DynamoDBPagePublisher<>(inCurrentRepositoryMethod(lastEvaluatedKey -> {
+			ScanRequest pageRequest = scanRequest.clone();
+			if (lastEvaluatedKey != null) {
+				pageRequest.setExclusiveStartKey(lastEvaluatedKey);
+			}
+			return instrumentTableAsync(Operation.SCAN, pageRequest.getTableName(), pageRequest.getIndexName(),
+					metrics -> {
+						CompletableFutureHandler<ScanRequest, ScanResult> handler = new CompletableFutureHandler<>();
+						amazonDynamoDBAsync.scanAsync(pageRequest, handler);
+						return handler.thenApply(scanResult -> new ResultPage<>(
+								toEntities(domainClass, scanResult.getItems(), metrics, AfterScanEvent.class,
+										AfterScanEvent::new),
+								scanResult.getLastEvaluatedKey()));
+					});
+		}));
+	}
+
+	/**
+	 * The pages of a publisher are requested on the threads of its subscriber -
+	 * they are recorded for the repository method the publisher was created in.
+	 */
+	private static <T> Function<Map<String, AttributeValue>, CompletableFuture<ResultPage<T>>>
+			inCurrentRepositoryMethod(Function<Map<String, AttributeValue>, CompletableFuture<ResultPage<T>>> loader) {
+		String repositoryMethod = RepositoryMethodContext.getCurrentRepositoryMethod();
+		if (repositoryMethod == null) {
+			return loader;
+		}
+		return lastEvaluatedKey -> {
+			String previous = RepositoryMethodContext.enter(repositoryMethod);
+			try {
+				return loader.apply(lastEvaluatedKey);
+			} finally {
+				RepositoryMethodContext.restore(previous);
+			}
+		};
+	}
+
+	/**
+	 * Converts the items of a page and publishes the after event of the operation
+	 * for them - just like {@link #queryPage(Class, QueryRequest)} does.
+	 */
+	private <T> List<T> toEntities(Class<T> domainClass, List<Map<String, AttributeValue>> items,
+			OperationMetrics metrics, Class<?> eventType, Function<List<T>, DynamoDBMappingEvent<List<T>>> factory) {
+		List<T> entities = dynamoDBMapper.marshallIntoObjects(domainClass, items, dynamoDBMapperConfig);
+		metrics.pages(1);
+		metrics.items(entities.size());
+		maybeEmitEvent(entities, domainClass, eventType, factory);
+		return entities;
+	}
+
+	@Override
+	public <T> CompletableFuture<Integer> countAsync(Class<T> clazz, QueryRequest mutableQueryRequest) {
+		return instrumentTableAsync(Operation.COUNT, mutableQueryRequest.getTableName(),
+				mutableQueryRequest.getIndexName(), metrics -> {
+					mutableQueryRequest.setSelect(Select.COUNT);
+
+					// Count queries can also be truncated for large datasets
+					return countPages(mutableQueryRequest, 0, metrics);
+				});
+	}
+
+	private CompletableFuture<Integer> countPages(QueryRequest mutableQueryRequest, int count,
+			OperationMetrics metrics) {
+		CompletableFutureHandler<QueryRequest, QueryResult> handler = new CompletableFutureHandler<>();
+		amazonDynamoDBAsync.queryAsync(mutableQueryRequest, handler);
+		return handler.thenCompose(queryResult -> {
+			metrics.pages(1);
+			int newCount = count + queryResult.getCount();
+			if (queryResult.getLastEvaluatedKey() == null) {
+				return CompletableFuture.completedFuture(newCount);
+			}
+			mutableQueryRequest.setExclusiveStartKey(queryResult.getLastEvaluatedKey());
+			return countPages(mutableQueryRequest, newCount, metrics);
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<T> saveAsync(T entity) {
+		return executeAsync(() -> save(entity));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> deleteAsync(T entity) {
+		return executeAsync(() -> delete(entity));
+	}
+
+	@Override
+	public <R> CompletableFuture<R> executeAsync(Supplier<R> operation) {
+		return CompletableFuture.supplyAsync(operation, getBlockingExecutor());
+	}
+
+	/**
+	 * Delays the retries of unprocessed keys without blocking a thread. The timer
+	 * thread only sends the next asynchronous request.
+	 */
+	private static final class RetryScheduler {
+		private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "dynamodb-batch-load-retry");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Bridges the callbacks of the async client to a {@link CompletableFuture}
+	 */
+	private static class CompletableFutureHandler<Q extends AmazonWebServiceRequest, R> extends CompletableFuture<R>
+			implements
+				AsyncHandler<Q, R> {
+
+		@Override
+		public void onError(Exception exception) {
+			completeExceptionally(exception);
+		}
+
+		@Override
+		public void onSuccess(Q request, R result) {
+			complete(result);
+		}
+	}
+}
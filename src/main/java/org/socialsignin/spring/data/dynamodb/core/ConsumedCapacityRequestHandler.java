@@ -0,0 +1,263 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.Capacity;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemResult;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.services.dynamodbv2.model.TransactGetItemsRequest;
+import com.amazonaws.services.dynamodbv2.model.TransactGetItemsResult;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsRequest;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsResult;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Requests the consumed capacity on every DynamoDB call of the client and
+ * accounts it per table, index and repository method (see
+ * {@link RepositoryMethodContext}) in {@link ConsumedCapacityTotals}.
+ *
+ * The requests issued by {@link DynamoDBTemplate} and the
+ * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper} - which
+ * does not expose the consumed capacity of its operations - are covered alike
+ * as the handler is registered at the client:
+ *
+ * <pre>
+ * AmazonDynamoDBClientBuilder.standard()
+ * 		.withRequestHandlers(new ConsumedCapacityRequestHandler(ReturnConsumedCapacity.INDEXES, totals)).build();
+ * </pre>
+ *
+ * Requests which already specify a {@code ReturnConsumedCapacity} are left as
+ * they are. Capacity consumed by threads not executing a repository method -
+ * e.g. while a lazily loaded result is iterated after the repository method
+ * returned or by the segment threads of
+ * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper#parallelScan}
+ * - is accounted without repository method.
+ */
+public class ConsumedCapacityRequestHandler extends RequestHandler2 {
+
+	private final String returnConsumedCapacity;
+	private final ConsumedCapacityTotals totals;
+	@Nullable
+	private DynamoDBMetricsRecorder metricsRecorder;
+
+	/**
+	 * @param returnConsumedCapacity
+	 *            {@link ReturnConsumedCapacity#TOTAL} to account the capacity per
+	 *            table (and the index queried or scanned) or
+	 *            {@link ReturnConsumedCapacity#INDEXES} to account the capacity
+	 *            consumed on each index separately
+	 */
+	public ConsumedCapacityRequestHandler(ReturnConsumedCapacity returnConsumedCapacity,
+			ConsumedCapacityTotals totals) {
+		Assert.isTrue(returnConsumedCapacity != ReturnConsumedCapacity.NONE,
+				"returnConsumedCapacity must be TOTAL or INDEXES!");
+		Assert.notNull(totals, "totals must not be null!");
+
+		this.returnConsumedCapacity = returnConsumedCapacity.toString();
+		this.totals = totals;
+	}
+
+	/**
+	 * @param metricsRecorder
+	 *            Receives the consumed capacity in addition to the
+	 *            {@link ConsumedCapacityTotals} - {@code null} to not record it
+	 */
+	public void setMetricsRecorder(@Nullable DynamoDBMetricsRecorder metricsRecorder) {
+		this.metricsRecorder = metricsRecorder;
+	}
+
+	public ConsumedCapacityTotals getTotals() {
+		return totals;
+	}
+
+	@Override
+	public AmazonWebServiceRequest beforeExecution(AmazonWebServiceRequest request) {
+		// Callers might re-use their request - thus the level is set on a copy
+		if (request instanceof QueryRequest && ((QueryRequest) request).getReturnConsumedCapacity() == null) {
+			return ((QueryRequest) request).clone().withReturnConsumedCapacity(returnConsumedCapacity);
+		} else if (request instanceof ScanRequest && ((ScanRequest) request).getReturnConsumedCapacity() == null) {
+			return ((ScanRequest) request).clone().withReturnConsumedCapacity(returnConsumedCapacity);
+		} else if (request instanceof GetItemRequest
+				&& ((GetItemRequest) request).getReturnConsumedCapacity() == null) {
+			return ((GetItemRequest) request).clone().withReturnConsumedCapacity(returnConsumedCapacity);
+		} else if (request instanceof BatchGetItemRequest
+				&& ((BatchGetItemRequest) request).getReturnConsumedCapacity() == null) {
+			return ((BatchGetItemRequest) request).clone().withReturnConsumedCapacity(returnConsumedCapacity);
+		} else if (request instanceof TransactGetItemsRequest
+				&& ((TransactGetItemsRequest) request).getReturnConsumedCapacity() == null) {
+			return ((TransactGetItemsRequest) request).clone().withReturnConsumedCapacity(returnConsumedCapacity);
+		} else if (request instanceof PutItemRequest
+				&& ((PutItemRequest) request).getReturnConsumedCapacity() == null) {
+			return ((PutItemRequest) request).clone().withReturnConsumedCapacity(returnConsumedCapacity);
+		} else if (request instanceof UpdateItemRequest
+				&& ((UpdateItemRequest) request).getReturnConsumedCapacity() == null) {
+			return ((UpdateItemRequest) request).clone().withReturnConsumedCapacity(returnConsumedCapacity);
+		} else if (request instanceof DeleteItemRequest
+				&& ((DeleteItemRequest) request).getReturnConsumedCapacity() == null) {
+			return ((DeleteItemRequest) request).clone().withReturnConsumedCapacity(returnConsumedCapacity);
+		} else if (request instanceof BatchWriteItemRequest
+				&& ((BatchWriteItemRequest) request).getReturnConsumedCapacity() == null) {
+			return ((BatchWriteItemRequest) request).clone().withReturnConsumedCapacity(returnConsumedCapacity);
+		} else if (request instanceof TransactWriteItemsRequest
+				&& ((TransactWriteItemsRequest) request).getReturnConsumedCapacity() == null) {
+			return ((TransactWriteItemsRequest) request).clone()
+					.withReturnConsumedCapacity(returnConsumedCapacity);
+		}
+		return request;
+	}
+
+	@Override
+	public void afterResponse(Request<?> request, Response<?> response) {
+		AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+		List<ConsumedCapacity> consumedCapacities = getConsumedCapacities(response.getAwsResponse());
+		if (consumedCapacities.isEmpty()) {
+			return;
+		}
+
+		String repositoryMethod = RepositoryMethodContext.getCurrentRepositoryMethod();
+		boolean read = isRead(originalRequest);
+		String requestedIndexName = getIndexName(originalRequest);
+		for (ConsumedCapacity consumedCapacity : consumedCapacities) {
+			String tableName = consumedCapacity.getTableName();
+			if (tableName == null) {
+				continue;
+			}
+
+			if (consumedCapacity.getTable() == null && consumedCapacity.getGlobalSecondaryIndexes() == null
+					&& consumedCapacity.getLocalSecondaryIndexes() == null) {
+				// TOTAL: the capacity isn't broken down - but the index queried is known
+				add(tableName, requestedIndexName, repositoryMethod, read, consumedCapacity.getCapacityUnits(),
+						consumedCapacity.getReadCapacityUnits(), consumedCapacity.getWriteCapacityUnits());
+				continue;
+			}
+
+			Capacity table = consumedCapacity.getTable();
+			if (table != null) {
+				add(tableName, null, repositoryMethod, read, table);
+			}
+			addIndexes(tableName, consumedCapacity.getGlobalSecondaryIndexes(), repositoryMethod, read);
+			addIndexes(tableName, consumedCapacity.getLocalSecondaryIndexes(), repositoryMethod, read);
+		}
+	}
+
+	private void addIndexes(String tableName, @Nullable Map<String, Capacity> indexes,
+			@Nullable String repositoryMethod, boolean read) {
+		if (indexes != null) {
+			for (Map.Entry<String, Capacity> index : indexes.entrySet()) {
+				add(tableName, index.getKey(), repositoryMethod, read, index.getValue());
+			}
+		}
+	}
+
+	private void add(String tableName, @Nullable String indexName, @Nullable String repositoryMethod, boolean read,
+			Capacity capacity) {
+		add(tableName, indexName, repositoryMethod, read, capacity.getCapacityUnits(),
+				capacity.getReadCapacityUnits(), capacity.getWriteCapacityUnits());
+	}
+
+	private void add(String tableName, @Nullable String indexName, @Nullable String repositoryMethod, boolean read,
+			@Nullable Double capacityUnits, @Nullable Double readCapacityUnits, @Nullable Double writeCapacityUnits) {
+		double readUnits;
+		double writeUnits;
+		if (readCapacityUnits != null || writeCapacityUnits != null) {
+			readUnits = readCapacityUnits == null ? 0 : readCapacityUnits;
+			writeUnits = writeCapacityUnits == null ? 0 : writeCapacityUnits;
+		} else if (capacityUnits != null) {
+			// Only the sum is reported - the request type tells whether read or written
+			readUnits = read ? capacityUnits : 0;
+			writeUnits = read ? 0 : capacityUnits;
+		} else {
+			return;
+		}
+
+		totals.add(tableName, indexName, repositoryMethod, readUnits, writeUnits);
+		if (metricsRecorder != null) {
+			metricsRecorder.recordConsumedCapacity(tableName, indexName, repositoryMethod, readUnits, writeUnits);
+		}
+	}
+
+	private static boolean isRead(AmazonWebServiceRequest request) {
+		return request instanceof QueryRequest || request instanceof ScanRequest || request instanceof GetItemRequest
+				|| request instanceof BatchGetItemRequest || request instanceof TransactGetItemsRequest;
+	}
+
+	@Nullable
+	private static String getIndexName(AmazonWebServiceRequest request) {
+		if (request instanceof QueryRequest) {
+			return ((QueryRequest) request).getIndexName();
+		} else if (request instanceof ScanRequest) {
+			return ((ScanRequest) request).getIndexName();
+		}
+		return null;
+	}
+
+	private static List<ConsumedCapacity> getConsumedCapacities(@Nullable Object result) {
+		ConsumedCapacity consumedCapacity;
+		if (result instanceof QueryResult) {
+			consumedCapacity = ((QueryResult) result).getConsumedCapacity();
+		} else if (result instanceof ScanResult) {
+			consumedCapacity = ((ScanResult) result).getConsumedCapacity();
+		} else if (result instanceof GetItemResult) {
+			consumedCapacity = ((GetItemResult) result).getConsumedCapacity();
+		} else if (result instanceof PutItemResult) {
+			consumedCapacity = ((PutItemResult) result).getConsumedCapacity();
+		} else if (result instanceof UpdateItemResult) {
+			consumedCapacity = ((UpdateItemResult) result).getConsumedCapacity();
+		} else if (result instanceof DeleteItemResult) {
+			consumedCapacity = ((DeleteItemResult) result).getConsumedCapacity();
+		} else if (result instanceof BatchGetItemResult) {
+			return nullToEmpty(((BatchGetItemResult) result).getConsumedCapacity());
+		} else if (result instanceof BatchWriteItemResult) {
+			return nullToEmpty(((BatchWriteItemResult) result).getConsumedCapacity());
+		} else if (result instanceof TransactGetItemsResult) {
+			return nullToEmpty(((TransactGetItemsResult) result).getConsumedCapacity());
+		} else if (result instanceof TransactWriteItemsResult) {
+			return nullToEmpty(((TransactWriteItemsResult) result).getConsumedCapacity());
+		} else {
+			return Collections.emptyList();
+		}
+		return consumedCapacity == null ? Collections.emptyList() : Collections.singletonList(consumedCapacity);
+	}
+
+	private static List<ConsumedCapacity> nullToEmpty(@Nullable List<ConsumedCapacity> consumedCapacities) {
+		return consumedCapacities == null ? Collections.emptyList() : consumedCapacities;
+	}
+}
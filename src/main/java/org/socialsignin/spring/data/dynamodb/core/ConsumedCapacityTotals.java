@@ -0,0 +1,154 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Aggregates the read and write capacity units consumed per table, index and
+ * repository method as reported by the {@link ConsumedCapacityRequestHandler}.
+ *
+ * The totals only grow (until {@link #reset()}) - thus they can be exposed
+ * directly as monotonic counters, e.g. Micrometer {@code FunctionCounter}s.
+ */
+public class ConsumedCapacityTotals {
+
+	private final ConcurrentMap<Total, Total> totals = new ConcurrentHashMap<>();
+
+	/**
+	 * @param tableName
+	 *            The table the capacity was consumed on
+	 * @param indexName
+	 *            The index the capacity was consumed on - {@code null} for the
+	 *            table itself
+	 * @param repositoryMethod
+	 *            The repository method which consumed the capacity - {@code null}
+	 *            if the request was not issued by a repository method
+	 */
+	public void add(String tableName, @Nullable String indexName, @Nullable String repositoryMethod,
+			double readCapacityUnits, double writeCapacityUnits) {
+		Assert.notNull(tableName, "tableName must not be null!");
+
+		Total key = new Total(tableName, indexName, repositoryMethod);
+		Total total = totals.computeIfAbsent(key, k -> k);
+		total.readCapacityUnits.add(readCapacityUnits);
+		total.writeCapacityUnits.add(writeCapacityUnits);
+	}
+
+	/**
+	 * @return The totals per table, index and repository method - the returned
+	 *         instances keep on being updated
+	 */
+	public List<Total> getTotals() {
+		return new ArrayList<>(totals.values());
+	}
+
+	/**
+	 * @return The total read capacity units consumed by the repository method
+	 *         across all tables and indexes
+	 */
+	public double getReadCapacityUnits(String repositoryMethod) {
+		return totals.values().stream().filter(total -> repositoryMethod.equals(total.repositoryMethod))
+				.mapToDouble(Total::getReadCapacityUnits).sum();
+	}
+
+	/**
+	 * @return The total write capacity units consumed by the repository method
+	 *         across all tables and indexes
+	 */
+	public double getWriteCapacityUnits(String repositoryMethod) {
+		return totals.values().stream().filter(total -> repositoryMethod.equals(total.repositoryMethod))
+				.mapToDouble(Total::getWriteCapacityUnits).sum();
+	}
+
+	public void reset() {
+		totals.clear();
+	}
+
+	/**
+	 * The capacity units consumed on a table or index by a repository method.
+	 */
+	public static final class Total {
+		private final String tableName;
+		@Nullable
+		private final String indexName;
+		@Nullable
+		private final String repositoryMethod;
+		private final DoubleAdder readCapacityUnits = new DoubleAdder();
+		private final DoubleAdder writeCapacityUnits = new DoubleAdder();
+
+		private Total(String tableName, @Nullable String indexName, @Nullable String repositoryMethod) {
+			this.tableName = tableName;
+			this.indexName = indexName;
+			this.repositoryMethod = repositoryMethod;
+		}
+
+		public String getTableName() {
+			return tableName;
+		}
+
+		@Nullable
+		public String getIndexName() {
+			return indexName;
+		}
+
+		@Nullable
+		public String getRepositoryMethod() {
+			return repositoryMethod;
+		}
+
+		public double getReadCapacityUnits() {
+			return readCapacityUnits.sum();
+		}
+
+		public double getWriteCapacityUnits() {
+			return writeCapacityUnits.sum();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Total that = (Total) o;
+			return tableName.equals(that.tableName) && Objects.equals(indexName, that.indexName)
+					&& Objects.equals(repositoryMethod, that.repositoryMethod);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(tableName, indexName, repositoryMethod);
+		}
+
+		@Override
+		public String toString() {
+			return "Total [tableName=" + tableName + ", indexName=" + indexName + ", repositoryMethod="
+					+ repositoryMethod + ", readCapacityUnits=" + getReadCapacityUnits() + ", writeCapacityUnits="
+					+ getWriteCapacityUnits() + "]";
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Receives the metrics of the {@link DynamoDBTemplate} operations - e.g. to
+ * publish them as Micrometer timers (with percentile histograms) and counters
+ * tagged by the {@link DynamoDBOperationTags}.
+ *
+ * Implementations are invoked on the threads executing the operations - thus
+ * they have to be thread-safe and must not block.
+ *
+ * @see DynamoDBTemplate#setMetricsRecorder(DynamoDBMetricsRecorder)
+ */
+public interface DynamoDBMetricsRecorder {
+
+	/**
+	 * Records the duration of an operation. For lazily loaded results this only
+	 * covers the request of the first page - the further pages are requested
+	 * while the result is iterated. Asynchronous operations are recorded once
+	 * their future completes, each page of a {@code Publisher} as an operation of
+	 * its own.
+	 *
+	 * @param tags
+	 *            The operation
+	 * @param durationNanos
+	 *            The elapsed time in nanoseconds
+	 * @param failure
+	 *            The exception the operation failed with - {@code null} if it
+	 *            succeeded
+	 */
+	void recordOperation(DynamoDBOperationTags tags, long durationNanos, @Nullable Throwable failure);
+
+	/**
+	 * Records items returned by an operation. Items of lazily loaded results are
+	 * recorded one by one while the result is iterated.
+	 */
+	default void recordItems(DynamoDBOperationTags tags, long items) {
+	}
+
+	/**
+	 * Records pages requested from DynamoDB by an operation.
+	 */
+	default void recordPages(DynamoDBOperationTags tags, long pages) {
+	}
+
+	/**
+	 * Records items of batch operations which are still unprocessed after all
+	 * retries.
+	 */
+	default void recordUnprocessedItems(DynamoDBOperationTags tags, long items) {
+	}
+
+	/**
+	 * Records that DynamoDB throttled an operation - after the retries of the AWS
+	 * SDK are exhausted.
+	 */
+	default void recordThrottling(DynamoDBOperationTags tags) {
+	}
+
+	/**
+	 * Records capacity units consumed by a DynamoDB request - only invoked by a
+	 * {@link ConsumedCapacityRequestHandler} registered at the client.
+	 *
+	 * @param indexName
+	 *            {@code null} for capacity consumed on the table itself
+	 * @param repositoryMethod
+	 *            {@code null} if the request was not issued by a repository
+	 *            method
+	 * @see ConsumedCapacityRequestHandler#setMetricsRecorder(DynamoDBMetricsRecorder)
+	 */
+	default void recordConsumedCapacity(String tableName, @Nullable String indexName,
+			@Nullable String repositoryMethod, double readCapacityUnits, double writeCapacityUnits) {
+	}
+}
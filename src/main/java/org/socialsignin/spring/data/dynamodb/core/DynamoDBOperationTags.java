@@ -0,0 +1,107 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Objects;
+
+/**
+ * Identifies an operation of the {@link DynamoDBTemplate} for the
+ * {@link DynamoDBMetricsRecorder}.
+ */
+public final class DynamoDBOperationTags {
+
+	public enum Operation {
+		LOAD, BATCH_LOAD, QUERY, SCAN, PARALLEL_SCAN, COUNT, EXISTS, DESCRIBE_TABLE, SAVE, BATCH_SAVE, DELETE,
+		BATCH_DELETE
+	}
+
+	private final Operation operation;
+	@Nullable
+	private final String tableName;
+	@Nullable
+	private final String indexName;
+	@Nullable
+	private final String repositoryMethod;
+
+	public DynamoDBOperationTags(Operation operation, @Nullable String tableName, @Nullable String indexName,
+			@Nullable String repositoryMethod) {
+		Assert.notNull(operation, "operation must not be null!");
+		this.operation = operation;
+		this.tableName = tableName;
+		this.indexName = indexName;
+		this.repositoryMethod = repositoryMethod;
+	}
+
+	public Operation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return The table - {@code null} if the operation writes the entities of an
+	 *         {@code Iterable}, which might belong to different tables
+	 */
+	@Nullable
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * @return The secondary index queried or scanned - {@code null} for the table
+	 *         itself
+	 */
+	@Nullable
+	public String getIndexName() {
+		return indexName;
+	}
+
+	/**
+	 * @return The repository method the operation is executed for - e.g.
+	 *         {@code UserRepository.findByName} - {@code null} if the template is
+	 *         used directly
+	 * @see RepositoryMethodContext
+	 */
+	@Nullable
+	public String getRepositoryMethod() {
+		return repositoryMethod;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		DynamoDBOperationTags that = (DynamoDBOperationTags) o;
+		return operation == that.operation && Objects.equals(tableName, that.tableName)
+				&& Objects.equals(indexName, that.indexName) && Objects.equals(repositoryMethod, that.repositoryMethod);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(operation, tableName, indexName, repositoryMethod);
+	}
+
+	@Override
+	public String toString() {
+		return "DynamoDBOperationTags [operation=" + operation + ", tableName=" + tableName + ", indexName="
+				+ indexName + ", repositoryMethod=" + repositoryMethod + "]";
+	}
+}
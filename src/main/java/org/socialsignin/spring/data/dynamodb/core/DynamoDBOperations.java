@@ -20,12 +20,18 @@ import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedParallelScanList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import org.springframework.lang.Nullable;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Interface to DynmaoDB - as seen from the Spring-Data world
@@ -40,16 +46,328 @@ public interface DynamoDBOperations {
 	<T> PaginatedQueryList<T> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression);
 	<T> PaginatedScanList<T> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression);
 
+	/**
+	 * Executes the query but reads at most {@code maxResults} entities. The
+	 * pages are loaded {@code ITERATION_ONLY} and no further page is requested
+	 * once enough entities were read. The {@code Limit} of the request should be
+	 * set to {@code maxResults} so the first page is not larger than required.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param clazz
+	 *            A domain type
+	 * @param queryRequest
+	 *            The query to execute
+	 * @param maxResults
+	 *            The maximum number of entities to read
+	 * @return At most {@code maxResults} entities
+	 */
+	<T> List<T> query(Class<T> clazz, QueryRequest queryRequest, int maxResults);
+	/**
+	 * Executes the query but reads at most {@code maxResults} entities - see
+	 * {@link #query(Class, QueryRequest, int)}.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param queryExpression
+	 *            The query to execute
+	 * @param maxResults
+	 *            The maximum number of entities to read
+	 * @return At most {@code maxResults} entities
+	 */
+	<T> List<T> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression, int maxResults);
+	/**
+	 * Executes the scan but reads at most {@code maxResults} entities - see
+	 * {@link #query(Class, QueryRequest, int)}.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute
+	 * @param maxResults
+	 *            The maximum number of entities to read
+	 * @return At most {@code maxResults} entities
+	 */
+	<T> List<T> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression, int maxResults);
+
+	/**
+	 * Executes a single {@code Query} request - the {@code Limit} and
+	 * {@code ExclusiveStartKey} of the request define which page is read.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param clazz
+	 *            A domain type
+	 * @param queryRequest
+	 *            The query to execute
+	 * @return The entities of the page and the {@code LastEvaluatedKey} to
+	 *         continue with
+	 */
+	<T> QueryResultPage<T> queryPage(Class<T> clazz, QueryRequest queryRequest);
+	/**
+	 * Executes a single {@code Query} request - the {@code limit} and
+	 * {@code exclusiveStartKey} of the expression define which page is read.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param queryExpression
+	 *            The query to execute
+	 * @return The entities of the page and the {@code LastEvaluatedKey} to
+	 *         continue with
+	 */
+	<T> QueryResultPage<T> queryPage(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression);
+	/**
+	 * Executes a single {@code Scan} request - the {@code limit} and
+	 * {@code exclusiveStartKey} of the expression define which page is read.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute
+	 * @return The entities of the page and the {@code LastEvaluatedKey} to
+	 *         continue with
+	 */
+	<T> ScanResultPage<T> scanPage(Class<T> domainClass, DynamoDBScanExpression scanExpression);
+
+	/**
+	 * Scans the table split into {@code totalSegments} segments. The segments are
+	 * scanned concurrently - each page is loaded with one thread per segment.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute - {@code segment} and {@code totalSegments}
+	 *            are ignored
+	 * @param totalSegments
+	 *            Number of segments the table is split into
+	 * @return All entities matching the scan
+	 */
+	<T> PaginatedParallelScanList<T> parallelScan(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			int totalSegments);
+	/**
+	 * Counts the result of a scan split into {@code totalSegments} segments. The
+	 * segments are counted concurrently on a shared, bounded executor.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute - {@code segment} and {@code totalSegments}
+	 *            are ignored
+	 * @param totalSegments
+	 *            Number of segments the table is split into
+	 * @return The number of entities matching the scan
+	 */
+	<T> int parallelCount(Class<T> domainClass, DynamoDBScanExpression scanExpression, int totalSegments);
+	/**
+	 * Estimates the number of entities via the {@code ItemCount} of
+	 * {@code DescribeTable} - without reading any item. DynamoDB updates this
+	 * value approximately every six hours.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param tableName
+	 *            The table name of the domain type - before applying any
+	 *            {@link #getOverriddenTableName(Class, String) override}
+	 * @return The approximate number of entities in the table
+	 */
+	<T> long estimateCount(Class<T> domainClass, String tableName);
+
+	/**
+	 * Checks whether an entity with the given key exists. Only the key
+	 * attributes are read - the item is neither unmarshalled nor is an
+	 * {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent}
+	 * published.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param hashKey
+	 *            The hash key of the entity
+	 * @param rangeKey
+	 *            The range key of the entity - {@code null} for hash key only
+	 *            domain types
+	 * @return {@code true} if the entity exists
+	 */
+	<T> boolean exists(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey);
+	/**
+	 * Checks whether the query matches at least one entity. Only the number of
+	 * matches is requested ({@code Select.COUNT}) and no further page is read
+	 * once a match was found.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param queryExpression
+	 *            The query to execute - its {@code select} and
+	 *            {@code exclusiveStartKey} are modified
+	 * @return {@code true} if there is at least one matching entity
+	 */
+	<T> boolean exists(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression);
+	/**
+	 * Checks whether the query matches at least one entity - see
+	 * {@link #exists(Class, DynamoDBQueryExpression)}.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param clazz
+	 *            A domain type
+	 * @param mutableQueryRequest
+	 *            The query to execute - its {@code Select} and
+	 *            {@code ExclusiveStartKey} are modified
+	 * @return {@code true} if there is at least one matching entity
+	 */
+	<T> boolean exists(Class<T> clazz, QueryRequest mutableQueryRequest);
+	/**
+	 * Checks whether the scan matches at least one entity - see
+	 * {@link #exists(Class, DynamoDBQueryExpression)}.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute - its {@code select} and
+	 *            {@code exclusiveStartKey} are modified
+	 * @return {@code true} if there is at least one matching entity
+	 */
+	<T> boolean exists(Class<T> domainClass, DynamoDBScanExpression scanExpression);
+
 	<T> T load(Class<T> domainClass, Object hashKey, Object rangeKey);
 	<T> T load(Class<T> domainClass, Object hashKey);
 	<T> List<T> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet);
+	/**
+	 * Loads the entities of the given keys. The keys are split into chunks of at
+	 * most 100 keys (the {@code BatchGetItem} limit) which are loaded
+	 * concurrently. Unprocessed keys are retried according to
+	 * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig#getBatchLoadRetryStrategy()}.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param keyPairs
+	 *            The keys to load
+	 * @return The found entities in the order of the given keys - keys without an
+	 *         entity and duplicate keys are skipped
+	 */
+	<T> List<T> batchLoad(Class<T> domainClass, List<KeyPair> keyPairs);
 
 	<T> T save(T entity);
 	List<FailedBatch> batchSave(Iterable<?> entities);
+	/**
+	 * Saves the entities in bounded batches while iterating them. Only the
+	 * batches currently written are held in memory - thus arbitrary large
+	 * sources can be written with constant memory.
+	 * {@link org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent}s
+	 * and
+	 * {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent}s
+	 * are published per batch.
+	 *
+	 * @param entities
+	 *            The entities to save - consumed exactly once
+	 * @return The batches which could not be written
+	 */
+	List<FailedBatch> batchSave(Iterator<?> entities);
 
 	<T> T delete(T entity);
+	/**
+	 * Deletes the entity with the given key. The {@code DeleteItem} request is
+	 * conditional on the item to exist. The entity is only read first if it has a
+	 * {@code @DynamoDBVersionAttribute} - the delete is conditional on the version
+	 * read then, like {@link #delete(Object)} - or if there are listeners for
+	 * {@link org.socialsignin.spring.data.dynamodb.mapping.event.BeforeDeleteEvent}
+	 * or
+	 * {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent}.
+	 * Thus the events are always published with the complete entity.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param hashKey
+	 *            The hash key of the entity
+	 * @param rangeKey
+	 *            The range key of the entity - {@code null} for hash key only
+	 *            domain types
+	 * @throws com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException
+	 *             if there is no entity with the given key
+	 * @throws org.springframework.dao.OptimisticLockingFailureException
+	 *             if the version of the entity changed after it was read
+	 */
+	<T> void delete(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey);
 	List<FailedBatch> batchDelete(Iterable<?> entities);
 
+	/**
+	 * Deletes all entities matched by the scan without unmarshalling them: Only
+	 * the key attributes are read and the items are deleted with
+	 * {@code BatchWriteItem} requests while the scan is still running. With more
+	 * than one segment, the segments are scanned and deleted concurrently.
+	 *
+	 * If there are listeners for the delete events, the complete entities are
+	 * scanned - in a single segment - and deleted like
+	 * {@link #batchDelete(Iterable)} instead, which publishes the events.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan expression selecting the entities to delete
+	 * @param totalSegments
+	 *            The number of segments to scan in parallel
+	 * @return The batches which failed to be deleted
+	 */
+	<T> List<FailedBatch> batchDelete(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			int totalSegments);
+	/**
+	 * Deletes all entities matched by the query without unmarshalling them - see
+	 * {@link #batchDelete(Class, DynamoDBScanExpression, int)}. Like the
+	 * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper}, the
+	 * query uses the hash key of the global secondary index queried, if any.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param queryExpression
+	 *            The query expression selecting the entities to delete
+	 * @throws IllegalArgumentException
+	 *             if the range key of the {@code hashKeyValues} is set without
+	 *             a range key condition - as the query would ignore it
+	 * @return The batches which failed to be deleted
+	 */
+	<T> List<FailedBatch> batchDelete(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression);
+	/**
+	 * Deletes all entities matched by the query without unmarshalling them - see
+	 * {@link #batchDelete(Class, DynamoDBScanExpression, int)}.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param queryRequest
+	 *            The query request selecting the entities to delete. It is not
+	 *            modified.
+	 * @return The batches which failed to be deleted
+	 */
+	<T> List<FailedBatch> batchDelete(Class<T> domainClass, QueryRequest queryRequest);
+
 	<T> String getOverriddenTableName(Class<T> domainClass, String tableName);
 
 	/**
@@ -63,4 +381,16 @@ public interface DynamoDBOperations {
 	 * @return Corresponding DynamoDB table model
 	 */
 	<T> DynamoDBMapperTableModel<T> getTableModel(Class<T> domainClass);
+
+	/**
+	 * Provides the executor repository queries execute independent requests on
+	 * concurrently - e.g. the count of a {@code PageCount.Mode.CONCURRENT} page.
+	 *
+	 * @return A bounded executor - {@code null} to execute the requests on the
+	 *         calling thread
+	 */
+	@Nullable
+	default Executor getQueryExecutor() {
+		return null;
+	}
 }
@@ -0,0 +1,242 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link Publisher} emitting the items of a paginated DynamoDB result page by
+ * page. The next page is requested (using the {@code LastEvaluatedKey} of the
+ * previous page as {@code ExclusiveStartKey}) only after all items of the
+ * current page have been emitted and the subscriber signalled further demand -
+ * thus at most one page is held in memory per subscription.
+ *
+ * Each subscription starts loading from the first page again.
+ *
+ * @param <T>
+ *            Type of the emitted items
+ */
+public class DynamoDBPagePublisher<T> implements Publisher<T> {
+
+	/**
+	 * A single page of a result
+	 *
+	 * @param <T>
+	 *            Type of the items
+	 */
+	public static class ResultPage<T> {
+		private final Iterable<T> items;
+		@Nullable
+		private final Map<String, AttributeValue> lastEvaluatedKey;
+
+		/**
+		 * @param items
+		 *            The items of this page
+		 * @param lastEvaluatedKey
+		 *            The key to continue with - {@code null} if this is the last page
+		 */
+		public ResultPage(Iterable<T> items, @Nullable Map<String, AttributeValue> lastEvaluatedKey) {
+			this.items = items;
+			this.lastEvaluatedKey = lastEvaluatedKey;
+		}
+
+		public Iterable<T> getItems() {
+			return items;
+		}
+
+		@Nullable
+		public Map<String, AttributeValue> getLastEvaluatedKey() {
+			return lastEvaluatedKey;
+		}
+	}
+
+	private final Function<Map<String, AttributeValue>, CompletableFuture<ResultPage<T>>> pageLoader;
+
+	/**
+	 * @param pageLoader
+	 *            Loads the page starting after the given key - the key is
+	 *            {@code null} for the first page
+	 */
+	public DynamoDBPagePublisher(
+			Function<Map<String, AttributeValue>, CompletableFuture<ResultPage<T>>> pageLoader) {
+		this.pageLoader = pageLoader;
+	}
+
+	/**
+	 * @param <T>
+	 *            Type of the emitted item
+	 * @param operation
+	 *            Invoked on each subscription
+	 * @return A {@link Publisher} emitting the result of the operation - or
+	 *         nothing if the result is {@code null}
+	 */
+	public static <T> DynamoDBPagePublisher<T> fromFuture(Supplier<CompletableFuture<T>> operation) {
+		return new DynamoDBPagePublisher<>(startKey -> operation.get().thenApply(
+				result -> new ResultPage<>(result == null ? Collections.emptyList() : Collections.singletonList(result),
+						null)));
+	}
+
+	/**
+	 * @param <T>
+	 *            Type of the emitted items
+	 * @param operation
+	 *            Invoked on the first request of each subscription. The list is
+	 *            iterated on demand - thus lazy loading lists are only loaded as
+	 *            far as requested.
+	 * @return A {@link Publisher} emitting the elements of the list
+	 */
+	public static <T> DynamoDBPagePublisher<T> fromList(Supplier<List<T>> operation) {
+		return new DynamoDBPagePublisher<>(
+				startKey -> CompletableFuture.completedFuture(new ResultPage<>(operation.get(), null)));
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super T> subscriber) {
+		Objects.requireNonNull(subscriber, "subscriber must not be null!");
+		subscriber.onSubscribe(new PageSubscription(subscriber));
+	}
+
+	private class PageSubscription implements Subscription {
+		private final Subscriber<? super T> subscriber;
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile boolean cancelled;
+		private volatile boolean loading;
+		private boolean firstPageLoaded;
+		private Iterator<T> currentPage = Collections.emptyIterator();
+		@Nullable
+		private Map<String, AttributeValue> lastEvaluatedKey;
+		@Nullable
+		private Throwable error;
+
+		private PageSubscription(Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				cancelled = true;
+				subscriber.onError(new IllegalArgumentException("§3.9 violated: positive request amount required"));
+				return;
+			}
+			long current;
+			long next;
+			do {
+				current = requested.get();
+				next = current + n < 0 ? Long.MAX_VALUE : current + n;
+			} while (!requested.compareAndSet(current, next));
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+		/**
+		 * Emits items as long as there is demand. Only one thread at a time is
+		 * draining - other threads only signal that there might be more work.
+		 */
+		private void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				while (!cancelled && !loading) {
+					if (error != null) {
+						cancelled = true;
+						subscriber.onError(error);
+						return;
+					}
+					boolean hasNext;
+					try {
+						hasNext = currentPage.hasNext();
+						if (hasNext && requested.get() > 0) {
+							T item = currentPage.next();
+							if (requested.get() != Long.MAX_VALUE) {
+								requested.decrementAndGet();
+							}
+							subscriber.onNext(item);
+							continue;
+						}
+					} catch (RuntimeException e) {
+						// E.g. a lazily loaded list failing to load its next page
+						cancelled = true;
+						subscriber.onError(e);
+						return;
+					}
+					if (hasNext) {
+						break;
+					} else if (firstPageLoaded && lastEvaluatedKey == null) {
+						cancelled = true;
+						subscriber.onComplete();
+						return;
+					} else if (requested.get() > 0) {
+						loadNextPage();
+					} else {
+						break;
+					}
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void loadNextPage() {
+			loading = true;
+			CompletableFuture<ResultPage<T>> nextPage;
+			try {
+				nextPage = pageLoader.apply(lastEvaluatedKey);
+			} catch (RuntimeException e) {
+				nextPage = new CompletableFuture<>();
+				nextPage.completeExceptionally(e);
+			}
+			nextPage.whenComplete((page, t) -> {
+				if (t != null) {
+					error = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+				} else {
+					try {
+						currentPage = page.getItems().iterator();
+						lastEvaluatedKey = page.getLastEvaluatedKey();
+						firstPageLoaded = true;
+					} catch (RuntimeException e) {
+						error = e;
+					}
+				}
+				loading = false;
+				drain();
+			});
+		}
+	}
+}
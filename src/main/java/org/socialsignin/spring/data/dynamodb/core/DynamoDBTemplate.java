@@ -15,21 +15,50 @@
  */
 package org.socialsignin.spring.data.dynamodb.core;
 
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.SdkBaseException;
+import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ConsistentReads;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.DefaultTableNameResolver;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.TableNameResolver;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedParallelScanList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.Condition;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.KeyType;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
 import com.amazonaws.services.dynamodbv2.model.Select;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperationTags.Operation;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterBatchDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterBatchLoadEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterBatchSaveEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterQueryEvent;
@@ -37,26 +66,91 @@ import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeDeleteEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.DynamoDBEventListenerRegistry;
 import org.socialsignin.spring.data.dynamodb.mapping.event.DynamoDBMappingEvent;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextAware {
+public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextAware, DisposableBean {
 	private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBTemplate.class);
+	private static final int MAX_KEYS_PER_BATCH_GET = 100;
+	private static final int DEFAULT_BATCH_LOAD_PARALLELISM = 4;
+	private static final int MAX_ITEMS_PER_BATCH_WRITE = 25;
+	private static final int DEFAULT_BATCH_WRITE_PARALLELISM = 4;
+	private static final int DEFAULT_EXECUTOR_THREADS = 16;
+	private static final DynamoDBMapperConfig ITERATION_ONLY = DynamoDBMapperConfig.builder()
+			.withPaginationLoadingStrategy(PaginationLoadingStrategy.ITERATION_ONLY).build();
+	private static final EntityEventType BEFORE_SAVE = new EntityEventType(BeforeSaveEvent.class, BeforeSaveEvent::new);
+	private static final EntityEventType AFTER_SAVE = new EntityEventType(AfterSaveEvent.class, AfterSaveEvent::new,
+			AfterBatchSaveEvent.class, AfterBatchSaveEvent::new);
+	private static final EntityEventType BEFORE_DELETE = new EntityEventType(BeforeDeleteEvent.class,
+			BeforeDeleteEvent::new);
+	private static final EntityEventType AFTER_DELETE = new EntityEventType(AfterDeleteEvent.class,
+			AfterDeleteEvent::new, AfterBatchDeleteEvent.class, AfterBatchDeleteEvent::new);
+	private static final EntityEventType AFTER_LOAD = new EntityEventType(AfterLoadEvent.class, AfterLoadEvent::new,
+			AfterBatchLoadEvent.class, AfterBatchLoadEvent::new);
 	private final DynamoDBMapper dynamoDBMapper;
 	private final AmazonDynamoDB amazonDynamoDB;
 	private final DynamoDBMapperConfig dynamoDBMapperConfig;
 	private ApplicationEventPublisher eventPublisher;
+	@Nullable
+	private ApplicationContext applicationContext;
+	@Nullable
+	private volatile DynamoDBEventListenerRegistry eventListenerRegistry;
+	private int batchLoadParallelism = DEFAULT_BATCH_LOAD_PARALLELISM;
+	@Nullable
+	private Executor batchLoadExecutor;
+	private int batchWriteParallelism = DEFAULT_BATCH_WRITE_PARALLELISM;
+	@Nullable
+	private Executor batchWriteExecutor;
+	@Nullable
+	private Executor parallelScanExecutor;
+	@Nullable
+	private Executor queryExecutor;
+	@Nullable
+	private ThreadPoolExecutor defaultExecutor;
+	@Nullable
+	private WriteCapacityRateLimiter batchWriteRateLimiter;
+	@Nullable
+	private Executor afterEventExecutor;
+	private boolean batchAfterEvents;
+	@Nullable
+	private DynamoDBMetricsRecorder metricsRecorder;
 
 	/**
 	 * Initializes a new {@code DynamoDBTemplate}. The following combinations are
@@ -88,116 +182,1149 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.eventPublisher = applicationContext;
+		this.applicationContext = applicationContext;
+		this.eventListenerRegistry = null;
+	}
+
+	@Override
+	public void destroy() {
+		ExecutorService executor;
+		synchronized (this) {
+			executor = defaultExecutor;
+			defaultExecutor = null;
+		}
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * @return The bounded pool of daemon threads executing the concurrent
+	 *         requests unless another executor is configured - created on first
+	 *         use and shut down by {@link #destroy()}
+	 */
+	synchronized Executor getDefaultExecutor() {
+		if (defaultExecutor == null) {
+			defaultExecutor = newDaemonPool("dynamodb-template-");
+		}
+		return defaultExecutor;
+	}
+
+	/**
+	 * @return A pool of {@value #DEFAULT_EXECUTOR_THREADS} daemon threads which
+	 *         time out when idle
+	 */
+	static ThreadPoolExecutor newDaemonPool(String threadNamePrefix) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+		threadFactory.setDaemon(true);
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(DEFAULT_EXECUTOR_THREADS, DEFAULT_EXECUTOR_THREADS, 60L,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+		pool.allowCoreThreadTimeOut(true);
+		return pool;
+	}
+
+	private Executor getBatchLoadExecutor() {
+		return batchLoadExecutor == null ? getDefaultExecutor() : batchLoadExecutor;
+	}
+
+	private Executor getBatchWriteExecutor() {
+		return batchWriteExecutor == null ? getDefaultExecutor() : batchWriteExecutor;
+	}
+
+	@Override
+	public Executor getQueryExecutor() {
+		return queryExecutor == null ? getDefaultExecutor() : queryExecutor;
+	}
+
+	private Executor getParallelScanExecutor() {
+		return parallelScanExecutor == null ? getDefaultExecutor() : parallelScanExecutor;
+	}
+
+	/**
+	 * @param batchLoadParallelism
+	 *            Maximum number of {@code BatchGetItem} requests
+	 *            {@link #batchLoad(Class, List)} executes concurrently - defaults
+	 *            to {@value #DEFAULT_BATCH_LOAD_PARALLELISM}
+	 */
+	public void setBatchLoadParallelism(int batchLoadParallelism) {
+		Assert.isTrue(batchLoadParallelism > 0, "batchLoadParallelism must be positive!");
+		this.batchLoadParallelism = batchLoadParallelism;
+	}
+
+	/**
+	 * @param batchLoadExecutor
+	 *            Executes the concurrent {@code BatchGetItem} requests of
+	 *            {@link #batchLoad(Class, List)} - the calling thread always
+	 *            executes requests, too. Defaults to a pool of
+	 *            {@value #DEFAULT_EXECUTOR_THREADS} daemon threads owned by this
+	 *            template.
+	 */
+	public void setBatchLoadExecutor(Executor batchLoadExecutor) {
+		Assert.notNull(batchLoadExecutor, "batchLoadExecutor must not be null!");
+		this.batchLoadExecutor = batchLoadExecutor;
+	}
+
+	/**
+	 * @param batchWriteParallelism
+	 *            Maximum number of {@code BatchWriteItem} requests
+	 *            {@link #batchSave(Iterable)} and {@link #batchDelete(Iterable)}
+	 *            keep in flight - defaults to
+	 *            {@value #DEFAULT_BATCH_WRITE_PARALLELISM}
+	 */
+	public void setBatchWriteParallelism(int batchWriteParallelism) {
+		Assert.isTrue(batchWriteParallelism > 0, "batchWriteParallelism must be positive!");
+		this.batchWriteParallelism = batchWriteParallelism;
+	}
+
+	/**
+	 * @param batchWriteExecutor
+	 *            Executes the concurrent {@code BatchWriteItem} requests of
+	 *            {@link #batchSave(Iterable)} and {@link #batchDelete(Iterable)}
+	 *            - the calling thread executes requests no thread of the
+	 *            executor picked up yet. The requests wait for retries and write
+	 *            capacity on the threads of the executor, while the save and
+	 *            delete events are always published on the calling thread.
+	 *            Defaults to a pool of
+	 *            {@value #DEFAULT_EXECUTOR_THREADS} daemon threads owned by this
+	 *            template.
+	 */
+	public void setBatchWriteExecutor(Executor batchWriteExecutor) {
+		Assert.notNull(batchWriteExecutor, "batchWriteExecutor must not be null!");
+		this.batchWriteExecutor = batchWriteExecutor;
+	}
+
+	/**
+	 * @param parallelScanExecutor
+	 *            Executes the segments of
+	 *            {@link #parallelCount(Class, DynamoDBScanExpression, int)} and
+	 *            {@link #batchDelete(Class, DynamoDBScanExpression, int)} - the
+	 *            calling thread executes segments no thread of the executor picked
+	 *            up yet. Defaults to a pool of {@value #DEFAULT_EXECUTOR_THREADS}
+	 *            daemon threads owned by this template.
+	 */
+	public void setParallelScanExecutor(Executor parallelScanExecutor) {
+		Assert.notNull(parallelScanExecutor, "parallelScanExecutor must not be null!");
+		this.parallelScanExecutor = parallelScanExecutor;
+	}
+
+	/**
+	 * @param queryExecutor
+	 *            Executes the independent requests of repository queries - see
+	 *            {@link #getQueryExecutor()}. Defaults to a pool of
+	 *            {@value #DEFAULT_EXECUTOR_THREADS} daemon threads owned by this
+	 *            template.
+	 */
+	public void setQueryExecutor(Executor queryExecutor) {
+		Assert.notNull(queryExecutor, "queryExecutor must not be null!");
+		this.queryExecutor = queryExecutor;
+	}
+
+	/**
+	 * Limits the throughput of {@link #batchSave(Iterable)} and
+	 * {@link #batchDelete(Iterable)}. Each written item is accounted with one
+	 * write capacity unit - the actual consumption is higher for items larger
+	 * than 1KB.
+	 *
+	 * @param writeCapacityUnitsPerSecond
+	 *            The target write capacity units per second - {@code null} (the
+	 *            default) to not limit the throughput
+	 */
+	public void setBatchWriteCapacityUnitsPerSecond(@Nullable Double writeCapacityUnitsPerSecond) {
+		this.batchWriteRateLimiter = writeCapacityUnitsPerSecond == null
+				? null
+				: new WriteCapacityRateLimiter(writeCapacityUnitsPerSecond);
+	}
+
+	/**
+	 * Delivers the after events asynchronously - thus slow listeners don't add to
+	 * the latency of the operations. The before events are always delivered on the
+	 * calling thread as their listeners validate or modify the entities.
+	 *
+	 * The executor should be bounded (e.g. a {@code ThreadPoolTaskExecutor} with
+	 * a queue capacity): If it rejects an event, the event is delivered on the
+	 * calling thread instead.
+	 *
+	 * @param afterEventExecutor
+	 *            Delivers the after events - {@code null} (the default) to
+	 *            deliver them on the calling thread
+	 */
+	public void setAfterEventExecutor(@Nullable Executor afterEventExecutor) {
+		this.afterEventExecutor = afterEventExecutor;
+	}
+
+	/**
+	 * @param batchAfterEvents
+	 *            {@code true} to publish a single {@link AfterBatchSaveEvent},
+	 *            {@link AfterBatchDeleteEvent} or {@link AfterBatchLoadEvent} per
+	 *            batch instead of an after event per entity - defaults to
+	 *            {@code false}
+	 */
+	public void setBatchAfterEvents(boolean batchAfterEvents) {
+		this.batchAfterEvents = batchAfterEvents;
+	}
+
+	/**
+	 * @param metricsRecorder
+	 *            Receives the duration, the returned items, the requested pages,
+	 *            the unprocessed batch items and the throttling of every
+	 *            operation - {@code null} (the default) to not record any metrics
+	 */
+	public void setMetricsRecorder(@Nullable DynamoDBMetricsRecorder metricsRecorder) {
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	@Override
 	public <T> int count(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
-		return dynamoDBMapper.count(domainClass, queryExpression);
+		return instrument(Operation.COUNT, domainClass, queryExpression.getIndexName(),
+				metrics -> dynamoDBMapper.count(domainClass, queryExpression));
 	}
 
 	@Override
 	public <T> PaginatedQueryList<T> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
-		PaginatedQueryList<T> results = dynamoDBMapper.query(domainClass, queryExpression);
-		maybeEmitEvent(results, AfterQueryEvent::new);
-		return results;
+		return instrument(Operation.QUERY, domainClass, queryExpression.getIndexName(), metrics -> {
+			Consumer<T> afterEach = metrics.countingItems(afterEach(domainClass, AfterQueryEvent.class,
+					AfterQueryEvent::new));
+			if (afterEach == null) {
+				return dynamoDBMapper.query(domainClass, queryExpression);
+			}
+			return EventPublishingPaginatedLists.query(dynamoDBMapper, domainClass, amazonDynamoDB,
+					dynamoDBMapperConfig, dynamoDBMapper.query(domainClass, queryExpression, ITERATION_ONLY),
+					afterEach);
+		});
+	}
+
+	@Override
+	public <T> List<T> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression, int maxResults) {
+		return instrument(Operation.QUERY, domainClass, queryExpression.getIndexName(), metrics -> {
+			Assert.isTrue(maxResults > 0, "maxResults must be positive!");
+			List<T> results = readAtMost(
+					dynamoDBMapper.query(domainClass, queryExpression, ITERATION_ONLY), maxResults);
+			metrics.items(results.size());
+			maybeEmitEvent(results, domainClass, AfterQueryEvent.class, AfterQueryEvent::new);
+			return results;
+		});
+	}
+
+	@Override
+	public <T> QueryResultPage<T> queryPage(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
+		return instrument(Operation.QUERY, domainClass, queryExpression.getIndexName(), metrics -> {
+			QueryResultPage<T> page = dynamoDBMapper.queryPage(domainClass, queryExpression);
+			metrics.pages(1);
+			metrics.items(page.getResults().size());
+			maybeEmitEvent(page.getResults(), domainClass, AfterQueryEvent.class, AfterQueryEvent::new);
+			return page;
+		});
 	}
 
 	@Override
 	public <T> int count(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
-		return dynamoDBMapper.count(domainClass, scanExpression);
+		return instrument(Operation.COUNT, domainClass, scanExpression.getIndexName(),
+				metrics -> dynamoDBMapper.count(domainClass, scanExpression));
 	}
 
 	@Override
 	public <T> T load(Class<T> domainClass, Object hashKey, Object rangeKey) {
-		T entity = dynamoDBMapper.load(domainClass, hashKey, rangeKey);
-		maybeEmitEvent(entity, AfterLoadEvent::new);
+		return instrument(Operation.LOAD, domainClass, null, metrics -> {
+			T entity = dynamoDBMapper.load(domainClass, hashKey, rangeKey);
+			maybeEmitEvent(entity, AfterLoadEvent.class, AfterLoadEvent::new);
+			metrics.items(entity == null ? 0 : 1);
 
-		return entity;
+			return entity;
+		});
 	}
 
 	@Override
 	public <T> T load(Class<T> domainClass, Object hashKey) {
-		T entity = dynamoDBMapper.load(domainClass, hashKey);
-		maybeEmitEvent(entity, AfterLoadEvent::new);
+		return instrument(Operation.LOAD, domainClass, null, metrics -> {
+			T entity = dynamoDBMapper.load(domainClass, hashKey);
+			maybeEmitEvent(entity, AfterLoadEvent.class, AfterLoadEvent::new);
+			metrics.items(entity == null ? 0 : 1);
 
-		return entity;
+			return entity;
+		});
 	}
 
 	@Override
 	public <T> PaginatedScanList<T> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
-		PaginatedScanList<T> results = dynamoDBMapper.scan(domainClass, scanExpression);
-		maybeEmitEvent(results, AfterScanEvent::new);
-		return results;
+		return instrument(Operation.SCAN, domainClass, scanExpression.getIndexName(), metrics -> {
+			Consumer<T> afterEach = metrics.countingItems(afterEach(domainClass, AfterScanEvent.class,
+					AfterScanEvent::new));
+			if (afterEach == null) {
+				return dynamoDBMapper.scan(domainClass, scanExpression);
+			}
+			return EventPublishingPaginatedLists.scan(dynamoDBMapper, domainClass, amazonDynamoDB,
+					dynamoDBMapperConfig, dynamoDBMapper.scan(domainClass, scanExpression, ITERATION_ONLY),
+					afterEach);
+		});
+	}
+
+	@Override
+	public <T> List<T> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression, int maxResults) {
+		return instrument(Operation.SCAN, domainClass, scanExpression.getIndexName(), metrics -> {
+			Assert.isTrue(maxResults > 0, "maxResults must be positive!");
+			List<T> results = readAtMost(
+					dynamoDBMapper.scan(domainClass, scanExpression, ITERATION_ONLY), maxResults);
+			metrics.items(results.size());
+			maybeEmitEvent(results, domainClass, AfterScanEvent.class, AfterScanEvent::new);
+			return results;
+		});
+	}
+
+	@Override
+	public <T> ScanResultPage<T> scanPage(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		return instrument(Operation.SCAN, domainClass, scanExpression.getIndexName(), metrics -> {
+			ScanResultPage<T> page = dynamoDBMapper.scanPage(domainClass, scanExpression);
+			metrics.pages(1);
+			metrics.items(page.getResults().size());
+			maybeEmitEvent(page.getResults(), domainClass, AfterScanEvent.class, AfterScanEvent::new);
+			return page;
+		});
+	}
+
+	@Override
+	public <T> PaginatedParallelScanList<T> parallelScan(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			int totalSegments) {
+		return instrument(Operation.PARALLEL_SCAN, domainClass, scanExpression.getIndexName(), metrics -> {
+			Consumer<T> afterEach = metrics.countingItems(afterEach(domainClass, AfterScanEvent.class,
+					AfterScanEvent::new));
+			if (afterEach == null) {
+				return dynamoDBMapper.parallelScan(domainClass, scanExpression, totalSegments);
+			}
+			return EventPublishingPaginatedLists.parallelScan(dynamoDBMapper, domainClass, amazonDynamoDB,
+					dynamoDBMapperConfig,
+					dynamoDBMapper.parallelScan(domainClass, scanExpression, totalSegments, ITERATION_ONLY),
+					afterEach);
+		});
+	}
+
+	@Override
+	public <T> int parallelCount(Class<T> domainClass, DynamoDBScanExpression scanExpression, int totalSegments) {
+		return instrument(Operation.COUNT, domainClass, scanExpression.getIndexName(), metrics -> {
+			Assert.isTrue(totalSegments > 0, "totalSegments must be positive!");
+
+			List<ForkedTask<Integer>> segmentCounts = new ArrayList<>(totalSegments);
+			for (int segment = 0; segment < totalSegments; segment++) {
+				DynamoDBScanExpression segmentScanExpression = copyScanExpression(scanExpression)
+						.withSegment(segment).withTotalSegments(totalSegments);
+				segmentCounts.add(ForkedTask.fork(getParallelScanExecutor(),
+						() -> dynamoDBMapper.count(domainClass, segmentScanExpression)));
+			}
+
+			int count = 0;
+			for (ForkedTask<Integer> segmentCount : segmentCounts) {
+				count += segmentCount.join();
+			}
+			return count;
+		});
+	}
+
+	@Override
+	public <T> long estimateCount(Class<T> domainClass, String tableName) {
+		return instrument(Operation.DESCRIBE_TABLE, domainClass, null, metrics -> {
+			Long itemCount = amazonDynamoDB.describeTable(getOverriddenTableName(domainClass, tableName)).getTable()
+					.getItemCount();
+			return itemCount == null ? 0 : itemCount;
+		});
+	}
+
+	@Override
+	public <T> boolean exists(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		return instrument(Operation.EXISTS, domainClass, null, metrics -> {
+			Map<String, AttributeValue> key = getTableModel(domainClass).convertKey(hashKey, rangeKey);
+
+			// Placeholders as key attribute names might be reserved words
+			Map<String, String> attributeNames = new HashMap<>();
+			for (String attributeName : key.keySet()) {
+				attributeNames.put("#k" + attributeNames.size(), attributeName);
+			}
+			GetItemRequest getItemRequest = new GetItemRequest(getTableName(domainClass), key)
+					.withProjectionExpression(String.join(", ", attributeNames.keySet()))
+					.withExpressionAttributeNames(attributeNames)
+					.withConsistentRead(isConsistentRead());
+			return amazonDynamoDB.getItem(getItemRequest).getItem() != null;
+		});
+	}
+
+	@Override
+	public <T> boolean exists(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
+		return instrument(Operation.EXISTS, domainClass, queryExpression.getIndexName(), metrics -> {
+			queryExpression.setSelect(Select.COUNT);
+			queryExpression.setProjectionExpression(null);
+			QueryResultPage<T> page;
+			do {
+				page = dynamoDBMapper.queryPage(domainClass, queryExpression);
+				metrics.pages(1);
+				if (page.getCount() > 0) {
+					return true;
+				}
+				queryExpression.setExclusiveStartKey(page.getLastEvaluatedKey());
+			} while (page.getLastEvaluatedKey() != null);
+			return false;
+		});
+	}
+
+	@Override
+	public <T> boolean exists(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		return instrument(Operation.EXISTS, domainClass, scanExpression.getIndexName(), metrics -> {
+			scanExpression.setSelect(Select.COUNT);
+			scanExpression.setProjectionExpression(null);
+			ScanResultPage<T> page;
+			do {
+				page = dynamoDBMapper.scanPage(domainClass, scanExpression);
+				metrics.pages(1);
+				if (page.getCount() > 0) {
+					return true;
+				}
+				scanExpression.setExclusiveStartKey(page.getLastEvaluatedKey());
+			} while (page.getLastEvaluatedKey() != null);
+			return false;
+		});
+	}
+
+	/**
+	 * Resolves the table name the same way the {@link DynamoDBMapper} does.
+	 */
+	protected String getTableName(Class<?> domainClass) {
+		TableNameResolver tableNameResolver = dynamoDBMapperConfig.getTableNameResolver() == null
+				? DefaultTableNameResolver.INSTANCE
+				: dynamoDBMapperConfig.getTableNameResolver();
+		return tableNameResolver.getTableName(domainClass, dynamoDBMapperConfig);
+	}
+
+	protected boolean isConsistentRead() {
+		return dynamoDBMapperConfig.getConsistentReads() == ConsistentReads.CONSISTENT;
+	}
+
+	/**
+	 * Translates the expression into the low level request the
+	 * {@link DynamoDBMapper} would send for it.
+	 */
+	protected <T> QueryRequest toQueryRequest(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
+		Map<String, Condition> keyConditions = new HashMap<>();
+		T hashKeyValues = queryExpression.getHashKeyValues();
+		if (hashKeyValues != null) {
+			DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+			DynamoDBMapperFieldModel<T, Object> hashKey = getQueryHashKey(tableModel, queryExpression.getIndexName());
+			Object hashKeyValue = hashKey.get(hashKeyValues);
+			Assert.notNull(hashKeyValue, () -> "hashKeyValues must have " + hashKey.name() + " set!");
+			keyConditions.put(hashKey.name(), new Condition().withComparisonOperator(ComparisonOperator.EQ)
+					.withAttributeValueList(hashKey.convert(hashKeyValue)));
+
+			// Like the DynamoDBMapper the range key is ignored - which is not obvious when deleting
+			DynamoDBMapperFieldModel<T, Object> rangeKey = tableModel.rangeKeyIfExists();
+			Assert.isTrue(rangeKey == null || rangeKey == hashKey || rangeKey.get(hashKeyValues) == null
+					|| queryExpression.getRangeKeyConditions() != null,
+					() -> "The range key of hashKeyValues is ignored - use a range key condition on "
+							+ rangeKey.name() + " instead!");
+		}
+		if (queryExpression.getRangeKeyConditions() != null) {
+			keyConditions.putAll(queryExpression.getRangeKeyConditions());
+		}
+
+		return new QueryRequest(getTableName(domainClass)).withIndexName(queryExpression.getIndexName())
+				.withKeyConditions(keyConditions.isEmpty() ? null : keyConditions)
+				.withKeyConditionExpression(queryExpression.getKeyConditionExpression())
+				.withQueryFilter(queryExpression.getQueryFilter())
+				.withConditionalOperator(queryExpression.getConditionalOperator())
+				.withFilterExpression(queryExpression.getFilterExpression())
+				.withExpressionAttributeNames(queryExpression.getExpressionAttributeNames())
+				.withExpressionAttributeValues(queryExpression.getExpressionAttributeValues())
+				.withProjectionExpression(queryExpression.getProjectionExpression())
+				.withSelect(queryExpression.getSelect()).withLimit(queryExpression.getLimit())
+				.withExclusiveStartKey(queryExpression.getExclusiveStartKey())
+				.withScanIndexForward(queryExpression.isScanIndexForward())
+				.withConsistentRead(queryExpression.isConsistentRead())
+				.withReturnConsumedCapacity(queryExpression.getReturnConsumedCapacity());
+	}
+
+	/**
+	 * The hash key of a global secondary index or the table - like the
+	 * {@link DynamoDBMapper} resolves it.
+	 */
+	private static <T> DynamoDBMapperFieldModel<T, Object> getQueryHashKey(DynamoDBMapperTableModel<T> tableModel,
+			@Nullable String indexName) {
+		if (indexName != null) {
+			for (DynamoDBMapperFieldModel<T, Object> field : tableModel.fields()) {
+				if (field.globalSecondaryIndexNames(KeyType.HASH).contains(indexName)) {
+					return field;
+				}
+			}
+		}
+		return tableModel.hashKey();
+	}
+
+	/**
+	 * Translates the expression into the low level request the
+	 * {@link DynamoDBMapper} would send for it.
+	 */
+	protected <T> ScanRequest toScanRequest(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		return new ScanRequest(getTableName(domainClass)).withIndexName(scanExpression.getIndexName())
+				.withScanFilter(scanExpression.getScanFilter())
+				.withConditionalOperator(scanExpression.getConditionalOperator())
+				.withFilterExpression(scanExpression.getFilterExpression())
+				.withExpressionAttributeNames(scanExpression.getExpressionAttributeNames())
+				.withExpressionAttributeValues(scanExpression.getExpressionAttributeValues())
+				.withProjectionExpression(scanExpression.getProjectionExpression())
+				.withSelect(scanExpression.getSelect()).withLimit(scanExpression.getLimit())
+				.withExclusiveStartKey(scanExpression.getExclusiveStartKey())
+				.withTotalSegments(scanExpression.getTotalSegments()).withSegment(scanExpression.getSegment())
+				.withConsistentRead(scanExpression.isConsistentRead() != null
+						? scanExpression.isConsistentRead()
+						: isConsistentRead())
+				.withReturnConsumedCapacity(scanExpression.getReturnConsumedCapacity());
+	}
+
+	private static DynamoDBScanExpression copyScanExpression(DynamoDBScanExpression scanExpression) {
+		return new DynamoDBScanExpression().withScanFilter(scanExpression.getScanFilter())
+				.withConditionalOperator(scanExpression.getConditionalOperator())
+				.withFilterExpression(scanExpression.getFilterExpression())
+				.withExpressionAttributeNames(scanExpression.getExpressionAttributeNames())
+				.withExpressionAttributeValues(scanExpression.getExpressionAttributeValues())
+				.withProjectionExpression(scanExpression.getProjectionExpression())
+				.withSelect(scanExpression.getSelect()).withLimit(scanExpression.getLimit())
+				.withIndexName(scanExpression.getIndexName()).withConsistentRead(scanExpression.isConsistentRead())
+				.withReturnConsumedCapacity(scanExpression.getReturnConsumedCapacity());
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> List<T> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet) {
-		return dynamoDBMapper.batchLoad(itemsToGet).values().stream().flatMap(v -> v.stream()).map(e -> (T) e)
-				.map(entity -> {
-					maybeEmitEvent(entity, AfterLoadEvent::new);
-					return entity;
-				}).collect(Collectors.toList());
+		return instrumentTable(Operation.BATCH_LOAD, null, null, metrics -> {
+			Collection<List<Object>> entitiesPerTable = dynamoDBMapper.batchLoad(itemsToGet).values();
+			entitiesPerTable.forEach(entities -> {
+				metrics.items(entities.size());
+				maybeEmitAfterEvents(entities, AFTER_LOAD);
+			});
+			return entitiesPerTable.stream().flatMap(v -> v.stream()).map(e -> (T) e).collect(Collectors.toList());
+		});
 	}
 
 	@Override
-	public <T> T save(T entity) {
-		maybeEmitEvent(entity, BeforeSaveEvent::new);
-		dynamoDBMapper.save(entity);
-		maybeEmitEvent(entity, AfterSaveEvent::new);
-		return entity;
+	public <T> List<T> batchLoad(Class<T> domainClass, List<KeyPair> keyPairs) {
+		return instrument(Operation.BATCH_LOAD, domainClass, null, metrics -> {
+			DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+
+			// BatchGetItem rejects requests containing the same key twice
+			Map<Map<String, AttributeValue>, KeyPair> distinctKeys = new LinkedHashMap<>();
+			for (KeyPair keyPair : keyPairs) {
+				distinctKeys.putIfAbsent(tableModel.convertKey(keyPair.getHashKey(), keyPair.getRangeKey()), keyPair);
+			}
+
+			List<KeyPair> keysToLoad = new ArrayList<>(distinctKeys.values());
+			List<List<KeyPair>> chunks = new ArrayList<>();
+			for (int i = 0; i < keysToLoad.size(); i += MAX_KEYS_PER_BATCH_GET) {
+				chunks.add(keysToLoad.subList(i, Math.min(i + MAX_KEYS_PER_BATCH_GET, keysToLoad.size())));
+			}
+
+			Map<Map<String, AttributeValue>, T> entities = new ConcurrentHashMap<>();
+			int parallelism = Math.min(batchLoadParallelism, chunks.size());
+			forEachConcurrently(chunks.iterator(), parallelism, getBatchLoadExecutor(), chunk -> {
+				Map<Class<?>, List<KeyPair>> itemsToGet = Collections.singletonMap(domainClass, chunk);
+				for (List<Object> tableEntities : dynamoDBMapper.batchLoad(itemsToGet).values()) {
+					for (Object entity : tableEntities) {
+						T typedEntity = domainClass.cast(entity);
+						entities.put(tableModel.convertKey(typedEntity), typedEntity);
+					}
+				}
+			});
+
+			List<T> result = new ArrayList<>(entities.size());
+			boolean batchEvents = batchAfterEvents;
+			boolean publishAfterLoad = isListenedTo(batchEvents ? AfterBatchLoadEvent.class : AfterLoadEvent.class,
+					domainClass);
+			for (Map<String, AttributeValue> key : distinctKeys.keySet()) {
+				T entity = entities.get(key);
+				if (entity != null) {
+					if (publishAfterLoad && !batchEvents) {
+						maybeEmitEvent(entity, AfterLoadEvent::new);
+					}
+					result.add(entity);
+				}
+			}
+			if (publishAfterLoad && batchEvents && !result.isEmpty()) {
+				this.<List<T>>maybeEmitEvent(new ArrayList<>(result), AfterBatchLoadEvent::new);
+			}
+			metrics.items(result.size());
+			return result;
+		});
+	}
 
+	@Override
+	public <T> T save(T entity) {
+		return instrument(Operation.SAVE, entity.getClass(), null, metrics -> {
+			maybeEmitEvent(entity, BeforeSaveEvent.class, BeforeSaveEvent::new);
+			dynamoDBMapper.save(entity);
+			maybeEmitEvent(entity, AfterSaveEvent.class, AfterSaveEvent::new);
+			return entity;
+		});
 	}
 
 	@Override
 	public List<FailedBatch> batchSave(Iterable<?> entities) {
-		entities.forEach(it -> maybeEmitEvent(it, BeforeSaveEvent::new));
-
-		List<FailedBatch> result = dynamoDBMapper.batchSave(entities);
+		return instrumentTable(Operation.BATCH_SAVE, null, null, metrics -> metrics
+				.failedBatches(batchWrite(entities, dynamoDBMapper::batchSave, BEFORE_SAVE, AFTER_SAVE)));
+	}
 
-		entities.forEach(it -> maybeEmitEvent(it, AfterSaveEvent::new));
-		return result;
+	@Override
+	public List<FailedBatch> batchSave(Iterator<?> entities) {
+		return instrumentTable(Operation.BATCH_SAVE, null, null, metrics -> metrics
+				.failedBatches(batchWrite(entities, dynamoDBMapper::batchSave, BEFORE_SAVE, AFTER_SAVE)));
 	}
 
 	@Override
 	public <T> T delete(T entity) {
-		maybeEmitEvent(entity, BeforeDeleteEvent::new);
-		dynamoDBMapper.delete(entity);
-		maybeEmitEvent(entity, AfterDeleteEvent::new);
-		return entity;
+		return instrument(Operation.DELETE, entity.getClass(), null, metrics -> {
+			maybeEmitEvent(entity, BeforeDeleteEvent.class, BeforeDeleteEvent::new);
+			dynamoDBMapper.delete(entity);
+			maybeEmitEvent(entity, AfterDeleteEvent.class, AfterDeleteEvent::new);
+			return entity;
+		});
+	}
+
+	@Override
+	public <T> void delete(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		instrument(Operation.DELETE, domainClass, null, metrics -> {
+			DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+			T entity;
+			if (tableModel.versioned() || isListenedTo(BeforeDeleteEvent.class, domainClass)
+					|| isListenedTo(AfterDeleteEvent.class, domainClass)) {
+				// The version has to be known to delete and listeners get the entity they'd load themselves
+				entity = dynamoDBMapper.load(domainClass, hashKey, rangeKey);
+				if (entity == null) {
+					throw new ConditionalCheckFailedException(String.format(
+							"No %s entity with hash key %s and range key %s exists!", domainClass, hashKey, rangeKey));
+				}
+			} else {
+				entity = tableModel.createKey(hashKey, rangeKey);
+			}
+
+			maybeEmitEvent(entity, BeforeDeleteEvent.class, BeforeDeleteEvent::new);
+			if (tableModel.versioned()) {
+				// Conditional on the version loaded - the entity existed, thus it was modified concurrently
+				try {
+					dynamoDBMapper.delete(entity);
+				} catch (ConditionalCheckFailedException e) {
+					throw new OptimisticLockingFailureException(String.format(
+							"The %s entity with hash key %s and range key %s was modified concurrently", domainClass,
+							hashKey, rangeKey), e);
+				}
+			} else {
+				DeleteItemRequest deleteItemRequest = new DeleteItemRequest(getTableName(domainClass),
+						tableModel.convertKey(entity)).withConditionExpression("attribute_exists(#hashKey)")
+								.addExpressionAttributeNamesEntry("#hashKey", tableModel.hashKey().name());
+				amazonDynamoDB.deleteItem(deleteItemRequest);
+			}
+			maybeEmitEvent(entity, AfterDeleteEvent.class, AfterDeleteEvent::new);
+			return null;
+		});
 	}
 
 	@Override
 	public List<FailedBatch> batchDelete(Iterable<?> entities) {
-		entities.forEach(it -> maybeEmitEvent(it, BeforeDeleteEvent::new));
+		return instrumentTable(Operation.BATCH_DELETE, null, null, metrics -> metrics
+				.failedBatches(batchWrite(entities, dynamoDBMapper::batchDelete, BEFORE_DELETE, AFTER_DELETE)));
+	}
 
-		List<FailedBatch> result = dynamoDBMapper.batchDelete(entities);
+	@Override
+	public <T> List<FailedBatch> batchDelete(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			int totalSegments) {
+		return instrument(Operation.BATCH_DELETE, domainClass, scanExpression.getIndexName(), metrics -> {
+			Assert.isTrue(totalSegments > 0, "totalSegments must be positive!");
+			ScanRequest scanRequest = toScanRequest(domainClass, scanExpression);
+			if (isDeleteListenedTo(domainClass)) {
+				// The events are published by the calling thread - thus it scans all segments
+				return metrics.failedBatches(deleteEntities(domainClass, new KeyIterator(lastEvaluatedKey -> {
+					ScanResult scanResult = amazonDynamoDB.scan(scanRequest.withExclusiveStartKey(lastEvaluatedKey));
+					return new ResultPage<>(scanResult.getItems(), scanResult.getLastEvaluatedKey());
+				})));
+			}
 
-		entities.forEach(it -> maybeEmitEvent(it, AfterDeleteEvent::new));
-		return result;
+			List<String> keyAttributeNames = getKeyAttributeNames(domainClass);
+			if (scanRequest.getScanFilter() != null) {
+				// Legacy parameters can't be combined with expressions
+				scanRequest.withAttributesToGet(keyAttributeNames).withProjectionExpression(null);
+			} else {
+				Map<String, String> attributeNames = copyOf(scanRequest.getExpressionAttributeNames());
+				scanRequest.withProjectionExpression(toProjectionExpression(keyAttributeNames, attributeNames))
+						.withExpressionAttributeNames(attributeNames);
+			}
+			scanRequest.setSelect((String) null);
+
+			if (totalSegments == 1) {
+				List<FailedBatch> failedBatches = deleteKeys(scanRequest.getTableName(),
+						new KeyIterator(lastEvaluatedKey -> {
+							ScanResult scanResult = amazonDynamoDB
+									.scan(scanRequest.withExclusiveStartKey(lastEvaluatedKey));
+							return new ResultPage<>(scanResult.getItems(), scanResult.getLastEvaluatedKey());
+						}), batchWriteParallelism);
+				return metrics.failedBatches(failedBatches);
+			}
+
+			// Each segment deletes its keys one request at a time
+			List<ForkedTask<List<FailedBatch>>> segmentDeletes = new ArrayList<>(totalSegments);
+			for (int segment = 0; segment < totalSegments; segment++) {
+				ScanRequest segmentScanRequest = scanRequest.clone().withSegment(segment)
+						.withTotalSegments(totalSegments);
+				segmentDeletes.add(ForkedTask.fork(getParallelScanExecutor(),
+						() -> deleteKeys(segmentScanRequest.getTableName(), new KeyIterator(lastEvaluatedKey -> {
+							ScanResult scanResult = amazonDynamoDB
+									.scan(segmentScanRequest.withExclusiveStartKey(lastEvaluatedKey));
+							return new ResultPage<>(scanResult.getItems(), scanResult.getLastEvaluatedKey());
+						}), 1)));
+			}
+
+			List<FailedBatch> failedBatches = new ArrayList<>();
+			for (ForkedTask<List<FailedBatch>> segmentDelete : segmentDeletes) {
+				failedBatches.addAll(segmentDelete.join());
+			}
+			return metrics.failedBatches(failedBatches);
+		});
+	}
+
+	@Override
+	public <T> List<FailedBatch> batchDelete(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
+		return batchDelete(domainClass, toQueryRequest(domainClass, queryExpression));
+	}
+
+	@Override
+	public <T> List<FailedBatch> batchDelete(Class<T> domainClass, QueryRequest queryRequest) {
+		return instrumentTable(Operation.BATCH_DELETE, queryRequest.getTableName(), queryRequest.getIndexName(),
+				metrics -> {
+			if (isDeleteListenedTo(domainClass)) {
+				QueryRequest entityQueryRequest = queryRequest.clone();
+				return metrics.failedBatches(deleteEntities(domainClass, new KeyIterator(lastEvaluatedKey -> {
+					QueryResult queryResult = amazonDynamoDB
+							.query(entityQueryRequest.withExclusiveStartKey(lastEvaluatedKey));
+					return new ResultPage<>(queryResult.getItems(), queryResult.getLastEvaluatedKey());
+				})));
+			}
+
+			List<String> keyAttributeNames = getKeyAttributeNames(domainClass);
+			QueryRequest keyQueryRequest = queryRequest.clone();
+			if (keyQueryRequest.getKeyConditions() != null || keyQueryRequest.getQueryFilter() != null) {
+				// Legacy parameters can't be combined with expressions
+				keyQueryRequest.withAttributesToGet(keyAttributeNames).withProjectionExpression(null);
+			} else {
+				Map<String, String> attributeNames = copyOf(keyQueryRequest.getExpressionAttributeNames());
+				keyQueryRequest.withProjectionExpression(toProjectionExpression(keyAttributeNames, attributeNames))
+						.withExpressionAttributeNames(attributeNames);
+			}
+			keyQueryRequest.setSelect((String) null);
+
+			List<FailedBatch> failedBatches = deleteKeys(keyQueryRequest.getTableName(),
+					new KeyIterator(lastEvaluatedKey -> {
+						QueryResult queryResult = amazonDynamoDB
+								.query(keyQueryRequest.withExclusiveStartKey(lastEvaluatedKey));
+						return new ResultPage<>(queryResult.getItems(), queryResult.getLastEvaluatedKey());
+					}), batchWriteParallelism);
+			return metrics.failedBatches(failedBatches);
+		});
+	}
+
+	/**
+	 * Whether the entities have to be loaded to publish the events
+	 * {@link #batchDelete(Iterable)} publishes.
+	 */
+	private boolean isDeleteListenedTo(Class<?> domainClass) {
+		return isListenedTo(BeforeDeleteEvent.class, domainClass) || isListenedTo(
+				batchAfterEvents ? AfterBatchDeleteEvent.class : AfterDeleteEvent.class, domainClass);
+	}
+
+	/**
+	 * Deletes the entities of the items like {@link #batchDelete(Iterable)} -
+	 * converting only the items of the chunks in flight.
+	 */
+	private <T> List<FailedBatch> deleteEntities(Class<T> domainClass, Iterator<Map<String, AttributeValue>> items) {
+		Iterator<T> entities = new Iterator<T>() {
+			@Override
+			public boolean hasNext() {
+				return items.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return dynamoDBMapper.marshallIntoObject(domainClass, items.next(), dynamoDBMapperConfig);
+			}
+		};
+		return batchWrite(entities, dynamoDBMapper::batchDelete, BEFORE_DELETE, AFTER_DELETE);
+	}
+
+	private List<String> getKeyAttributeNames(Class<?> domainClass) {
+		DynamoDBMapperTableModel<?> tableModel = getTableModel(domainClass);
+		List<String> keyAttributeNames = new ArrayList<>(2);
+		keyAttributeNames.add(tableModel.hashKey().name());
+		if (tableModel.rangeKeyIfExists() != null) {
+			keyAttributeNames.add(tableModel.rangeKeyIfExists().name());
+		}
+		return keyAttributeNames;
+	}
+
+	private static Map<String, String> copyOf(@Nullable Map<String, String> attributeNames) {
+		return attributeNames == null ? new HashMap<>() : new HashMap<>(attributeNames);
+	}
+
+	/**
+	 * Adds placeholders for the attributes - as they might be reserved words - and
+	 * returns the projection expression of them.
+	 */
+	private static String toProjectionExpression(List<String> attributes, Map<String, String> attributeNames) {
+		List<String> placeholders = new ArrayList<>(attributes.size());
+		for (String attribute : attributes) {
+			String placeholder = "#k" + placeholders.size();
+			while (attributeNames.containsKey(placeholder)) {
+				placeholder = placeholder + "_";
+			}
+			attributeNames.put(placeholder, attribute);
+			placeholders.add(placeholder);
+		}
+		return String.join(", ", placeholders);
+	}
+
+	/**
+	 * Deletes the items identified by the keys with {@code BatchWriteItem}
+	 * requests of {@value #MAX_ITEMS_PER_BATCH_WRITE} items each - keeping up to
+	 * {@code parallelism} requests in flight. Unprocessed items are retried
+	 * according to {@link DynamoDBMapperConfig#getBatchWriteRetryStrategy()} just
+	 * like {@link DynamoDBMapper#batchDelete(Iterable)} does.
+	 */
+	private List<FailedBatch> deleteKeys(String tableName, Iterator<Map<String, AttributeValue>> keys,
+			int parallelism) {
+		Queue<FailedBatch> failedBatches = new ConcurrentLinkedQueue<>();
+		Iterator<List<Map<String, AttributeValue>>> chunks = new ChunkIterator<>(keys, MAX_ITEMS_PER_BATCH_WRITE);
+		forEachConcurrently(chunks, parallelism, getBatchWriteExecutor(), chunk -> {
+			acquireWriteCapacity(chunk);
+			FailedBatch failedBatch = deleteChunk(tableName, chunk);
+			if (failedBatch != null) {
+				failedBatches.add(failedBatch);
+			}
+		});
+		return new ArrayList<>(failedBatches);
+	}
+
+	@Nullable
+	private FailedBatch deleteChunk(String tableName, List<Map<String, AttributeValue>> keys) {
+		BatchWriteRetryStrategy retryStrategy = dynamoDBMapperConfig.getBatchWriteRetryStrategy() == null
+				? DynamoDBMapperConfig.DEFAULT.getBatchWriteRetryStrategy()
+				: dynamoDBMapperConfig.getBatchWriteRetryStrategy();
+		Map<String, List<WriteRequest>> requestItems = Collections.singletonMap(tableName, keys.stream()
+				.map(key -> new WriteRequest(new DeleteRequest(key))).collect(Collectors.toList()));
+
+		FailedBatch failedBatch = new FailedBatch();
+		try {
+			int maxRetries = retryStrategy.getMaxRetryOnUnprocessedItems(requestItems);
+			for (int retries = 0;; retries++) {
+				Map<String, List<WriteRequest>> unprocessedItems = amazonDynamoDB
+						.batchWriteItem(new BatchWriteItemRequest(requestItems)).getUnprocessedItems();
+				if (unprocessedItems == null || unprocessedItems.isEmpty()) {
+					return null;
+				}
+				requestItems = unprocessedItems;
+				if (maxRetries >= 0 && retries >= maxRetries) {
+					failedBatch.setException(new AmazonClientException(
+							"Exceeded the maximum number of retries for unprocessed items: " + maxRetries));
+					break;
+				}
+				Thread.sleep(retryStrategy.getDelayBeforeRetryUnprocessedItems(unprocessedItems, retries));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failedBatch.setException(e);
+		} catch (AmazonClientException e) {
+			failedBatch.setException(e);
+		}
+		failedBatch.setUnprocessedItems(requestItems);
+		return failedBatch;
+	}
+
+	/**
+	 * Iterates the items of a query or scan page by page - fetching the next page
+	 * only once the items of the current one are consumed.
+	 */
+	private static class KeyIterator implements Iterator<Map<String, AttributeValue>> {
+		private final Function<Map<String, AttributeValue>, ResultPage<Map<String, AttributeValue>>> pageLoader;
+		private Iterator<Map<String, AttributeValue>> page = Collections.emptyIterator();
+		@Nullable
+		private Map<String, AttributeValue> lastEvaluatedKey;
+		private boolean lastPage = false;
+
+		KeyIterator(Function<Map<String, AttributeValue>, ResultPage<Map<String, AttributeValue>>> pageLoader) {
+			this.pageLoader = pageLoader;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!page.hasNext() && !lastPage) {
+				ResultPage<Map<String, AttributeValue>> resultPage = pageLoader.apply(lastEvaluatedKey);
+				page = resultPage.getItems().iterator();
+				lastEvaluatedKey = resultPage.getLastEvaluatedKey();
+				lastPage = lastEvaluatedKey == null;
+			}
+			return page.hasNext();
+		}
+
+		@Override
+		public Map<String, AttributeValue> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return page.next();
+		}
+	}
+
+	/**
+	 * Writes the entities in chunks of {@value #MAX_ITEMS_PER_BATCH_WRITE} items -
+	 * the maximum of a single {@code BatchWriteItem} request - keeping up to
+	 * {@link #setBatchWriteParallelism(int)} chunks in flight. Unprocessed items of
+	 * a chunk are retried by the {@link DynamoDBMapper} according to
+	 * {@link DynamoDBMapperConfig#getBatchWriteRetryStrategy()}, which uses a
+	 * jittered exponential backoff by default.
+	 *
+	 * The before and after events are published per chunk - thus the entities are
+	 * only iterated once and only the chunks in flight are held in memory. Only the
+	 * requests are handed off to {@link #setBatchWriteExecutor(Executor)}: the
+	 * calling thread publishes the before events while it pulls the chunks and the
+	 * after events once the chunks are written - in the order of the chunks.
+	 */
+	private List<FailedBatch> batchWrite(Iterable<?> entities, Function<List<Object>, List<FailedBatch>> writer,
+			EntityEventType beforeEvent, EntityEventType afterEvent) {
+		if (entities instanceof Collection && ((Collection<?>) entities).size() <= MAX_ITEMS_PER_BATCH_WRITE) {
+			// Single request - no need to hand over to other threads
+			List<Object> chunk = new ArrayList<>((Collection<?>) entities);
+			return writeChunk(chunk, writer, beforeEvent, afterEvent);
+		}
+		return batchWrite(entities.iterator(), writer, beforeEvent, afterEvent);
+	}
+
+	private List<FailedBatch> batchWrite(Iterator<?> entities, Function<List<Object>, List<FailedBatch>> writer,
+			EntityEventType beforeEvent, EntityEventType afterEvent) {
+		// Writes of a single chunk at a time are executed by the calling thread
+		Executor executor = batchWriteParallelism == 1 ? null : getBatchWriteExecutor();
+		List<FailedBatch> failedBatches = new ArrayList<>();
+		Deque<ChunkWrite> chunkWrites = new ArrayDeque<>(batchWriteParallelism);
+		Iterator<List<Object>> chunks = new ChunkIterator<>(entities, MAX_ITEMS_PER_BATCH_WRITE);
+		try {
+			while (chunks.hasNext()) {
+				List<Object> chunk = chunks.next();
+				if (chunkWrites.size() == batchWriteParallelism) {
+					failedBatches.addAll(chunkWrites.poll().join(afterEvent));
+				}
+				chunk.forEach(it -> maybeEmitEvent(it, beforeEvent.type, beforeEvent.factory));
+				chunkWrites.add(new ChunkWrite(chunk, ForkedTask.fork(executor, () -> {
+					acquireWriteCapacity(chunk);
+					return writer.apply(chunk);
+				})));
+			}
+			while (!chunkWrites.isEmpty()) {
+				failedBatches.addAll(chunkWrites.poll().join(afterEvent));
+			}
+		} catch (RuntimeException e) {
+			// Don't leave writes running behind the back of the caller
+			for (ChunkWrite chunkWrite : chunkWrites) {
+				try {
+					chunkWrite.write.join();
+				} catch (RuntimeException suppressed) {
+					e.addSuppressed(suppressed);
+				}
+			}
+			throw e;
+		}
+		return failedBatches;
+	}
+
+	private final class ChunkWrite {
+		private final List<Object> chunk;
+		private final ForkedTask<List<FailedBatch>> write;
+
+		ChunkWrite(List<Object> chunk, ForkedTask<List<FailedBatch>> write) {
+			this.chunk = chunk;
+			this.write = write;
+		}
+
+		List<FailedBatch> join(EntityEventType afterEvent) {
+			List<FailedBatch> failedBatches = write.join();
+			maybeEmitAfterEvents(chunk, afterEvent);
+			return failedBatches;
+		}
+	}
+
+	private List<FailedBatch> writeChunk(List<Object> chunk, Function<List<Object>, List<FailedBatch>> writer,
+			EntityEventType beforeEvent, EntityEventType afterEvent) {
+		chunk.forEach(it -> maybeEmitEvent(it, beforeEvent.type, beforeEvent.factory));
+		acquireWriteCapacity(chunk);
+
+		List<FailedBatch> failedBatches = writer.apply(chunk);
+
+		maybeEmitAfterEvents(chunk, afterEvent);
+		return failedBatches;
+	}
+
+	private void acquireWriteCapacity(List<?> chunk) {
+		if (batchWriteRateLimiter != null) {
+			try {
+				batchWriteRateLimiter.acquire(chunk.size());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for write capacity", e);
+			}
+		}
+	}
+
+	/**
+	 * Executes the task for each element - up to {@code parallelism} elements
+	 * concurrently. The calling thread processes elements, too, and returns after
+	 * all elements have been processed.
+	 */
+	private <E> void forEachConcurrently(Iterator<E> elements, int parallelism, Executor executor,
+			Consumer<E> task) {
+		Supplier<Void> worker = () -> {
+			while (true) {
+				E element;
+				synchronized (elements) {
+					if (!elements.hasNext()) {
+						return null;
+					}
+					element = elements.next();
+				}
+				task.accept(element);
+			}
+		};
+
+		List<ForkedTask<Void>> workers = new ArrayList<>();
+		for (int i = 1; i < parallelism; i++) {
+			workers.add(ForkedTask.fork(executor, worker));
+		}
+		worker.get();
+		// Workers no thread picked up yet find no elements left once joined
+		workers.forEach(ForkedTask::join);
+	}
+
+	private static class ChunkIterator<E> implements Iterator<List<E>> {
+		private final Iterator<? extends E> elements;
+		private final int chunkSize;
+
+		ChunkIterator(Iterator<? extends E> elements, int chunkSize) {
+			this.elements = elements;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return elements.hasNext();
+		}
+
+		@Override
+		public List<E> next() {
+			if (!elements.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			List<E> chunk = new ArrayList<>(chunkSize);
+			while (elements.hasNext() && chunk.size() < chunkSize) {
+				chunk.add(elements.next());
+			}
+			return chunk;
+		}
 	}
 
 	@Override
 	public <T> PaginatedQueryList<T> query(Class<T> clazz, QueryRequest queryRequest) {
-		QueryResult queryResult = amazonDynamoDB.query(queryRequest);
-		return new PaginatedQueryList<T>(dynamoDBMapper, clazz, amazonDynamoDB, queryRequest, queryResult,
-				dynamoDBMapperConfig.getPaginationLoadingStrategy(), dynamoDBMapperConfig);
+		return instrumentTable(Operation.QUERY, queryRequest.getTableName(), queryRequest.getIndexName(), metrics -> {
+			QueryResult queryResult = amazonDynamoDB.query(queryRequest);
+			metrics.pages(1);
+			Consumer<T> afterEach = metrics.countingItems(afterEach(clazz, AfterQueryEvent.class,
+					AfterQueryEvent::new));
+			if (afterEach == null) {
+				return new PaginatedQueryList<T>(dynamoDBMapper, clazz, amazonDynamoDB, queryRequest, queryResult,
+						dynamoDBMapperConfig.getPaginationLoadingStrategy(), dynamoDBMapperConfig);
+			}
+			return EventPublishingPaginatedLists.query(dynamoDBMapper, clazz, amazonDynamoDB, dynamoDBMapperConfig,
+					new PaginatedQueryList<T>(dynamoDBMapper, clazz, amazonDynamoDB, queryRequest, queryResult,
+							PaginationLoadingStrategy.ITERATION_ONLY, dynamoDBMapperConfig),
+					afterEach);
+		});
+	}
+
+	@Override
+	public <T> List<T> query(Class<T> clazz, QueryRequest queryRequest, int maxResults) {
+		return instrumentTable(Operation.QUERY, queryRequest.getTableName(), queryRequest.getIndexName(), metrics -> {
+			Assert.isTrue(maxResults > 0, "maxResults must be positive!");
+			QueryResult queryResult = amazonDynamoDB.query(queryRequest);
+			List<T> results = readAtMost(new PaginatedQueryList<T>(dynamoDBMapper, clazz, amazonDynamoDB,
+					queryRequest, queryResult, PaginationLoadingStrategy.ITERATION_ONLY, dynamoDBMapperConfig),
+					maxResults);
+			metrics.items(results.size());
+			maybeEmitEvent(results, clazz, AfterQueryEvent.class, AfterQueryEvent::new);
+			return results;
+		});
+	}
+
+	/**
+	 * Copies the first {@code maxResults} elements. The next page of the
+	 * iteration-only list is only requested if the current one did not contain
+	 * enough elements.
+	 */
+	private static <T> List<T> readAtMost(Iterable<T> results, int maxResults) {
+		List<T> limited = new ArrayList<>();
+		Iterator<T> iterator = results.iterator();
+		while (limited.size() < maxResults && iterator.hasNext()) {
+			limited.add(iterator.next());
+		}
+		return limited;
+	}
+
+	@Override
+	public <T> QueryResultPage<T> queryPage(Class<T> clazz, QueryRequest queryRequest) {
+		return instrumentTable(Operation.QUERY, queryRequest.getTableName(), queryRequest.getIndexName(), metrics -> {
+			QueryResult queryResult = amazonDynamoDB.query(queryRequest);
+			QueryResultPage<T> page = new QueryResultPage<>();
+			page.setResults(dynamoDBMapper.marshallIntoObjects(clazz, queryResult.getItems(), dynamoDBMapperConfig));
+			page.setLastEvaluatedKey(queryResult.getLastEvaluatedKey());
+			page.setCount(queryResult.getCount());
+			page.setScannedCount(queryResult.getScannedCount());
+			page.setConsumedCapacity(queryResult.getConsumedCapacity());
+			metrics.pages(1);
+			metrics.items(page.getResults().size());
+			maybeEmitEvent(page.getResults(), clazz, AfterQueryEvent.class, AfterQueryEvent::new);
+			return page;
+		});
 	}
 
 	@Override
 	public <T> int count(Class<T> clazz, QueryRequest mutableQueryRequest) {
-		mutableQueryRequest.setSelect(Select.COUNT);
+		return instrumentTable(Operation.COUNT, mutableQueryRequest.getTableName(),
+				mutableQueryRequest.getIndexName(), metrics -> {
+			mutableQueryRequest.setSelect(Select.COUNT);
+
+			// Count queries can also be truncated for large datasets
+			int count = 0;
+			QueryResult queryResult = null;
+			do {
+				queryResult = amazonDynamoDB.query(mutableQueryRequest);
+				metrics.pages(1);
+				count += queryResult.getCount();
+				mutableQueryRequest.setExclusiveStartKey(queryResult.getLastEvaluatedKey());
+			} while (queryResult.getLastEvaluatedKey() != null);
 
-		// Count queries can also be truncated for large datasets
-		int count = 0;
-		QueryResult queryResult = null;
-		do {
-			queryResult = amazonDynamoDB.query(mutableQueryRequest);
-			count += queryResult.getCount();
-			mutableQueryRequest.setExclusiveStartKey(queryResult.getLastEvaluatedKey());
-		} while (queryResult.getLastEvaluatedKey() != null);
+			return count;
+		});
+	}
 
-		return count;
+	@Override
+	public <T> boolean exists(Class<T> clazz, QueryRequest mutableQueryRequest) {
+		return instrumentTable(Operation.EXISTS, mutableQueryRequest.getTableName(),
+				mutableQueryRequest.getIndexName(), metrics -> {
+			mutableQueryRequest.setSelect(Select.COUNT);
+			mutableQueryRequest.setProjectionExpression(null);
+			QueryResult queryResult;
+			do {
+				queryResult = amazonDynamoDB.query(mutableQueryRequest);
+				metrics.pages(1);
+				if (queryResult.getCount() > 0) {
+					return true;
+				}
+				mutableQueryRequest.setExclusiveStartKey(queryResult.getLastEvaluatedKey());
+			} while (queryResult.getLastEvaluatedKey() != null);
+			return false;
+		});
 	}
 
 	@Override
@@ -223,14 +1350,278 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 		return dynamoDBMapper.getTableModel(domainClass, dynamoDBMapperConfig);
 	}
 
+	/**
+	 * @see #instrumentTable(Operation, String, String, Function) - the table of
+	 *      the domain class is only resolved if metrics are recorded
+	 */
+	<R> R instrument(Operation operation, Class<?> domainClass, @Nullable String indexName,
+			Function<OperationMetrics, R> call) {
+		if (metricsRecorder == null) {
+			return call.apply(OperationMetrics.NONE);
+		}
+		return instrumentTable(operation, getTableName(domainClass), indexName, call);
+	}
+
+	/**
+	 * Executes an operation and records its metrics - if a
+	 * {@link DynamoDBMetricsRecorder} is set.
+	 */
+	<R> R instrumentTable(Operation operation, @Nullable String tableName, @Nullable String indexName,
+			Function<OperationMetrics, R> call) {
+		DynamoDBMetricsRecorder recorder = metricsRecorder;
+		if (recorder == null) {
+			return call.apply(OperationMetrics.NONE);
+		}
+		DynamoDBOperationTags tags = new DynamoDBOperationTags(operation, tableName, indexName,
+				RepositoryMethodContext.getCurrentRepositoryMethod());
+		long start = System.nanoTime();
+		Throwable failure = null;
+		try {
+			return call.apply(new OperationMetrics(recorder, tags));
+		} catch (RuntimeException | Error e) {
+			failure = e;
+			throw e;
+		} finally {
+			recordOperation(recorder, tags, start, failure);
+		}
+	}
+
+	/**
+	 * @see #instrumentTableAsync(Operation, String, String, Function) - the table
+	 *      of the domain class is only resolved if metrics are recorded
+	 */
+	<R> CompletableFuture<R> instrumentAsync(Operation operation, Class<?> domainClass, @Nullable String indexName,
+			Function<OperationMetrics, CompletableFuture<R>> call) {
+		if (metricsRecorder == null) {
+			return call.apply(OperationMetrics.NONE);
+		}
+		return instrumentTableAsync(operation, getTableName(domainClass), indexName, call);
+	}
+
+	/**
+	 * Starts an asynchronous operation and records its metrics once the returned
+	 * future completes - if a {@link DynamoDBMetricsRecorder} is set.
+	 */
+	<R> CompletableFuture<R> instrumentTableAsync(Operation operation, @Nullable String tableName,
+			@Nullable String indexName, Function<OperationMetrics, CompletableFuture<R>> call) {
+		DynamoDBMetricsRecorder recorder = metricsRecorder;
+		if (recorder == null) {
+			return call.apply(OperationMetrics.NONE);
+		}
+		DynamoDBOperationTags tags = new DynamoDBOperationTags(operation, tableName, indexName,
+				RepositoryMethodContext.getCurrentRepositoryMethod());
+		long start = System.nanoTime();
+		CompletableFuture<R> result;
+		try {
+			result = call.apply(new OperationMetrics(recorder, tags));
+		} catch (RuntimeException | Error e) {
+			recordOperation(recorder, tags, start, e);
+			throw e;
+		}
+		return result.whenComplete((value, failure) -> recordOperation(recorder, tags, start,
+				failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure));
+	}
+
+	private static void recordOperation(DynamoDBMetricsRecorder recorder, DynamoDBOperationTags tags, long start,
+			@Nullable Throwable failure) {
+		if (isThrottling(failure)) {
+			recorder.recordThrottling(tags);
+		}
+		recorder.recordOperation(tags, System.nanoTime() - start, failure);
+	}
+
+	private static boolean isThrottling(@Nullable Throwable e) {
+		return e instanceof SdkBaseException && RetryUtils.isThrottlingException((SdkBaseException) e);
+	}
+
+	/**
+	 * Forwards the metrics of a single operation to the
+	 * {@link DynamoDBMetricsRecorder} - {@link #NONE} discards them.
+	 */
+	static final class OperationMetrics {
+
+		private static final OperationMetrics NONE = new OperationMetrics(null, null);
+
+		@Nullable
+		private final DynamoDBMetricsRecorder recorder;
+		@Nullable
+		private final DynamoDBOperationTags tags;
+
+		private OperationMetrics(@Nullable DynamoDBMetricsRecorder recorder, @Nullable DynamoDBOperationTags tags) {
+			this.recorder = recorder;
+			this.tags = tags;
+		}
+
+		void items(long items) {
+			if (recorder != null) {
+				recorder.recordItems(tags, items);
+			}
+		}
+
+		void pages(long pages) {
+			if (recorder != null) {
+				recorder.recordPages(tags, pages);
+			}
+		}
+
+		private List<FailedBatch> failedBatches(List<FailedBatch> failedBatches) {
+			if (recorder != null) {
+				for (FailedBatch failedBatch : failedBatches) {
+					if (failedBatch.getUnprocessedItems() != null) {
+						recorder.recordUnprocessedItems(tags,
+								failedBatch.getUnprocessedItems().values().stream().mapToLong(List::size).sum());
+					}
+					if (isThrottling(failedBatch.getException())) {
+						recorder.recordThrottling(tags);
+					}
+				}
+			}
+			return failedBatches;
+		}
+
+		/**
+		 * Counts the items of a lazily loaded result while it is iterated.
+		 *
+		 * @return {@code null} if neither items are counted nor events are
+		 *         published
+		 */
+		@Nullable
+		private <T> Consumer<T> countingItems(@Nullable Consumer<T> afterEach) {
+			if (recorder == null) {
+				return afterEach;
+			}
+			Consumer<T> counting = entity -> recorder.recordItems(tags, 1);
+			return afterEach == null ? counting : counting.andThen(afterEach);
+		}
+	}
+
+	/**
+	 * Publishes the after event of a lazily loaded result per entity - with the
+	 * entity as the only element of the event source.
+	 *
+	 * @return {@code null} if no listener acts on the event
+	 */
+	@Nullable
+	private <T> Consumer<T> afterEach(Class<T> domainClass, Class<?> eventType,
+			Function<List<T>, DynamoDBMappingEvent<List<T>>> factory) {
+		if (!isListenedTo(eventType, domainClass)) {
+			return null;
+		}
+		return entity -> maybeEmitEvent(Collections.singletonList(entity), factory);
+	}
+
+	/**
+	 * Publishes an event for a single entity - unless no listener acts on it. The
+	 * event is not even created in that case.
+	 */
+	private <T> void maybeEmitEvent(@Nullable T entity, Class<?> eventType,
+			Function<T, DynamoDBMappingEvent<T>> factory) {
+		if (entity != null && isListenedTo(eventType, entity.getClass())) {
+			maybeEmitEvent(entity, factory);
+		}
+	}
+
+	/**
+	 * Publishes an event for a list of entities of the given domain class - unless
+	 * no listener acts on it. The event is not even created in that case.
+	 */
+	<T> void maybeEmitEvent(List<T> entities, Class<T> domainClass, Class<?> eventType,
+			Function<List<T>, DynamoDBMappingEvent<List<T>>> factory) {
+		if (isListenedTo(eventType, domainClass)) {
+			maybeEmitEvent(entities, factory);
+		}
+	}
+
+	/**
+	 * Publishes a single batch event for all entities if batched events are
+	 * enabled - an after event per entity otherwise.
+	 */
+	private void maybeEmitAfterEvents(List<Object> entities, EntityEventType afterEvent) {
+		if (!batchAfterEvents) {
+			entities.forEach(entity -> maybeEmitEvent(entity, afterEvent.type, afterEvent.factory));
+		} else if (entities.stream().map(Object::getClass).distinct()
+				.anyMatch(entityClass -> isListenedTo(afterEvent.batchType, entityClass))) {
+			maybeEmitEvent(new ArrayList<>(entities), afterEvent.batchFactory);
+		}
+	}
+
 	protected <T> void maybeEmitEvent(@Nullable T source, Function<T, DynamoDBMappingEvent<T>> factory) {
-		if (eventPublisher != null) {
+		ApplicationEventPublisher publisher = eventPublisher;
+		if (publisher != null) {
 			if (source != null) {
 				DynamoDBMappingEvent<T> event = factory.apply(source);
 
-				eventPublisher.publishEvent(event);
+				Executor executor = afterEventExecutor;
+				if (executor == null || event instanceof BeforeSaveEvent || event instanceof BeforeDeleteEvent) {
+					publisher.publishEvent(event);
+				} else {
+					publishAsync(publisher, executor, event);
+				}
 			}
 		}
 
 	}
+
+	private static void publishAsync(ApplicationEventPublisher publisher, Executor executor,
+			DynamoDBMappingEvent<?> event) {
+		try {
+			executor.execute(() -> {
+				try {
+					publisher.publishEvent(event);
+				} catch (RuntimeException e) {
+					LOGGER.error("Delivering {} failed", event, e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// Saturated executor - back pressure on the calling thread
+			publisher.publishEvent(event);
+		}
+	}
+
+	/**
+	 * Whether any listener acts on the given event type for entities of the given
+	 * class. The listeners are determined once the application context is
+	 * refreshed and again whenever listeners are added - until then every event is
+	 * published.
+	 *
+	 * @see DynamoDBEventListenerRegistry
+	 */
+	boolean isListenedTo(Class<?> eventType, Class<?> entityClass) {
+		if (eventPublisher == null) {
+			return false;
+		}
+		DynamoDBEventListenerRegistry registry = eventListenerRegistry;
+		if (applicationContext != null && (registry == null || registry.isOutdated(applicationContext))) {
+			registry = DynamoDBEventListenerRegistry.of(applicationContext);
+			eventListenerRegistry = registry;
+		}
+		return registry == null || registry.hasListener(eventType, entityClass);
+	}
+
+	/**
+	 * The type of an entity event together with its constructor - thus the
+	 * listeners can be checked before the event is created.
+	 */
+	private static final class EntityEventType {
+
+		private final Class<?> type;
+		private final Function<Object, DynamoDBMappingEvent<Object>> factory;
+		@Nullable
+		private final Class<?> batchType;
+		@Nullable
+		private final Function<List<Object>, DynamoDBMappingEvent<List<Object>>> batchFactory;
+
+		private EntityEventType(Class<?> type, Function<Object, DynamoDBMappingEvent<Object>> factory) {
+			this(type, factory, null, null);
+		}
+
+		private EntityEventType(Class<?> type, Function<Object, DynamoDBMappingEvent<Object>> factory,
+				@Nullable Class<?> batchType,
+				@Nullable Function<List<Object>, DynamoDBMappingEvent<List<Object>>> batchFactory) {
+			this.type = type;
+			this.factory = factory;
+			this.batchType = batchType;
+			this.batchFactory = batchFactory;
+		}
+	}
 }
@@ -0,0 +1,180 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedParallelScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.ParallelScanTask;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Lazily loaded results of the {@link DynamoDBMapper} which publish the after
+ * event of an entity only once the entity is read by the caller. Publishing
+ * the whole lazily loaded list as event source instead would make every
+ * listener page through all results - even if the caller only reads the first
+ * few entities.
+ *
+ * The lists read the results of the mapper via an
+ * {@link PaginationLoadingStrategy#ITERATION_ONLY} iterator and keep them
+ * according to the {@link PaginationLoadingStrategy} of the
+ * {@link DynamoDBMapperConfig} - thus every entity is only kept once.
+ */
+final class EventPublishingPaginatedLists {
+
+	private EventPublishingPaginatedLists() {
+	}
+
+	static <T> PaginatedQueryList<T> query(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo,
+			DynamoDBMapperConfig config, Iterable<T> results, Consumer<T> publisher) {
+		return new QueryList<>(mapper, clazz, dynamo, config, new PublishingIterator<>(results, publisher));
+	}
+
+	static <T> PaginatedScanList<T> scan(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo,
+			DynamoDBMapperConfig config, Iterable<T> results, Consumer<T> publisher) {
+		return new ScanList<>(mapper, clazz, dynamo, config, new PublishingIterator<>(results, publisher));
+	}
+
+	static <T> PaginatedParallelScanList<T> parallelScan(DynamoDBMapper mapper, Class<T> clazz,
+			AmazonDynamoDB dynamo, DynamoDBMapperConfig config, Iterable<T> results, Consumer<T> publisher) {
+		return new ParallelScanList<>(mapper, clazz, dynamo, config, new PublishingIterator<>(results, publisher));
+	}
+
+	/**
+	 * The lists are created empty - the initial results are also read lazily.
+	 * {@link PaginationLoadingStrategy#EAGER_LOADING} thus has to be applied after
+	 * the list is fully initialized.
+	 */
+	private static PaginationLoadingStrategy initialLoadingStrategy(DynamoDBMapperConfig config) {
+		return isEagerLoading(config) ? PaginationLoadingStrategy.LAZY_LOADING : config.getPaginationLoadingStrategy();
+	}
+
+	private static boolean isEagerLoading(DynamoDBMapperConfig config) {
+		return config.getPaginationLoadingStrategy() == PaginationLoadingStrategy.EAGER_LOADING;
+	}
+
+	/**
+	 * Hands out the entities one at a time - publishing the event of each entity
+	 * right before.
+	 */
+	private static class PublishingIterator<T> {
+		private final Iterator<T> results;
+		private final Consumer<T> publisher;
+
+		PublishingIterator(Iterable<T> results, Consumer<T> publisher) {
+			this.results = results.iterator();
+			this.publisher = publisher;
+		}
+
+		boolean isExhausted() {
+			return !results.hasNext();
+		}
+
+		List<T> next() {
+			T entity = results.next();
+			publisher.accept(entity);
+			return Collections.singletonList(entity);
+		}
+	}
+
+	private static class QueryList<T> extends PaginatedQueryList<T> {
+		private final PublishingIterator<T> results;
+
+		QueryList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo, DynamoDBMapperConfig config,
+				PublishingIterator<T> results) {
+			super(mapper, clazz, dynamo, new QueryRequest(), new QueryResult().withItems(Collections.emptyList()),
+					initialLoadingStrategy(config), config);
+			this.results = results;
+			if (isEagerLoading(config)) {
+				loadAllResults();
+			}
+		}
+
+		@Override
+		protected boolean atEndOfResults() {
+			return results.isExhausted();
+		}
+
+		@Override
+		protected synchronized List<T> fetchNextPage() {
+			return results.next();
+		}
+	}
+
+	private static class ScanList<T> extends PaginatedScanList<T> {
+		private final PublishingIterator<T> results;
+
+		ScanList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo, DynamoDBMapperConfig config,
+				PublishingIterator<T> results) {
+			super(mapper, clazz, dynamo, new ScanRequest(), new ScanResult().withItems(Collections.emptyList()),
+					initialLoadingStrategy(config), config);
+			this.results = results;
+			if (isEagerLoading(config)) {
+				loadAllResults();
+			}
+		}
+
+		@Override
+		protected boolean atEndOfResults() {
+			return results.isExhausted();
+		}
+
+		@Override
+		protected synchronized List<T> fetchNextPage() {
+			return results.next();
+		}
+	}
+
+	private static class ParallelScanList<T> extends PaginatedParallelScanList<T> {
+		private final PublishingIterator<T> results;
+
+		// PaginatedParallelScanList requires a ParallelScanTask - the deprecated
+		// constructor is the only public one and starts no threads without segments
+		@SuppressWarnings("deprecation")
+		ParallelScanList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo, DynamoDBMapperConfig config,
+				PublishingIterator<T> results) {
+			// A task without segments which completes immediately
+			super(mapper, clazz, dynamo, new ParallelScanTask(mapper, dynamo, Collections.emptyList()),
+					initialLoadingStrategy(config), config);
+			this.results = results;
+			if (isEagerLoading(config)) {
+				loadAllResults();
+			}
+		}
+
+		@Override
+		protected boolean atEndOfResults() {
+			return results.isExhausted();
+		}
+
+		@Override
+		protected List<T> fetchNextPage() {
+			return results.next();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A task handed off to an {@link Executor} that the joining thread executes
+ * itself if no thread of the executor picked it up yet. Thus tasks forked from
+ * within tasks of the same bounded executor can't deadlock - and a saturated or
+ * missing executor degrades to the calling thread instead of failing.
+ *
+ * @param <R>
+ *            The result type of the task
+ */
+public final class ForkedTask<R> {
+
+	private final Supplier<R> task;
+	private final AtomicBoolean claimed = new AtomicBoolean();
+	private final CompletableFuture<R> result = new CompletableFuture<>();
+
+	private ForkedTask(Supplier<R> task) {
+		this.task = task;
+	}
+
+	/**
+	 * @param executor
+	 *            The executor to hand the task off to - {@code null} to execute
+	 *            the task on the thread calling {@link #join()}
+	 * @param task
+	 *            The task - executed in the repository method the current thread
+	 *            executes
+	 * @return The forked task
+	 * @see RepositoryMethodContext#propagate(Runnable)
+	 */
+	public static <R> ForkedTask<R> fork(@Nullable Executor executor, Supplier<R> task) {
+		ForkedTask<R> forkedTask = new ForkedTask<>(task);
+		if (executor != null) {
+			try {
+				executor.execute(RepositoryMethodContext.propagate(forkedTask::runIfUnclaimed));
+			} catch (RejectedExecutionException e) {
+				// Executed by the joining thread instead
+			}
+		}
+		return forkedTask;
+	}
+
+	/**
+	 * Waits for the task - or executes it if it didn't start yet.
+	 *
+	 * @return The result of the task
+	 * @throws RuntimeException
+	 *             thrown by the task
+	 */
+	public R join() {
+		runIfUnclaimed();
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private void runIfUnclaimed() {
+		if (claimed.compareAndSet(false, true)) {
+			try {
+				result.complete(task.get());
+			} catch (Throwable t) {
+				result.completeExceptionally(t);
+			}
+		}
+	}
+}
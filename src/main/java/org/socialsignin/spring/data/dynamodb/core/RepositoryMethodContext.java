@@ -0,0 +1,100 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Holds the repository method the current thread executes - thus the
+ * operations of the {@link DynamoDBTemplate} can be attributed to it.
+ */
+public final class RepositoryMethodContext {
+
+	private static final ThreadLocal<String> CURRENT_REPOSITORY_METHOD = new ThreadLocal<>();
+
+	private RepositoryMethodContext() {
+	}
+
+	/**
+	 * @return The repository method the current thread executes - {@code null} if
+	 *         none
+	 */
+	@Nullable
+	public static String getCurrentRepositoryMethod() {
+		return CURRENT_REPOSITORY_METHOD.get();
+	}
+
+	/**
+	 * @param repositoryMethod
+	 *            The repository method the current thread starts to execute
+	 * @return The repository method executed before - to be passed to
+	 *         {@link #restore(String)} once the method completed
+	 */
+	@Nullable
+	public static String enter(String repositoryMethod) {
+		String previous = CURRENT_REPOSITORY_METHOD.get();
+		CURRENT_REPOSITORY_METHOD.set(repositoryMethod);
+		return previous;
+	}
+
+	public static void restore(@Nullable String previousRepositoryMethod) {
+		if (previousRepositoryMethod == null) {
+			CURRENT_REPOSITORY_METHOD.remove();
+		} else {
+			CURRENT_REPOSITORY_METHOD.set(previousRepositoryMethod);
+		}
+	}
+
+	/**
+	 * @return A task executing the given task in the repository method the
+	 *         current thread executes - to attribute work handed off to other
+	 *         threads to the repository method
+	 */
+	public static Runnable propagate(Runnable task) {
+		String repositoryMethod = getCurrentRepositoryMethod();
+		if (repositoryMethod == null) {
+			return task;
+		}
+		return () -> {
+			String previous = enter(repositoryMethod);
+			try {
+				task.run();
+			} finally {
+				restore(previous);
+			}
+		};
+	}
+
+	/**
+	 * @see #propagate(Runnable)
+	 */
+	public static <V> Callable<V> propagate(Callable<V> task) {
+		String repositoryMethod = getCurrentRepositoryMethod();
+		if (repositoryMethod == null) {
+			return task;
+		}
+		return () -> {
+			String previous = enter(repositoryMethod);
+			try {
+				return task.call();
+			} finally {
+				restore(previous);
+			}
+		};
+	}
+}
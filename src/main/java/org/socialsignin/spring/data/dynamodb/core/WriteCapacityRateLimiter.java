@@ -0,0 +1,67 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket limiting the write capacity units consumed per second. Up to
+ * one second worth of capacity can be consumed as a burst.
+ */
+class WriteCapacityRateLimiter {
+
+	private final double unitsPerNano;
+	private final double maxUnits;
+	private double availableUnits;
+	private long lastRefill;
+
+	WriteCapacityRateLimiter(double unitsPerSecond) {
+		Assert.isTrue(unitsPerSecond > 0, "unitsPerSecond must be positive!");
+		this.unitsPerNano = unitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+		this.maxUnits = unitsPerSecond;
+		this.availableUnits = unitsPerSecond;
+		this.lastRefill = System.nanoTime();
+	}
+
+	/**
+	 * Blocks until the given units are available.
+	 *
+	 * @param units
+	 *            The units to consume
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	void acquire(int units) throws InterruptedException {
+		long waitNanos = reserve(units);
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	/**
+	 * @return Nanoseconds until the reserved units are actually available
+	 */
+	synchronized long reserve(int units) {
+		long now = System.nanoTime();
+		availableUnits = Math.min(maxUnits, availableUnits + (now - lastRefill) * unitsPerNano);
+		lastRefill = now;
+
+		availableUnits -= units;
+		return availableUnits >= 0 ? 0 : (long) Math.ceil(-availableUnits / unitsPerNano);
+	}
+}
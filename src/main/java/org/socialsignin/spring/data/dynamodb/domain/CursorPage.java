@@ -0,0 +1,100 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * {@link org.springframework.data.domain.Page} read via a
+ * {@link CursorPageRequest} that exposes the cursor of the next page.
+ *
+ * @param <T>
+ *            The type of the list's elements
+ */
+public class CursorPage<T> extends LazyTotalPageImpl<T> {
+
+	@Nullable
+	private final String nextCursor;
+
+	/**
+	 * @param content
+	 *            the content of this page
+	 * @param pageable
+	 *            the request this page was read with
+	 * @param total
+	 *            the total amount of items available
+	 * @param nextCursor
+	 *            the cursor to continue with - {@code null} if there is no further
+	 *            page
+	 */
+	public CursorPage(List<T> content, CursorPageRequest pageable, long total, @Nullable String nextCursor) {
+		this(content, pageable, () -> total, nextCursor);
+	}
+
+	/**
+	 * @param content
+	 *            the content of this page
+	 * @param pageable
+	 *            the request this page was read with
+	 * @param totalSupplier
+	 *            provides the total amount of items available on first access
+	 * @param nextCursor
+	 *            the cursor to continue with - {@code null} if there is no further
+	 *            page
+	 */
+	public CursorPage(List<T> content, CursorPageRequest pageable, Supplier<Long> totalSupplier,
+			@Nullable String nextCursor) {
+		super(content, pageable, nextCursor != null, totalSupplier);
+		this.nextCursor = nextCursor;
+	}
+
+	@Nullable
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	@Override
+	public Pageable nextPageable() {
+		return hasNext() ? new CursorPageRequest(getNumber() + 1, getSize(), nextCursor) : Pageable.unpaged();
+	}
+
+	/**
+	 * Keeps the cursor - e.g. when converting the entities into projections.
+	 */
+	@Override
+	public <U> CursorPage<U> map(Function<? super T, ? extends U> converter) {
+		List<U> converted = getContent().stream().map(converter).collect(Collectors.toList());
+		return new CursorPage<>(converted, (CursorPageRequest) getPageable(), this::getTotalElements, nextCursor);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		return super.equals(obj) && obj instanceof CursorPage
+				&& Objects.equals(nextCursor, ((CursorPage<?>) obj).nextCursor);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hashCode(nextCursor);
+	}
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.springframework.data.domain.AbstractPageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link Pageable} continuing a query or scan after the position described by
+ * an opaque cursor (see {@link ExclusiveStartKeyCursor}) instead of skipping
+ * {@link #getOffset()} elements. Reading a page thus costs the same regardless
+ * how deep the page is.
+ *
+ * As DynamoDB can only continue forward, there is no previous page. The next
+ * page is obtained via {@link CursorSlice#nextPageable()} or
+ * {@link CursorPage#nextPageable()}.
+ */
+public class CursorPageRequest extends AbstractPageRequest {
+
+	private static final long serialVersionUID = 1L;
+
+	@Nullable
+	private final String cursor;
+
+	/**
+	 * @param page
+	 *            zero-based number of the page - informational only
+	 * @param size
+	 *            the size of the page to be returned
+	 * @param cursor
+	 *            the cursor to continue after - {@code null} for the first page
+	 */
+	public CursorPageRequest(int page, int size, @Nullable String cursor) {
+		super(page, size);
+		this.cursor = cursor;
+	}
+
+	public static CursorPageRequest of(int size, @Nullable String cursor) {
+		return new CursorPageRequest(0, size, cursor);
+	}
+
+	@Nullable
+	public String getCursor() {
+		return cursor;
+	}
+
+	@Nullable
+	public Map<String, AttributeValue> getExclusiveStartKey() {
+		return ExclusiveStartKeyCursor.decode(cursor);
+	}
+
+	/**
+	 * @return the number of results read before the cursor - unlike the page
+	 *         number, this is tracked by the cursor itself
+	 */
+	public long getPosition() {
+		return ExclusiveStartKeyCursor.decodePosition(cursor);
+	}
+
+	@Override
+	public Sort getSort() {
+		return Sort.unsorted();
+	}
+
+	/**
+	 * The cursor of the next page is only known after reading this page - use
+	 * {@link CursorSlice#nextPageable()} instead.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             always
+	 */
+	@Override
+	public Pageable next() {
+		throw new UnsupportedOperationException("Use the nextPageable() of the returned CursorSlice/CursorPage");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             always as DynamoDB can only continue forward
+	 */
+	@Override
+	public Pageable previous() {
+		throw new UnsupportedOperationException("Cursor based pagination can only continue forward");
+	}
+
+	@Override
+	public Pageable previousOrFirst() {
+		return first();
+	}
+
+	@Override
+	public Pageable first() {
+		return new CursorPageRequest(0, getPageSize(), null);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof CursorPageRequest)) {
+			return false;
+		}
+		return super.equals(obj) && Objects.equals(cursor, ((CursorPageRequest) obj).cursor);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hashCode(cursor);
+	}
+
+	@Override
+	public String toString() {
+		return "CursorPageRequest [number: " + getPageNumber() + ", size " + getPageSize() + ", cursor " + cursor + "]";
+	}
+}
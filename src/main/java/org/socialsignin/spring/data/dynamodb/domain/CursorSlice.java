@@ -0,0 +1,84 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link org.springframework.data.domain.Slice} read via a
+ * {@link CursorPageRequest} that exposes the cursor of the next slice.
+ *
+ * @param <T>
+ *            The type of the list's elements
+ */
+public class CursorSlice<T> extends SliceImpl<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	@Nullable
+	private final String nextCursor;
+
+	/**
+	 * @param content
+	 *            the content of this slice
+	 * @param pageable
+	 *            the request this slice was read with
+	 * @param nextCursor
+	 *            the cursor to continue with - {@code null} if there is no further
+	 *            slice
+	 */
+	public CursorSlice(List<T> content, CursorPageRequest pageable, @Nullable String nextCursor) {
+		super(content, pageable, nextCursor != null);
+		this.nextCursor = nextCursor;
+	}
+
+	@Nullable
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	@Override
+	public Pageable nextPageable() {
+		return hasNext() ? new CursorPageRequest(getNumber() + 1, getSize(), nextCursor) : Pageable.unpaged();
+	}
+
+	/**
+	 * Keeps the cursor - e.g. when converting the entities into projections.
+	 */
+	@Override
+	public <U> CursorSlice<U> map(Function<? super T, ? extends U> converter) {
+		List<U> converted = getContent().stream().map(converter).collect(Collectors.toList());
+		return new CursorSlice<>(converted, (CursorPageRequest) getPageable(), nextCursor);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		return super.equals(obj) && obj instanceof CursorSlice
+				&& Objects.equals(nextCursor, ((CursorSlice<?>) obj).nextCursor);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hashCode(nextCursor);
+	}
+}
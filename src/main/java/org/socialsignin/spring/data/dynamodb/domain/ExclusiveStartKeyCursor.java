@@ -0,0 +1,165 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Encodes the {@code LastEvaluatedKey} of a DynamoDB query or scan as an opaque,
+ * URL-safe cursor and decodes it back to an {@code ExclusiveStartKey}.
+ *
+ * Keys can only consist of string, number and binary attributes - thus only
+ * those are supported. Besides the key, a cursor can carry its position - the
+ * number of results read before it.
+ */
+public final class ExclusiveStartKeyCursor {
+
+	private static final String ATTRIBUTE_SEPARATOR = ".";
+	private static final String PART_SEPARATOR = "~";
+	private static final String POSITION_TYPE = "P";
+
+	private ExclusiveStartKeyCursor() {
+	}
+
+	@Nullable
+	public static String encode(@Nullable Map<String, AttributeValue> key) {
+		return encode(key, 0);
+	}
+
+	/**
+	 * @param key
+	 *            the {@code LastEvaluatedKey} to continue after
+	 * @param position
+	 *            the number of results read before the key - {@code 0} if not
+	 *            tracked
+	 * @return the cursor - {@code null} if there is no key to continue after
+	 */
+	@Nullable
+	public static String encode(@Nullable Map<String, AttributeValue> key, long position) {
+		Assert.isTrue(position >= 0, "position must not be negative!");
+		if (key == null || key.isEmpty()) {
+			return null;
+		}
+
+		StringBuilder cursor = new StringBuilder();
+		for (Map.Entry<String, AttributeValue> attribute : new TreeMap<>(key).entrySet()) {
+			AttributeValue value = attribute.getValue();
+			String type;
+			byte[] bytes;
+			if (value.getS() != null) {
+				type = "S";
+				bytes = value.getS().getBytes(StandardCharsets.UTF_8);
+			} else if (value.getN() != null) {
+				type = "N";
+				bytes = value.getN().getBytes(StandardCharsets.UTF_8);
+			} else if (value.getB() != null) {
+				type = "B";
+				ByteBuffer buffer = value.getB().duplicate();
+				bytes = new byte[buffer.remaining()];
+				buffer.get(bytes);
+			} else {
+				throw new IllegalArgumentException("Unsupported key attribute " + attribute.getKey() + ": " + value
+						+ " - only S, N and B allowed");
+			}
+
+			if (cursor.length() > 0) {
+				cursor.append(ATTRIBUTE_SEPARATOR);
+			}
+			cursor.append(encodeBase64(attribute.getKey().getBytes(StandardCharsets.UTF_8))).append(PART_SEPARATOR)
+					.append(type).append(PART_SEPARATOR).append(encodeBase64(bytes));
+		}
+		if (position > 0) {
+			cursor.append(ATTRIBUTE_SEPARATOR).append(PART_SEPARATOR).append(POSITION_TYPE).append(PART_SEPARATOR)
+					.append(encodeBase64(Long.toString(position).getBytes(StandardCharsets.UTF_8)));
+		}
+		return cursor.toString();
+	}
+
+	@Nullable
+	public static Map<String, AttributeValue> decode(@Nullable String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+
+		Map<String, AttributeValue> key = new HashMap<>();
+		for (String attribute : cursor.split("\\" + ATTRIBUTE_SEPARATOR)) {
+			String[] parts = attribute.split(PART_SEPARATOR);
+			Assert.isTrue(parts.length == 3, "Invalid cursor: " + cursor);
+
+			String name = new String(decodeBase64(parts[0]), StandardCharsets.UTF_8);
+			byte[] bytes = decodeBase64(parts[2]);
+			switch (parts[1]) {
+				case "S" :
+					key.put(name, new AttributeValue().withS(new String(bytes, StandardCharsets.UTF_8)));
+					break;
+				case "N" :
+					key.put(name, new AttributeValue().withN(new String(bytes, StandardCharsets.UTF_8)));
+					break;
+				case "B" :
+					key.put(name, new AttributeValue().withB(ByteBuffer.wrap(bytes)));
+					break;
+				case POSITION_TYPE :
+					break;
+				default :
+					throw new IllegalArgumentException("Invalid cursor: " + cursor);
+			}
+		}
+		return key;
+	}
+
+	/**
+	 * @return the number of results read before the cursor - {@code 0} for the
+	 *         first page or if the position is not tracked
+	 */
+	public static long decodePosition(@Nullable String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return 0;
+		}
+
+		for (String attribute : cursor.split("\\" + ATTRIBUTE_SEPARATOR)) {
+			String[] parts = attribute.split(PART_SEPARATOR);
+			if (parts.length == 3 && POSITION_TYPE.equals(parts[1])) {
+				try {
+					return Long.parseLong(new String(decodeBase64(parts[2]), StandardCharsets.UTF_8));
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+				}
+			}
+		}
+		return 0;
+	}
+
+	private static String encodeBase64(byte[] bytes) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	private static byte[] decodeBase64(String encoded) {
+		try {
+			return Base64.getUrlDecoder().decode(encoded);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid cursor part: " + encoded, e);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Page} implementation which determines the total number of elements
+ * only on first access. As whether there is a next page is known from reading
+ * the content, the total is not requested at all for the last page.
+ *
+ * @param <T>
+ *            The type of the list's elements
+ */
+public class LazyTotalPageImpl<T> implements Page<T> {
+
+	private final List<T> content;
+	private final Pageable pageable;
+	private final boolean hasNext;
+	@Nullable
+	private Supplier<Long> totalSupplier;
+	@Nullable
+	private volatile Long total;
+
+	/**
+	 * @param content
+	 *            the content of this page
+	 * @param pageable
+	 *            the request this page was read with
+	 * @param hasNext
+	 *            whether there are further elements after this page
+	 * @param totalSupplier
+	 *            provides the total number of elements - only called once and
+	 *            only if {@code hasNext} is {@code true}
+	 */
+	public LazyTotalPageImpl(@NonNull List<T> content, @NonNull Pageable pageable, boolean hasNext,
+			@NonNull Supplier<Long> totalSupplier) {
+
+		Assert.notNull(content, "content must not be null!");
+		Assert.notNull(pageable, "pageable must not be null!");
+		Assert.notNull(totalSupplier, "totalSupplier must not be null!");
+
+		this.content = content;
+		this.pageable = pageable;
+		this.hasNext = hasNext;
+		this.totalSupplier = totalSupplier;
+	}
+
+	@Override
+	public long getTotalElements() {
+		Long result = total;
+		if (result == null) {
+			synchronized (this) {
+				result = total;
+				if (result == null) {
+					long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+					// The total can't contradict what has been read
+					long minimum = offset + content.size() + (hasNext ? 1 : 0);
+					result = hasNext ? Math.max(totalSupplier.get(), minimum) : minimum;
+					total = result;
+					totalSupplier = null;
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public int getTotalPages() {
+		return getSize() == 0 ? 1 : (int) Math.ceil((double) getTotalElements() / (double) getSize());
+	}
+
+	@Override
+	public int getNumber() {
+		return pageable.isPaged() ? pageable.getPageNumber() : 0;
+	}
+
+	@Override
+	public int getSize() {
+		return pageable.isPaged() ? pageable.getPageSize() : content.size();
+	}
+
+	@Override
+	public int getNumberOfElements() {
+		return content.size();
+	}
+
+	@Override
+	public List<T> getContent() {
+		return Collections.unmodifiableList(content);
+	}
+
+	@Override
+	public boolean hasContent() {
+		return !content.isEmpty();
+	}
+
+	@Override
+	public Sort getSort() {
+		return pageable.getSort();
+	}
+
+	@Override
+	public boolean isFirst() {
+		return !hasPrevious();
+	}
+
+	@Override
+	public boolean isLast() {
+		return !hasNext();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	@Override
+	public boolean hasPrevious() {
+		return getNumber() > 0;
+	}
+
+	@Override
+	public Pageable nextPageable() {
+		return hasNext() ? pageable.next() : Pageable.unpaged();
+	}
+
+	@Override
+	public Pageable previousPageable() {
+		return hasPrevious() ? pageable.previousOrFirst() : Pageable.unpaged();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return content.iterator();
+	}
+
+	@Override
+	public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+		List<U> converted = content.stream().map(converter).collect(Collectors.toList());
+		return new LazyTotalPageImpl<>(converted, pageable, hasNext, this::getTotalElements);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof LazyTotalPageImpl)) {
+			return false;
+		}
+		LazyTotalPageImpl<?> that = (LazyTotalPageImpl<?>) obj;
+		return hasNext == that.hasNext && content.equals(that.content) && pageable.equals(that.pageable)
+				&& getTotalElements() == that.getTotalElements();
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(content, pageable, hasNext);
+	}
+
+	@Override
+	public String toString() {
+		return "Page " + (getNumber() + 1) + " containing " + content.size() + " instances";
+	}
+}
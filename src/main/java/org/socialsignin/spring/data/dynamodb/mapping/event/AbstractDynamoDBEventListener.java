@@ -31,14 +31,19 @@ package org.socialsignin.spring.data.dynamodb.mapping.event;
  * limitations under the License.
  */
 
-import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
-import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.GenericTypeResolver;
+import org.springframework.util.ReflectionUtils;
 
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -50,7 +55,21 @@ import java.util.function.Consumer;
 public abstract class AbstractDynamoDBEventListener<E> implements ApplicationListener<DynamoDBMappingEvent<?>> {
 
 	private static final Logger LOG = LoggerFactory.getLogger(AbstractDynamoDBEventListener.class);
+	private static final Map<Class<?>, String> CALLBACKS = new LinkedHashMap<>();
+	static {
+		CALLBACKS.put(BeforeSaveEvent.class, "onBeforeSave");
+		CALLBACKS.put(AfterSaveEvent.class, "onAfterSave");
+		CALLBACKS.put(AfterLoadEvent.class, "onAfterLoad");
+		CALLBACKS.put(AfterDeleteEvent.class, "onAfterDelete");
+		CALLBACKS.put(BeforeDeleteEvent.class, "onBeforeDelete");
+		CALLBACKS.put(AfterScanEvent.class, "onAfterScan");
+		CALLBACKS.put(AfterQueryEvent.class, "onAfterQuery");
+		CALLBACKS.put(AfterBatchSaveEvent.class, "onAfterSave");
+		CALLBACKS.put(AfterBatchDeleteEvent.class, "onAfterDelete");
+		CALLBACKS.put(AfterBatchLoadEvent.class, "onAfterLoad");
+	}
 	private final Class<?> domainClass;
+	private final Set<Class<?>> handledEventTypes;
 
 	/**
 	 * Creates a new {@link AbstractDynamoDBEventListener}.
@@ -59,12 +78,51 @@ public abstract class AbstractDynamoDBEventListener<E> implements ApplicationLis
 		Class<?> typeArgument = GenericTypeResolver.resolveTypeArgument(this.getClass(),
 				AbstractDynamoDBEventListener.class);
 		this.domainClass = typeArgument == null ? Object.class : typeArgument;
+		this.handledEventTypes = resolveHandledEventTypes(this.getClass());
 	}
 
 	protected Class<?> getDomainClass() {
 		return this.domainClass;
 	}
 
+	/**
+	 * Whether this listener acts on events of the given type for entities of the
+	 * given class. Callbacks which are not overridden only log on debug level -
+	 * thus they don't count.
+	 *
+	 * @param eventType
+	 *            The {@link DynamoDBMappingEvent} type
+	 * @param entityClass
+	 *            The class of the entities the event is published for
+	 * @return {@code true} if events of this kind have to be published to this
+	 *         listener
+	 */
+	protected boolean supportsEvent(Class<?> eventType, Class<?> entityClass) {
+		if (!domainClass.isAssignableFrom(entityClass)) {
+			return false;
+		}
+		return handledEventTypes.stream().anyMatch(handled -> handled.isAssignableFrom(eventType));
+	}
+
+	private static Set<Class<?>> resolveHandledEventTypes(Class<?> listenerClass) {
+		if (isOverridden(listenerClass, "onApplicationEvent", DynamoDBMappingEvent.class)) {
+			return Collections.singleton(DynamoDBMappingEvent.class);
+		}
+		Set<Class<?>> handled = new HashSet<>();
+		CALLBACKS.forEach((eventType, callback) -> {
+			// Overriding a callback with a concrete domain class yields a bridge method
+			if (isOverridden(listenerClass, callback, Object.class)) {
+				handled.add(eventType);
+			}
+		});
+		return handled;
+	}
+
+	private static boolean isOverridden(Class<?> listenerClass, String methodName, Class<?> parameterType) {
+		Method method = ReflectionUtils.findMethod(listenerClass, methodName, parameterType);
+		return method != null && method.getDeclaringClass() != AbstractDynamoDBEventListener.class;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -83,11 +141,23 @@ public abstract class AbstractDynamoDBEventListener<E> implements ApplicationLis
 
 		if (event instanceof AfterScanEvent) {
 
-			publishEachElement((PaginatedScanList<?>) source, this::onAfterScan);
+			publishEachElement((List<?>) source, this::onAfterScan);
 			return;
 		} else if (event instanceof AfterQueryEvent) {
 
-			publishEachElement((PaginatedQueryList<?>) source, this::onAfterQuery);
+			publishEachElement((List<?>) source, this::onAfterQuery);
+			return;
+		} else if (event instanceof AfterBatchSaveEvent) {
+
+			publishEachElement((List<?>) source, this::onAfterSave);
+			return;
+		} else if (event instanceof AfterBatchDeleteEvent) {
+
+			publishEachElement((List<?>) source, this::onAfterDelete);
+			return;
+		} else if (event instanceof AfterBatchLoadEvent) {
+
+			publishEachElement((List<?>) source, this::onAfterLoad);
 			return;
 		}
 		// Check for matching domain type and invoke callbacks
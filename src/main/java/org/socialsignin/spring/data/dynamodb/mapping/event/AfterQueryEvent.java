@@ -15,17 +15,23 @@
  */
 package org.socialsignin.spring.data.dynamodb.mapping.event;
 
-import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
+import java.util.List;
 
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
  */
-public class AfterQueryEvent<T> extends DynamoDBMappingEvent<PaginatedQueryList<T>> {
+public class AfterQueryEvent<T> extends DynamoDBMappingEvent<List<T>> {
 
 	private static final long serialVersionUID = 1L;
 
-	public AfterQueryEvent(PaginatedQueryList<T> source) {
+	/**
+	 * @param source
+	 *            The entities read by a query: A single page, the entities up to
+	 *            the requested maximum - or a single entity of a lazily loaded
+	 *            result at the time it is read
+	 */
+	public AfterQueryEvent(List<T> source) {
 		super(source);
 	}
 
@@ -15,17 +15,23 @@
  */
 package org.socialsignin.spring.data.dynamodb.mapping.event;
 
-import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import java.util.List;
 
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
  */
-public class AfterScanEvent<T> extends DynamoDBMappingEvent<PaginatedScanList<T>> {
+public class AfterScanEvent<T> extends DynamoDBMappingEvent<List<T>> {
 
 	private static final long serialVersionUID = 1L;
 
-	public AfterScanEvent(PaginatedScanList<T> source) {
+	/**
+	 * @param source
+	 *            The entities read by a sequential or a parallel scan: A single
+	 *            page, the entities up to the requested maximum - or a single
+	 *            entity of a lazily loaded result at the time it is read
+	 */
+	public AfterScanEvent(List<T> source) {
 		super(source);
 	}
 
@@ -0,0 +1,165 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.mapping.event;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Knows which {@link ApplicationListener}s of an {@link ApplicationContext} act
+ * on which kind of {@link DynamoDBMappingEvent} for which domain class. This
+ * allows to skip the creation and publication of events nobody listens to.
+ *
+ * {@link AbstractDynamoDBEventListener}s are matched by their domain class and
+ * the callbacks they override. All other listeners are matched by the event
+ * type they declare - exactly as the {@code ApplicationEventMulticaster} does.
+ * Non-singleton listener beans are matched by their bean type only - thus they
+ * are not instantiated just to be checked.
+ */
+public class DynamoDBEventListenerRegistry {
+
+	private final List<ApplicationListener<?>> listeners;
+	private final List<Class<?>> listenerTypes;
+	private final int applicationListenerCount;
+	private final Map<Class<?>, Map<Class<?>, Boolean>> listenedTo = new ConcurrentHashMap<>();
+
+	public DynamoDBEventListenerRegistry(Collection<? extends ApplicationListener<?>> listeners) {
+		this(listeners, Collections.emptyList(), -1);
+	}
+
+	private DynamoDBEventListenerRegistry(Collection<? extends ApplicationListener<?>> listeners,
+			List<Class<?>> listenerTypes, int applicationListenerCount) {
+		Assert.notNull(listeners, "listeners must not be null!");
+		this.listeners = new ArrayList<>(listeners);
+		this.listenerTypes = listenerTypes;
+		this.applicationListenerCount = applicationListenerCount;
+	}
+
+	/**
+	 * Collects the listeners of the given context and its parents.
+	 *
+	 * @param applicationContext
+	 *            The context the events are published to
+	 * @return {@code null} if the listeners can't be determined (yet) - that is if
+	 *         the context or one of its parents is not refreshed and running or
+	 *         does not expose its listeners
+	 */
+	@Nullable
+	public static DynamoDBEventListenerRegistry of(ApplicationContext applicationContext) {
+		List<ApplicationListener<?>> listeners = new ArrayList<>();
+		List<Class<?>> listenerTypes = new ArrayList<>();
+		for (ApplicationContext context = applicationContext; context != null; context = context.getParent()) {
+			if (!(context instanceof AbstractApplicationContext)) {
+				return null;
+			}
+			AbstractApplicationContext abstractContext = (AbstractApplicationContext) context;
+			// @EventListener methods are only registered at the end of the refresh
+			if (!abstractContext.isRunning()) {
+				return null;
+			}
+			listeners.addAll(abstractContext.getApplicationListeners());
+			for (ApplicationListener<?> listener : abstractContext.getBeansOfType(ApplicationListener.class, false,
+					false).values()) {
+				listeners.add(listener);
+			}
+			for (String beanName : abstractContext.getBeanNamesForType(ApplicationListener.class, true, false)) {
+				if (!abstractContext.isSingleton(beanName)) {
+					listenerTypes.add(abstractContext.getType(beanName));
+				}
+			}
+		}
+		return new DynamoDBEventListenerRegistry(listeners, listenerTypes,
+				countApplicationListeners(applicationContext));
+	}
+
+	/**
+	 * Listeners added to a running context - e.g. singletons created lazily - are
+	 * not known to a registry created before.
+	 *
+	 * @param applicationContext
+	 *            The context this registry was created of
+	 * @return {@code true} if the number of listeners of the context or its
+	 *         parents changed since this registry was created
+	 */
+	public boolean isOutdated(ApplicationContext applicationContext) {
+		return countApplicationListeners(applicationContext) != applicationListenerCount;
+	}
+
+	private static int countApplicationListeners(ApplicationContext applicationContext) {
+		int count = 0;
+		for (ApplicationContext context = applicationContext; context != null; context = context.getParent()) {
+			if (context instanceof AbstractApplicationContext) {
+				count += ((AbstractApplicationContext) context).getApplicationListeners().size();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @param eventType
+	 *            The {@link DynamoDBMappingEvent} type
+	 * @param entityClass
+	 *            The class of the entities the event is published for
+	 * @return {@code true} if at least one listener acts on such an event
+	 */
+	public boolean hasListener(Class<?> eventType, Class<?> entityClass) {
+		return listenedTo.computeIfAbsent(eventType, key -> new ConcurrentHashMap<>()).computeIfAbsent(entityClass,
+				key -> listeners.stream().anyMatch(listener -> supportsEvent(listener, eventType, entityClass))
+						|| listenerTypes.stream()
+								.anyMatch(listenerType -> supportsEvent(listenerType, eventType, entityClass)));
+	}
+
+	private static boolean supportsEvent(ApplicationListener<?> listener, Class<?> eventType, Class<?> entityClass) {
+		if (listener instanceof AbstractDynamoDBEventListener) {
+			return ((AbstractDynamoDBEventListener<?>) listener).supportsEvent(eventType, entityClass);
+		}
+		// The events don't expose their generic type, thus the multicaster
+		// matches them on the raw type as well
+		return new GenericApplicationListenerAdapter(listener).supportsEventType(ResolvableType.forClass(eventType));
+	}
+
+	private static boolean supportsEvent(@Nullable Class<?> listenerType, Class<?> eventType, Class<?> entityClass) {
+		// Listeners of unknown type or deciding at runtime might act on any event
+		if (listenerType == null || SmartApplicationListener.class.isAssignableFrom(listenerType)
+				|| GenericApplicationListener.class.isAssignableFrom(listenerType)) {
+			return true;
+		}
+		if (AbstractDynamoDBEventListener.class.isAssignableFrom(listenerType)) {
+			Class<?> domainClass = ResolvableType.forClass(listenerType).as(AbstractDynamoDBEventListener.class)
+					.resolveGeneric(0);
+			if (domainClass != null && !domainClass.isAssignableFrom(entityClass)) {
+				return false;
+			}
+		}
+		Class<?> declaredEventType = ResolvableType.forClass(listenerType).as(ApplicationListener.class)
+				.resolveGeneric(0);
+		return declaredEventType == null || declaredEventType.isAssignableFrom(eventType);
+	}
+}
@@ -15,8 +15,11 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
+import java.util.List;
+
 public abstract class AbstractDynamicQuery<T> extends AbstractQuery<T> {
 
 	protected final DynamoDBOperations dynamoDBOperations;
@@ -26,4 +29,9 @@ public abstract class AbstractDynamicQuery<T> extends AbstractQuery<T> {
 		this.dynamoDBOperations = dynamoDBOperations;
 		this.clazz = clazz;
 	}
+
+	@Override
+	public List<FailedBatch> deleteAll() {
+		return dynamoDBOperations.batchDelete(getResultList());
+	}
 }
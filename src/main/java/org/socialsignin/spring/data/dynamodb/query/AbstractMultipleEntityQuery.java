@@ -15,10 +15,16 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 
@@ -46,4 +52,35 @@ public abstract class AbstractMultipleEntityQuery<T> extends AbstractDynamicQuer
 			return results.get(0);
 		}
 	}
+
+	@Override
+	public ResultPage<T> getResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		Assert.isTrue(limit > 0, "limit must be positive!");
+
+		// The Limit of a request is applied before any filter expression - thus a
+		// request might return less items although more are available
+		List<T> results = new ArrayList<>(limit);
+		Map<String, AttributeValue> lastEvaluatedKey = exclusiveStartKey;
+		do {
+			ResultPage<T> page = loadResultPage(lastEvaluatedKey, limit - results.size());
+			page.getItems().forEach(results::add);
+			lastEvaluatedKey = page.getLastEvaluatedKey();
+		} while (lastEvaluatedKey != null && results.size() < limit);
+
+		return new ResultPage<>(results, lastEvaluatedKey);
+	}
+
+	/**
+	 * Reads a single page of at most {@code limit} items - e.g. via a single
+	 * request with that {@code Limit}.
+	 *
+	 * @param exclusiveStartKey
+	 *            The key to continue after - {@code null} to start at the beginning
+	 * @param limit
+	 *            The maximum number of items to read
+	 * @return the results and the key to continue after - {@code null} if there
+	 *         are no further results
+	 */
+	protected abstract ResultPage<T> loadResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey,
+			int limit);
 }
@@ -15,6 +15,19 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
 /**
  * {@link org.socialsignin.spring.data.dynamodb.mapping.DynamoDBPersistentProperty}
  * implementation
@@ -24,8 +37,15 @@ package org.socialsignin.spring.data.dynamodb.query;
  */
 public abstract class AbstractQuery<T> implements Query<T> {
 
+	/**
+	 * Pseudo attribute of the keys continuing at an offset - as attribute names
+	 * can't be empty, it never clashes with a key attribute.
+	 */
+	private static final String OFFSET_ATTRIBUTE = "";
+
 	protected boolean scanEnabled = false;
 	protected boolean scanCountEnabled = false;
+	protected int scanTotalSegments = 1;
 
 	@Override
 	public boolean isScanCountEnabled() {
@@ -47,4 +67,66 @@ public abstract class AbstractQuery<T> implements Query<T> {
 		return scanEnabled;
 	}
 
+	@Override
+	public void setScanTotalSegments(int scanTotalSegments) {
+		this.scanTotalSegments = scanTotalSegments;
+	}
+
+	@Override
+	public int getScanTotalSegments() {
+		return scanTotalSegments;
+	}
+
+	@Override
+	public Publisher<T> getResultPublisher() {
+		return DynamoDBPagePublisher.fromList(this::getResultList);
+	}
+
+	/**
+	 * Queries not backed by a paginated request read their whole result and
+	 * continue at an offset.
+	 */
+	@Override
+	public ResultPage<T> getResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		return getResultPageAtOffset(exclusiveStartKey, limit);
+	}
+
+	protected final ResultPage<T> getResultPageAtOffset(@Nullable Map<String, AttributeValue> exclusiveStartKey,
+			int limit) {
+		Assert.isTrue(limit > 0, "limit must be positive!");
+
+		int offset = getOffset(exclusiveStartKey);
+		Iterator<T> iterator = getResultList().iterator();
+		for (int i = 0; i < offset && iterator.hasNext(); i++) {
+			iterator.next();
+		}
+		List<T> results = new ArrayList<>(limit);
+		while (results.size() < limit && iterator.hasNext()) {
+			results.add(iterator.next());
+		}
+		return new ResultPage<>(results, iterator.hasNext() ? getOffsetKey(offset + results.size()) : null);
+	}
+
+	/**
+	 * @return the offset to continue at - {@code 0} to start at the beginning
+	 */
+	protected static int getOffset(@Nullable Map<String, AttributeValue> exclusiveStartKey) {
+		if (exclusiveStartKey == null) {
+			return 0;
+		}
+		AttributeValue offset = exclusiveStartKey.get(OFFSET_ATTRIBUTE);
+		Assert.isTrue(exclusiveStartKey.size() == 1 && offset != null && offset.getN() != null,
+				"exclusiveStartKey is no offset: " + exclusiveStartKey);
+		return Integer.parseInt(offset.getN());
+	}
+
+	protected static Map<String, AttributeValue> getOffsetKey(int offset) {
+		return Collections.singletonMap(OFFSET_ATTRIBUTE, new AttributeValue().withN(Integer.toString(offset)));
+	}
+
+	@Override
+	public boolean exists() {
+		return !getResultList().isEmpty();
+	}
+
 }
@@ -0,0 +1,74 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the entities of several keys via {@code BatchGetItem} - see
+ * {@link DynamoDBOperations#batchLoad(Class, List)}.
+ */
+public class MultipleEntityBatchLoadQuery<T> extends AbstractMultipleEntityQuery<T> {
+
+	private final List<KeyPair> keyPairs;
+	@Nullable
+	private final Integer maxResults;
+
+	/**
+	 * @param maxResults
+	 *            The maximum number of entities {@link #getResultList()} returns
+	 *            - {@code null} to return all
+	 */
+	public MultipleEntityBatchLoadQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz, List<KeyPair> keyPairs,
+			@Nullable Integer maxResults) {
+		super(dynamoDBOperations, clazz);
+		this.keyPairs = keyPairs;
+		this.maxResults = maxResults;
+	}
+
+	@Override
+	public List<T> getResultList() {
+		if (keyPairs.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<T> entities = dynamoDBOperations.batchLoad(clazz, keyPairs);
+		return maxResults == null || entities.size() <= maxResults ? entities : entities.subList(0, maxResults);
+	}
+
+	/**
+	 * A batch load is no paginated request - thus the pages load the entities of
+	 * the next {@code limit} keys and continue at the offset of the following key.
+	 * Keys without an entity make a page shorter than {@code limit}.
+	 */
+	@Override
+	protected ResultPage<T> loadResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		int offset = getOffset(exclusiveStartKey);
+		int end = Math.min(offset + limit, keyPairs.size());
+		if (offset >= end) {
+			return new ResultPage<>(Collections.emptyList(), null);
+		}
+		List<T> entities = dynamoDBOperations.batchLoad(clazz, keyPairs.subList(offset, end));
+		return new ResultPage<>(entities, end < keyPairs.size() ? getOffsetKey(end) : null);
+	}
+}
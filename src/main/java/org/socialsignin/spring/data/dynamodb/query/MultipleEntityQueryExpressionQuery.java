@@ -15,10 +15,18 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.springframework.lang.Nullable;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Michael Lavelle
@@ -27,16 +35,61 @@ import java.util.List;
 public class MultipleEntityQueryExpressionQuery<T> extends AbstractMultipleEntityQuery<T> {
 
 	private DynamoDBQueryExpression<T> queryExpression;
+	@Nullable
+	private final Integer maxResults;
 
 	public MultipleEntityQueryExpressionQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
 			DynamoDBQueryExpression<T> queryExpression) {
+		this(dynamoDBOperations, clazz, queryExpression, null);
+	}
+
+	/**
+	 * @param maxResults
+	 *            The maximum number of entities {@link #getResultList()} reads -
+	 *            {@code null} to read all
+	 */
+	public MultipleEntityQueryExpressionQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
+			DynamoDBQueryExpression<T> queryExpression, @Nullable Integer maxResults) {
 		super(dynamoDBOperations, clazz);
 		this.queryExpression = queryExpression;
+		this.maxResults = maxResults;
 	}
 
 	@Override
 	public List<T> getResultList() {
+		if (maxResults != null) {
+			return dynamoDBOperations.query(clazz, queryExpression, maxResults);
+		}
 		return dynamoDBOperations.query(clazz, queryExpression);
 	}
 
+	@Override
+	public boolean exists() {
+		return dynamoDBOperations.exists(clazz, queryExpression);
+	}
+
+	@Override
+	public List<FailedBatch> deleteAll() {
+		if (maxResults != null) {
+			return super.deleteAll();
+		}
+		return dynamoDBOperations.batchDelete(clazz, queryExpression);
+	}
+
+	@Override
+	public Publisher<T> getResultPublisher() {
+		if (dynamoDBOperations instanceof AsyncDynamoDBOperations) {
+			return ((AsyncDynamoDBOperations) dynamoDBOperations).queryPublisher(clazz, queryExpression);
+		}
+		return super.getResultPublisher();
+	}
+
+	@Override
+	protected ResultPage<T> loadResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		queryExpression.setLimit(limit);
+		queryExpression.setExclusiveStartKey(exclusiveStartKey);
+		QueryResultPage<T> page = dynamoDBOperations.queryPage(clazz, queryExpression);
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
+
 }
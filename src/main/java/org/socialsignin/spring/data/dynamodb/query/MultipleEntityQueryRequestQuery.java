@@ -15,27 +15,79 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.springframework.lang.Nullable;
 
 import java.util.List;
+import java.util.Map;
 
 public class MultipleEntityQueryRequestQuery<T> extends AbstractMultipleEntityQuery<T> {
 
 	private DynamoDBOperations dynamoDBOperations;
 	private QueryRequest queryRequest;
+	@Nullable
+	private final Integer maxResults;
 
 	public MultipleEntityQueryRequestQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
 			QueryRequest queryRequest) {
+		this(dynamoDBOperations, clazz, queryRequest, null);
+	}
+
+	/**
+	 * @param maxResults
+	 *            The maximum number of entities {@link #getResultList()} reads -
+	 *            {@code null} to read all
+	 */
+	public MultipleEntityQueryRequestQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
+			QueryRequest queryRequest, @Nullable Integer maxResults) {
 		super(null, clazz);
 		this.queryRequest = queryRequest;
 		this.dynamoDBOperations = dynamoDBOperations;
+		this.maxResults = maxResults;
 	}
 
 	@Override
 	public List<T> getResultList() {
-
+		if (maxResults != null) {
+			return dynamoDBOperations.query(clazz, queryRequest, maxResults);
+		}
 		return dynamoDBOperations.query(clazz, queryRequest);
 	}
 
+	@Override
+	public boolean exists() {
+		return dynamoDBOperations.exists(clazz, queryRequest);
+	}
+
+	@Override
+	public List<FailedBatch> deleteAll() {
+		if (maxResults != null) {
+			return super.deleteAll();
+		}
+		return dynamoDBOperations.batchDelete(clazz, queryRequest);
+	}
+
+	@Override
+	public Publisher<T> getResultPublisher() {
+		if (dynamoDBOperations instanceof AsyncDynamoDBOperations) {
+			return ((AsyncDynamoDBOperations) dynamoDBOperations).queryPublisher(clazz, queryRequest);
+		}
+		return super.getResultPublisher();
+	}
+
+	@Override
+	protected ResultPage<T> loadResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		queryRequest.setLimit(limit);
+		queryRequest.setExclusiveStartKey(exclusiveStartKey);
+		QueryResultPage<T> page = dynamoDBOperations.queryPage(clazz, queryRequest);
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
+
 }
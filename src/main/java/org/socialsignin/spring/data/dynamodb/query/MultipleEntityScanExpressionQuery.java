@@ -15,28 +15,90 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.util.List;
+import java.util.Map;
 
 public class MultipleEntityScanExpressionQuery<T> extends AbstractMultipleEntityQuery<T> {
 
 	private DynamoDBScanExpression scanExpression;
+	@Nullable
+	private final Integer maxResults;
 
 	public MultipleEntityScanExpressionQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
 			DynamoDBScanExpression scanExpression) {
+		this(dynamoDBOperations, clazz, scanExpression, null);
+	}
+
+	/**
+	 * @param maxResults
+	 *            The maximum number of entities {@link #getResultList()} reads -
+	 *            {@code null} to read all
+	 */
+	public MultipleEntityScanExpressionQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
+			DynamoDBScanExpression scanExpression, @Nullable Integer maxResults) {
 		super(dynamoDBOperations, clazz);
 		this.scanExpression = scanExpression;
+		this.maxResults = maxResults;
 	}
 
 	@Override
 	public List<T> getResultList() {
 		assertScanEnabled(isScanEnabled());
+		if (maxResults != null) {
+			// A sequential scan stops as soon as enough entities were read
+			return dynamoDBOperations.scan(clazz, scanExpression, maxResults);
+		}
+		if (getScanTotalSegments() > 1) {
+			return dynamoDBOperations.parallelScan(clazz, scanExpression, getScanTotalSegments());
+		}
 		return dynamoDBOperations.scan(clazz, scanExpression);
 	}
 
+	@Override
+	public boolean exists() {
+		assertScanEnabled(isScanEnabled());
+		return dynamoDBOperations.exists(clazz, scanExpression);
+	}
+
+	@Override
+	public List<FailedBatch> deleteAll() {
+		assertScanEnabled(isScanEnabled());
+		if (maxResults != null) {
+			return super.deleteAll();
+		}
+		return dynamoDBOperations.batchDelete(clazz, scanExpression, getScanTotalSegments());
+	}
+
+	@Override
+	public Publisher<T> getResultPublisher() {
+		assertScanEnabled(isScanEnabled());
+		if (dynamoDBOperations instanceof AsyncDynamoDBOperations) {
+			return ((AsyncDynamoDBOperations) dynamoDBOperations).scanPublisher(clazz, scanExpression);
+		}
+		return super.getResultPublisher();
+	}
+
+	@Override
+	protected ResultPage<T> loadResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		assertScanEnabled(isScanEnabled());
+		// Continuing after a key is only possible for sequential scans
+		scanExpression.setLimit(limit);
+		scanExpression.setExclusiveStartKey(exclusiveStartKey);
+		ScanResultPage<T> page = dynamoDBOperations.scanPage(clazz, scanExpression);
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
+
 	public void assertScanEnabled(boolean scanEnabled) {
 		Assert.isTrue(scanEnabled, "Scanning for this query is not enabled.  "
 				+ "To enable annotate your repository method with @EnableScan, or "
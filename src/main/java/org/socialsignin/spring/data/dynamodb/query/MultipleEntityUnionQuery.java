@@ -0,0 +1,92 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.socialsignin.spring.data.dynamodb.core.ForkedTask;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The union of the results of several queries, e.g. one per disjunct of an
+ * {@code Or} query. The queries are executed concurrently and entities matched
+ * by more than one of them are only returned once.
+ */
+public class MultipleEntityUnionQuery<T> extends AbstractMultipleEntityQuery<T> {
+
+	private final List<Query<T>> queries;
+	private final Function<T, ?> keyFunction;
+	@Nullable
+	private final Integer maxResults;
+
+	/**
+	 * @param keyFunction
+	 *            Provides the primary key of an entity to detect duplicates
+	 * @param maxResults
+	 *            The maximum number of entities {@link #getResultList()} returns
+	 *            - {@code null} to return all
+	 */
+	public MultipleEntityUnionQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz, List<Query<T>> queries,
+			Function<T, ?> keyFunction, @Nullable Integer maxResults) {
+		super(dynamoDBOperations, clazz);
+		this.queries = queries;
+		this.keyFunction = keyFunction;
+		this.maxResults = maxResults;
+	}
+
+	@Override
+	public List<T> getResultList() {
+		List<ForkedTask<List<T>>> results = new ArrayList<>(queries.size());
+		for (Query<T> query : queries) {
+			// Paginated results are read completely by the forked task - not lazily
+			// by the thread merging them
+			results.add(ForkedTask.fork(dynamoDBOperations.getQueryExecutor(),
+					() -> new ArrayList<>(query.getResultList())));
+		}
+
+		Map<Object, T> entitiesByKey = new LinkedHashMap<>();
+		for (ForkedTask<List<T>> result : results) {
+			for (T entity : result.join()) {
+				// Single entity loads return null if there is no such entity
+				if (entity != null && (maxResults == null || entitiesByKey.size() < maxResults)) {
+					entitiesByKey.putIfAbsent(keyFunction.apply(entity), entity);
+				}
+			}
+		}
+		return new ArrayList<>(entitiesByKey.values());
+	}
+
+	/**
+	 * The merged results have no common key to continue after - thus they
+	 * continue at an offset.
+	 */
+	@Override
+	protected ResultPage<T> loadResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		return getResultPageAtOffset(exclusiveStartKey, limit);
+	}
+
+	@Override
+	public boolean exists() {
+		return queries.stream().anyMatch(Query::exists);
+	}
+}
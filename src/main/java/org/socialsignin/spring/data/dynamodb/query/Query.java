@@ -15,7 +15,14 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.springframework.lang.Nullable;
+
 import java.util.List;
+import java.util.Map;
 
 public interface Query<T> {
 
@@ -36,9 +43,46 @@ public interface Query<T> {
 	 */
 	T getSingleResult();
 
+	/**
+	 * Execute a SELECT query and emit the query results as they are loaded.
+	 *
+	 * @return a {@link Publisher} of the results - the query is executed per
+	 *         subscription
+	 */
+	Publisher<T> getResultPublisher();
+
+	/**
+	 * Execute a SELECT query continuing after the given key and return at most
+	 * {@code limit} results. Only the requests required to fill the page are sent.
+	 *
+	 * @param exclusiveStartKey
+	 *            The key to continue after - {@code null} to start at the beginning
+	 * @param limit
+	 *            The maximum number of results to return
+	 * @return the results and the key to continue with - {@code null} if there
+	 *         are no further results
+	 */
+	ResultPage<T> getResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey, int limit);
+
+	/**
+	 * Execute a SELECT query only to check whether it matches any entity.
+	 *
+	 * @return {@code true} if there is at least one result
+	 */
+	boolean exists();
+
+	/**
+	 * Execute a DELETE of all entities the query matches.
+	 *
+	 * @return the batches which failed to be deleted
+	 */
+	List<FailedBatch> deleteAll();
+
 	void setScanEnabled(boolean scanEnabled);
 	void setScanCountEnabled(boolean scanCountEnabled);
 	boolean isScanCountEnabled();
 	boolean isScanEnabled();
+	void setScanTotalSegments(int scanTotalSegments);
+	int getScanTotalSegments();
 
 }
@@ -38,6 +38,9 @@ public class ScanExpressionCountQuery<T> extends AbstractSingleEntityQuery<Long>
 	@Override
 	public Long getSingleResult() {
 		assertScanCountEnabled(isScanCountEnabled());
+		if (getScanTotalSegments() > 1) {
+			return Long.valueOf(dynamoDBOperations.parallelCount(domainClass, scanExpression, getScanTotalSegments()));
+		}
 		return Long.valueOf(dynamoDBOperations.count(domainClass, scanExpression));
 	}
 
@@ -15,6 +15,8 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+
 import java.util.Collections;
 import java.util.List;
 
@@ -37,4 +39,12 @@ public class StaticQuery<T> extends AbstractQuery<T> {
 	public T getSingleResult() {
 		return result;
 	}
+
+	/**
+	 * A static result is not backed by any item - thus there is nothing to delete.
+	 */
+	@Override
+	public List<FailedBatch> deleteAll() {
+		return Collections.emptyList();
+	}
 }
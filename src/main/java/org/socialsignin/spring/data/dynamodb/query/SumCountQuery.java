@@ -0,0 +1,52 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.ForkedTask;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sums the results of several count queries which are executed concurrently on
+ * the {@link DynamoDBOperations#getQueryExecutor() query executor}.
+ * The queries must not match the same entities, e.g. because they are
+ * restricted to different hash keys.
+ */
+public class SumCountQuery extends AbstractSingleEntityQuery<Long> {
+
+	private final List<Query<Long>> countQueries;
+
+	public SumCountQuery(DynamoDBOperations dynamoDBOperations, List<Query<Long>> countQueries) {
+		super(dynamoDBOperations, Long.class);
+		this.countQueries = countQueries;
+	}
+
+	@Override
+	public Long getSingleResult() {
+		List<ForkedTask<Long>> counts = new ArrayList<>(countQueries.size());
+		for (Query<Long> countQuery : countQueries) {
+			counts.add(ForkedTask.fork(dynamoDBOperations.getQueryExecutor(), countQuery::getSingleResult));
+		}
+
+		long sum = 0;
+		for (ForkedTask<Long> count : counts) {
+			sum += count.join();
+		}
+		return sum;
+	}
+}
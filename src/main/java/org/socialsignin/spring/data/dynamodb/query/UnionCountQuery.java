@@ -0,0 +1,37 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+/**
+ * Counts the distinct entities of a query combining several results, e.g. a
+ * {@link MultipleEntityUnionQuery} - which should thus only read the key
+ * attributes.
+ */
+public class UnionCountQuery<T> extends AbstractSingleEntityQuery<Long> {
+
+	private final Query<T> unionQuery;
+
+	public UnionCountQuery(Query<T> unionQuery) {
+		super(null, Long.class);
+		this.unionQuery = unionQuery;
+	}
+
+	@Override
+	public Long getSingleResult() {
+		return Long.valueOf(unionQuery.getResultList().size());
+	}
+
+}
@@ -18,6 +18,8 @@ package org.socialsignin.spring.data.dynamodb.repository;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.util.stream.Stream;
+
 /**
  * DynamoDB specific extension of
  * {@link org.springframework.data.repository.Repository}.
@@ -28,4 +30,18 @@ import org.springframework.data.repository.NoRepositoryBean;
 @NoRepositoryBean
 public interface DynamoDBCrudRepository<T, ID> extends CrudRepository<T, ID> {
 
+	/**
+	 * Saves all entities of the stream in bounded batches. In contrast to
+	 * {@link #saveAll(Iterable)} the entities are consumed only once and are not
+	 * required to be held in memory at the same time.
+	 *
+	 * @param <S>
+	 *            Type of the entities
+	 * @param entities
+	 *            must not be {@code null}
+	 * @throws org.socialsignin.spring.data.dynamodb.exception.BatchWriteException
+	 *             in case of an error during saving
+	 */
+	<S extends T> void saveAll(Stream<S> entities);
+
 }
@@ -0,0 +1,75 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import com.amazonaws.services.dynamodbv2.model.ProjectionType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares what is known about a secondary index of an entity beyond its key
+ * schema: The attributes projected into the index - which the mapper
+ * annotations don't describe - and the approximate number of distinct index
+ * hash key values.
+ *
+ * Evaluated by
+ * {@link org.socialsignin.spring.data.dynamodb.repository.query.CostBasedIndexSelectionStrategy}
+ * to pick the cheapest index if multiple indexes are applicable to a query.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+@Repeatable(DynamoDBIndexStatistics.List.class)
+public @interface DynamoDBIndexStatistics {
+
+	/**
+	 * @return The name of the global or local secondary index
+	 */
+	String indexName();
+
+	/**
+	 * @return The projection the index was created with
+	 */
+	ProjectionType projectionType() default ProjectionType.ALL;
+
+	/**
+	 * @return The non-key attributes projected into the index if
+	 *         {@link #projectionType()} is {@link ProjectionType#INCLUDE}
+	 */
+	String[] nonKeyAttributes() default {};
+
+	/**
+	 * @return The approximate number of distinct values of the index hash key -
+	 *         {@code 0} if unknown
+	 */
+	long hashKeyCardinality() default 0;
+
+	/**
+	 * Container for multiple {@link DynamoDBIndexStatistics} on the same entity.
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+	@Documented
+	@interface List {
+
+		DynamoDBIndexStatistics[] value();
+	}
+}
@@ -30,4 +30,15 @@ import java.lang.annotation.Target;
 @Documented
 public @interface EnableScan {
 
+	/**
+	 * Number of segments a scan is split into. With more than one segment, the
+	 * segments are scanned concurrently (see
+	 * {@link org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations#parallelScan(Class, com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression, int)}).
+	 * If declared on the repository interface it applies to all scans of the
+	 * repository unless a method declares its own value.
+	 *
+	 * @return The number of segments - {@code 1} for a sequential scan
+	 */
+	int totalSegments() default 1;
+
 }
@@ -0,0 +1,64 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines how the total number of elements of a
+ * {@link org.springframework.data.domain.Page} is determined. Counting requires
+ * an additional query or scan over all matching items - which is often more
+ * expensive than reading the page itself.
+ *
+ * If declared on the repository interface it applies to all
+ * {@link org.springframework.data.domain.Page} queries of the repository
+ * unless a method declares its own mode.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface PageCount {
+
+	Mode value() default Mode.EAGER;
+
+	enum Mode {
+		/**
+		 * The total is counted after reading the page content.
+		 */
+		EAGER,
+		/**
+		 * The total is counted on the first access of
+		 * {@link org.springframework.data.domain.Page#getTotalElements()} or
+		 * {@link org.springframework.data.domain.Page#getTotalPages()}. It is not
+		 * counted at all if the page turns out to be the last one.
+		 */
+		LAZY,
+		/**
+		 * The total is counted while reading the page content.
+		 */
+		CONCURRENT,
+		/**
+		 * The total is estimated via the {@code ItemCount} of {@code DescribeTable}
+		 * which is updated approximately every six hours. Only applicable to scans
+		 * without any condition - all other queries are counted {@link #LAZY}.
+		 */
+		ESTIMATED
+	}
+}
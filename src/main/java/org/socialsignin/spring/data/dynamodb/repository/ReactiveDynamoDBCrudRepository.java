@@ -0,0 +1,56 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Reactive counterpart of {@link DynamoDBCrudRepository}. All operations are
+ * executed on subscription via
+ * {@link org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations}.
+ * Results of queries and scans are emitted page by page as requested by the
+ * subscriber.
+ *
+ * Query methods declared on sub-interfaces may return a {@link Publisher} of
+ * the domain type, too.
+ *
+ * @param <T>
+ *            the type of the entity to handle
+ * @param <ID>
+ *            the type of the entity's identifier
+ */
+@NoRepositoryBean
+public interface ReactiveDynamoDBCrudRepository<T, ID> extends Repository<T, ID> {
+
+	<S extends T> Publisher<S> save(S entity);
+
+	Publisher<T> findById(ID id);
+
+	Publisher<Boolean> existsById(ID id);
+
+	Publisher<T> findAll();
+
+	Publisher<T> findAllById(Iterable<ID> ids);
+
+	Publisher<Long> count();
+
+	Publisher<Void> deleteById(ID id);
+
+	Publisher<Void> delete(T entity);
+
+}
@@ -16,10 +16,24 @@
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.ForkedTask;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.socialsignin.spring.data.dynamodb.domain.CursorPage;
+import org.socialsignin.spring.data.dynamodb.domain.CursorPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.CursorSlice;
+import org.socialsignin.spring.data.dynamodb.domain.ExclusiveStartKeyCursor;
+import org.socialsignin.spring.data.dynamodb.domain.LazyTotalPageImpl;
 import org.socialsignin.spring.data.dynamodb.domain.UnpagedPageImpl;
 import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.repository.PageCount;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
 import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -30,11 +44,15 @@ import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * @author Michael Lavelle
@@ -77,15 +95,26 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 	protected abstract Integer getResultsRestrictionIfApplicable();
 	protected abstract boolean isSingleEntityResultsRestriction();
 
+	/**
+	 * @return {@code true} if the query reads the whole table without any
+	 *         condition - thus the table's {@code ItemCount} is an estimate of
+	 *         its total
+	 */
+	protected boolean isUnfilteredScan() {
+		return false;
+	}
+
 	protected Query<T> doCreateQueryWithPermissions(Object values[]) {
 		Query<T> query = doCreateQuery(values);
 		query.setScanEnabled(method.isScanEnabled());
+		query.setScanTotalSegments(method.getScanTotalSegments());
 		return query;
 	}
 
 	protected Query<Long> doCreateCountQueryWithPermissions(Object values[], boolean pageQuery) {
 		Query<Long> query = doCreateCountQuery(values, pageQuery);
 		query.setScanCountEnabled(method.isScanCountEnabled());
+		query.setScanTotalSegments(method.getScanTotalSegments());
 		return query;
 	}
 
@@ -158,10 +187,83 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			Pageable pageable = accessor.getPageable();
 			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
 
+			PageCount.Mode pageCountMode = pageable.isPaged() ? method.getPageCountMode() : PageCount.Mode.EAGER;
+			// Created before reading the content so a concurrent count starts right away
+			Supplier<Long> totalSupplier = pageCountMode != PageCount.Mode.EAGER
+					? createTotalSupplier(pageCountMode, dynamoDBQuery, values)
+					: null;
+
+			if (pageable instanceof CursorPageRequest) {
+				return createCursorPage(query, (CursorPageRequest) pageable, dynamoDBQuery, values, totalSupplier);
+			}
+
 			List<T> results = query.getResultList();
+			if (totalSupplier != null) {
+				return createLazyTotalPage(results, pageable, totalSupplier);
+			}
 			return createPage(results, pageable, dynamoDBQuery, values);
 		}
 
+		private Supplier<Long> createTotalSupplier(PageCount.Mode pageCountMode,
+				AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
+			Supplier<Long> count;
+			if (pageCountMode == PageCount.Mode.ESTIMATED && dynamoDBQuery.isUnfilteredScan()) {
+				DynamoDBEntityInformation<T, ID> entityInformation = method.getEntityInformation();
+				count = () -> dynamoDBOperations.estimateCount(entityInformation.getJavaType(),
+						entityInformation.getDynamoDBTableName());
+			} else {
+				count = dynamoDBQuery.doCreateCountQueryWithPermissions(values, true)::getSingleResult;
+			}
+
+			Integer restriction = getResultsRestrictionIfApplicable();
+			if (restriction != null) {
+				Supplier<Long> unrestrictedCount = count;
+				count = () -> Math.min(unrestrictedCount.get(), restriction);
+			}
+
+			if (pageCountMode == PageCount.Mode.CONCURRENT) {
+				return ForkedTask.fork(dynamoDBOperations.getQueryExecutor(), count)::join;
+			}
+			return count;
+		}
+
+		private Page<T> createCursorPage(Query<T> query, CursorPageRequest pageable,
+				AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values, @Nullable Supplier<Long> totalSupplier) {
+			List<T> results = new ArrayList<>();
+			String nextCursor = readCursorPage(query, pageable, results);
+
+			if (totalSupplier != null) {
+				return new CursorPage<>(results, pageable, totalSupplier, nextCursor);
+			}
+
+			Query<Long> countQuery = dynamoDBQuery.doCreateCountQueryWithPermissions(values, true);
+			long count = countQuery.getSingleResult();
+			if (getResultsRestrictionIfApplicable() != null) {
+				count = Math.min(count, getResultsRestrictionIfApplicable());
+			}
+			return new CursorPage<>(results, pageable, count, nextCursor);
+		}
+
+		private Page<T> createLazyTotalPage(List<T> allResults, Pageable pageable, Supplier<Long> totalSupplier) {
+
+			// Get the result = this list might be a lazy list
+			Iterator<T> iterator = allResults.iterator();
+
+			// Check if the pageable request is 'beyond' the result set
+			if (pageable.getOffset() > 0) {
+				long processedCount = scanThroughResults(iterator, pageable.getOffset());
+				if (processedCount < pageable.getOffset()) {
+					return new PageImpl<>(Collections.emptyList(), pageable, processedCount);
+				}
+			}
+
+			List<T> results = readPageOfResultsRestrictMaxResultsIfNecessary(iterator, pageable.getPageSize());
+			// Looking ahead a single element tells whether the total is needed at all
+			boolean hasNext = iterator.hasNext() && (getResultsRestrictionIfApplicable() == null
+					|| pageable.getOffset() + results.size() < getResultsRestrictionIfApplicable());
+			return new LazyTotalPageImpl<>(results, pageable, hasNext, totalSupplier);
+		}
+
 		private Page<T> createPage(List<T> allResults, Pageable pageable, AbstractDynamoDBQuery<T, ID> dynamoDBQuery,
 				Object[] values) {
 
@@ -234,6 +336,13 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			ParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
 			Pageable pageable = accessor.getPageable();
 			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+
+			if (pageable instanceof CursorPageRequest) {
+				List<T> results = new ArrayList<>();
+				String nextCursor = readCursorPage(query, (CursorPageRequest) pageable, results);
+				return new CursorSlice<>(results, (CursorPageRequest) pageable, nextCursor);
+			}
+
 			List<T> results = query.getResultList();
 			return createSlice(results, pageable);
 		}
@@ -256,12 +365,50 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 		}
 	}
 
+	/**
+	 * Reads the page continuing after the cursor of the request - instead of
+	 * reading and skipping all results up to the offset of the page. The cursor
+	 * tracks the results read before it - thus a results restriction holds across
+	 * all pages.
+	 *
+	 * @return the cursor of the next page - {@code null} if there is none
+	 */
+	@Nullable
+	private String readCursorPage(Query<T> query, CursorPageRequest pageable, List<T> results) {
+		Integer restriction = getResultsRestrictionIfApplicable();
+		long position = pageable.getPosition();
+		int pageSize = pageable.getPageSize();
+		if (restriction != null) {
+			if (position >= restriction) {
+				return null;
+			}
+			pageSize = (int) Math.min(pageSize, restriction - position);
+		}
+
+		ResultPage<T> page = query.getResultPage(pageable.getExclusiveStartKey(), pageSize);
+		page.getItems().forEach(results::add);
+		position += results.size();
+		if (restriction != null && position >= restriction) {
+			return null;
+		}
+		return ExclusiveStartKeyCursor.encode(page.getLastEvaluatedKey(), position);
+	}
+
 	class DeleteExecution implements QueryExecution<T, ID> {
 
 		@Override
 		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) throws BatchDeleteException {
-			List<T> entities = dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList();
-			List<DynamoDBMapper.FailedBatch> failedBatches = dynamoDBOperations.batchDelete(entities);
+			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+			List<T> entities;
+			List<DynamoDBMapper.FailedBatch> failedBatches;
+			if (method.isVoidQuery()) {
+				// The deleted entities are not returned - thus they are only loaded for delete listeners
+				entities = null;
+				failedBatches = query.deleteAll();
+			} else {
+				entities = query.getResultList();
+				failedBatches = dynamoDBOperations.batchDelete(entities);
+			}
 			if (failedBatches.isEmpty()) {
 				return entities;
 			} else {
@@ -277,7 +424,7 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			if (isCountQuery()) {
 				return dynamoDBQuery.doCreateCountQueryWithPermissions(values, false).getSingleResult();
 			} else if (isExistsQuery()) {
-				return !dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList().isEmpty();
+				return dynamoDBQuery.doCreateQueryWithPermissions(values).exists();
 			} else {
 				return dynamoDBQuery.doCreateQueryWithPermissions(values).getSingleResult();
 			}
@@ -291,6 +438,8 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
 			if (isCountQuery()) {
 				return dynamoDBQuery.doCreateCountQueryWithPermissions(values, false).getSingleResult();
+			} else if (isExistsQuery()) {
+				return dynamoDBQuery.doCreateQueryWithPermissions(values).exists();
 			} else {
 				List<T> resultList = dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList();
 				return resultList.size() == 0 ? null : resultList.get(0);
@@ -308,7 +457,136 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 	 */
 	public Object execute(Object[] parameters) {
 
-		return getExecution().execute(this, parameters);
+		if (method.isPublisherQuery()) {
+			return executePublisher(parameters);
+		}
+		if (method.isAsyncQuery() && dynamoDBOperations instanceof AsyncDynamoDBOperations) {
+			// The execution itself is blocking - it runs on the executor for blocking operations
+			// of the template instead of the calling thread or the threads of the async client
+			return ((AsyncDynamoDBOperations) dynamoDBOperations)
+					.executeAsync(() -> processResult(loadFully(getExecution().execute(this, parameters))));
+		}
+		return processResult(getExecution().execute(this, parameters));
+	}
+
+	/**
+	 * Converts the entities into the interface or DTO projection declared as
+	 * return type.
+	 */
+	private Object processResult(Object result) {
+		if (isCountQuery() || isExistsQuery() || isDeleteQuery() || !method.isProjectionQuery()) {
+			return result;
+		}
+		return method.getResultProcessor().processResult(result);
+	}
+
+	/**
+	 * Plain queries are streamed page by page. All other executions (count,
+	 * exists, delete, limited results) are executed as a whole - asynchronously
+	 * if supported by the {@link DynamoDBOperations} - and their result is
+	 * emitted element by element. Each entity is converted into the projection
+	 * declared as element type.
+	 */
+	private Publisher<?> executePublisher(Object[] parameters) {
+		if (!isCountQuery() && !isExistsQuery() && !isDeleteQuery() && getResultsRestrictionIfApplicable() == null) {
+			Publisher<T> results = doCreateQueryWithPermissions(parameters).getResultPublisher();
+			return method.isProjectionQuery() ? new ConvertingPublisher<>(results, this::processResult) : results;
+		}
+
+		if (dynamoDBOperations instanceof AsyncDynamoDBOperations) {
+			AsyncDynamoDBOperations asyncDynamoDBOperations = (AsyncDynamoDBOperations) dynamoDBOperations;
+			return new DynamoDBPagePublisher<>(startKey -> asyncDynamoDBOperations
+					.executeAsync(() -> new ResultPage<>(toList(getExecution().execute(this, parameters)), null)));
+		} else {
+			return DynamoDBPagePublisher.fromList(() -> toList(getExecution().execute(this, parameters)));
+		}
+	}
+
+	private List<Object> toList(Object result) {
+		List<Object> list = new ArrayList<>();
+		if (result instanceof Iterable) {
+			((Iterable<?>) result).forEach(element -> list.add(processResult(element)));
+		} else if (result != null) {
+			list.add(processResult(result));
+		}
+		return list;
+	}
+
+	/**
+	 * Converts the elements of a publisher - demand and cancellation are passed
+	 * through as is.
+	 */
+	private static final class ConvertingPublisher<S, R> implements Publisher<R> {
+		private final Publisher<S> source;
+		private final Function<S, R> converter;
+
+		ConvertingPublisher(Publisher<S> source, Function<S, R> converter) {
+			this.source = source;
+			this.converter = converter;
+		}
+
+		@Override
+		public void subscribe(Subscriber<? super R> subscriber) {
+			source.subscribe(new Subscriber<S>() {
+				private Subscription subscription;
+				private boolean done;
+
+				@Override
+				public void onSubscribe(Subscription subscription) {
+					this.subscription = subscription;
+					subscriber.onSubscribe(subscription);
+				}
+
+				@Override
+				public void onNext(S item) {
+					if (done) {
+						return;
+					}
+					R converted;
+					try {
+						converted = converter.apply(item);
+					} catch (RuntimeException e) {
+						done = true;
+						subscription.cancel();
+						subscriber.onError(e);
+						return;
+					}
+					subscriber.onNext(converted);
+				}
+
+				@Override
+				public void onError(Throwable error) {
+					if (!done) {
+						done = true;
+						subscriber.onError(error);
+					}
+				}
+
+				@Override
+				public void onComplete() {
+					if (!done) {
+						done = true;
+						subscriber.onComplete();
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Lazy lists would load the remaining pages on the thread consuming the
+	 * {@link java.util.concurrent.CompletableFuture} - thus they are loaded
+	 * completely while still being on the thread of the asynchronous execution.
+	 */
+	private Object loadFully(Object result) {
+		if (result instanceof List && !(result instanceof ArrayList)) {
+			List<Object> loaded = new ArrayList<>();
+			for (Object element : (List<?>) result) {
+				loaded.add(element);
+			}
+			return loaded;
+		}
+		return result;
 	}
 
 	@Override
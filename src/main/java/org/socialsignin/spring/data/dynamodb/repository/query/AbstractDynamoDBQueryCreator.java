@@ -27,12 +27,14 @@ import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -46,6 +48,11 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 	protected final DynamoDBEntityInformation<T, ID> entityMetadata;
 	protected final DynamoDBOperations dynamoDBOperations;
 	protected final Optional<String> projection;
+	@Nullable
+	protected final Map<Integer, DynamoDBQueryPlan> queryPlans;
+	@Nullable
+	protected final IndexSelectionStrategy indexSelectionStrategy;
+	private int partCount;
 
 	public AbstractDynamoDBQueryCreator(PartTree tree, DynamoDBEntityInformation<T, ID> entityMetadata,
 			Optional<String> projection, DynamoDBOperations dynamoDBOperations) {
@@ -53,24 +60,61 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 		this.entityMetadata = entityMetadata;
 		this.projection = projection;
 		this.dynamoDBOperations = dynamoDBOperations;
+		this.queryPlans = null;
+		this.indexSelectionStrategy = null;
 	}
 
 	public AbstractDynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
 			DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection,
 			DynamoDBOperations dynamoDBOperations) {
+		this(tree, parameterAccessor, entityMetadata, projection, dynamoDBOperations, null);
+	}
+
+	/**
+	 * @param queryPlans
+	 *            Cache of {@link DynamoDBQueryPlan}s shared across invocations of
+	 *            the same repository method - keyed by the part of the method and
+	 *            its variant. Might be {@code null} to plan every query from
+	 *            scratch
+	 */
+	public AbstractDynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+			DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection,
+			DynamoDBOperations dynamoDBOperations, @Nullable Map<Integer, DynamoDBQueryPlan> queryPlans) {
+		this(tree, parameterAccessor, entityMetadata, projection, dynamoDBOperations, queryPlans, null);
+	}
+
+	/**
+	 * @param queryPlans
+	 *            Cache of {@link DynamoDBQueryPlan}s shared across invocations of
+	 *            the same repository method - keyed by the part of the method and
+	 *            its variant. Might be {@code null} to plan every query from
+	 *            scratch
+	 * @param indexSelectionStrategy
+	 *            Picks the secondary index if multiple ones are applicable. Might
+	 *            be {@code null} for the
+	 *            {@link DeclarationOrderIndexSelectionStrategy}
+	 */
+	public AbstractDynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+			DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection,
+			DynamoDBOperations dynamoDBOperations, @Nullable Map<Integer, DynamoDBQueryPlan> queryPlans,
+			@Nullable IndexSelectionStrategy indexSelectionStrategy) {
 		super(tree, parameterAccessor);
 		this.entityMetadata = entityMetadata;
 		this.projection = projection;
 		this.dynamoDBOperations = dynamoDBOperations;
+		this.queryPlans = queryPlans;
+		this.indexSelectionStrategy = indexSelectionStrategy;
 	}
 
 	@Override
 	protected DynamoDBQueryCriteria<T, ID> create(Part part, Iterator<Object> iterator) {
 		final DynamoDBMapperTableModel<T> tableModel = dynamoDBOperations.getTableModel(entityMetadata.getJavaType());
-		DynamoDBQueryCriteria<T, ID> criteria = entityMetadata.isRangeKeyAware()
+		AbstractDynamoDBQueryCriteria<T, ID> criteria = entityMetadata.isRangeKeyAware()
 				? new DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID>(
 						(DynamoDBIdIsHashAndRangeKeyEntityInformation<T, ID>) entityMetadata, tableModel)
 				: new DynamoDBEntityWithHashKeyOnlyCriteria<>(entityMetadata, tableModel);
+		criteria.withQueryPlanCache(queryPlans, partCount++);
+		criteria.withIndexSelectionStrategy(indexSelectionStrategy);
 		return addCriteria(criteria, part, iterator);
 	}
 
@@ -152,9 +196,14 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	protected DynamoDBQueryCriteria<T, ID> or(DynamoDBQueryCriteria<T, ID> base,
 			DynamoDBQueryCriteria<T, ID> criteria) {
-		throw new UnsupportedOperationException("Or queries not supported");
+		// create(Part, Iterator) only creates AbstractDynamoDBQueryCriteria
+		DynamoDBOrQueryCriteria<T, ID> orCriteria = base instanceof DynamoDBOrQueryCriteria
+				? (DynamoDBOrQueryCriteria<T, ID>) base
+				: new DynamoDBOrQueryCriteria<>(entityMetadata, (AbstractDynamoDBQueryCriteria<T, ID>) base);
+		return orCriteria.or((AbstractDynamoDBQueryCriteria<T, ID>) criteria);
 	}
 
 }
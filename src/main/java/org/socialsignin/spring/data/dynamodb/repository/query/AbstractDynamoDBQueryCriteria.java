@@ -19,16 +19,24 @@ import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMarshaller;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
 import com.amazonaws.services.dynamodbv2.model.Condition;
+import com.amazonaws.services.dynamodbv2.model.ProjectionType;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 import com.amazonaws.services.dynamodbv2.model.Select;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.marshaller.Date2IsoDynamoDBMarshaller;
 import org.socialsignin.spring.data.dynamodb.marshaller.Instant2IsoDynamoDBMarshaller;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityBatchLoadQuery;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityUnionQuery;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.query.SumCountQuery;
+import org.socialsignin.spring.data.dynamodb.query.UnionCountQuery;
+import org.socialsignin.spring.data.dynamodb.repository.DynamoDBIndexStatistics;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
 import org.socialsignin.spring.data.dynamodb.utils.SortHandler;
 import org.springframework.data.domain.Sort;
@@ -44,13 +52,18 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * @author Michael Lavelle
@@ -58,6 +71,12 @@ import java.util.Optional;
  */
 public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQueryCriteria<T, ID>, SortHandler {
 
+	private static final IndexSelectionStrategy DECLARATION_ORDER = new DeclarationOrderIndexSelectionStrategy();
+
+	private static final List<ComparisonOperator> COMPARISON_OPERATORS_PERMITTED_FOR_QUERY = Arrays.asList(
+			ComparisonOperator.EQ, ComparisonOperator.LE, ComparisonOperator.LT, ComparisonOperator.GE,
+			ComparisonOperator.GT, ComparisonOperator.BEGINS_WITH, ComparisonOperator.BETWEEN);
+
 	protected Class<T> clazz;
 	private DynamoDBEntityInformation<T, ID> entityInformation;
 	private Map<String, String> attributeNamesByPropertyName;
@@ -69,12 +88,43 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 
 	protected Object hashKeyAttributeValue;
 	protected Object hashKeyPropertyValue;
-	protected String globalSecondaryIndexName;
+	/**
+	 * The keys of an {@code In} condition on the hash key - or on the composite
+	 * id - which are served by loads or queries per key instead of a scan.
+	 * {@code null} if there is no such condition.
+	 */
+	@Nullable
+	protected List<KeyPair> keysIn;
 	protected Sort sort = Sort.unsorted();
 	protected Optional<String> projection = Optional.empty();
+	protected List<String> projectedAttributeNames = Collections.emptyList();
+	protected Optional<Integer> limit = Optional.empty();
+
+	@Nullable
+	private Map<Integer, DynamoDBQueryPlan> queryPlanCache;
+	private int partIndex;
+	@Nullable
+	private DynamoDBQueryPlan queryPlan;
+	private IndexSelectionStrategy indexSelectionStrategy = DECLARATION_ORDER;
+
+	/**
+	 * DynamoDB applies the {@code Limit} before evaluating the filter - a small
+	 * limit on a filtered request would thus cause one round trip per few
+	 * evaluated items. The limit is only pushed down for unfiltered requests;
+	 * filtered ones still stop reading pages once enough entities were found.
+	 *
+	 * @param filterExpression
+	 *            The {@code FilterExpression} of the request
+	 * @return The {@code Limit} to set on the request
+	 */
+	protected Optional<Integer> getRequestLimit(@Nullable String filterExpression) {
+		return filterExpression == null ? limit : Optional.empty();
+	}
 
 	public abstract boolean isApplicableForLoad();
 
+	public abstract boolean isApplicableForQuery();
+
 	protected QueryRequest buildQueryRequest(String tableName, String theIndexName, String hashKeyAttributeName,
 			String rangeKeyAttributeName, String rangeKeyPropertyName, List<Condition> hashKeyConditions,
 			List<Condition> rangeKeyConditions) {
@@ -84,7 +134,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		queryRequest.setTableName(tableName);
 		queryRequest.setIndexName(theIndexName);
 
-		if (isApplicableForGlobalSecondaryIndex()) {
+		if (getQueryPlan().isApplicableForGlobalSecondaryIndex()) {
 			List<String> allowedSortProperties = new ArrayList<>();
 
 			for (Entry<String, List<Condition>> singlePropertyCondition : propertyConditions.entrySet()) {
@@ -94,7 +144,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 				}
 			}
 
-			HashMap<String, Condition> keyConditions = new HashMap<>();
+			Map<String, Condition> keyConditions = new LinkedHashMap<>();
 
 			if (hashKeyConditions != null && hashKeyConditions.size() > 0) {
 				for (Condition hashKeyCondition : hashKeyConditions) {
@@ -123,16 +173,25 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 				}
 			}
 
-			queryRequest.setKeyConditions(keyConditions);
+			DynamoDBExpressionBuilder expressionBuilder = new DynamoDBExpressionBuilder();
+			queryRequest.setKeyConditionExpression(expressionBuilder.and(keyConditions));
+			queryRequest.setExpressionAttributeNames(expressionBuilder.getExpressionAttributeNames());
+			queryRequest.setExpressionAttributeValues(expressionBuilder.getExpressionAttributeValues());
 			// Might be overwritten in the actual Query classes
 			if (projection.isPresent()) {
 				queryRequest.setSelect(Select.SPECIFIC_ATTRIBUTES);
 				queryRequest.setProjectionExpression(projection.get());
+			} else if (!projectedAttributeNames.isEmpty()) {
+				Map<String, String> attributeNames = copyOf(queryRequest.getExpressionAttributeNames());
+				queryRequest.setSelect(Select.SPECIFIC_ATTRIBUTES);
+				queryRequest.setProjectionExpression(toProjectionExpression(attributeNames));
+				queryRequest.setExpressionAttributeNames(attributeNames);
 			} else {
 				queryRequest.setSelect(Select.ALL_PROJECTED_ATTRIBUTES);
 			}
 
-			applySortIfSpecified(queryRequest, new ArrayList<>(new HashSet<>(allowedSortProperties)));
+			applySortIfSpecified(queryRequest, new ArrayList<>(new HashSet<>(allowedSortProperties)),
+					keyConditions.size());
 		}
 		return queryRequest;
 	}
@@ -160,7 +219,8 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		}
 	}
 
-	protected void applySortIfSpecified(QueryRequest queryRequest, List<String> permittedPropertyNames) {
+	protected void applySortIfSpecified(QueryRequest queryRequest, List<String> permittedPropertyNames,
+			int keyConditionCount) {
 		if (permittedPropertyNames.size() > 2) {
 			throw new UnsupportedOperationException("Can only sort by at most a single global hash and range key");
 		}
@@ -172,7 +232,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 					throw new UnsupportedOperationException("Sorting by multiple attributes not possible");
 
 				}
-				if (queryRequest.getKeyConditions().size() > 1 && !hasIndexHashKeyEqualCondition()) {
+				if (keyConditionCount > 1 && !hasIndexHashKeyEqualCondition()) {
 					throw new UnsupportedOperationException(
 							"Sorting for global index queries with criteria on both hash and range not possible");
 
@@ -187,14 +247,10 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 	}
 
 	public boolean comparisonOperatorsPermittedForQuery() {
-		List<ComparisonOperator> comparisonOperatorsPermittedForQuery = Arrays.asList(new ComparisonOperator[]{
-				ComparisonOperator.EQ, ComparisonOperator.LE, ComparisonOperator.LT, ComparisonOperator.GE,
-				ComparisonOperator.GT, ComparisonOperator.BEGINS_WITH, ComparisonOperator.BETWEEN});
-
 		// Can only query on subset of Conditions
 		for (Collection<Condition> conditions : attributeConditions.values()) {
 			for (Condition condition : conditions) {
-				if (!comparisonOperatorsPermittedForQuery
+				if (!COMPARISON_OPERATORS_PERMITTED_FOR_QUERY
 						.contains(ComparisonOperator.fromValue(condition.getComparisonOperator()))) {
 					return false;
 				}
@@ -205,7 +261,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 
 	protected List<Condition> getHashKeyConditions() {
 		List<Condition> hashKeyConditions = null;
-		if (isApplicableForGlobalSecondaryIndex() && entityInformation.getGlobalSecondaryIndexNamesByPropertyName()
+		if (getQueryPlan().isApplicableForGlobalSecondaryIndex() && entityInformation.getGlobalSecondaryIndexNamesByPropertyName()
 				.keySet().contains(getHashKeyPropertyName())) {
 			hashKeyConditions = getHashKeyAttributeValue() == null
 					? null
@@ -248,14 +304,36 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		return indexName;
 	}
 
+	@Nullable
 	protected String getGlobalSecondaryIndexName() {
+		IndexCandidate index = selectIndex();
+		return index != null && !index.isLocal() ? index.getIndexName() : null;
+	}
 
-		// Lazy evaluate the globalSecondaryIndexName if not already set
+	@Nullable
+	protected String getLocalSecondaryIndexName() {
+		IndexCandidate index = selectIndex();
+		return index != null && index.isLocal() ? index.getIndexName() : null;
+	}
+
+	@Nullable
+	private IndexCandidate selectIndex() {
+		List<IndexCandidate> candidates = getIndexCandidates();
+		return candidates.isEmpty() ? null : indexSelectionStrategy.select(candidates);
+	}
+
+	/**
+	 * Determines the secondary indexes applicable to the attribute conditions.
+	 *
+	 * @return The candidates in the order of the
+	 *         {@link DeclarationOrderIndexSelectionStrategy}
+	 */
+	protected List<IndexCandidate> getIndexCandidates() {
+		List<IndexCandidate> candidates = new ArrayList<>();
 
 		// We must have attribute conditions specified in order to use a global
-		// secondary index, otherwise return null for index name
-		// Also this method only evaluates the
-		if (globalSecondaryIndexName == null && attributeConditions != null && !attributeConditions.isEmpty()) {
+		// secondary index
+		if (attributeConditions != null && !attributeConditions.isEmpty()) {
 			// Declare map of index names by attribute name which we will populate below -
 			// this will be used to determine which index to use if multiple indexes are
 			// applicable
@@ -300,22 +378,139 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 			if (exactMatchIndexNames.size() > 1) {
 				throw new RuntimeException(
 						"Multiple indexes defined on same attribute set:" + attributeConditions.keySet());
-			} else if (exactMatchIndexNames.size() == 1) {
-				globalSecondaryIndexName = exactMatchIndexNames.get(0);
-			} else if (partialMatchIndexNames.size() > 1) {
-				if (attributeConditions.size() == 1) {
-					globalSecondaryIndexName = getFirstDeclaredIndexNameForAttribute(indexNamesByAttributeName,
-							partialMatchIndexNames, attributeConditions.keySet().iterator().next());
+			}
+			// Of multiple partial matches for a single attribute the first declared one
+			// is preferred
+			if (partialMatchIndexNames.size() > 1 && attributeConditions.size() == 1) {
+				String firstDeclaredIndexName = getFirstDeclaredIndexNameForAttribute(indexNamesByAttributeName,
+						partialMatchIndexNames, attributeConditions.keySet().iterator().next());
+				if (firstDeclaredIndexName != null) {
+					partialMatchIndexNames.remove(firstDeclaredIndexName);
+					partialMatchIndexNames.add(0, firstDeclaredIndexName);
 				}
-				if (globalSecondaryIndexName == null) {
-					globalSecondaryIndexName = partialMatchIndexNames.get(0);
+			}
+
+			for (String indexName : exactMatchIndexNames) {
+				candidates.add(createGlobalSecondaryIndexCandidate(indexName, true,
+						attributeListsByIndexName.get(indexName)));
+			}
+			for (String indexName : partialMatchIndexNames) {
+				candidates.add(createGlobalSecondaryIndexCandidate(indexName, false,
+						attributeListsByIndexName.get(indexName)));
+			}
+		}
+		return candidates;
+	}
+
+	private IndexCandidate createGlobalSecondaryIndexCandidate(String indexName, boolean exactMatch,
+			List<String> indexAttributeNames) {
+		boolean hashKeyEquality = false;
+		boolean rangeKeyConditionUsable = false;
+		for (Entry<String, String[]> indexNamesForPropertyNameEntry : entityInformation
+				.getGlobalSecondaryIndexNamesByPropertyName().entrySet()) {
+			String propertyName = indexNamesForPropertyNameEntry.getKey();
+			if (Arrays.asList(indexNamesForPropertyNameEntry.getValue()).contains(indexName)) {
+				if (entityInformation.isGlobalIndexHashKeyProperty(propertyName) && hasEqualCondition(propertyName)) {
+					hashKeyEquality = true;
+				}
+				if (entityInformation.isGlobalIndexRangeKeyProperty(propertyName)
+						&& hasKeyCondition(propertyName)) {
+					rangeKeyConditionUsable = true;
 				}
-			} else if (partialMatchIndexNames.size() == 1) {
-				globalSecondaryIndexName = partialMatchIndexNames.get(0);
 			}
 		}
-		return globalSecondaryIndexName;
+		return createIndexCandidate(indexName, false, exactMatch, hashKeyEquality, rangeKeyConditionUsable,
+				indexAttributeNames);
+	}
+
+	protected IndexCandidate createIndexCandidate(String indexName, boolean local, boolean exactMatch,
+			boolean hashKeyEquality, boolean rangeKeyConditionUsable, List<String> indexAttributeNames) {
+		DynamoDBIndexStatistics statistics = entityInformation.getIndexStatisticsByIndexName().get(indexName);
+		if (statistics == null) {
+			return new IndexCandidate(indexName, local, exactMatch, hashKeyEquality, rangeKeyConditionUsable, null,
+					null);
+		}
+		return new IndexCandidate(indexName, local, exactMatch, hashKeyEquality, rangeKeyConditionUsable,
+				isProjectionCovering(statistics, indexAttributeNames),
+				statistics.hashKeyCardinality() > 0 ? statistics.hashKeyCardinality() : null);
 	}
+
+	private boolean isProjectionCovering(DynamoDBIndexStatistics statistics, List<String> indexAttributeNames) {
+		if (statistics.projectionType() == ProjectionType.ALL) {
+			return true;
+		}
+		List<String> requiredAttributeNames = getRequiredAttributeNames();
+		if (requiredAttributeNames == null) {
+			return false;
+		}
+		Set<String> projectedAttributeNames = new HashSet<>(getKeyAttributeNames());
+		projectedAttributeNames.addAll(indexAttributeNames);
+		if (statistics.projectionType() == ProjectionType.INCLUDE) {
+			projectedAttributeNames.addAll(Arrays.asList(statistics.nonKeyAttributes()));
+		}
+		return projectedAttributeNames.containsAll(requiredAttributeNames)
+				&& projectedAttributeNames.containsAll(attributeConditions.keySet());
+	}
+
+	/**
+	 * @return The attributes to read - {@code null} if the entire entity is read
+	 */
+	@Nullable
+	private List<String> getRequiredAttributeNames() {
+		if (!projectedAttributeNames.isEmpty()) {
+			return projectedAttributeNames;
+		} else if (projection.isPresent()) {
+			List<String> attributeNames = new ArrayList<>();
+			for (String attributeName : projection.get().split(",")) {
+				attributeNames.add(attributeName.trim());
+			}
+			return attributeNames;
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * @param propertyName
+	 *            The property to check
+	 * @return {@code true} if there is an equality condition on the property
+	 */
+	protected boolean hasEqualCondition(String propertyName) {
+		if (isHashKeyProperty(propertyName) && isHashKeySpecified()) {
+			return true;
+		}
+		for (Condition condition : propertyConditions.getOrDefault(propertyName, Collections.emptyList())) {
+			if (ComparisonOperator.EQ.name().equals(condition.getComparisonOperator())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param propertyName
+	 *            The property to check
+	 * @return {@code true} if the conditions on the property can be applied as key
+	 *         condition of a query
+	 */
+	protected boolean hasKeyCondition(String propertyName) {
+		if (hasEqualCondition(propertyName)) {
+			return true;
+		}
+		List<Condition> conditions = propertyConditions.get(propertyName);
+		if (conditions == null || conditions.size() != 1) {
+			return false;
+		}
+		return COMPARISON_OPERATORS_PERMITTED_FOR_QUERY
+				.contains(ComparisonOperator.fromValue(conditions.get(0).getComparisonOperator()));
+	}
+
+	public DynamoDBQueryCriteria<T, ID> withIndexSelectionStrategy(
+			@Nullable IndexSelectionStrategy indexSelectionStrategy) {
+		this.indexSelectionStrategy = indexSelectionStrategy != null ? indexSelectionStrategy : DECLARATION_ORDER;
+		return this;
+	}
+
 	protected boolean isHashKeyProperty(String propertyName) {
 		return hashKeyPropertyName.equals(propertyName);
 	}
@@ -375,6 +570,10 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 	public DynamoDBQueryCriteria<T, ID> withHashKeyEquals(Object value) {
 		Assert.notNull(value, "Creating conditions on null hash keys not supported: please specify a value for '"
 				+ getHashKeyPropertyName() + "'");
+		if (keysIn != null) {
+			throw new UnsupportedOperationException(
+					"Equals and In conditions on '" + getHashKeyPropertyName() + "' can't be combined");
+		}
 
 		hashKeyAttributeValue = getPropertyAttributeValue(getHashKeyPropertyName(), value);
 		hashKeyPropertyValue = value;
@@ -413,11 +612,98 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 
 	@Override
 	public DynamoDBQueryCriteria<T, ID> withPropertyIn(String propertyName, Iterable<?> value, Class<?> propertyType) {
+		if (isHashKeyProperty(propertyName) && keysIn == null && !isHashKeySpecified()) {
+			Assert.notNull(value,
+					"Creating conditions on null property values not supported: please specify a value for '"
+							+ propertyName + "'");
+			List<KeyPair> keys = new ArrayList<>();
+			for (Object hashKey : value) {
+				Assert.notNull(hashKey,
+						"Creating conditions on null hash keys not supported: please specify a value for '"
+								+ propertyName + "'");
+				keys.add(new KeyPair().withHashKey(hashKey));
+			}
+			return withKeysIn(keys);
+		}
 
 		Condition condition = createCollectionCondition(propertyName, ComparisonOperator.IN, value, propertyType);
 		return withCondition(propertyName, condition);
 	}
 
+	protected DynamoDBQueryCriteria<T, ID> withKeysIn(List<KeyPair> keys) {
+		// Each key is loaded or queried on its own
+		Map<List<Object>, KeyPair> distinctKeys = new LinkedHashMap<>();
+		for (KeyPair key : keys) {
+			distinctKeys.putIfAbsent(Arrays.asList(key.getHashKey(), key.getRangeKey()), key);
+		}
+		keysIn = new ArrayList<>(distinctKeys.values());
+		return this;
+	}
+
+	/**
+	 * @return {@code true} if there is an {@code In} condition on the keys which
+	 *         is not bound to a single key at the moment
+	 */
+	protected boolean isKeysInSpecified() {
+		return keysIn != null && !isHashKeySpecified();
+	}
+
+	/**
+	 * Binds this criteria to a single key of the {@code In} condition on the
+	 * keys - it then behaves like having equals conditions on the key
+	 * attributes.
+	 */
+	protected void withKey(KeyPair key) {
+		hashKeyAttributeValue = getPropertyAttributeValue(getHashKeyPropertyName(), key.getHashKey());
+		hashKeyPropertyValue = key.getHashKey();
+	}
+
+	/**
+	 * Reverts {@link #withKey(KeyPair)}.
+	 */
+	protected void withoutKey(KeyPair key) {
+		hashKeyAttributeValue = null;
+		hashKeyPropertyValue = null;
+	}
+
+	/**
+	 * @return The key of the entity this criteria is bound to
+	 */
+	protected KeyPair getKeyPair() {
+		return new KeyPair().withHashKey(getHashKeyPropertyValue());
+	}
+
+	/**
+	 * @return The equals conditions on the key attributes of the given key
+	 */
+	protected Map<String, Condition> getKeyConditions(KeyPair key) {
+		Object hashKeyAttributeValue = getPropertyAttributeValue(getHashKeyPropertyName(), key.getHashKey());
+		Map<String, Condition> keyConditions = new LinkedHashMap<>();
+		keyConditions.put(getHashKeyAttributeName(), createSingleValueCondition(getHashKeyPropertyName(),
+				ComparisonOperator.EQ, hashKeyAttributeValue, hashKeyAttributeValue.getClass(), true));
+		return keyConditions;
+	}
+
+	private <R> List<R> forEachKey(Supplier<R> operation) {
+		List<R> results = new ArrayList<>(keysIn.size());
+		for (KeyPair key : keysIn) {
+			withKey(key);
+			try {
+				results.add(operation.get());
+			} finally {
+				withoutKey(key);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * @return The primary key of an entity to detect duplicates
+	 */
+	protected Function<T, ?> getKeyFunction() {
+		return tableModel != null ? entity -> tableModel.convertKey(entity) : entityInformation::getId;
+	}
+
 	@Override
 	public DynamoDBQueryCriteria<T, ID> withSingleValueCriteria(String propertyName,
 			ComparisonOperator comparisonOperator, Object value, Class<?> propertyType) {
@@ -430,9 +716,85 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		}
 	}
 
+	/**
+	 * Provides access to the {@link DynamoDBQueryPlan} of this criteria. The plan
+	 * is taken from the query plan cache if one was provided via
+	 * {@link #withQueryPlanCache(Map, int)} and only created if no plan for the
+	 * shape of this criteria is known yet.
+	 *
+	 * Must only be called after all conditions have been added.
+	 *
+	 * @return The plan for this criteria
+	 */
+	protected DynamoDBQueryPlan getQueryPlan() {
+		if (queryPlan == null) {
+			if (isKeysInSpecified()) {
+				// Every key is served on its own - thus plan as if there was an equals condition
+				queryPlan = keysIn.isEmpty()
+						? new DynamoDBQueryPlan(null, true, false, false)
+						: forKey(keysIn.get(0), this::lookupQueryPlan);
+			} else {
+				queryPlan = lookupQueryPlan();
+			}
+		}
+		return queryPlan;
+	}
+
+	private DynamoDBQueryPlan forKey(KeyPair key, Supplier<DynamoDBQueryPlan> planner) {
+		withKey(key);
+		try {
+			return planner.get();
+		} finally {
+			withoutKey(key);
+		}
+	}
+
+	private DynamoDBQueryPlan lookupQueryPlan() {
+		if (queryPlanCache != null) {
+			return queryPlanCache.computeIfAbsent(partIndex * 4 + getQueryPlanVariant(), key -> createQueryPlan());
+		} else {
+			return createQueryPlan();
+		}
+	}
+
+	protected DynamoDBQueryPlan createQueryPlan() {
+		return new DynamoDBQueryPlan(getGlobalSecondaryIndexName(), isApplicableForLoad(), isApplicableForQuery(),
+				isApplicableForGlobalSecondaryIndex(), getLocalSecondaryIndexName());
+	}
+
+	/**
+	 * The properties constrained by which operators and the attributes to read
+	 * are fixed by the part of the repository method the criteria is created for.
+	 * Only the key parameters might differ between invocations - e.g. a composite
+	 * id without range key.
+	 *
+	 * @return The variant of the shape of this criteria within its part
+	 */
+	protected int getQueryPlanVariant() {
+		return isHashKeySpecified() ? 1 : 0;
+	}
+
+	/**
+	 * @param queryPlanCache
+	 *            Cache of the {@link DynamoDBQueryPlan}s of a repository method -
+	 *            {@code null} to plan every query from scratch
+	 * @param partIndex
+	 *            Identifies the part of the repository method this criteria is
+	 *            created for - e.g. the disjunct of an {@code Or} query
+	 * @return this criteria
+	 */
+	public DynamoDBQueryCriteria<T, ID> withQueryPlanCache(@Nullable Map<Integer, DynamoDBQueryPlan> queryPlanCache,
+			int partIndex) {
+		this.queryPlanCache = queryPlanCache;
+		this.partIndex = partIndex;
+		return this;
+	}
+
 	@Override
 	public Query<T> buildQuery(DynamoDBOperations dynamoDBOperations) {
-		if (isApplicableForLoad()) {
+		if (isKeysInSpecified()) {
+			return buildKeysInQuery(dynamoDBOperations);
+		} else if (getQueryPlan().isApplicableForLoad()) {
 			return buildSingleEntityLoadQuery(dynamoDBOperations);
 		} else {
 			return buildFinderQuery(dynamoDBOperations);
@@ -441,13 +803,55 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 
 	@Override
 	public Query<Long> buildCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery) {
-		if (isApplicableForLoad()) {
+		if (isKeysInSpecified()) {
+			return buildKeysInCountQuery(dynamoDBOperations, pageQuery);
+		} else if (getQueryPlan().isApplicableForLoad()) {
 			return buildSingleEntityCountQuery(dynamoDBOperations);
 		} else {
 			return buildFinderCountQuery(dynamoDBOperations, pageQuery);
 		}
 	}
 
+	/**
+	 * Loads all keys of the {@code In} condition via {@code BatchGetItem} if they
+	 * identify single entities - or executes one query per key otherwise. Only if
+	 * a single key would already require a scan, one scan filtering by all keys
+	 * is used.
+	 */
+	protected Query<T> buildKeysInQuery(DynamoDBOperations dynamoDBOperations) {
+		if (getQueryPlan().isApplicableForLoad()) {
+			// The merged results of several keys have no common order
+			ensureNoSortForKeysIn();
+			return new MultipleEntityBatchLoadQuery<>(dynamoDBOperations, clazz, forEachKey(this::getKeyPair),
+					limit.orElse(null));
+		} else if (getQueryPlan().isApplicableForQuery()) {
+			ensureNoSortForKeysIn();
+			return new MultipleEntityUnionQuery<>(dynamoDBOperations, clazz,
+					forEachKey(() -> buildFinderQuery(dynamoDBOperations)), getKeyFunction(), limit.orElse(null));
+		} else {
+			return buildFinderQuery(dynamoDBOperations);
+		}
+	}
+
+	protected Query<Long> buildKeysInCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery) {
+		if (getQueryPlan().isApplicableForLoad()) {
+			return new UnionCountQuery<>(
+					new MultipleEntityBatchLoadQuery<>(dynamoDBOperations, clazz, forEachKey(this::getKeyPair), null));
+		} else if (getQueryPlan().isApplicableForQuery()) {
+			// Different keys never match the same entity
+			return new SumCountQuery(dynamoDBOperations,
+					forEachKey(() -> buildFinderCountQuery(dynamoDBOperations, pageQuery)));
+		} else {
+			return buildFinderCountQuery(dynamoDBOperations, pageQuery);
+		}
+	}
+
+	private void ensureNoSortForKeysIn() {
+		if (keysIn.size() > 1) {
+			ensureNoSort(sort);
+		}
+	}
+
 	protected abstract Query<T> buildSingleEntityLoadQuery(DynamoDBOperations dynamoDBOperations);
 
 	protected abstract Query<Long> buildSingleEntityCountQuery(DynamoDBOperations dynamoDBOperations);
@@ -695,4 +1099,121 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		this.projection = projection;
 		return this;
 	}
+
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withProjectedAttributes(List<String> attributeNames) {
+		this.projectedAttributeNames = attributeNames;
+		return this;
+	}
+
+	/**
+	 * Renders the conditions of the query and reads only the projected
+	 * attributes.
+	 */
+	protected void applyConditionsAndProjectedAttributes(DynamoDBQueryExpression<T> queryExpression,
+			Map<String, Condition> keyConditions) {
+		DynamoDBExpressionBuilder expressionBuilder = new DynamoDBExpressionBuilder();
+		queryExpression.setKeyConditionExpression(expressionBuilder.and(keyConditions));
+		queryExpression.setExpressionAttributeNames(expressionBuilder.getExpressionAttributeNames());
+		queryExpression.setExpressionAttributeValues(expressionBuilder.getExpressionAttributeValues());
+
+		if (!projection.isPresent() && !projectedAttributeNames.isEmpty()) {
+			Map<String, String> attributeNames = copyOf(queryExpression.getExpressionAttributeNames());
+			queryExpression.setProjectionExpression(toProjectionExpression(attributeNames));
+			queryExpression.setExpressionAttributeNames(attributeNames);
+			queryExpression.setSelect(Select.SPECIFIC_ATTRIBUTES);
+		}
+	}
+
+	/**
+	 * @return All conditions of this criteria by attribute name - including the
+	 *         ones on the table keys
+	 */
+	protected abstract MultiValueMap<String, Condition> getFilterConditions();
+
+	/**
+	 * @return The conjunction of all conditions of this criteria or {@code null}
+	 *         if there are none
+	 */
+	@Nullable
+	protected String renderFilterConditions(DynamoDBExpressionBuilder expressionBuilder) {
+		List<String> filterExpressions = new ArrayList<>();
+		if (isKeysInSpecified()) {
+			filterExpressions.add(renderKeysIn(expressionBuilder));
+		}
+		for (Entry<String, List<Condition>> conditionEntry : getFilterConditions().entrySet()) {
+			String attributeName = expressionBuilder.name(conditionEntry.getKey());
+			for (Condition condition : conditionEntry.getValue()) {
+				filterExpressions.add(expressionBuilder.condition(attributeName, condition));
+			}
+		}
+		return expressionBuilder.and(filterExpressions);
+	}
+
+	/**
+	 * A composite key can't be expressed by a single {@code IN} - thus each key
+	 * is rendered as conjunction of its attributes.
+	 */
+	private String renderKeysIn(DynamoDBExpressionBuilder expressionBuilder) {
+		List<String> keyExpressions = new ArrayList<>(keysIn.size());
+		for (KeyPair key : keysIn) {
+			String keyExpression = expressionBuilder.and(getKeyConditions(key));
+			keyExpressions.add(key.getRangeKey() != null ? "(" + keyExpression + ")" : keyExpression);
+		}
+		return expressionBuilder.or(keyExpressions);
+	}
+
+	/**
+	 * @return The attributes identifying an entity
+	 */
+	protected List<String> getKeyAttributeNames() {
+		return Collections.singletonList(getHashKeyAttributeName());
+	}
+
+	/**
+	 * Renders the conditions of the scan and reads only the projected
+	 * attributes.
+	 */
+	protected void applyConditionsAndProjectedAttributes(DynamoDBScanExpression scanExpression) {
+		DynamoDBExpressionBuilder expressionBuilder = new DynamoDBExpressionBuilder();
+		applyConditionsAndProjectedAttributes(scanExpression, expressionBuilder,
+				renderFilterConditions(expressionBuilder));
+	}
+
+	protected void applyConditionsAndProjectedAttributes(DynamoDBScanExpression scanExpression,
+			DynamoDBExpressionBuilder expressionBuilder, @Nullable String filterExpression) {
+		scanExpression.setFilterExpression(filterExpression);
+		scanExpression.setExpressionAttributeNames(expressionBuilder.getExpressionAttributeNames());
+		scanExpression.setExpressionAttributeValues(expressionBuilder.getExpressionAttributeValues());
+
+		if (!projection.isPresent() && !projectedAttributeNames.isEmpty()) {
+			Map<String, String> attributeNames = copyOf(scanExpression.getExpressionAttributeNames());
+			scanExpression.setProjectionExpression(toProjectionExpression(attributeNames));
+			scanExpression.setExpressionAttributeNames(attributeNames);
+			scanExpression.setSelect(Select.SPECIFIC_ATTRIBUTES);
+		}
+	}
+
+	private static Map<String, String> copyOf(@Nullable Map<String, String> attributeNames) {
+		return attributeNames == null ? new HashMap<>() : new HashMap<>(attributeNames);
+	}
+
+	/**
+	 * Placeholders are used as the attribute names might be reserved words.
+	 */
+	private String toProjectionExpression(Map<String, String> attributeNames) {
+		List<String> placeholders = new ArrayList<>(projectedAttributeNames.size());
+		for (String attributeName : projectedAttributeNames) {
+			String placeholder = "#p" + placeholders.size();
+			attributeNames.put(placeholder, attributeName);
+			placeholders.add(placeholder);
+		}
+		return String.join(", ", placeholders);
+	}
+
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withLimit(Optional<Integer> limit) {
+		this.limit = limit;
+		return this;
+	}
 }
@@ -0,0 +1,68 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Picks the index which is expected to read the fewest items and capacity:
+ * <ol>
+ * <li>An index which doesn't project all required attributes costs an
+ * additional fetch per item ({@code ALL_ATTRIBUTES} on a local secondary index)
+ * or doesn't return them at all (global secondary index) - thus covering
+ * indexes are preferred over ones of unknown projection over uncovering
+ * ones</li>
+ * <li>An equality condition on the index hash key restricts the query to a
+ * single partition</li>
+ * <li>A condition on the index range key is applied as key condition instead
+ * of a filter - only the matching items are read</li>
+ * <li>Indexes whose conditions match exactly, then ones with a higher
+ * {@link IndexCandidate#getHashKeyCardinality() hash key cardinality} - thus
+ * smaller partitions - are preferred</li>
+ * </ol>
+ * Candidates which score equally are picked in the order of the
+ * {@link DeclarationOrderIndexSelectionStrategy}. Projections and
+ * cardinalities are declared via
+ * {@link org.socialsignin.spring.data.dynamodb.repository.DynamoDBIndexStatistics}.
+ */
+public class CostBasedIndexSelectionStrategy implements IndexSelectionStrategy {
+
+	private static final Comparator<IndexCandidate> BY_COST = Comparator
+			.comparingInt(CostBasedIndexSelectionStrategy::score)
+			.thenComparingLong(candidate -> candidate.getHashKeyCardinality().orElse(0L)).reversed();
+
+	@Override
+	public IndexCandidate select(List<IndexCandidate> candidates) {
+		// Stream.min keeps the first of equal elements
+		return candidates.stream().min(BY_COST).get();
+	}
+
+	static int score(IndexCandidate candidate) {
+		int score = candidate.isProjectionCovering().map(covering -> covering ? 8 : -8).orElse(0);
+		if (candidate.isHashKeyEquality()) {
+			score += 4;
+		}
+		if (candidate.isRangeKeyConditionUsable()) {
+			score += 2;
+		}
+		if (candidate.isExactMatch()) {
+			score += 1;
+		}
+		return score;
+	}
+
+}
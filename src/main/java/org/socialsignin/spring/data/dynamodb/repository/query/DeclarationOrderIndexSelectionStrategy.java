@@ -0,0 +1,32 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import java.util.List;
+
+/**
+ * Picks the index whose attributes match the conditions exactly - or the first
+ * declared one which contains all of them. This is the default
+ * {@link IndexSelectionStrategy}.
+ */
+public class DeclarationOrderIndexSelectionStrategy implements IndexSelectionStrategy {
+
+	@Override
+	public IndexCandidate select(List<IndexCandidate> candidates) {
+		return candidates.get(0);
+	}
+
+}
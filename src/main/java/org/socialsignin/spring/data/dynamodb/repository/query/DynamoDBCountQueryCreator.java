@@ -24,6 +24,7 @@ import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.lang.Nullable;
 
+import java.util.Map;
 import java.util.Optional;
 
 public class DynamoDBCountQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T, ID, Long> {
@@ -43,6 +44,21 @@ public class DynamoDBCountQueryCreator<T, ID> extends AbstractDynamoDBQueryCreat
 
 	}
 
+	public DynamoDBCountQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+			DynamoDBEntityInformation<T, ID> entityMetadata, DynamoDBOperations dynamoDBOperations, boolean pageQuery,
+			@Nullable Map<Integer, DynamoDBQueryPlan> queryPlans) {
+		this(tree, parameterAccessor, entityMetadata, dynamoDBOperations, pageQuery, queryPlans, null);
+	}
+
+	public DynamoDBCountQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+			DynamoDBEntityInformation<T, ID> entityMetadata, DynamoDBOperations dynamoDBOperations, boolean pageQuery,
+			@Nullable Map<Integer, DynamoDBQueryPlan> queryPlans,
+			@Nullable IndexSelectionStrategy indexSelectionStrategy) {
+		super(tree, parameterAccessor, entityMetadata, Optional.empty(), dynamoDBOperations, queryPlans,
+				indexSelectionStrategy);
+		this.pageQuery = pageQuery;
+	}
+
 	@Override
 	protected Query<Long> complete(@Nullable DynamoDBQueryCriteria<T, ID> criteria, Sort sort) {
 		if (criteria == null) {
@@ -18,6 +18,7 @@ package org.socialsignin.spring.data.dynamodb.repository.query;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
 import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
 import com.amazonaws.services.dynamodbv2.model.Condition;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
@@ -34,11 +35,13 @@ import org.socialsignin.spring.data.dynamodb.query.ScanExpressionCountQuery;
 import org.socialsignin.spring.data.dynamodb.query.SingleEntityLoadByHashAndRangeKeyQuery;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBIdIsHashAndRangeKeyEntityInformation;
 import org.springframework.util.Assert;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -144,20 +147,20 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 
 	public DynamoDBQueryExpression<T> buildQueryExpression() {
 		DynamoDBQueryExpression<T> queryExpression = new DynamoDBQueryExpression<T>();
+		Map<String, Condition> keyConditions = new LinkedHashMap<>();
 		if (isHashKeySpecified()) {
-			T hashKeyPrototype = entityInformation.getHashKeyPropotypeEntityForHashKey(getHashKeyPropertyValue());
-			queryExpression.withHashKeyValues(hashKeyPrototype);
-			queryExpression.withRangeKeyConditions(new HashMap<String, Condition>());
+			keyConditions.put(getHashKeyAttributeName(), createSingleValueCondition(getHashKeyPropertyName(),
+					ComparisonOperator.EQ, getHashKeyAttributeValue(), getHashKeyAttributeValue().getClass(), true));
 		}
 
-		if (isRangeKeySpecified() && !isApplicableForGlobalSecondaryIndex()) {
+		if (isRangeKeySpecified() && !getQueryPlan().isApplicableForGlobalSecondaryIndex()) {
 			Condition rangeKeyCondition = createSingleValueCondition(getRangeKeyPropertyName(), ComparisonOperator.EQ,
 					getRangeKeyAttributeValue(), getRangeKeyAttributeValue().getClass(), true);
-			queryExpression.withRangeKeyCondition(getRangeKeyAttributeName(), rangeKeyCondition);
+			keyConditions.put(getRangeKeyAttributeName(), rangeKeyCondition);
 			applySortIfSpecified(queryExpression, Arrays.asList(new String[]{getRangeKeyPropertyName()}));
 
 		} else if (isOnlyASingleAttributeConditionAndItIsOnEitherRangeOrIndexRangeKey()
-				|| (isApplicableForGlobalSecondaryIndex())) {
+				|| (getQueryPlan().isApplicableForGlobalSecondaryIndex())) {
 
 			Entry<String, List<Condition>> singlePropertyConditions = propertyConditions.entrySet().iterator().next();
 
@@ -174,13 +177,16 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 
 			for (Entry<String, List<Condition>> singleAttributeConditions : attributeConditions.entrySet()) {
 				for (Condition condition : singleAttributeConditions.getValue()) {
-					queryExpression.withRangeKeyCondition(singleAttributeConditions.getKey(), condition);
+					keyConditions.put(singleAttributeConditions.getKey(), condition);
 				}
 			}
 
 			applySortIfSpecified(queryExpression, allowedSortProperties);
-			if (getGlobalSecondaryIndexName() != null) {
-				queryExpression.setIndexName(getGlobalSecondaryIndexName());
+			if (getQueryPlan().getGlobalSecondaryIndexName() != null) {
+				queryExpression.setIndexName(getQueryPlan().getGlobalSecondaryIndexName());
+			} else if (getQueryPlan().getLocalSecondaryIndexName() != null) {
+				// The mapper doesn't infer the index from a key condition expression
+				queryExpression.setIndexName(getQueryPlan().getLocalSecondaryIndexName());
 			}
 		} else {
 			applySortIfSpecified(queryExpression, Arrays.asList(new String[]{getRangeKeyPropertyName()}));
@@ -190,14 +196,15 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 			queryExpression.setSelect(Select.SPECIFIC_ATTRIBUTES);
 			queryExpression.setProjectionExpression(projection.get());
 		}
+		applyConditionsAndProjectedAttributes(queryExpression, keyConditions);
 
 		return queryExpression;
 	}
 
 	protected List<Condition> getRangeKeyConditions() {
 		List<Condition> rangeKeyConditions = null;
-		if (isApplicableForGlobalSecondaryIndex() && entityInformation.getGlobalSecondaryIndexNamesByPropertyName()
-				.keySet().contains(getRangeKeyPropertyName())) {
+		if (getQueryPlan().isApplicableForGlobalSecondaryIndex() && entityInformation
+				.getGlobalSecondaryIndexNamesByPropertyName().keySet().contains(getRangeKeyPropertyName())) {
 			rangeKeyConditions = getRangeKeyAttributeValue() == null
 					? null
 					: Arrays.asList(createSingleValueCondition(getRangeKeyPropertyName(), ComparisonOperator.EQ,
@@ -208,31 +215,36 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 	}
 
 	protected Query<T> buildFinderQuery(DynamoDBOperations dynamoDBOperations) {
-		if (isApplicableForQuery()) {
-			if (isApplicableForGlobalSecondaryIndex()) {
+		if (getQueryPlan().isApplicableForQuery()) {
+			if (getQueryPlan().isApplicableForGlobalSecondaryIndex()) {
 				String tableName = dynamoDBOperations.getOverriddenTableName(clazz,
 						entityInformation.getDynamoDBTableName());
-				QueryRequest queryRequest = buildQueryRequest(tableName, getGlobalSecondaryIndexName(),
+				QueryRequest queryRequest = buildQueryRequest(tableName, getQueryPlan().getGlobalSecondaryIndexName(),
 						getHashKeyAttributeName(), getRangeKeyAttributeName(), this.getRangeKeyPropertyName(),
 						getHashKeyConditions(), getRangeKeyConditions());
+				getRequestLimit(queryRequest.getFilterExpression()).ifPresent(queryRequest::setLimit);
 				return new MultipleEntityQueryRequestQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
-						queryRequest);
+						queryRequest, limit.orElse(null));
 			} else {
 				DynamoDBQueryExpression<T> queryExpression = buildQueryExpression();
+				getRequestLimit(queryExpression.getFilterExpression()).ifPresent(queryExpression::setLimit);
 				return new MultipleEntityQueryExpressionQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
-						queryExpression);
+						queryExpression, limit.orElse(null));
 			}
 		} else {
-			return new MultipleEntityScanExpressionQuery<>(dynamoDBOperations, clazz, buildScanExpression());
+			DynamoDBScanExpression scanExpression = buildScanExpression();
+			getRequestLimit(scanExpression.getFilterExpression()).ifPresent(scanExpression::setLimit);
+			return new MultipleEntityScanExpressionQuery<>(dynamoDBOperations, clazz, scanExpression,
+					limit.orElse(null));
 		}
 	}
 
 	protected Query<Long> buildFinderCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery) {
-		if (isApplicableForQuery()) {
-			if (isApplicableForGlobalSecondaryIndex()) {
+		if (getQueryPlan().isApplicableForQuery()) {
+			if (getQueryPlan().isApplicableForGlobalSecondaryIndex()) {
 				String tableName = dynamoDBOperations.getOverriddenTableName(clazz,
 						entityInformation.getDynamoDBTableName());
-				QueryRequest queryRequest = buildQueryRequest(tableName, getGlobalSecondaryIndexName(),
+				QueryRequest queryRequest = buildQueryRequest(tableName, getQueryPlan().getGlobalSecondaryIndexName(),
 						getHashKeyAttributeName(), getRangeKeyAttributeName(), this.getRangeKeyPropertyName(),
 						getHashKeyConditions(), getRangeKeyConditions());
 				return new QueryRequestCountQuery(dynamoDBOperations, queryRequest);
@@ -308,6 +320,33 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 
 	}
 
+	@Override
+	protected List<IndexCandidate> getIndexCandidates() {
+		List<IndexCandidate> candidates = super.getIndexCandidates();
+		// A hash key equals and a single condition on a local secondary index range
+		// key are served by the local secondary index
+		if (isHashKeySpecified() && isOnlyASingleAttributeConditionAndItIsOnEitherRangeOrIndexRangeKey()
+				&& comparisonOperatorsPermittedForQuery()) {
+			String propertyName = propertyConditions.keySet().iterator().next();
+			String[] localSecondaryIndexNames = entityInformation.getLocalSecondaryIndexNamesByPropertyName()
+					.get(propertyName);
+			if (localSecondaryIndexNames != null) {
+				List<String> indexAttributeNames = Arrays.asList(getHashKeyAttributeName(),
+						getAttributeName(propertyName));
+				for (String indexName : localSecondaryIndexNames) {
+					candidates.add(createIndexCandidate(indexName, true, true, true, true, indexAttributeNames));
+				}
+			}
+		}
+		return candidates;
+	}
+
+	@Override
+	protected boolean hasEqualCondition(String propertyName) {
+		return super.hasEqualCondition(propertyName) || (isRangeKeyProperty(propertyName) && isRangeKeySpecified());
+	}
+
+	@Override
 	protected String getGlobalSecondaryIndexName() {
 		// Get the target global secondary index name using the property
 		// conditions
@@ -330,6 +369,12 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 		return globalSecondaryIndexName;
 	}
 
+	@Override
+	protected int getQueryPlanVariant() {
+		return super.getQueryPlanVariant() | (isRangeKeySpecified() ? 2 : 0);
+	}
+
+	@Override
 	public boolean isApplicableForQuery() {
 
 		return isOnlyHashKeySpecified()
@@ -344,27 +389,39 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 		ensureNoSort(sort);
 
 		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+		applyConditionsAndProjectedAttributes(scanExpression);
+		return scanExpression;
+	}
+
+	@Override
+	protected MultiValueMap<String, Condition> getFilterConditions() {
+		MultiValueMap<String, Condition> filterConditions = new LinkedMultiValueMap<>();
 		if (isHashKeySpecified()) {
-			scanExpression.addFilterCondition(getHashKeyAttributeName(),
+			filterConditions.add(getHashKeyAttributeName(),
 					createSingleValueCondition(getHashKeyPropertyName(), ComparisonOperator.EQ,
 							getHashKeyAttributeValue(), getHashKeyAttributeValue().getClass(), true));
 		}
 		if (isRangeKeySpecified()) {
-			scanExpression.addFilterCondition(getRangeKeyAttributeName(),
+			filterConditions.add(getRangeKeyAttributeName(),
 					createSingleValueCondition(getRangeKeyPropertyName(), ComparisonOperator.EQ,
 							getRangeKeyAttributeValue(), getRangeKeyAttributeValue().getClass(), true));
 		}
-		for (Map.Entry<String, List<Condition>> conditionEntry : attributeConditions.entrySet()) {
-			for (Condition condition : conditionEntry.getValue()) {
-				scanExpression.addFilterCondition(conditionEntry.getKey(), condition);
-			}
-		}
-		return scanExpression;
+		filterConditions.addAll(attributeConditions);
+		return filterConditions;
+	}
+
+	@Override
+	protected List<String> getKeyAttributeNames() {
+		return Arrays.asList(getHashKeyAttributeName(), getRangeKeyAttributeName());
 	}
 
 	public DynamoDBQueryCriteria<T, ID> withRangeKeyEquals(Object value) {
 		Assert.notNull(value, "Creating conditions on null range keys not supported: please specify a value for '"
 				+ getRangeKeyPropertyName() + "'");
+		if (keysIn != null && keysIn.stream().anyMatch(key -> key.getRangeKey() != null)) {
+			throw new UnsupportedOperationException(
+					"Equals and In conditions on '" + getRangeKeyPropertyName() + "' can't be combined");
+		}
 
 		rangeKeyAttributeValue = getPropertyAttributeValue(getRangeKeyPropertyName(), value);
 		rangeKeyPropertyValue = value;
@@ -399,6 +456,64 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withPropertyIn(String propertyName, Iterable<?> value, Class<?> propertyType) {
+		if (entityInformation.isCompositeHashAndRangeKeyProperty(propertyName) && keysIn == null
+				&& !isHashKeySpecified() && !isRangeKeySpecified()) {
+			Assert.notNull(value,
+					"Creating conditions on null property values not supported: please specify a value for '"
+							+ propertyName + "'");
+			List<KeyPair> keys = new ArrayList<>();
+			for (Object id : value) {
+				Assert.notNull(id, "Creating conditions on null composite id properties not supported: "
+						+ "please specify a value for '" + propertyName + "'");
+				Object hashKey = entityInformation.getHashKey((ID) id);
+				Object rangeKey = entityInformation.getRangeKey((ID) id);
+				Assert.isTrue(hashKey != null && rangeKey != null,
+						"In conditions on composite id properties require both hash and range key: '" + propertyName
+								+ "'");
+				keys.add(new KeyPair().withHashKey(hashKey).withRangeKey(rangeKey));
+			}
+			return withKeysIn(keys);
+		}
+		return super.withPropertyIn(propertyName, value, propertyType);
+	}
+
+	@Override
+	protected void withKey(KeyPair key) {
+		super.withKey(key);
+		if (key.getRangeKey() != null) {
+			rangeKeyAttributeValue = getPropertyAttributeValue(getRangeKeyPropertyName(), key.getRangeKey());
+			rangeKeyPropertyValue = key.getRangeKey();
+		}
+	}
+
+	@Override
+	protected void withoutKey(KeyPair key) {
+		super.withoutKey(key);
+		if (key.getRangeKey() != null) {
+			rangeKeyAttributeValue = null;
+			rangeKeyPropertyValue = null;
+		}
+	}
+
+	@Override
+	protected KeyPair getKeyPair() {
+		return super.getKeyPair().withRangeKey(getRangeKeyPropertyValue());
+	}
+
+	@Override
+	protected Map<String, Condition> getKeyConditions(KeyPair key) {
+		Map<String, Condition> keyConditions = super.getKeyConditions(key);
+		if (key.getRangeKey() != null) {
+			Object rangeKeyAttributeValue = getPropertyAttributeValue(getRangeKeyPropertyName(), key.getRangeKey());
+			keyConditions.put(getRangeKeyAttributeName(), createSingleValueCondition(getRangeKeyPropertyName(),
+					ComparisonOperator.EQ, rangeKeyAttributeValue, rangeKeyAttributeValue.getClass(), true));
+		}
+		return keyConditions;
+	}
+
 	@Override
 	protected boolean isOnlyHashKeySpecified() {
 		return isHashKeySpecified() && attributeConditions.size() == 0 && !isRangeKeySpecified();
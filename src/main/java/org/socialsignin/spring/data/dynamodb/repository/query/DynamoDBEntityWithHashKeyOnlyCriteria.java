@@ -30,9 +30,10 @@ import org.socialsignin.spring.data.dynamodb.query.QueryRequestCountQuery;
 import org.socialsignin.spring.data.dynamodb.query.ScanExpressionCountQuery;
 import org.socialsignin.spring.data.dynamodb.query.SingleEntityLoadByHashKeyQuery;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * @author Michael Lavelle
@@ -57,26 +58,32 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 	}
 
 	protected Query<T> buildFinderQuery(DynamoDBOperations dynamoDBOperations) {
-		if (isApplicableForGlobalSecondaryIndex()) {
+		if (getQueryPlan().isApplicableForGlobalSecondaryIndex()) {
 
 			List<Condition> hashKeyConditions = getHashKeyConditions();
 			QueryRequest queryRequest = buildQueryRequest(
 					dynamoDBOperations.getOverriddenTableName(clazz, entityInformation.getDynamoDBTableName()),
-					getGlobalSecondaryIndexName(), getHashKeyAttributeName(), null, null, hashKeyConditions, null);
+					getQueryPlan().getGlobalSecondaryIndexName(), getHashKeyAttributeName(), null, null, hashKeyConditions,
+					null);
+			getRequestLimit(queryRequest.getFilterExpression()).ifPresent(queryRequest::setLimit);
 			return new MultipleEntityQueryRequestQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
-					queryRequest);
+					queryRequest, limit.orElse(null));
 		} else {
-			return new MultipleEntityScanExpressionQuery<>(dynamoDBOperations, clazz, buildScanExpression());
+			DynamoDBScanExpression scanExpression = buildScanExpression();
+			getRequestLimit(scanExpression.getFilterExpression()).ifPresent(scanExpression::setLimit);
+			return new MultipleEntityScanExpressionQuery<>(dynamoDBOperations, clazz, scanExpression,
+					limit.orElse(null));
 		}
 	}
 
 	protected Query<Long> buildFinderCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery) {
-		if (isApplicableForGlobalSecondaryIndex()) {
+		if (getQueryPlan().isApplicableForGlobalSecondaryIndex()) {
 
 			List<Condition> hashKeyConditions = getHashKeyConditions();
 			QueryRequest queryRequest = buildQueryRequest(
 					dynamoDBOperations.getOverriddenTableName(clazz, entityInformation.getDynamoDBTableName()),
-					getGlobalSecondaryIndexName(), getHashKeyAttributeName(), null, null, hashKeyConditions, null);
+					getQueryPlan().getGlobalSecondaryIndexName(), getHashKeyAttributeName(), null, null, hashKeyConditions,
+					null);
 			queryRequest.setSelect(Select.COUNT);
 			return new QueryRequestCountQuery(dynamoDBOperations, queryRequest);
 
@@ -95,30 +102,37 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 		return isOnlyHashKeySpecified();
 	}
 
+	@Override
+	public boolean isApplicableForQuery() {
+		return isApplicableForGlobalSecondaryIndex();
+	}
+
 	public DynamoDBScanExpression buildScanExpression() {
 
 		ensureNoSort(sort);
 
 		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
-		if (isHashKeySpecified()) {
-			scanExpression.addFilterCondition(getHashKeyAttributeName(),
-					createSingleValueCondition(getHashKeyPropertyName(), ComparisonOperator.EQ,
-							getHashKeyAttributeValue(), getHashKeyAttributeValue().getClass(), true));
-		}
-
-		for (Map.Entry<String, List<Condition>> conditionEntry : attributeConditions.entrySet()) {
-			for (Condition condition : conditionEntry.getValue()) {
-				scanExpression.addFilterCondition(conditionEntry.getKey(), condition);
-			}
-		}
 
 		if (projection.isPresent()) {
 			scanExpression.setSelect(Select.SPECIFIC_ATTRIBUTES);
 			scanExpression.setProjectionExpression(projection.get());
 		}
+		applyConditionsAndProjectedAttributes(scanExpression);
 		return scanExpression;
 	}
 
+	@Override
+	protected MultiValueMap<String, Condition> getFilterConditions() {
+		MultiValueMap<String, Condition> filterConditions = new LinkedMultiValueMap<>();
+		if (isHashKeySpecified()) {
+			filterConditions.add(getHashKeyAttributeName(),
+					createSingleValueCondition(getHashKeyPropertyName(), ComparisonOperator.EQ,
+							getHashKeyAttributeValue(), getHashKeyAttributeValue().getClass(), true));
+		}
+		filterConditions.addAll(attributeConditions);
+		return filterConditions;
+	}
+
 	@Override
 	public DynamoDBQueryCriteria<T, ID> withPropertyEquals(String propertyName, Object value, Class<?> propertyType) {
 		if (isHashKeyProperty(propertyName)) {
@@ -0,0 +1,176 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
+import com.amazonaws.services.dynamodbv2.model.Condition;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+/**
+ * Renders {@link Condition}s as {@code KeyConditionExpression} or
+ * {@code FilterExpression} and collects the
+ * {@code ExpressionAttributeNames} and {@code ExpressionAttributeValues} the
+ * rendered expressions refer to.
+ *
+ * Placeholders are numbered in the order they are requested. As the criteria
+ * always render their conditions in the same order, all invocations of a
+ * repository method use the same expressions and only bind different values.
+ *
+ * @see <a href=
+ *      "https://docs.aws.amazon.com/amazondynamodb/latest/developerguide/Expressions.OperatorsAndFunctions.html">Comparison
+ *      Operator and Function Reference</a>
+ */
+public class DynamoDBExpressionBuilder {
+
+	private final Map<String, String> placeholdersByAttributeName = new HashMap<>();
+	private final Map<String, String> attributeNames = new LinkedHashMap<>();
+	private final Map<String, AttributeValue> attributeValues = new LinkedHashMap<>();
+
+	/**
+	 * @param attributeName
+	 *            The name of a top level attribute
+	 * @return The placeholder for the attribute name, the same one for each
+	 *         reference to the attribute
+	 */
+	public String name(String attributeName) {
+		return placeholdersByAttributeName.computeIfAbsent(attributeName, name -> {
+			String placeholder = "#n" + attributeNames.size();
+			attributeNames.put(placeholder, name);
+			return placeholder;
+		});
+	}
+
+	/**
+	 * @param attributeValue
+	 *            The value to bind
+	 * @return The placeholder of the bound value
+	 */
+	public String value(AttributeValue attributeValue) {
+		String placeholder = ":v" + attributeValues.size();
+		attributeValues.put(placeholder, attributeValue);
+		return placeholder;
+	}
+
+	/**
+	 * @param operand
+	 *            The placeholder of the attribute name
+	 * @param condition
+	 *            The condition on the operand
+	 * @return The condition in expression syntax
+	 */
+	public String condition(String operand, Condition condition) {
+		List<AttributeValue> values = condition.getAttributeValueList();
+		ComparisonOperator comparisonOperator = ComparisonOperator.fromValue(condition.getComparisonOperator());
+		switch (comparisonOperator) {
+			case EQ :
+				return operand + " = " + value(values.get(0));
+			case NE :
+				return operand + " <> " + value(values.get(0));
+			case LE :
+				return operand + " <= " + value(values.get(0));
+			case LT :
+				return operand + " < " + value(values.get(0));
+			case GE :
+				return operand + " >= " + value(values.get(0));
+			case GT :
+				return operand + " > " + value(values.get(0));
+			case BETWEEN :
+				return operand + " BETWEEN " + value(values.get(0)) + " AND " + value(values.get(1));
+			case IN :
+				return operand + " IN (" + values.stream().map(this::value).collect(Collectors.joining(", ")) + ")";
+			case BEGINS_WITH :
+				return "begins_with(" + operand + ", " + value(values.get(0)) + ")";
+			case CONTAINS :
+				return "contains(" + operand + ", " + value(values.get(0)) + ")";
+			case NOT_CONTAINS :
+				return "NOT contains(" + operand + ", " + value(values.get(0)) + ")";
+			case NULL :
+				return "attribute_not_exists(" + operand + ")";
+			case NOT_NULL :
+				return "attribute_exists(" + operand + ")";
+			default :
+				throw new UnsupportedOperationException("Unsupported comparison operator " + comparisonOperator);
+		}
+	}
+
+	/**
+	 * @param conditions
+	 *            The conditions by the name of the top level attribute they
+	 *            apply to
+	 * @return The conjunction of the conditions or {@code null} if there are
+	 *         none
+	 */
+	@Nullable
+	public String and(Map<String, Condition> conditions) {
+		List<String> expressions = new ArrayList<>(conditions.size());
+		for (Entry<String, Condition> condition : conditions.entrySet()) {
+			expressions.add(condition(name(condition.getKey()), condition.getValue()));
+		}
+		return and(expressions);
+	}
+
+	/**
+	 * @param expressions
+	 *            Expressions rendered by this builder
+	 * @return The conjunction of the expressions or {@code null} if there are
+	 *         none
+	 */
+	@Nullable
+	public String and(List<String> expressions) {
+		return expressions.isEmpty() ? null : String.join(" AND ", expressions);
+	}
+
+	/**
+	 * @param expressions
+	 *            Expressions rendered by this builder
+	 * @return The disjunction of the expressions, which can be nested into
+	 *         {@link #and(List)} as is
+	 */
+	public String or(List<String> expressions) {
+		Assert.notEmpty(expressions, "At least one expression required");
+		return expressions.size() == 1
+				? expressions.get(0)
+				: expressions.stream().collect(Collectors.joining(" OR ", "(", ")"));
+	}
+
+	/**
+	 * @return The names referenced so far or {@code null} if there are none -
+	 *         DynamoDB rejects empty maps
+	 */
+	@Nullable
+	public Map<String, String> getExpressionAttributeNames() {
+		return attributeNames.isEmpty() ? null : new HashMap<>(attributeNames);
+	}
+
+	/**
+	 * @return The values bound so far or {@code null} if there are none -
+	 *         DynamoDB rejects empty maps
+	 */
+	@Nullable
+	public Map<String, AttributeValue> getExpressionAttributeValues() {
+		return attributeValues.isEmpty() ? null : new HashMap<>(attributeValues);
+	}
+}
@@ -0,0 +1,208 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
+import com.amazonaws.services.dynamodbv2.model.Select;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityScanExpressionQuery;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityUnionQuery;
+import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.query.ScanExpressionCountQuery;
+import org.socialsignin.spring.data.dynamodb.query.UnionCountQuery;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.socialsignin.spring.data.dynamodb.utils.SortHandler;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The disjunction of the criteria of an {@code Or} query. Each disjunct is
+ * planned on its own: if all of them can be served by a load or a query, these
+ * are executed concurrently and their results are merged. Otherwise a single
+ * scan evaluates the whole disjunction as {@code FilterExpression} - the scan
+ * has to read all entities anyway.
+ */
+public class DynamoDBOrQueryCriteria<T, ID> implements DynamoDBQueryCriteria<T, ID>, SortHandler {
+
+	private final DynamoDBEntityInformation<T, ID> entityInformation;
+	private final List<AbstractDynamoDBQueryCriteria<T, ID>> disjuncts = new ArrayList<>();
+
+	private Sort sort = Sort.unsorted();
+	private Optional<String> projection = Optional.empty();
+	private List<String> projectedAttributeNames = Collections.emptyList();
+	private Optional<Integer> limit = Optional.empty();
+
+	public DynamoDBOrQueryCriteria(DynamoDBEntityInformation<T, ID> entityInformation,
+			AbstractDynamoDBQueryCriteria<T, ID> disjunct) {
+		this.entityInformation = entityInformation;
+		this.disjuncts.add(disjunct);
+	}
+
+	public DynamoDBOrQueryCriteria<T, ID> or(AbstractDynamoDBQueryCriteria<T, ID> disjunct) {
+		disjuncts.add(disjunct);
+		return this;
+	}
+
+	private UnsupportedOperationException conditionNotSupported() {
+		return new UnsupportedOperationException("Conditions can only be added to the disjuncts of an Or query");
+	}
+
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withSingleValueCriteria(String propertyName,
+			ComparisonOperator comparisonOperator, Object value, Class<?> type) {
+		throw conditionNotSupported();
+	}
+
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withNoValuedCriteria(String propertyName,
+			ComparisonOperator comparisonOperator) {
+		throw conditionNotSupported();
+	}
+
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withPropertyEquals(String propertyName, Object value, Class<?> type) {
+		throw conditionNotSupported();
+	}
+
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withPropertyIn(String propertyName, Iterable<?> value, Class<?> type) {
+		throw conditionNotSupported();
+	}
+
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withPropertyBetween(String propertyName, Object value1, Object value2,
+			Class<?> type) {
+		throw conditionNotSupported();
+	}
+
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withSort(Sort sort) {
+		this.sort = sort;
+		return this;
+	}
+
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withProjection(Optional<String> projection) {
+		this.projection = projection;
+		return this;
+	}
+
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withProjectedAttributes(List<String> attributeNames) {
+		this.projectedAttributeNames = attributeNames;
+		return this;
+	}
+
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withLimit(Optional<Integer> limit) {
+		this.limit = limit;
+		return this;
+	}
+
+	/**
+	 * @return {@code true} if every disjunct can be served without a scan
+	 */
+	protected boolean isKeyAddressable() {
+		for (AbstractDynamoDBQueryCriteria<T, ID> disjunct : disjuncts) {
+			DynamoDBQueryPlan queryPlan = disjunct.getQueryPlan();
+			if (!queryPlan.isApplicableForLoad() && !queryPlan.isApplicableForQuery()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public Query<T> buildQuery(DynamoDBOperations dynamoDBOperations) {
+		// The merged results of several queries have no common order
+		ensureNoSort(sort);
+
+		if (isKeyAddressable()) {
+			return buildUnionQuery(dynamoDBOperations, projection, projectedAttributeNames, limit);
+		} else {
+			return new MultipleEntityScanExpressionQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
+					buildScanExpression(projection, projectedAttributeNames), limit.orElse(null));
+		}
+	}
+
+	@Override
+	public Query<Long> buildCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery) {
+		if (isKeyAddressable()) {
+			// Duplicates can only be detected on the entities - thus read their keys
+			List<String> keyAttributeNames = disjuncts.get(0).getKeyAttributeNames();
+			return new UnionCountQuery<>(
+					buildUnionQuery(dynamoDBOperations, Optional.empty(), keyAttributeNames, Optional.empty()));
+		} else {
+			return new ScanExpressionCountQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
+					buildScanExpression(Optional.empty(), Collections.emptyList()), pageQuery);
+		}
+	}
+
+	private void applyToDisjuncts(Optional<String> projection, List<String> projectedAttributeNames,
+			Optional<Integer> limit) {
+		for (AbstractDynamoDBQueryCriteria<T, ID> disjunct : disjuncts) {
+			disjunct.withProjection(projection);
+			disjunct.withProjectedAttributes(projectedAttributeNames);
+			disjunct.withLimit(limit);
+		}
+	}
+
+	private MultipleEntityUnionQuery<T> buildUnionQuery(DynamoDBOperations dynamoDBOperations,
+			Optional<String> projection, List<String> projectedAttributeNames, Optional<Integer> limit) {
+		applyToDisjuncts(projection, projectedAttributeNames, limit);
+
+		List<Query<T>> queries = new ArrayList<>(disjuncts.size());
+		for (AbstractDynamoDBQueryCriteria<T, ID> disjunct : disjuncts) {
+			queries.add(disjunct.buildQuery(dynamoDBOperations));
+		}
+
+		return new MultipleEntityUnionQuery<>(dynamoDBOperations, entityInformation.getJavaType(), queries,
+				disjuncts.get(0).getKeyFunction(), limit.orElse(null));
+	}
+
+	protected DynamoDBScanExpression buildScanExpression(Optional<String> projection,
+			List<String> projectedAttributeNames) {
+		applyToDisjuncts(projection, projectedAttributeNames, Optional.empty());
+
+		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+		DynamoDBExpressionBuilder expressionBuilder = new DynamoDBExpressionBuilder();
+		List<String> filterExpressions = new ArrayList<>(disjuncts.size());
+		for (AbstractDynamoDBQueryCriteria<T, ID> disjunct : disjuncts) {
+			String filterExpression = disjunct.renderFilterConditions(expressionBuilder);
+			if (filterExpression == null) {
+				// This disjunct matches all entities
+				expressionBuilder = new DynamoDBExpressionBuilder();
+				filterExpressions.clear();
+				break;
+			}
+			filterExpressions
+					.add(filterExpression.contains(" AND ") ? "(" + filterExpression + ")" : filterExpression);
+		}
+
+		if (projection.isPresent()) {
+			scanExpression.setSelect(Select.SPECIFIC_ATTRIBUTES);
+			scanExpression.setProjectionExpression(projection.get());
+		}
+		disjuncts.get(0).applyConditionsAndProjectedAttributes(scanExpression, expressionBuilder,
+				filterExpressions.isEmpty() ? null : expressionBuilder.or(filterExpressions));
+		return scanExpression;
+	}
+}
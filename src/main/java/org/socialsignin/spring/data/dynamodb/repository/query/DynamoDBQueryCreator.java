@@ -24,14 +24,59 @@ import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.lang.Nullable;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class DynamoDBQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T, ID, T> {
 
+	private final List<String> projectedAttributeNames;
+	private final Optional<Integer> limit;
+
 	public DynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
 			DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection,
 			DynamoDBOperations dynamoDBOperations) {
 		super(tree, parameterAccessor, entityMetadata, projection, dynamoDBOperations);
+		this.projectedAttributeNames = Collections.emptyList();
+		this.limit = Optional.empty();
+	}
+
+	public DynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+			DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection,
+			DynamoDBOperations dynamoDBOperations, @Nullable Map<Integer, DynamoDBQueryPlan> queryPlans) {
+		this(tree, parameterAccessor, entityMetadata, projection, Optional.empty(), dynamoDBOperations, queryPlans);
+	}
+
+	public DynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+			DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection, Optional<Integer> limit,
+			DynamoDBOperations dynamoDBOperations, @Nullable Map<Integer, DynamoDBQueryPlan> queryPlans) {
+		this(tree, parameterAccessor, entityMetadata, projection, Collections.emptyList(), limit, dynamoDBOperations,
+				queryPlans);
+	}
+
+	/**
+	 * @param projectedAttributeNames
+	 *            The attributes to read for a projection declared as return type -
+	 *            empty to read the whole entity
+	 */
+	public DynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+			DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection,
+			List<String> projectedAttributeNames, Optional<Integer> limit, DynamoDBOperations dynamoDBOperations,
+			@Nullable Map<Integer, DynamoDBQueryPlan> queryPlans) {
+		this(tree, parameterAccessor, entityMetadata, projection, projectedAttributeNames, limit, dynamoDBOperations,
+				queryPlans, null);
+	}
+
+	public DynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+			DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection,
+			List<String> projectedAttributeNames, Optional<Integer> limit, DynamoDBOperations dynamoDBOperations,
+			@Nullable Map<Integer, DynamoDBQueryPlan> queryPlans,
+			@Nullable IndexSelectionStrategy indexSelectionStrategy) {
+		super(tree, parameterAccessor, entityMetadata, projection, dynamoDBOperations, queryPlans,
+				indexSelectionStrategy);
+		this.projectedAttributeNames = projectedAttributeNames;
+		this.limit = limit;
 	}
 
 	@Override
@@ -41,6 +86,8 @@ public class DynamoDBQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T,
 		} else {
 			criteria.withSort(sort);
 			criteria.withProjection(projection);
+			criteria.withProjectedAttributes(projectedAttributeNames);
+			criteria.withLimit(limit);
 
 			return criteria.buildQuery(dynamoDBOperations);
 		}
@@ -20,6 +20,7 @@ import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.query.Query;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -43,6 +44,21 @@ public interface DynamoDBQueryCriteria<T, ID> {
 
 	DynamoDBQueryCriteria<T, ID> withProjection(Optional<String> projection);
 
+	/**
+	 * @param attributeNames
+	 *            The attributes the finder query reads - empty to read all. Ignored
+	 *            if an explicit projection is given.
+	 * @return this
+	 */
+	DynamoDBQueryCriteria<T, ID> withProjectedAttributes(List<String> attributeNames);
+
+	/**
+	 * @param limit
+	 *            The maximum number of entities the finder query reads
+	 * @return this
+	 */
+	DynamoDBQueryCriteria<T, ID> withLimit(Optional<Integer> limit);
+
 	Query<T> buildQuery(DynamoDBOperations dynamoDBOperations);
 
 	Query<Long> buildCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery);
@@ -15,18 +15,37 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import org.reactivestreams.Publisher;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScan;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScanCount;
+import org.socialsignin.spring.data.dynamodb.repository.IndexSelection;
+import org.socialsignin.spring.data.dynamodb.repository.PageCount;
 import org.socialsignin.spring.data.dynamodb.repository.Query;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
-import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityMetadataSupport;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformationRegistry;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBIdIsHashAndRangeKeyEntityInformation;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 /**
  * @author Michael Lavelle
@@ -37,7 +56,11 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 	private final Method method;
 	private final boolean scanEnabledForRepository;
 	private final boolean scanCountEnabledForRepository;
+	private final int scanTotalSegments;
+	private final PageCount.Mode pageCountMode;
 	private final Optional<String> projectionExpression;
+	private final IndexSelectionStrategy indexSelectionStrategy;
+	private final ResultProcessor resultProcessor;
 
 	public DynamoDBQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
 		super(method, metadata, factory);
@@ -46,6 +69,26 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		this.scanCountEnabledForRepository = metadata.getRepositoryInterface()
 				.isAnnotationPresent(EnableScanCount.class);
 
+		EnableScan enableScan = method.getAnnotation(EnableScan.class);
+		if (enableScan == null) {
+			enableScan = metadata.getRepositoryInterface().getAnnotation(EnableScan.class);
+		}
+		this.scanTotalSegments = enableScan != null ? enableScan.totalSegments() : 1;
+
+		PageCount pageCount = method.getAnnotation(PageCount.class);
+		if (pageCount == null) {
+			pageCount = metadata.getRepositoryInterface().getAnnotation(PageCount.class);
+		}
+		this.pageCountMode = pageCount != null ? pageCount.value() : PageCount.Mode.EAGER;
+
+		IndexSelection indexSelection = method.getAnnotation(IndexSelection.class);
+		if (indexSelection == null) {
+			indexSelection = metadata.getRepositoryInterface().getAnnotation(IndexSelection.class);
+		}
+		this.indexSelectionStrategy = indexSelection != null
+				? BeanUtils.instantiateClass(indexSelection.value())
+				: new DeclarationOrderIndexSelectionStrategy();
+
 		Query query = method.getAnnotation(Query.class);
 		if (query != null) {
 			String projections = query.fields();
@@ -57,6 +100,24 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		} else {
 			this.projectionExpression = Optional.empty();
 		}
+
+		// Spring Data unwraps Publisher return types only if a reactive library is present
+		Class<?> elementType = isPublisherQuery()
+				? ResolvableType.forMethodReturnType(method).as(Publisher.class).resolveGeneric(0)
+				: null;
+		this.resultProcessor = elementType == null
+				? super.getResultProcessor()
+				: super.getResultProcessor().withDynamicProjection(new ElementTypeAccessor(elementType));
+	}
+
+	/**
+	 * @return The result processor - for {@link Publisher} return types converting
+	 *         the individual elements
+	 */
+	@Override
+	public ResultProcessor getResultProcessor() {
+		// Not yet set while the QueryMethod is constructed
+		return resultProcessor == null ? super.getResultProcessor() : resultProcessor;
 	}
 
 	/**
@@ -69,10 +130,46 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		return method.getReturnType();
 	}
 
+	/**
+	 * @return {@code true} if the method does not return anything
+	 */
+	public boolean isVoidQuery() {
+		return void.class.equals(method.getReturnType()) || Void.class.equals(method.getReturnType());
+	}
+
+	/**
+	 * @return {@code true} if the method declares a {@link CompletableFuture} or
+	 *         {@link Future} as return type.
+	 */
+	public boolean isAsyncQuery() {
+		return method.getReturnType().isAssignableFrom(CompletableFuture.class)
+				&& Future.class.isAssignableFrom(method.getReturnType());
+	}
+
+	/**
+	 * @return {@code true} if the method declares a {@link Publisher} as return
+	 *         type.
+	 */
+	public boolean isPublisherQuery() {
+		return Publisher.class.equals(method.getReturnType());
+	}
+
 	public boolean isScanEnabled() {
 		return scanEnabledForRepository || method.isAnnotationPresent(EnableScan.class);
 	}
 
+	public int getScanTotalSegments() {
+		return scanTotalSegments;
+	}
+
+	public PageCount.Mode getPageCountMode() {
+		return pageCountMode;
+	}
+
+	public IndexSelectionStrategy getIndexSelectionStrategy() {
+		return indexSelectionStrategy;
+	}
+
 	public boolean isScanCountEnabled() {
 		return scanCountEnabledForRepository || method.isAnnotationPresent(EnableScanCount.class);
 	}
@@ -84,9 +181,9 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 	 * org.springframework.data.repository.query.QueryMethod#getEntityInformation ()
 	 */
 	@Override
-	@SuppressWarnings({"rawtypes", "unchecked"})
+	@SuppressWarnings("unchecked")
 	public DynamoDBEntityInformation<T, ID> getEntityInformation() {
-		return new DynamoDBEntityMetadataSupport(getDomainClass()).getEntityInformation();
+		return DynamoDBEntityInformationRegistry.getEntityInformation((Class<T>) getDomainClass());
 	}
 
 	public Class<T> getEntityType() {
@@ -98,4 +195,89 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		return this.projectionExpression;
 	}
 
+	/**
+	 * @return {@code true} if the method returns an interface or DTO projection of
+	 *         the entity instead of the entity itself
+	 */
+	public boolean isProjectionQuery() {
+		return getResultProcessor().getReturnedType().isProjecting();
+	}
+
+	/**
+	 * Derives the attributes to read from a closed interface or DTO projection
+	 * declared as return type. The key attributes are always included as they
+	 * identify the entity.
+	 *
+	 * @return The attribute names - empty if the whole entity has to be read, e.g.
+	 *         for open projections or if {@link Query#fields()} is declared
+	 */
+	public List<String> getProjectedAttributeNames() {
+		ReturnedType returnedType = getResultProcessor().getReturnedType();
+		List<String> inputProperties = returnedType.getInputProperties();
+		// DTO constructor parameter names are unknown if compiled without debug info
+		if (projectionExpression.isPresent() || isPublisherQuery() || !returnedType.isProjecting()
+				|| inputProperties.isEmpty() || inputProperties.contains(null)) {
+			return Collections.emptyList();
+		}
+
+		DynamoDBEntityInformation<T, ID> entityInformation = getEntityInformation();
+		Set<String> attributeNames = new LinkedHashSet<>();
+		attributeNames.add(getAttributeName(entityInformation, entityInformation.getHashKeyPropertyName()));
+		if (entityInformation instanceof DynamoDBIdIsHashAndRangeKeyEntityInformation) {
+			String rangeKeyPropertyName = ((DynamoDBIdIsHashAndRangeKeyEntityInformation<T, ID>) entityInformation)
+					.getRangeKeyPropertyName();
+			attributeNames.add(getAttributeName(entityInformation, rangeKeyPropertyName));
+		}
+		for (String propertyName : inputProperties) {
+			attributeNames.add(getAttributeName(entityInformation, propertyName));
+		}
+		return new ArrayList<>(attributeNames);
+	}
+
+	private static String getAttributeName(DynamoDBEntityInformation<?, ?> entityInformation, String propertyName) {
+		return entityInformation.getOverriddenAttributeName(propertyName).orElse(propertyName);
+	}
+
+
+	/**
+	 * Declares the element type of a {@link Publisher} as dynamic projection of a
+	 * method without parameters.
+	 */
+	private static final class ElementTypeAccessor implements ParameterAccessor {
+		private final Class<?> elementType;
+
+		ElementTypeAccessor(Class<?> elementType) {
+			this.elementType = elementType;
+		}
+
+		@Override
+		public Pageable getPageable() {
+			return Pageable.unpaged();
+		}
+
+		@Override
+		public Sort getSort() {
+			return Sort.unsorted();
+		}
+
+		@Override
+		public Optional<Class<?>> getDynamicProjection() {
+			return Optional.of(elementType);
+		}
+
+		@Override
+		public Object getBindableValue(int index) {
+			throw new IndexOutOfBoundsException("No bindable value at index " + index);
+		}
+
+		@Override
+		public boolean hasBindableNullValue() {
+			return false;
+		}
+
+		@Override
+		public Iterator<Object> iterator() {
+			return Collections.emptyIterator();
+		}
+	}
 }
@@ -0,0 +1,92 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * The decisions taken for a {@link DynamoDBQueryCriteria} which only depend on
+ * the shape of the criteria (which properties are constrained by which
+ * operators) and not on the actual parameter values: the index to use and
+ * whether the request is served by a load, a query or a scan.
+ *
+ * Instances are immutable and are cached per repository method and criteria
+ * shape (see {@link PartTreeDynamoDBQuery}). A cached plan only saves the index
+ * selection and the load/query/scan decision: every invocation still creates
+ * the criteria from the {@code PartTree} and resolves the attribute names and
+ * the sort order. The plan is looked up by the part of the repository method
+ * and the variant of its key parameters (see
+ * {@link AbstractDynamoDBQueryCriteria#getQueryPlanVariant()}).
+ */
+public class DynamoDBQueryPlan {
+
+	@Nullable
+	private final String globalSecondaryIndexName;
+	private final boolean applicableForLoad;
+	private final boolean applicableForQuery;
+	private final boolean applicableForGlobalSecondaryIndex;
+	@Nullable
+	private final String localSecondaryIndexName;
+
+	public DynamoDBQueryPlan(@Nullable String globalSecondaryIndexName, boolean applicableForLoad,
+			boolean applicableForQuery, boolean applicableForGlobalSecondaryIndex) {
+		this(globalSecondaryIndexName, applicableForLoad, applicableForQuery, applicableForGlobalSecondaryIndex, null);
+	}
+
+	public DynamoDBQueryPlan(@Nullable String globalSecondaryIndexName, boolean applicableForLoad,
+			boolean applicableForQuery, boolean applicableForGlobalSecondaryIndex,
+			@Nullable String localSecondaryIndexName) {
+		this.globalSecondaryIndexName = globalSecondaryIndexName;
+		this.applicableForLoad = applicableForLoad;
+		this.applicableForQuery = applicableForQuery;
+		this.applicableForGlobalSecondaryIndex = applicableForGlobalSecondaryIndex;
+		this.localSecondaryIndexName = localSecondaryIndexName;
+	}
+
+	@Nullable
+	public String getGlobalSecondaryIndexName() {
+		return globalSecondaryIndexName;
+	}
+
+	public boolean isApplicableForLoad() {
+		return applicableForLoad;
+	}
+
+	public boolean isApplicableForQuery() {
+		return applicableForQuery;
+	}
+
+	public boolean isApplicableForGlobalSecondaryIndex() {
+		return applicableForGlobalSecondaryIndex;
+	}
+
+	/**
+	 * @return The local secondary index to query - {@code null} to query the table
+	 *         or a global secondary index
+	 */
+	@Nullable
+	public String getLocalSecondaryIndexName() {
+		return localSecondaryIndexName;
+	}
+
+	@Override
+	public String toString() {
+		return "DynamoDBQueryPlan [globalSecondaryIndexName=" + globalSecondaryIndexName + ", applicableForLoad="
+				+ applicableForLoad + ", applicableForQuery=" + applicableForQuery
+				+ ", applicableForGlobalSecondaryIndex=" + applicableForGlobalSecondaryIndex
+				+ ", localSecondaryIndexName=" + localSecondaryIndexName + "]";
+	}
+}
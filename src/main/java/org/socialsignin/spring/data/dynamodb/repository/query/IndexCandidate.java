@@ -0,0 +1,108 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Optional;
+
+/**
+ * A secondary index which is applicable to the conditions of a derived query
+ * and what the query would look like if it was served by this index.
+ *
+ * @see IndexSelectionStrategy
+ */
+public class IndexCandidate {
+
+	private final String indexName;
+	private final boolean local;
+	private final boolean exactMatch;
+	private final boolean hashKeyEquality;
+	private final boolean rangeKeyConditionUsable;
+	@Nullable
+	private final Boolean projectionCovering;
+	@Nullable
+	private final Long hashKeyCardinality;
+
+	/**
+	 * @param indexName
+	 *            The name of the index
+	 * @param local
+	 *            {@code true} for a local, {@code false} for a global secondary
+	 *            index
+	 * @param exactMatch
+	 *            Whether the conditions are on exactly the index attributes
+	 * @param hashKeyEquality
+	 *            Whether there is an equality condition on the index hash key
+	 * @param rangeKeyConditionUsable
+	 *            Whether there is a condition on the index range key which can be
+	 *            applied as key condition
+	 * @param projectionCovering
+	 *            Whether the index projects all attributes to read - {@code null}
+	 *            if the projection of the index is unknown
+	 * @param hashKeyCardinality
+	 *            The approximate number of distinct index hash key values -
+	 *            {@code null} if unknown
+	 */
+	public IndexCandidate(String indexName, boolean local, boolean exactMatch, boolean hashKeyEquality,
+			boolean rangeKeyConditionUsable, @Nullable Boolean projectionCovering,
+			@Nullable Long hashKeyCardinality) {
+		Assert.hasText(indexName, "indexName must not be empty");
+		this.indexName = indexName;
+		this.local = local;
+		this.exactMatch = exactMatch;
+		this.hashKeyEquality = hashKeyEquality;
+		this.rangeKeyConditionUsable = rangeKeyConditionUsable;
+		this.projectionCovering = projectionCovering;
+		this.hashKeyCardinality = hashKeyCardinality;
+	}
+
+	public String getIndexName() {
+		return indexName;
+	}
+
+	public boolean isLocal() {
+		return local;
+	}
+
+	public boolean isExactMatch() {
+		return exactMatch;
+	}
+
+	public boolean isHashKeyEquality() {
+		return hashKeyEquality;
+	}
+
+	public boolean isRangeKeyConditionUsable() {
+		return rangeKeyConditionUsable;
+	}
+
+	public Optional<Boolean> isProjectionCovering() {
+		return Optional.ofNullable(projectionCovering);
+	}
+
+	public Optional<Long> getHashKeyCardinality() {
+		return Optional.ofNullable(hashKeyCardinality);
+	}
+
+	@Override
+	public String toString() {
+		return "IndexCandidate [indexName=" + indexName + ", local=" + local + ", exactMatch=" + exactMatch
+				+ ", hashKeyEquality=" + hashKeyEquality + ", rangeKeyConditionUsable=" + rangeKeyConditionUsable
+				+ ", projectionCovering=" + projectionCovering + ", hashKeyCardinality=" + hashKeyCardinality + "]";
+	}
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Picks the secondary index to query from all indexes applicable to the
+ * conditions of a derived query. The selection is part of the
+ * {@link DynamoDBQueryPlan} and thus only happens once per shape of the
+ * criteria.
+ *
+ * @see org.socialsignin.spring.data.dynamodb.repository.IndexSelection
+ */
+public interface IndexSelectionStrategy {
+
+	/**
+	 * @param candidates
+	 *            The applicable indexes - never empty. Ordered by the preference of
+	 *            the {@link DeclarationOrderIndexSelectionStrategy}: exact matches
+	 *            first, then global secondary indexes in declaration order, then
+	 *            local secondary indexes
+	 * @return The index to query - {@code null} to not use any secondary index
+	 */
+	@Nullable
+	IndexCandidate select(List<IndexCandidate> candidates);
+
+}
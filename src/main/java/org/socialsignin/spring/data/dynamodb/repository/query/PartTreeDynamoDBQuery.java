@@ -16,12 +16,24 @@
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.CursorPageRequest;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -30,22 +42,66 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
 
 	private final Parameters<?, ?> parameters;
 	private final PartTree tree;
+	private final DynamoDBEntityInformation<T, ID> entityInformation;
+	/**
+	 * The index/load/query/scan decisions only depend on the shape of the
+	 * criteria - not on the parameter values. Thus they are shared across all
+	 * invocations of this repository method. The criteria themselves are still
+	 * created per invocation. Count queries read no attributes - thus their
+	 * criteria have another shape.
+	 */
+	private final Map<Integer, DynamoDBQueryPlan> queryPlans = new ConcurrentHashMap<>();
+	private final Map<Integer, DynamoDBQueryPlan> countQueryPlans = new ConcurrentHashMap<>();
+	private final List<String> projectedAttributeNames;
 
 	public PartTreeDynamoDBQuery(DynamoDBOperations dynamoDBOperations, DynamoDBQueryMethod<T, ID> method) {
 		super(dynamoDBOperations, method);
 		this.parameters = method.getParameters();
 		this.tree = new PartTree(method.getName(), method.getEntityType());
+		this.entityInformation = method.getEntityInformation();
+		this.projectedAttributeNames = isCountQuery() || isExistsQuery() || isDeleteQuery()
+				? Collections.emptyList()
+				: method.getProjectedAttributeNames();
 	}
 
 	protected DynamoDBQueryCreator<T, ID> createQueryCreator(ParametersParameterAccessor accessor) {
-		return new DynamoDBQueryCreator<>(tree, accessor, getQueryMethod().getEntityInformation(),
-				getQueryMethod().getProjectionExpression(), dynamoDBOperations);
+		return new DynamoDBQueryCreator<>(tree, accessor, entityInformation,
+				getQueryMethod().getProjectionExpression(), projectedAttributeNames, getQueryLimit(accessor),
+				dynamoDBOperations, queryPlans, getQueryMethod().getIndexSelectionStrategy());
+	}
+
+	/**
+	 * The number of entities the execution reads at most: the results
+	 * restriction ({@code findTop10By...}) or - for {@link Page}s and
+	 * {@link Slice}s - everything up to the requested page plus one entity to
+	 * determine whether there is a next one. A single match answers an exists
+	 * query.
+	 */
+	private Optional<Integer> getQueryLimit(ParameterAccessor accessor) {
+		if (isExistsQuery()) {
+			return Optional.of(1);
+		}
+		if (isDeleteQuery() || isCountQuery()) {
+			return Optional.empty();
+		}
+		Integer restriction = getResultsRestrictionIfApplicable();
+		Pageable pageable = accessor.getPageable();
+		if ((getQueryMethod().isPageQuery() || getQueryMethod().isSliceQuery())
+				&& !isSingleEntityResultsRestriction() && pageable.isPaged()
+				&& !(pageable instanceof CursorPageRequest)) {
+			long pageSize = restriction == null
+					? pageable.getPageSize()
+					: Math.min(pageable.getPageSize(), restriction);
+			long required = pageable.getOffset() + pageSize + 1;
+			return required <= Integer.MAX_VALUE ? Optional.of((int) required) : Optional.empty();
+		}
+		return Optional.ofNullable(restriction);
 	}
 
 	protected DynamoDBCountQueryCreator<T, ID> createCountQueryCreator(ParametersParameterAccessor accessor,
 			boolean pageQuery) {
-		return new DynamoDBCountQueryCreator<>(tree, accessor, getQueryMethod().getEntityInformation(),
-				dynamoDBOperations, pageQuery);
+		return new DynamoDBCountQueryCreator<>(tree, accessor, entityInformation, dynamoDBOperations, pageQuery,
+				countQueryPlans, getQueryMethod().getIndexSelectionStrategy());
 	}
 
 	@Override
@@ -81,6 +137,11 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
 		return tree.isDelete();
 	}
 
+	@Override
+	protected boolean isUnfilteredScan() {
+		return tree.getParts().isEmpty();
+	}
+
 	@Override
 	protected Integer getResultsRestrictionIfApplicable() {
 
@@ -15,9 +15,7 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
-import org.springframework.util.ReflectionUtils;
-
-import java.lang.reflect.Method;
+import java.util.function.Function;
 
 /**
  * @author Michael Lavelle
@@ -25,31 +23,32 @@ import java.lang.reflect.Method;
  */
 public class CompositeIdHashAndRangeKeyExtractor<ID, H> implements HashAndRangeKeyExtractor<ID, H> {
 
-	private DynamoDBHashAndRangeKeyMethodExtractor<ID> hashAndRangeKeyMethodExtractor;
+	private final Function<ID, H> hashKeyAccessor;
+	private final Function<ID, Object> rangeKeyAccessor;
 
 	public CompositeIdHashAndRangeKeyExtractor(Class<ID> idClass) {
-		this.hashAndRangeKeyMethodExtractor = new DynamoDBHashAndRangeKeyMethodExtractorImpl<ID>(idClass);
+		this(idClass, KeyAccessorFactory.DEFAULT);
+	}
+
+	public CompositeIdHashAndRangeKeyExtractor(Class<ID> idClass, KeyAccessorFactory keyAccessorFactory) {
+		DynamoDBHashAndRangeKeyMethodExtractor<ID> hashAndRangeKeyMethodExtractor = new DynamoDBHashAndRangeKeyMethodExtractorImpl<ID>(
+				idClass);
+		this.hashKeyAccessor = hashAndRangeKeyMethodExtractor.getHashKeyMethod() != null
+				? keyAccessorFactory.createAccessor(hashAndRangeKeyMethodExtractor.getHashKeyMethod())
+				: keyAccessorFactory.createAccessor(hashAndRangeKeyMethodExtractor.getHashKeyField());
+		this.rangeKeyAccessor = hashAndRangeKeyMethodExtractor.getRangeKeyMethod() != null
+				? keyAccessorFactory.createAccessor(hashAndRangeKeyMethodExtractor.getRangeKeyMethod())
+				: keyAccessorFactory.createAccessor(hashAndRangeKeyMethodExtractor.getRangeKeyField());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public H getHashKey(ID id) {
-		Method method = hashAndRangeKeyMethodExtractor.getHashKeyMethod();
-		if (method != null) {
-			return (H) ReflectionUtils.invokeMethod(method, id);
-		} else {
-			return (H) ReflectionUtils.getField(hashAndRangeKeyMethodExtractor.getHashKeyField(), id);
-		}
+		return hashKeyAccessor.apply(id);
 	}
 
 	@Override
 	public Object getRangeKey(ID id) {
-		Method method = hashAndRangeKeyMethodExtractor.getRangeKeyMethod();
-		if (method != null) {
-			return ReflectionUtils.invokeMethod(method, id);
-		} else {
-			return ReflectionUtils.getField(hashAndRangeKeyMethodExtractor.getRangeKeyField(), id);
-		}
+		return rangeKeyAccessor.apply(id);
 	}
 
 }
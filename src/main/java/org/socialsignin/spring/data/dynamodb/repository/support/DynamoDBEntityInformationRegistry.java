@@ -0,0 +1,62 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.util.Map;
+
+/**
+ * Thread-safe registry of the {@link DynamoDBEntityInformation} of domain
+ * classes. Collecting the metadata reflects over all fields and methods of the
+ * domain class - thus it is done only once per domain class and the result is
+ * shared by the {@link DynamoDBRepositoryFactory}, the query methods and the
+ * query criteria.
+ *
+ * The registry holds the domain classes via soft references so that it does
+ * not prevent them from being unloaded.
+ */
+public final class DynamoDBEntityInformationRegistry {
+
+	private static final Map<Class<?>, DynamoDBEntityInformation<?, ?>> ENTITY_INFORMATION_CACHE = new ConcurrentReferenceHashMap<>();
+
+	private DynamoDBEntityInformationRegistry() {
+	}
+
+	/**
+	 * @param <T>
+	 *            Type of the Entity
+	 * @param <ID>
+	 *            Type of the Hash (Primary) Key
+	 * @param domainClass
+	 *            The domain class to look up
+	 * @return The shared {@link DynamoDBEntityInformation} of the given domain
+	 *         class
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+		return (DynamoDBEntityInformation<T, ID>) ENTITY_INFORMATION_CACHE.computeIfAbsent(domainClass,
+				clazz -> new DynamoDBEntityMetadataSupport<>(clazz).getEntityInformation());
+	}
+
+	/**
+	 * Removes all cached {@link DynamoDBEntityInformation}s, e.g. after domain
+	 * classes have been reloaded.
+	 */
+	public static void clear() {
+		ENTITY_INFORMATION_CACHE.clear();
+	}
+}
@@ -26,6 +26,7 @@ import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverted;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBVersionAttribute;
+import org.socialsignin.spring.data.dynamodb.repository.DynamoDBIndexStatistics;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -39,6 +40,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Michael Lavelle
@@ -54,6 +56,12 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 
 	private String dynamoDBTableName;
 	private Map<String, String[]> globalSecondaryIndexNames = new HashMap<>();
+	private Map<String, DynamoDBIndexStatistics> indexStatistics;
+
+	// Looked up for every condition of a query - thus only resolved once per property
+	private final Map<String, Optional<String>> overriddenAttributeNames = new ConcurrentHashMap<>();
+	private final Map<String, Optional<DynamoDBMarshaller<?>>> marshallers = new ConcurrentHashMap<>();
+	private final Map<String, Optional<DynamoDBTypeConverter<?, ?>>> typeConverters = new ConcurrentHashMap<>();
 
 	@Override
 	public String getDynamoDBTableName() {
@@ -115,6 +123,11 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 			}
 		});
 		Assert.notNull(hashKeyPropertyName, "Unable to find hash key field or getter method on " + domainType + "!");
+
+		this.indexStatistics = new HashMap<>();
+		for (DynamoDBIndexStatistics statistics : domainType.getAnnotationsByType(DynamoDBIndexStatistics.class)) {
+			indexStatistics.put(statistics.indexName(), statistics);
+		}
 	}
 
 	public DynamoDBEntityInformation<T, ID> getEntityInformation() {
@@ -222,6 +235,10 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 
 	@Override
 	public Optional<String> getOverriddenAttributeName(final String propertyName) {
+		return overriddenAttributeNames.computeIfAbsent(propertyName, this::findOverriddenAttributeName);
+	}
+
+	private Optional<String> findOverriddenAttributeName(final String propertyName) {
 
 		Method method = findMethod(propertyName);
 		if (method != null) {
@@ -283,8 +300,13 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 	}
 
 	@Override
-	@SuppressWarnings("deprecation")
+	@SuppressWarnings("unchecked")
 	public <V extends DynamoDBMarshaller<?>> V getMarshallerForProperty(final String propertyName) {
+		return (V) marshallers.computeIfAbsent(propertyName, this::findMarshaller).orElse(null);
+	}
+
+	@SuppressWarnings("deprecation")
+	private Optional<DynamoDBMarshaller<?>> findMarshaller(final String propertyName) {
 		// TODO #28
 		DynamoDBMarshalling annotation = null;
 
@@ -302,20 +324,22 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 
 		if (annotation != null) {
 			try {
-				@SuppressWarnings("unchecked")
-				Class<V> marshallerClazz = (Class<V>) annotation.marshallerClass();
-				return marshallerClazz.getDeclaredConstructor().newInstance();
+				return Optional.of(annotation.marshallerClass().getDeclaredConstructor().newInstance());
 			} catch (InstantiationException | IllegalAccessException | NoSuchMethodException
 					| InvocationTargetException e) {
 				throw new RuntimeException(e);
 			}
 		}
 
-		return null;
+		return Optional.empty();
 	}
 
 	@Override
 	public DynamoDBTypeConverter<?, ?> getTypeConverterForProperty(final String propertyName) {
+		return typeConverters.computeIfAbsent(propertyName, this::findTypeConverter).orElse(null);
+	}
+
+	private Optional<DynamoDBTypeConverter<?, ?>> findTypeConverter(final String propertyName) {
 		DynamoDBTypeConverted annotation = null;
 
 		Method method = findMethod(propertyName);
@@ -332,14 +356,14 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 
 		if (annotation != null) {
 			try {
-				return annotation.converter().getDeclaredConstructor().newInstance();
+				return Optional.of(annotation.converter().getDeclaredConstructor().newInstance());
 			} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
 					| InvocationTargetException | NoSuchMethodException | SecurityException e) {
 				throw new RuntimeException(e);
 			}
 		}
 
-		return null;
+		return Optional.empty();
 	}
 
 	protected String getPropertyNameForAccessorMethod(Method method) {
@@ -469,4 +493,9 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 		return globalIndexRangeKeyPropertyNames.contains(propertyName);
 	}
 
+	@Override
+	public Map<String, DynamoDBIndexStatistics> getIndexStatisticsByIndexName() {
+		return indexStatistics;
+	}
+
 }
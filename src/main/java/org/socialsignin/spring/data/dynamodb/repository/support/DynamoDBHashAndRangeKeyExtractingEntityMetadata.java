@@ -15,6 +15,7 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -33,6 +34,12 @@ public interface DynamoDBHashAndRangeKeyExtractingEntityMetadata<T, ID>
 
 	Set<String> getIndexRangeKeyPropertyNames();
 
+	/**
+	 * @return The names of the local secondary indexes by the name of their range
+	 *         key property
+	 */
+	Map<String, String[]> getLocalSecondaryIndexNamesByPropertyName();
+
 	boolean isCompositeHashAndRangeKeyProperty(String propertyName);
 
 	<H> T getHashKeyPropotypeEntityForHashKey(H hashKey);
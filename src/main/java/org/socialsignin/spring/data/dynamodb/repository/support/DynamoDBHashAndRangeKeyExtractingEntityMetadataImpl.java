@@ -24,7 +24,10 @@ import org.springframework.util.ReflectionUtils;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -39,6 +42,8 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
 
 	private Method hashKeySetterMethod;
 	private Field hashKeyField;
+	private final Map<String, String[]> localSecondaryIndexNames;
+	private final Set<String> indexRangeKeyPropertyNames;
 
 	public DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl(final Class<T> domainType) {
 		super(domainType);
@@ -64,6 +69,10 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
 		Assert.isTrue(hashKeySetterMethod == null || hashKeyField == null,
 				"Found both hash key field and setter method on " + domainType + "!");
 
+		this.localSecondaryIndexNames = Collections.unmodifiableMap(findLocalSecondaryIndexNames());
+		this.indexRangeKeyPropertyNames = Collections
+				.unmodifiableSet(new HashSet<>(localSecondaryIndexNames.keySet()));
+
 	}
 
 	@Override
@@ -78,29 +87,44 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
 
 	@Override
 	public Set<String> getIndexRangeKeyPropertyNames() {
-		final Set<String> propertyNames = new HashSet<>();
+		return indexRangeKeyPropertyNames;
+	}
+
+	@Override
+	public Map<String, String[]> getLocalSecondaryIndexNamesByPropertyName() {
+		return localSecondaryIndexNames;
+	}
+
+	private Map<String, String[]> findLocalSecondaryIndexNames() {
+		final Map<String, String[]> indexNames = new HashMap<>();
 		ReflectionUtils.doWithMethods(getJavaType(), method -> {
-			if (method.getAnnotation(DynamoDBIndexRangeKey.class) != null) {
-				if ((method.getAnnotation(DynamoDBIndexRangeKey.class).localSecondaryIndexName() != null && method
-						.getAnnotation(DynamoDBIndexRangeKey.class).localSecondaryIndexName().trim().length() > 0)
-						|| (method.getAnnotation(DynamoDBIndexRangeKey.class).localSecondaryIndexNames() != null
-								&& method.getAnnotation(DynamoDBIndexRangeKey.class)
-										.localSecondaryIndexNames().length > 0)) {
-					propertyNames.add(getPropertyNameForAccessorMethod(method));
-				}
+			String[] localSecondaryIndexNames = getLocalSecondaryIndexNames(
+					method.getAnnotation(DynamoDBIndexRangeKey.class));
+			if (localSecondaryIndexNames.length > 0) {
+				indexNames.put(getPropertyNameForAccessorMethod(method), localSecondaryIndexNames);
 			}
 		});
 		ReflectionUtils.doWithFields(getJavaType(), field -> {
-			if (field.getAnnotation(DynamoDBIndexRangeKey.class) != null) {
-				if ((field.getAnnotation(DynamoDBIndexRangeKey.class).localSecondaryIndexName() != null && field
-						.getAnnotation(DynamoDBIndexRangeKey.class).localSecondaryIndexName().trim().length() > 0)
-						|| (field.getAnnotation(DynamoDBIndexRangeKey.class).localSecondaryIndexNames() != null && field
-								.getAnnotation(DynamoDBIndexRangeKey.class).localSecondaryIndexNames().length > 0)) {
-					propertyNames.add(getPropertyNameForField(field));
-				}
+			String[] localSecondaryIndexNames = getLocalSecondaryIndexNames(
+					field.getAnnotation(DynamoDBIndexRangeKey.class));
+			if (localSecondaryIndexNames.length > 0) {
+				indexNames.put(getPropertyNameForField(field), localSecondaryIndexNames);
 			}
 		});
-		return propertyNames;
+		return indexNames;
+	}
+
+	private static String[] getLocalSecondaryIndexNames(DynamoDBIndexRangeKey dynamoDBIndexRangeKey) {
+		if (dynamoDBIndexRangeKey == null) {
+			return new String[0];
+		} else if (dynamoDBIndexRangeKey.localSecondaryIndexName() != null
+				&& dynamoDBIndexRangeKey.localSecondaryIndexName().trim().length() > 0) {
+			return new String[]{dynamoDBIndexRangeKey.localSecondaryIndexName()};
+		} else if (dynamoDBIndexRangeKey.localSecondaryIndexNames() != null) {
+			return dynamoDBIndexRangeKey.localSecondaryIndexNames();
+		} else {
+			return new String[0];
+		}
 	}
 
 	public T getHashKeyPropotypeEntityForHashKey(Object hashKey) {
@@ -17,6 +17,7 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMarshaller;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+import org.socialsignin.spring.data.dynamodb.repository.DynamoDBIndexStatistics;
 import org.springframework.data.repository.core.EntityMetadata;
 
 import java.util.Map;
@@ -52,4 +53,10 @@ public interface DynamoDBHashKeyExtractingEntityMetadata<T> extends EntityMetada
 
 	boolean isGlobalIndexRangeKeyProperty(String propertyName);
 
+	/**
+	 * @return The {@link DynamoDBIndexStatistics} declared on the entity by index
+	 *         name
+	 */
+	Map<String, DynamoDBIndexStatistics> getIndexStatisticsByIndexName();
+
 }
@@ -17,6 +17,7 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMarshaller;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+import org.socialsignin.spring.data.dynamodb.repository.DynamoDBIndexStatistics;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.repository.core.support.ReflectionEntityInformation;
 
@@ -105,6 +106,11 @@ public class DynamoDBIdIsHashAndRangeKeyEntityInformationImpl<T, ID> extends Ref
 		return metadata.getIndexRangeKeyPropertyNames();
 	}
 
+	@Override
+	public Map<String, String[]> getLocalSecondaryIndexNamesByPropertyName() {
+		return metadata.getLocalSecondaryIndexNamesByPropertyName();
+	}
+
 	@Override
 	public String getHashKeyPropertyName() {
 		return metadata.getHashKeyPropertyName();
@@ -125,6 +131,11 @@ public class DynamoDBIdIsHashAndRangeKeyEntityInformationImpl<T, ID> extends Ref
 		return metadata.getGlobalSecondaryIndexNamesByPropertyName();
 	}
 
+	@Override
+	public Map<String, DynamoDBIndexStatistics> getIndexStatisticsByIndexName() {
+		return metadata.getIndexStatisticsByIndexName();
+	}
+
 	@Override
 	public <H> T getHashKeyPropotypeEntityForHashKey(H hashKey) {
 		return metadata.getHashKeyPropotypeEntityForHashKey(hashKey);
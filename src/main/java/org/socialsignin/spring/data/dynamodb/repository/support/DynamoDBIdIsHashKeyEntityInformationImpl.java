@@ -18,6 +18,7 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMarshaller;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+import org.socialsignin.spring.data.dynamodb.repository.DynamoDBIndexStatistics;
 import org.springframework.util.Assert;
 
 import java.util.Map;
@@ -116,6 +117,11 @@ public class DynamoDBIdIsHashKeyEntityInformationImpl<T, ID> extends FieldAndGet
 		return metadata.getGlobalSecondaryIndexNamesByPropertyName();
 	}
 
+	@Override
+	public Map<String, DynamoDBIndexStatistics> getIndexStatisticsByIndexName() {
+		return metadata.getIndexStatisticsByIndexName();
+	}
+
 	@Override
 	public boolean isGlobalIndexHashKeyProperty(String propertyName) {
 		return metadata.isGlobalIndexHashKeyProperty(propertyName);
@@ -95,13 +95,14 @@ public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
 
 	public DynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations) {
 		this.dynamoDBOperations = dynamoDBOperations;
+		addRepositoryProxyPostProcessor((factory, repositoryInformation) -> factory
+				.addAdvice(new RepositoryMethodContextInterceptor(repositoryInformation.getRepositoryInterface())));
 	}
 
 	@Override
 	public <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(final Class<T> domainClass) {
 
-		final DynamoDBEntityMetadataSupport<T, ID> metadata = new DynamoDBEntityMetadataSupport<>(domainClass);
-		return metadata.getEntityInformation();
+		return DynamoDBEntityInformationRegistry.getEntityInformation(domainClass);
 	}
 
 	@Override
@@ -17,6 +17,7 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import org.socialsignin.spring.data.dynamodb.repository.EnableScan;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScanCount;
+import org.socialsignin.spring.data.dynamodb.repository.PageCount;
 import org.springframework.data.domain.Pageable;
 import org.springframework.util.ReflectionUtils;
 
@@ -38,6 +39,12 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 	private boolean countUnpaginatedScanEnabled = false;
 	private boolean deleteAllUnpaginatedScanEnabled = false;
 
+	private int findAllUnpaginatedScanTotalSegments = 1;
+	private int countUnpaginatedScanTotalSegments = 1;
+	private int deleteAllUnpaginatedScanTotalSegments = 1;
+
+	private PageCount.Mode findAllPaginatedPageCountMode = PageCount.Mode.EAGER;
+
 	public EnableScanAnnotationPermissions(Class<?> repositoryInterface) {
 		// Check to see if global EnableScan is declared at interface level
 		if (repositoryInterface.isAnnotationPresent(EnableScan.class)) {
@@ -45,6 +52,11 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 			this.countUnpaginatedScanEnabled = true;
 			this.deleteAllUnpaginatedScanEnabled = true;
 			this.findAllPaginatedScanEnabled = true;
+
+			int totalSegments = repositoryInterface.getAnnotation(EnableScan.class).totalSegments();
+			this.findAllUnpaginatedScanTotalSegments = totalSegments;
+			this.countUnpaginatedScanTotalSegments = totalSegments;
+			this.deleteAllUnpaginatedScanTotalSegments = totalSegments;
 		} else {
 			// Check declared methods for EnableScan annotation
 			Method[] methods = ReflectionUtils.getAllDeclaredMethods(repositoryInterface);
@@ -58,16 +70,19 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 
 				if (method.getName().equals("findAll")) {
 					findAllUnpaginatedScanEnabled = true;
+					findAllUnpaginatedScanTotalSegments = method.getAnnotation(EnableScan.class).totalSegments();
 					continue;
 				}
 
 				if (method.getName().equals("deleteAll")) {
 					deleteAllUnpaginatedScanEnabled = true;
+					deleteAllUnpaginatedScanTotalSegments = method.getAnnotation(EnableScan.class).totalSegments();
 					continue;
 				}
 
 				if (method.getName().equals("count")) {
 					countUnpaginatedScanEnabled = true;
+					countUnpaginatedScanTotalSegments = method.getAnnotation(EnableScan.class).totalSegments();
 					continue;
 				}
 
@@ -107,6 +122,15 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 			findAllUnpaginatedScanCountEnabled = true;
 		}
 
+		Method findAllPaginated = ReflectionUtils.findMethod(repositoryInterface, "findAll", Pageable.class);
+		PageCount pageCount = findAllPaginated != null ? findAllPaginated.getAnnotation(PageCount.class) : null;
+		if (pageCount == null) {
+			pageCount = repositoryInterface.getAnnotation(PageCount.class);
+		}
+		if (pageCount != null) {
+			findAllPaginatedPageCountMode = pageCount.value();
+		}
+
 	}
 
 	@Override
@@ -135,4 +159,24 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 		return findAllPaginatedScanEnabled;
 	}
 
+	@Override
+	public int getFindAllUnpaginatedScanTotalSegments() {
+		return findAllUnpaginatedScanTotalSegments;
+	}
+
+	@Override
+	public int getDeleteAllUnpaginatedScanTotalSegments() {
+		return deleteAllUnpaginatedScanTotalSegments;
+	}
+
+	@Override
+	public int getCountUnpaginatedScanTotalSegments() {
+		return countUnpaginatedScanTotalSegments;
+	}
+
+	@Override
+	public PageCount.Mode getFindAllPaginatedPageCountMode() {
+		return findAllPaginatedPageCountMode;
+	}
+
 }
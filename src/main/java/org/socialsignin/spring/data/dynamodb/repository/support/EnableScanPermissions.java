@@ -15,6 +15,8 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import org.socialsignin.spring.data.dynamodb.repository.PageCount;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -31,4 +33,39 @@ public interface EnableScanPermissions {
 
 	boolean isCountUnpaginatedScanEnabled();
 
+	/**
+	 * @return Number of segments the scan of unpaginated {@code findAll()} is
+	 *         split into
+	 * @see org.socialsignin.spring.data.dynamodb.repository.EnableScan#totalSegments()
+	 */
+	default int getFindAllUnpaginatedScanTotalSegments() {
+		return 1;
+	}
+
+	/**
+	 * @return Number of segments the key-only scan of unpaginated
+	 *         {@code deleteAll()} is split into
+	 * @see org.socialsignin.spring.data.dynamodb.repository.EnableScan#totalSegments()
+	 */
+	default int getDeleteAllUnpaginatedScanTotalSegments() {
+		return 1;
+	}
+
+	/**
+	 * @return Number of segments the scan of unpaginated {@code count()} is split
+	 *         into
+	 * @see org.socialsignin.spring.data.dynamodb.repository.EnableScan#totalSegments()
+	 */
+	default int getCountUnpaginatedScanTotalSegments() {
+		return 1;
+	}
+
+	/**
+	 * @return How the total of paginated {@code findAll(Pageable)} is determined
+	 * @see org.socialsignin.spring.data.dynamodb.repository.PageCount
+	 */
+	default PageCount.Mode getFindAllPaginatedPageCountMode() {
+		return PageCount.Mode.EAGER;
+	}
+
 }
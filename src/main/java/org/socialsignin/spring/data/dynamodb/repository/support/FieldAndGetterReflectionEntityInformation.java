@@ -23,6 +23,7 @@ import org.springframework.util.ReflectionUtils;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.function.Function;
 
 /**
  * {@link org.springframework.data.repository.core.EntityInformation}
@@ -36,6 +37,7 @@ public class FieldAndGetterReflectionEntityInformation<T, ID> extends AbstractEn
 
 	protected Method method;
 	private Field field;
+	private final Function<T, ID> idAccessor;
 
 	/**
 	 * Creates a new {@link FieldAndGetterReflectionEntityInformation} inspecting
@@ -48,6 +50,22 @@ public class FieldAndGetterReflectionEntityInformation<T, ID> extends AbstractEn
 	 */
 	public FieldAndGetterReflectionEntityInformation(@NonNull Class<T> domainClass,
 			@NonNull final Class<? extends Annotation> annotation) {
+		this(domainClass, annotation, KeyAccessorFactory.DEFAULT);
+	}
+
+	/**
+	 * Creates a new {@link FieldAndGetterReflectionEntityInformation} inspecting
+	 * the given domain class for a getter carrying the given annotation.
+	 *
+	 * @param domainClass
+	 *            must not be {@literal null}.
+	 * @param annotation
+	 *            must not be {@literal null}.
+	 * @param keyAccessorFactory
+	 *            must not be {@literal null}.
+	 */
+	public FieldAndGetterReflectionEntityInformation(@NonNull Class<T> domainClass,
+			@NonNull final Class<? extends Annotation> annotation, @NonNull KeyAccessorFactory keyAccessorFactory) {
 
 		super(domainClass);
 		Assert.notNull(annotation, "annotation must not be null!");
@@ -74,8 +92,13 @@ public class FieldAndGetterReflectionEntityInformation<T, ID> extends AbstractEn
 		Assert.isTrue(this.method == null || this.field == null,
 				String.format("Both field and method annotated with %s found!", annotation.toString()));
 
+		Assert.notNull(keyAccessorFactory, "keyAccessorFactory must not be null!");
+
 		if (method != null) {
 			ReflectionUtils.makeAccessible(method);
+			this.idAccessor = keyAccessorFactory.createAccessor(method);
+		} else {
+			this.idAccessor = keyAccessorFactory.createAccessor(field);
 		}
 	}
 
@@ -86,13 +109,8 @@ public class FieldAndGetterReflectionEntityInformation<T, ID> extends AbstractEn
 	 * .lang.Object)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public ID getId(T entity) {
-		if (method != null) {
-			return entity == null ? null : (ID) ReflectionUtils.invokeMethod(method, entity);
-		} else {
-			return entity == null ? null : (ID) ReflectionUtils.getField(field, entity);
-		}
+		return entity == null ? null : idAccessor.apply(entity);
 	}
 
 	/*
@@ -0,0 +1,58 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * Creates the accessors used to read hash and range keys (or the id) from
+ * entities and composite ids. Accessors are created once per class and invoked
+ * for every key extraction, e.g. for every id passed to {@code findAllById}.
+ *
+ * @see MethodHandleKeyAccessorFactory
+ * @see ReflectionKeyAccessorFactory
+ */
+public interface KeyAccessorFactory {
+
+	/**
+	 * The {@link KeyAccessorFactory} used if none is specified explicitly
+	 */
+	KeyAccessorFactory DEFAULT = new MethodHandleKeyAccessorFactory();
+
+	/**
+	 * @param <T>
+	 *            Type of the object to read from
+	 * @param <V>
+	 *            Type of the returned value
+	 * @param getter
+	 *            Getter method without parameters
+	 * @return An accessor invoking the given getter
+	 */
+	<T, V> Function<T, V> createAccessor(Method getter);
+
+	/**
+	 * @param <T>
+	 *            Type of the object to read from
+	 * @param <V>
+	 *            Type of the returned value
+	 * @param field
+	 *            The field to read
+	 * @return An accessor reading the given field
+	 */
+	<T, V> Function<T, V> createAccessor(Field field);
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * {@link KeyAccessorFactory} compiling the accessors once instead of reflecting
+ * on every access:
+ * <ul>
+ * <li>Public getters of public classes are bound via {@link LambdaMetafactory}
+ * to a {@link Function}, which the JIT can inline like a direct call</li>
+ * <li>Other getters and fields are accessed via a {@link MethodHandle}</li>
+ * <li>If neither is possible (e.g. due to a
+ * {@link java.lang.SecurityManager}) plain reflection is used</li>
+ * </ul>
+ */
+public class MethodHandleKeyAccessorFactory implements KeyAccessorFactory {
+	private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandleKeyAccessorFactory.class);
+
+	private static final MethodType ACCESSOR_FACTORY_TYPE = MethodType.methodType(Function.class);
+	private static final MethodType ACCESSOR_SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+	private final KeyAccessorFactory fallback = new ReflectionKeyAccessorFactory();
+
+	@Override
+	public <T, V> Function<T, V> createAccessor(Method getter) {
+		try {
+			ReflectionUtils.makeAccessible(getter);
+			MethodHandle methodHandle = lookup.unreflect(getter);
+
+			if (isLambdaCompatible(getter)) {
+				try {
+					return createLambda(methodHandle);
+				} catch (Throwable t) {
+					LOGGER.debug("Unable to create lambda for {} - using a MethodHandle instead", getter, t);
+				}
+			}
+			return createMethodHandleAccessor(methodHandle);
+		} catch (IllegalAccessException | RuntimeException e) {
+			LOGGER.debug("Unable to create MethodHandle for {} - using reflection instead", getter, e);
+			return fallback.createAccessor(getter);
+		}
+	}
+
+	@Override
+	public <T, V> Function<T, V> createAccessor(Field field) {
+		try {
+			ReflectionUtils.makeAccessible(field);
+			return createMethodHandleAccessor(lookup.unreflectGetter(field));
+		} catch (IllegalAccessException | RuntimeException e) {
+			LOGGER.debug("Unable to create MethodHandle for {} - using reflection instead", field, e);
+			return fallback.createAccessor(field);
+		}
+	}
+
+	/**
+	 * The generated lambda class is defined next to this class and invokes the
+	 * getter directly - thus the getter must be public and its class visible from
+	 * here.
+	 */
+	private boolean isLambdaCompatible(Method getter) {
+		Class<?> declaringClass = getter.getDeclaringClass();
+		return !Modifier.isStatic(getter.getModifiers()) && Modifier.isPublic(getter.getModifiers())
+				&& Modifier.isPublic(declaringClass.getModifiers())
+				&& ClassUtils.isVisible(declaringClass, MethodHandleKeyAccessorFactory.class.getClassLoader());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T, V> Function<T, V> createLambda(MethodHandle methodHandle) throws Throwable {
+		CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", ACCESSOR_FACTORY_TYPE, ACCESSOR_SAM_TYPE,
+				methodHandle, methodHandle.type().wrap());
+		return (Function<T, V>) callSite.getTarget().invoke();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T, V> Function<T, V> createMethodHandleAccessor(MethodHandle methodHandle) {
+		MethodHandle genericMethodHandle = methodHandle.asType(ACCESSOR_SAM_TYPE);
+		return target -> {
+			try {
+				return (V) genericMethodHandle.invokeExact(target);
+			} catch (Throwable t) {
+				ReflectionUtils.rethrowRuntimeException(t);
+				return null;
+			}
+		};
+	}
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+
+/**
+ * Creates {@link ReactiveDynamoDBCrudRepository} instances. Query methods are
+ * resolved the same way as by {@link DynamoDBRepositoryFactory} - those
+ * returning a {@link org.reactivestreams.Publisher} stream their results.
+ */
+public class ReactiveDynamoDBRepositoryFactory extends DynamoDBRepositoryFactory {
+
+	private final AsyncDynamoDBOperations dynamoDBOperations;
+
+	public ReactiveDynamoDBRepositoryFactory(AsyncDynamoDBOperations dynamoDBOperations) {
+		super(dynamoDBOperations);
+		this.dynamoDBOperations = dynamoDBOperations;
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		super.getRepositoryBaseClass(metadata);
+		return SimpleReactiveDynamoDBCrudRepository.class;
+	}
+
+	@Override
+	protected Object getTargetRepository(RepositoryInformation metadata) {
+		return new SimpleReactiveDynamoDBCrudRepository<>(getEntityInformation(metadata.getDomainType()),
+				dynamoDBOperations, getEnableScanPermissions(metadata));
+	}
+
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.Assert;
+
+import java.io.Serializable;
+
+/**
+ * {@link DynamoDBRepositoryFactoryBean} creating
+ * {@link org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository}
+ * instances. Use it as
+ * {@link org.socialsignin.spring.data.dynamodb.repository.config.EnableDynamoDBRepositories#repositoryFactoryBeanClass()}
+ * together with an {@link AsyncDynamoDBOperations} implementation.
+ *
+ * @param <T>
+ *            the type of the repository
+ */
+public class ReactiveDynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+		extends
+			DynamoDBRepositoryFactoryBean<T, S, ID> {
+
+	public ReactiveDynamoDBRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+		super(repositoryInterface);
+	}
+
+	@Override
+	protected DynamoDBRepositoryFactory createDynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations) {
+		Assert.isInstanceOf(AsyncDynamoDBOperations.class, dynamoDBOperations,
+				"Reactive repositories require AsyncDynamoDBOperations");
+		return new ReactiveDynamoDBRepositoryFactory((AsyncDynamoDBOperations) dynamoDBOperations);
+	}
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * {@link KeyAccessorFactory} using plain reflection on every access.
+ */
+public class ReflectionKeyAccessorFactory implements KeyAccessorFactory {
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T, V> Function<T, V> createAccessor(Method getter) {
+		ReflectionUtils.makeAccessible(getter);
+		return target -> (V) ReflectionUtils.invokeMethod(getter, target);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T, V> Function<T, V> createAccessor(Field field) {
+		ReflectionUtils.makeAccessible(field);
+		return target -> (V) ReflectionUtils.getField(field, target);
+	}
+}
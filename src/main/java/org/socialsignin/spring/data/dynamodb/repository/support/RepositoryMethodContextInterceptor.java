@@ -0,0 +1,50 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.socialsignin.spring.data.dynamodb.core.RepositoryMethodContext;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Exposes the invoked repository method via the {@link RepositoryMethodContext}
+ * as {@code RepositoryInterface.methodName}.
+ */
+public class RepositoryMethodContextInterceptor implements MethodInterceptor {
+
+	private final String repositoryName;
+	private final Map<Method, String> methodNames = new ConcurrentHashMap<>();
+
+	public RepositoryMethodContextInterceptor(Class<?> repositoryInterface) {
+		this.repositoryName = repositoryInterface.getSimpleName();
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		String methodName = methodNames.computeIfAbsent(invocation.getMethod(),
+				method -> repositoryName + "." + method.getName());
+		String previous = RepositoryMethodContext.enter(methodName);
+		try {
+			return invocation.proceed();
+		} finally {
+			RepositoryMethodContext.restore(previous);
+		}
+	}
+}
@@ -18,7 +18,9 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
 import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
@@ -27,12 +29,11 @@ import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -104,9 +105,7 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 			}
 		}).collect(Collectors.toList());
 
-		Map<Class<?>, List<KeyPair>> keyPairsMap = Collections.<Class<?>, List<KeyPair>>singletonMap(domainType,
-				keyPairs);
-		return dynamoDBOperations.batchLoad(keyPairsMap);
+		return dynamoDBOperations.batchLoad(domainType, keyPairs);
 	}
 
 	@Override
@@ -138,11 +137,30 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws BatchWriteException
+	 *             in case of an error during saving
+	 */
+	@Override
+	public <S extends T> void saveAll(Stream<S> entities) throws BatchWriteException, IllegalArgumentException {
+
+		Assert.notNull(entities, "The given Stream of entities not be null!");
+		List<FailedBatch> failedBatches = dynamoDBOperations.batchSave(entities.iterator());
+
+		if (!failedBatches.isEmpty()) {
+			throw repackageToException(failedBatches, BatchWriteException.class);
+		}
+	}
+
 	@Override
 	public boolean existsById(ID id) {
 
 		Assert.notNull(id, "The given id must not be null!");
-		return findById(id).isPresent();
+		// Only the key attributes are read - the item is not unmarshalled
+		return dynamoDBOperations.exists(domainType, entityInformation.getHashKey(id),
+				entityInformation.isRangeKeyAware() ? entityInformation.getRangeKey(id) : null);
 	}
 
 	void assertScanEnabled(boolean scanEnabled, String methodName) {
@@ -157,6 +175,10 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 		assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "findAll");
 		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+		int totalSegments = enableScanPermissions.getFindAllUnpaginatedScanTotalSegments();
+		if (totalSegments > 1) {
+			return dynamoDBOperations.parallelScan(domainType, scanExpression, totalSegments);
+		}
 		return dynamoDBOperations.scan(domainType, scanExpression);
 	}
 
@@ -164,6 +186,10 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 	public long count() {
 		assertScanEnabled(enableScanPermissions.isCountUnpaginatedScanEnabled(), "count");
 		final DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+		int totalSegments = enableScanPermissions.getCountUnpaginatedScanTotalSegments();
+		if (totalSegments > 1) {
+			return dynamoDBOperations.parallelCount(domainType, scanExpression, totalSegments);
+		}
 		return dynamoDBOperations.count(domainType, scanExpression);
 	}
 
@@ -172,12 +198,11 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 		Assert.notNull(id, "The given id must not be null!");
 
-		Optional<T> entity = findById(id);
-
-		if (entity.isPresent()) {
-			dynamoDBOperations.delete(entity.get());
-
-		} else {
+		try {
+			// Conditional on the item to exist - read first only if versioned or listened to
+			dynamoDBOperations.delete(domainType, entityInformation.getHashKey(id),
+					entityInformation.isRangeKeyAware() ? entityInformation.getRangeKey(id) : null);
+		} catch (ConditionalCheckFailedException e) {
 			throw new EmptyResultDataAccessException(String.format("No %s entity with id %s exists!", domainType, id),
 					1);
 		}
@@ -189,18 +214,43 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 		dynamoDBOperations.delete(entity);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws BatchDeleteException
+	 *             in case of an error during deleting
+	 */
 	@Override
-	public void deleteAll(Iterable<? extends T> entities) {
+	public void deleteAll(Iterable<? extends T> entities) throws BatchDeleteException {
 
 		Assert.notNull(entities, "The given Iterable of entities not be null!");
-		dynamoDBOperations.batchDelete(entities);
+		List<FailedBatch> failedBatches = dynamoDBOperations.batchDelete(entities);
+
+		if (!failedBatches.isEmpty()) {
+			throw repackageToException(failedBatches, BatchDeleteException.class);
+		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Only the keys are scanned and the entities are deleted in batches while the
+	 * scan is still running - without loading them unless there are listeners for
+	 * the delete events.
+	 *
+	 * @throws BatchDeleteException
+	 *             in case of an error during deleting
+	 */
 	@Override
-	public void deleteAll() {
+	public void deleteAll() throws BatchDeleteException {
 
 		assertScanEnabled(enableScanPermissions.isDeleteAllUnpaginatedScanEnabled(), "deleteAll");
-		dynamoDBOperations.batchDelete(findAll());
+		List<FailedBatch> failedBatches = dynamoDBOperations.batchDelete(domainType, new DynamoDBScanExpression(),
+				enableScanPermissions.getDeleteAllUnpaginatedScanTotalSegments());
+
+		if (!failedBatches.isEmpty()) {
+			throw repackageToException(failedBatches, BatchDeleteException.class);
+		}
 	}
 
 	@NonNull
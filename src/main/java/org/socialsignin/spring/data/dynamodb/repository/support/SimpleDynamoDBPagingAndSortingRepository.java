@@ -17,8 +17,15 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.ForkedTask;
+import org.socialsignin.spring.data.dynamodb.domain.CursorPage;
+import org.socialsignin.spring.data.dynamodb.domain.CursorPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.ExclusiveStartKeyCursor;
+import org.socialsignin.spring.data.dynamodb.domain.LazyTotalPageImpl;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBPagingAndSortingRepository;
+import org.socialsignin.spring.data.dynamodb.repository.PageCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +35,7 @@ import org.springframework.util.Assert;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Default implementation of the
@@ -42,7 +50,10 @@ import java.util.List;
  * returning a sublist of the result-set.
  * 
  * NB: Number of results scanned for a given page request is proportional to the
- * page number requested!
+ * page number requested! Use a
+ * {@link org.socialsignin.spring.data.dynamodb.domain.CursorPageRequest} to
+ * scan only the requested page. The total of the page is determined as declared
+ * by {@link org.socialsignin.spring.data.dynamodb.repository.PageCount}.
  * 
  * 
  * @author Michael Lavelle
@@ -73,6 +84,18 @@ public class SimpleDynamoDBPagingAndSortingRepository<T, ID> extends SimpleDynam
 
 		ensureNoSort(pageable);
 
+		if (pageable instanceof CursorPageRequest) {
+			return findAll((CursorPageRequest) pageable);
+		}
+
+		PageCount.Mode pageCountMode = enableScanPermissions.getFindAllPaginatedPageCountMode();
+		if (pageCountMode != PageCount.Mode.EAGER) {
+			assertScanEnabled(enableScanPermissions.isFindAllPaginatedScanEnabled(), "findAll(Pageable pageable)");
+		}
+		Supplier<Long> totalSupplier = pageCountMode != PageCount.Mode.EAGER
+				? createTotalSupplier(pageCountMode)
+				: null;
+
 		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
 		// Scan to the end of the page after the requested page
 		long scanTo = pageable.getOffset() + (2 * pageable.getPageSize());
@@ -87,6 +110,10 @@ public class SimpleDynamoDBPagingAndSortingRepository<T, ID> extends SimpleDynam
 		// Scan ahead to retrieve the next page count
 		List<T> results = readPageOfResults(iterator, pageable.getPageSize());
 
+		if (totalSupplier != null) {
+			return new LazyTotalPageImpl<>(results, pageable, iterator.hasNext(), totalSupplier);
+		}
+
 		assertScanEnabled(enableScanPermissions.isFindAllPaginatedScanEnabled(), "findAll(Pageable pageable)");
 		assertScanCountEnabled(enableScanPermissions.isFindAllUnpaginatedScanCountEnabled(),
 				"findAll(Pageable pageable)");
@@ -97,6 +124,43 @@ public class SimpleDynamoDBPagingAndSortingRepository<T, ID> extends SimpleDynam
 
 	}
 
+	private Page<T> findAll(CursorPageRequest pageable) {
+		assertScanEnabled(enableScanPermissions.isFindAllPaginatedScanEnabled(), "findAll(Pageable pageable)");
+		PageCount.Mode pageCountMode = enableScanPermissions.getFindAllPaginatedPageCountMode();
+		Supplier<Long> totalSupplier = createTotalSupplier(pageCountMode);
+
+		// Without a filter expression a scan returns exactly Limit items unless the
+		// end of the table is reached
+		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+		scanExpression.setLimit(pageable.getPageSize());
+		scanExpression.setExclusiveStartKey(pageable.getExclusiveStartKey());
+		ScanResultPage<T> scanResultPage = dynamoDBOperations.scanPage(domainType, scanExpression);
+		String nextCursor = ExclusiveStartKeyCursor.encode(scanResultPage.getLastEvaluatedKey());
+
+		if (pageCountMode == PageCount.Mode.EAGER) {
+			return new CursorPage<>(scanResultPage.getResults(), pageable, totalSupplier.get(), nextCursor);
+		}
+		return new CursorPage<>(scanResultPage.getResults(), pageable, totalSupplier, nextCursor);
+	}
+
+	/**
+	 * The item count of {@code DescribeTable} doesn't require to scan - thus it
+	 * doesn't require the scan count permission.
+	 */
+	private Supplier<Long> createTotalSupplier(PageCount.Mode pageCountMode) {
+		if (pageCountMode == PageCount.Mode.ESTIMATED) {
+			return () -> dynamoDBOperations.estimateCount(domainType, entityInformation.getDynamoDBTableName());
+		}
+
+		assertScanCountEnabled(enableScanPermissions.isFindAllUnpaginatedScanCountEnabled(),
+				"findAll(Pageable pageable)");
+		Supplier<Long> count = () -> (long) dynamoDBOperations.count(domainType, new DynamoDBScanExpression());
+		if (pageCountMode == PageCount.Mode.CONCURRENT) {
+			return ForkedTask.fork(dynamoDBOperations.getQueryExecutor(), count)::join;
+		}
+		return count;
+	}
+
 	private long scanThroughResults(Iterator<T> paginatedScanListIterator, long resultsToScan) {
 		long processed = 0;
 		while (paginatedScanListIterator.hasNext() && processed < resultsToScan) {
@@ -0,0 +1,176 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Default implementation of the {@link ReactiveDynamoDBCrudRepository}
+ * interface.
+ *
+ * @param <T>
+ *            the type of the entity to handle
+ * @param <ID>
+ *            the type of the entity's identifier
+ */
+public class SimpleReactiveDynamoDBCrudRepository<T, ID> implements ReactiveDynamoDBCrudRepository<T, ID> {
+
+	protected DynamoDBEntityInformation<T, ID> entityInformation;
+
+	protected Class<T> domainType;
+
+	protected EnableScanPermissions enableScanPermissions;
+
+	protected AsyncDynamoDBOperations dynamoDBOperations;
+
+	public SimpleReactiveDynamoDBCrudRepository(DynamoDBEntityInformation<T, ID> entityInformation,
+			AsyncDynamoDBOperations dynamoDBOperations, EnableScanPermissions enableScanPermissions) {
+		Assert.notNull(entityInformation, "entityInformation must not be null");
+		Assert.notNull(dynamoDBOperations, "dynamoDBOperations must not be null");
+
+		this.entityInformation = entityInformation;
+		this.dynamoDBOperations = dynamoDBOperations;
+		this.domainType = entityInformation.getJavaType();
+		this.enableScanPermissions = enableScanPermissions;
+	}
+
+	@Override
+	public <S extends T> Publisher<S> save(S entity) {
+
+		Assert.notNull(entity, "The entity must not be null!");
+		return DynamoDBPagePublisher.fromFuture(() -> dynamoDBOperations.saveAsync(entity));
+	}
+
+	@Override
+	public Publisher<T> findById(ID id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+		return DynamoDBPagePublisher.fromFuture(() -> load(id));
+	}
+
+	@Override
+	public Publisher<Boolean> existsById(ID id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+		Object hashKey = entityInformation.getHashKey(id);
+		Object rangeKey = entityInformation.isRangeKeyAware() ? entityInformation.getRangeKey(id) : null;
+		return DynamoDBPagePublisher.fromFuture(
+				() -> dynamoDBOperations.executeAsync(() -> dynamoDBOperations.exists(domainType, hashKey, rangeKey)));
+	}
+
+	private CompletableFuture<T> load(ID id) {
+		if (entityInformation.isRangeKeyAware()) {
+			return dynamoDBOperations.loadAsync(domainType, entityInformation.getHashKey(id),
+					entityInformation.getRangeKey(id));
+		} else {
+			return dynamoDBOperations.loadAsync(domainType, entityInformation.getHashKey(id));
+		}
+	}
+
+	@Override
+	public Publisher<T> findAll() {
+
+		assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "findAll");
+		return dynamoDBOperations.scanPublisher(domainType, new DynamoDBScanExpression());
+	}
+
+	@Override
+	public Publisher<T> findAllById(Iterable<ID> ids) {
+
+		Assert.notNull(ids, "The given ids must not be null!");
+
+		// Works only with non-parallel streams!
+		AtomicInteger idx = new AtomicInteger();
+		List<KeyPair> keyPairs = StreamSupport.stream(ids.spliterator(), false).map(id -> {
+
+			Assert.notNull(id, "The given id at position " + idx.getAndIncrement() + " must not be null!");
+
+			if (entityInformation.isRangeKeyAware()) {
+				return new KeyPair().withHashKey(entityInformation.getHashKey(id))
+						.withRangeKey(entityInformation.getRangeKey(id));
+			} else {
+				return new KeyPair().withHashKey(id);
+			}
+		}).collect(Collectors.toList());
+
+		Map<Class<?>, List<KeyPair>> keyPairsMap = Collections.<Class<?>, List<KeyPair>>singletonMap(domainType,
+				keyPairs);
+		return new DynamoDBPagePublisher<>(startKey -> dynamoDBOperations.<T>batchLoadAsync(keyPairsMap)
+				.thenApply(entities -> new ResultPage<>(entities, null)));
+	}
+
+	@Override
+	public Publisher<Long> count() {
+
+		assertScanEnabled(enableScanPermissions.isCountUnpaginatedScanEnabled(), "count");
+		return DynamoDBPagePublisher.fromFuture(() -> dynamoDBOperations
+				.executeAsync(() -> (long) dynamoDBOperations.count(domainType, new DynamoDBScanExpression())));
+	}
+
+	@Override
+	public Publisher<Void> deleteById(ID id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+		Object hashKey = entityInformation.getHashKey(id);
+		Object rangeKey = entityInformation.isRangeKeyAware() ? entityInformation.getRangeKey(id) : null;
+		return DynamoDBPagePublisher.fromFuture(() -> dynamoDBOperations.<Void>executeAsync(() -> {
+			try {
+				dynamoDBOperations.delete(domainType, hashKey, rangeKey);
+				return null;
+			} catch (ConditionalCheckFailedException e) {
+				throw new EmptyResultDataAccessException(
+						String.format("No %s entity with id %s exists!", domainType, id), 1);
+			}
+		}));
+	}
+
+	@Override
+	public Publisher<Void> delete(T entity) {
+
+		Assert.notNull(entity, "The entity must not be null!");
+		return DynamoDBPagePublisher.fromFuture(() -> dynamoDBOperations.deleteAsync(entity).thenApply(e -> null));
+	}
+
+	void assertScanEnabled(boolean scanEnabled, String methodName) {
+		Assert.isTrue(scanEnabled, "Scanning for unpaginated " + methodName + "() queries is not enabled.  "
+				+ "To enable, re-implement the " + methodName
+				+ "() method in your repository interface and annotate with @EnableScan, or "
+				+ "enable scanning for all repository methods by annotating your repository interface with @EnableScan");
+	}
+
+	@NonNull
+	public DynamoDBEntityInformation<T, ID> getEntityInformation() {
+		return this.entityInformation;
+	}
+}
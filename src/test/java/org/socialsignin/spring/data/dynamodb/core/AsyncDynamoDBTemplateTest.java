@@ -0,0 +1,358 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.BatchGetItemException;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.NoRetryBatchLoadRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperationTags.Operation;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisherTest.TestSubscriber;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterQueryEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncDynamoDBTemplateTest {
+	@Mock
+	private DynamoDBMapper dynamoDBMapper;
+	@Mock
+	private AmazonDynamoDBAsync dynamoDB;
+	@Mock
+	private ApplicationContext applicationContext;
+
+	private DynamoDBMapperConfig dynamoDBMapperConfig = DynamoDBMapperConfig.DEFAULT;
+	private AsyncDynamoDBTemplate dynamoDBTemplate;
+
+	@Before
+	public void setUp() {
+		this.dynamoDBTemplate = new AsyncDynamoDBTemplate(dynamoDB, dynamoDBMapper, dynamoDBMapperConfig,
+				Runnable::run);
+		this.dynamoDBTemplate.setApplicationContext(applicationContext);
+	}
+
+	@Test
+	public void testExecuteAsync_RunsOnOwnExecutor() throws Exception {
+		AsyncDynamoDBTemplate underTest = new AsyncDynamoDBTemplate(dynamoDB, dynamoDBMapper, dynamoDBMapperConfig);
+		try {
+			String threadName = underTest.executeAsync(() -> Thread.currentThread().getName()).get();
+
+			assertTrue(threadName.startsWith("dynamodb-async-template-"));
+		} finally {
+			underTest.destroy();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLoadAsync() throws Exception {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(mock(AmazonDynamoDBAsync.class)).getTableModel(User.class, dynamoDBMapperConfig));
+		Map<String, AttributeValue> item = Collections.singletonMap("Id", new AttributeValue("userId"));
+		User user = new User();
+		when(dynamoDBMapper.marshallIntoObject(User.class, item, dynamoDBMapperConfig)).thenReturn(user);
+		when(dynamoDB.getItemAsync(any(GetItemRequest.class), any())).thenAnswer(invocation -> {
+			invocation.<AsyncHandler<GetItemRequest, GetItemResult>>getArgument(1)
+					.onSuccess(invocation.getArgument(0), new GetItemResult().withItem(item));
+			return null;
+		});
+
+		User actual = dynamoDBTemplate.loadAsync(User.class, "userId").get();
+
+		assertSame(user, actual);
+		ArgumentCaptor<GetItemRequest> request = ArgumentCaptor.forClass(GetItemRequest.class);
+		verify(dynamoDB).getItemAsync(request.capture(), any());
+		assertEquals("user", request.getValue().getTableName());
+		assertEquals(item, request.getValue().getKey());
+		verify(applicationContext).publishEvent(any(AfterLoadEvent.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLoadAsync_WhenNotFound() throws Exception {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(mock(AmazonDynamoDBAsync.class)).getTableModel(User.class, dynamoDBMapperConfig));
+		when(dynamoDB.getItemAsync(any(GetItemRequest.class), any())).thenAnswer(invocation -> {
+			invocation.<AsyncHandler<GetItemRequest, GetItemResult>>getArgument(1)
+					.onSuccess(invocation.getArgument(0), new GetItemResult());
+			return null;
+		});
+
+		assertNull(dynamoDBTemplate.loadAsync(User.class, "userId").get());
+		verify(applicationContext, never()).publishEvent(any());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCountAsync_LoadsAllPages() throws Exception {
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("Id", new AttributeValue("userId"));
+		when(dynamoDB.queryAsync(any(QueryRequest.class), any())).thenAnswer(invocation -> {
+			QueryRequest request = invocation.getArgument(0);
+			QueryResult result = request.getExclusiveStartKey() == null
+					? new QueryResult().withCount(2).withLastEvaluatedKey(lastEvaluatedKey)
+					: new QueryResult().withCount(3);
+			invocation.<AsyncHandler<QueryRequest, QueryResult>>getArgument(1).onSuccess(request, result);
+			return null;
+		});
+
+		assertEquals(Integer.valueOf(5), dynamoDBTemplate.countAsync(User.class, new QueryRequest()).get());
+	}
+
+	@Test
+	public void testSaveAsync() throws Exception {
+		User user = new User();
+
+		assertSame(user, dynamoDBTemplate.saveAsync(user).get());
+
+		verify(dynamoDBMapper).save(eq(user));
+		verify(applicationContext).publishEvent(any(BeforeSaveEvent.class));
+		verify(applicationContext).publishEvent(any(AfterSaveEvent.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatchLoadAsync_RetriesUnprocessedKeys() throws Exception {
+		Map<String, AttributeValue> item = Collections.singletonMap("Id", new AttributeValue("userId"));
+		User user = new User();
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(mock(AmazonDynamoDBAsync.class)).getTableModel(User.class, dynamoDBMapperConfig));
+		when(dynamoDBMapper.marshallIntoObject(User.class, item, dynamoDBMapperConfig)).thenReturn(user);
+		when(dynamoDB.batchGetItemAsync(any(BatchGetItemRequest.class), any())).thenAnswer(invocation -> {
+			BatchGetItemRequest request = invocation.getArgument(0);
+			invocation.<AsyncHandler<BatchGetItemRequest, BatchGetItemResult>>getArgument(1).onSuccess(request,
+					new BatchGetItemResult().withResponses(Collections.emptyMap())
+							.withUnprocessedKeys(request.getRequestItems()));
+			return null;
+		}).thenAnswer(invocation -> {
+			invocation.<AsyncHandler<BatchGetItemRequest, BatchGetItemResult>>getArgument(1).onSuccess(
+					invocation.getArgument(0),
+					new BatchGetItemResult()
+							.withResponses(Collections.singletonMap("user", Collections.singletonList(item))));
+			return null;
+		});
+
+		List<User> actual = dynamoDBTemplate
+				.<User>batchLoadAsync(Collections.singletonMap(User.class,
+						Collections.singletonList(new KeyPair().withHashKey("userId"))))
+				.get();
+
+		assertEquals(Collections.singletonList(user), actual);
+		verify(dynamoDB, times(2)).batchGetItemAsync(any(BatchGetItemRequest.class), any());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatchLoadAsync_SkipsAfterLoadEventWithoutListeners() throws Exception {
+		Map<String, AttributeValue> item = Collections.singletonMap("Id", new AttributeValue("userId"));
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(mock(AmazonDynamoDBAsync.class)).getTableModel(User.class, dynamoDBMapperConfig));
+		when(dynamoDBMapper.marshallIntoObject(User.class, item, dynamoDBMapperConfig)).thenReturn(new User());
+		when(dynamoDB.batchGetItemAsync(any(BatchGetItemRequest.class), any())).thenAnswer(invocation -> {
+			invocation.<AsyncHandler<BatchGetItemRequest, BatchGetItemResult>>getArgument(1).onSuccess(
+					invocation.getArgument(0),
+					new BatchGetItemResult()
+							.withResponses(Collections.singletonMap("user", Arrays.asList(item, item))));
+			return null;
+		});
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+			context.refresh();
+			GenericApplicationContext listenerlessContext = spy(context);
+			dynamoDBTemplate.setApplicationContext(listenerlessContext);
+
+			dynamoDBTemplate.<User>batchLoadAsync(Collections.singletonMap(User.class,
+					Arrays.asList(new KeyPair().withHashKey("userId"), new KeyPair().withHashKey("userId")))).get();
+
+			verify(listenerlessContext, never()).publishEvent(any());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatchLoadAsync_FailsOnceRetriesAreExhausted() throws Exception {
+		DynamoDBMapperConfig noRetries = DynamoDBMapperConfig.builder()
+				.withBatchLoadRetryStrategy(new NoRetryBatchLoadRetryStrategy()).build();
+		dynamoDBTemplate = new AsyncDynamoDBTemplate(dynamoDB, dynamoDBMapper, noRetries, Runnable::run);
+		when(dynamoDBMapper.getTableModel(User.class, noRetries)).thenReturn(
+				new DynamoDBMapper(mock(AmazonDynamoDBAsync.class)).getTableModel(User.class, dynamoDBMapperConfig));
+		when(dynamoDB.batchGetItemAsync(any(BatchGetItemRequest.class), any())).thenAnswer(invocation -> {
+			BatchGetItemRequest request = invocation.getArgument(0);
+			invocation.<AsyncHandler<BatchGetItemRequest, BatchGetItemResult>>getArgument(1).onSuccess(request,
+					new BatchGetItemResult().withResponses(Collections.emptyMap())
+							.withUnprocessedKeys(request.getRequestItems()));
+			return null;
+		});
+
+		try {
+			dynamoDBTemplate.batchLoadAsync(Collections.singletonMap(User.class,
+					Collections.singletonList(new KeyPair().withHashKey("userId")))).get();
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof BatchGetItemException);
+			Map<String, KeysAndAttributes> unprocessedKeys = ((BatchGetItemException) e.getCause())
+					.getUnprocessedKeys();
+			assertEquals(Collections.singleton("user"), unprocessedKeys.keySet());
+		}
+		verify(dynamoDB).batchGetItemAsync(any(BatchGetItemRequest.class), any());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testQueryAsync_PublishesAfterQueryEvent() throws Exception {
+		Map<String, AttributeValue> item = Collections.singletonMap("Id", new AttributeValue("userId"));
+		List<User> users = Collections.singletonList(new User());
+		when(dynamoDBMapper.marshallIntoObjects(User.class, Collections.singletonList(item), dynamoDBMapperConfig))
+				.thenReturn(users);
+		when(dynamoDB.queryAsync(any(QueryRequest.class), any())).thenAnswer(invocation -> {
+			invocation.<AsyncHandler<QueryRequest, QueryResult>>getArgument(1).onSuccess(invocation.getArgument(0),
+					new QueryResult().withItems(Collections.singletonList(item)));
+			return null;
+		});
+
+		assertEquals(users, dynamoDBTemplate.queryAsync(User.class, new QueryRequest("user")).get());
+
+		verify(applicationContext).publishEvent(any(AfterQueryEvent.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScanPublisher_PublishesAfterScanEventPerPage() {
+		Map<String, AttributeValue> item = Collections.singletonMap("Id", new AttributeValue("userId"));
+		List<User> users = Collections.singletonList(new User());
+		when(dynamoDBMapper.marshallIntoObjects(User.class, Collections.singletonList(item), dynamoDBMapperConfig))
+				.thenReturn(users);
+		when(dynamoDB.scanAsync(any(ScanRequest.class), any())).thenAnswer(invocation -> {
+			invocation.<AsyncHandler<ScanRequest, ScanResult>>getArgument(1).onSuccess(invocation.getArgument(0),
+					new ScanResult().withItems(Collections.singletonList(item)));
+			return null;
+		});
+
+		TestSubscriber<User> subscriber = new TestSubscriber<>();
+		dynamoDBTemplate.scanPublisher(User.class, new DynamoDBScanExpression()).subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		assertEquals(users, subscriber.items);
+		verify(applicationContext).publishEvent(any(AfterScanEvent.class));
+		verify(applicationContext, never()).publishEvent(any(AfterLoadEvent.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCountAsync_RecordsFailureOnCompletion() throws Exception {
+		DynamoDBMetricsRecorder recorder = mock(DynamoDBMetricsRecorder.class);
+		dynamoDBTemplate.setMetricsRecorder(recorder);
+		ProvisionedThroughputExceededException throttled = new ProvisionedThroughputExceededException("Throttled");
+		throttled.setErrorCode("ProvisionedThroughputExceededException");
+		when(dynamoDB.queryAsync(any(QueryRequest.class), any())).thenAnswer(invocation -> {
+			invocation.<AsyncHandler<QueryRequest, QueryResult>>getArgument(1).onError(throttled);
+			return null;
+		});
+
+		try {
+			dynamoDBTemplate.countAsync(User.class, new QueryRequest("user")).get();
+			fail();
+		} catch (ExecutionException e) {
+			assertSame(throttled, e.getCause());
+		}
+
+		DynamoDBOperationTags tags = new DynamoDBOperationTags(Operation.COUNT, "user", null, null);
+		verify(recorder).recordThrottling(tags);
+		verify(recorder).recordOperation(eq(tags), anyLong(), eq(throttled));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScanPublisher_RecordsMetricsPerPageForRepositoryMethod() {
+		DynamoDBMetricsRecorder recorder = mock(DynamoDBMetricsRecorder.class);
+		dynamoDBTemplate.setMetricsRecorder(recorder);
+		Map<String, AttributeValue> item = Collections.singletonMap("Id", new AttributeValue("userId"));
+		when(dynamoDBMapper.marshallIntoObjects(User.class, Collections.singletonList(item), dynamoDBMapperConfig))
+				.thenReturn(Collections.singletonList(new User()));
+		when(dynamoDB.scanAsync(any(ScanRequest.class), any())).thenAnswer(invocation -> {
+			ScanRequest request = invocation.getArgument(0);
+			invocation.<AsyncHandler<ScanRequest, ScanResult>>getArgument(1).onSuccess(request,
+					new ScanResult().withItems(Collections.singletonList(item)).withLastEvaluatedKey(
+							request.getExclusiveStartKey() == null ? item : null));
+			return null;
+		});
+
+		Publisher<User> publisher;
+		String previous = RepositoryMethodContext.enter("UserRepository.findAll");
+		try {
+			publisher = dynamoDBTemplate.scanPublisher(User.class, new DynamoDBScanExpression());
+		} finally {
+			RepositoryMethodContext.restore(previous);
+		}
+		TestSubscriber<User> subscriber = new TestSubscriber<>();
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		assertEquals(2, subscriber.items.size());
+		DynamoDBOperationTags tags = new DynamoDBOperationTags(Operation.SCAN, "user", null,
+				"UserRepository.findAll");
+		verify(recorder, times(2)).recordPages(tags, 1);
+		verify(recorder, times(2)).recordItems(tags, 1);
+		verify(recorder, times(2)).recordOperation(eq(tags), anyLong(), isNull());
+	}
+}
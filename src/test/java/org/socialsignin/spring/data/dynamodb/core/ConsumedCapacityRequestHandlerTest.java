@@ -0,0 +1,118 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Response;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.Capacity;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConsumedCapacityRequestHandlerTest {
+
+	@Mock
+	private DynamoDBMetricsRecorder metricsRecorder;
+	private ConsumedCapacityTotals totals;
+	private ConsumedCapacityRequestHandler underTest;
+
+	@Before
+	public void setUp() {
+		totals = new ConsumedCapacityTotals();
+		underTest = new ConsumedCapacityRequestHandler(ReturnConsumedCapacity.INDEXES, totals);
+		underTest.setMetricsRecorder(metricsRecorder);
+	}
+
+	@Test
+	public void testRequestsConsumedCapacity() {
+		QueryRequest request = new QueryRequest("user");
+
+		QueryRequest actual = (QueryRequest) underTest.beforeExecution(request);
+
+		assertEquals("INDEXES", actual.getReturnConsumedCapacity());
+		assertNull(request.getReturnConsumedCapacity());
+	}
+
+	@Test
+	public void testKeepsRequestedConsumedCapacity() {
+		QueryRequest request = new QueryRequest("user").withReturnConsumedCapacity(ReturnConsumedCapacity.NONE);
+
+		assertSame(request, underTest.beforeExecution(request));
+	}
+
+	@Test
+	public void testAccountsTotalPerIndexAndRepositoryMethod() {
+		QueryRequest request = new QueryRequest("user").withIndexName("idx");
+		QueryResult result = new QueryResult()
+				.withConsumedCapacity(new ConsumedCapacity().withTableName("user").withCapacityUnits(2.5));
+
+		String previous = RepositoryMethodContext.enter("UserRepository.findByName");
+		try {
+			underTest.afterResponse(new DefaultRequest<>(request, "AmazonDynamoDBv2"), new Response<>(result, null));
+			underTest.afterResponse(new DefaultRequest<>(request, "AmazonDynamoDBv2"), new Response<>(result, null));
+		} finally {
+			RepositoryMethodContext.restore(previous);
+		}
+
+		assertEquals(1, totals.getTotals().size());
+		ConsumedCapacityTotals.Total total = totals.getTotals().get(0);
+		assertEquals("user", total.getTableName());
+		assertEquals("idx", total.getIndexName());
+		assertEquals(5.0, total.getReadCapacityUnits(), 0.0);
+		assertEquals(0.0, total.getWriteCapacityUnits(), 0.0);
+		assertEquals(5.0, totals.getReadCapacityUnits("UserRepository.findByName"), 0.0);
+	}
+
+	@Test
+	public void testAccountsIndexesSeparately() {
+		BatchWriteItemRequest request = new BatchWriteItemRequest();
+		BatchWriteItemResult result = new BatchWriteItemResult()
+				.withConsumedCapacity(new ConsumedCapacity().withTableName("user").withCapacityUnits(3.0)
+						.withTable(new Capacity().withCapacityUnits(2.0)).withGlobalSecondaryIndexes(
+								Collections.singletonMap("idx", new Capacity().withCapacityUnits(1.0))));
+
+		underTest.afterResponse(new DefaultRequest<>(request, "AmazonDynamoDBv2"), new Response<>(result, null));
+
+		assertEquals(2, totals.getTotals().size());
+		for (ConsumedCapacityTotals.Total total : totals.getTotals()) {
+			assertNull(total.getRepositoryMethod());
+			assertEquals(total.getIndexName() == null ? 2.0 : 1.0, total.getWriteCapacityUnits(), 0.0);
+		}
+		verify(metricsRecorder).recordConsumedCapacity("user", null, null, 0.0, 2.0);
+		verify(metricsRecorder).recordConsumedCapacity("user", "idx", null, 0.0, 1.0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNoneIsInvalid() {
+		new ConsumedCapacityRequestHandler(ReturnConsumedCapacity.NONE, totals);
+	}
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DynamoDBPagePublisherTest {
+
+	private static final Map<String, AttributeValue> KEY_1 = Collections.singletonMap("id", new AttributeValue("1"));
+	private static final Map<String, AttributeValue> KEY_2 = Collections.singletonMap("id", new AttributeValue("2"));
+
+	private final List<Map<String, AttributeValue>> requestedKeys = new ArrayList<>();
+
+	private CompletableFuture<ResultPage<String>> loadPage(Map<String, AttributeValue> startKey) {
+		requestedKeys.add(startKey);
+		if (startKey == null) {
+			return CompletableFuture.completedFuture(new ResultPage<>(Arrays.asList("a", "b"), KEY_1));
+		} else if (startKey == KEY_1) {
+			// Empty pages are possible if a filter expression is used
+			return CompletableFuture.completedFuture(new ResultPage<>(Collections.emptyList(), KEY_2));
+		} else {
+			return CompletableFuture.completedFuture(new ResultPage<>(Collections.singletonList("c"), null));
+		}
+	}
+
+	@Test
+	public void testPagesAreLoadedOnDemand() {
+		TestSubscriber<String> subscriber = new TestSubscriber<>();
+		new DynamoDBPagePublisher<>(this::loadPage).subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+		assertEquals(Collections.singletonList("a"), subscriber.items);
+		assertEquals(1, requestedKeys.size());
+
+		subscriber.subscription.request(1);
+		assertEquals(Arrays.asList("a", "b"), subscriber.items);
+		assertEquals(1, requestedKeys.size());
+		assertFalse(subscriber.completed);
+
+		subscriber.subscription.request(5);
+		assertEquals(Arrays.asList("a", "b", "c"), subscriber.items);
+		assertEquals(Arrays.asList(null, KEY_1, KEY_2), requestedKeys);
+		assertTrue(subscriber.completed);
+		assertNull(subscriber.error);
+	}
+
+	@Test
+	public void testCancel() {
+		TestSubscriber<String> subscriber = new TestSubscriber<>();
+		new DynamoDBPagePublisher<>(this::loadPage).subscribe(subscriber);
+
+		subscriber.subscription.request(2);
+		subscriber.subscription.cancel();
+		subscriber.subscription.request(1);
+
+		assertEquals(Arrays.asList("a", "b"), subscriber.items);
+		assertEquals(1, requestedKeys.size());
+		assertFalse(subscriber.completed);
+	}
+
+	@Test
+	public void testDelayedPage() {
+		CompletableFuture<ResultPage<String>> page = new CompletableFuture<>();
+		TestSubscriber<String> subscriber = new TestSubscriber<>();
+		new DynamoDBPagePublisher<>(startKey -> page).subscribe(subscriber);
+
+		subscriber.subscription.request(Long.MAX_VALUE);
+		assertTrue(subscriber.items.isEmpty());
+
+		page.complete(new ResultPage<>(Arrays.asList("a", "b"), null));
+		assertEquals(Arrays.asList("a", "b"), subscriber.items);
+		assertTrue(subscriber.completed);
+	}
+
+	@Test
+	public void testError() {
+		IllegalStateException exception = new IllegalStateException();
+		CompletableFuture<ResultPage<String>> page = new CompletableFuture<>();
+		page.completeExceptionally(exception);
+		TestSubscriber<String> subscriber = new TestSubscriber<>();
+		new DynamoDBPagePublisher<>(startKey -> page).subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+
+		assertSame(exception, subscriber.error);
+		assertFalse(subscriber.completed);
+	}
+
+	@Test
+	public void testErrorWhileIteratingPage() {
+		IllegalStateException exception = new IllegalStateException();
+		List<String> lazyList = new AbstractList<String>() {
+			@Override
+			public String get(int index) {
+				if (index > 0) {
+					throw exception;
+				}
+				return "a";
+			}
+
+			@Override
+			public int size() {
+				return 2;
+			}
+		};
+		TestSubscriber<String> subscriber = new TestSubscriber<>();
+		DynamoDBPagePublisher.fromList(() -> lazyList).subscribe(subscriber);
+
+		subscriber.subscription.request(2);
+
+		assertEquals(Collections.singletonList("a"), subscriber.items);
+		assertSame(exception, subscriber.error);
+		assertFalse(subscriber.completed);
+	}
+
+	@Test
+	public void testErrorOfSubscriber() {
+		IllegalStateException exception = new IllegalStateException();
+		TestSubscriber<String> subscriber = new TestSubscriber<String>() {
+			@Override
+			public void onNext(String item) {
+				throw exception;
+			}
+		};
+		new DynamoDBPagePublisher<>(this::loadPage).subscribe(subscriber);
+
+		subscriber.subscription.request(2);
+
+		assertSame(exception, subscriber.error);
+		assertEquals(Collections.singletonList((Map<String, AttributeValue>) null), requestedKeys);
+	}
+
+	@Test
+	public void testNonPositiveRequest() {
+		TestSubscriber<String> subscriber = new TestSubscriber<>();
+		new DynamoDBPagePublisher<>(this::loadPage).subscribe(subscriber);
+
+		subscriber.subscription.request(0);
+
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+		assertTrue(requestedKeys.isEmpty());
+	}
+
+	@Test
+	public void testFromFuture() {
+		TestSubscriber<String> subscriber = new TestSubscriber<>();
+		DynamoDBPagePublisher.fromFuture(() -> CompletableFuture.<String>completedFuture(null)).subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+
+		assertTrue(subscriber.items.isEmpty());
+		assertTrue(subscriber.completed);
+	}
+
+	static class TestSubscriber<T> implements Subscriber<T> {
+		Subscription subscription;
+		final List<T> items = new ArrayList<>();
+		boolean completed;
+		Throwable error;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T item) {
+			items.add(item);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+}
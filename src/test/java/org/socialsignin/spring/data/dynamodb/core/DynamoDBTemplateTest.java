@@ -16,32 +16,93 @@
 package org.socialsignin.spring.data.dynamodb.core;
 
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBVersionAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedParallelScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteRequest;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.services.dynamodbv2.model.Select;
+import com.amazonaws.services.dynamodbv2.model.TableDescription;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperationTags.Operation;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AbstractDynamoDBEventListener;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterBatchSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterQueryEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class DynamoDBTemplateTest {
@@ -111,6 +172,111 @@ public class DynamoDBTemplateTest {
 		verify(dynamoDBMapper).delete(user);
 	}
 
+	@Test
+	public void testDeleteByKeyIsConditional() {
+		dynamoDBTemplate = new DynamoDBTemplate(dynamoDB, dynamoDBMapper, dynamoDBMapperConfig);
+		when(dynamoDBMapper.getTableModel(Playlist.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(Playlist.class, DynamoDBMapperConfig.DEFAULT));
+
+		dynamoDBTemplate.delete(Playlist.class, "michael", "playlist1");
+
+		ArgumentCaptor<DeleteItemRequest> request = ArgumentCaptor.forClass(DeleteItemRequest.class);
+		verify(dynamoDB).deleteItem(request.capture());
+		assertEquals("attribute_exists(#hashKey)", request.getValue().getConditionExpression());
+		assertEquals("UserName", request.getValue().getExpressionAttributeNames().get("#hashKey"));
+		assertEquals(new AttributeValue("playlist1"), request.getValue().getKey().get("PlaylistName"));
+		verify(dynamoDBMapper, never()).load(any(), any(), any());
+	}
+
+	@Test
+	public void testDeleteByKeyPublishesLoadedEntity() {
+		when(dynamoDBMapper.getTableModel(Playlist.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(Playlist.class, DynamoDBMapperConfig.DEFAULT));
+		Playlist playlist = new Playlist();
+		playlist.setUserName("michael");
+		playlist.setPlaylistName("playlist1");
+		playlist.setDisplayName("Favourites");
+		when(dynamoDBMapper.load(Playlist.class, "michael", "playlist1")).thenReturn(playlist);
+
+		dynamoDBTemplate.delete(Playlist.class, "michael", "playlist1");
+
+		ArgumentCaptor<DeleteItemRequest> request = ArgumentCaptor.forClass(DeleteItemRequest.class);
+		verify(dynamoDB).deleteItem(request.capture());
+		assertEquals("attribute_exists(#hashKey)", request.getValue().getConditionExpression());
+		ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+		verify(applicationContext, times(2)).publishEvent(events.capture());
+		assertTrue(events.getAllValues().get(0) instanceof BeforeDeleteEvent);
+		assertTrue(events.getAllValues().get(1) instanceof AfterDeleteEvent);
+		for (ApplicationEvent event : events.getAllValues()) {
+			assertSame(playlist, event.getSource());
+		}
+	}
+
+	@Test
+	public void testDeleteByKeyWhenEntityDoesNotExist() {
+		when(dynamoDBMapper.getTableModel(Playlist.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(Playlist.class, DynamoDBMapperConfig.DEFAULT));
+
+		try {
+			dynamoDBTemplate.delete(Playlist.class, "michael", "playlist1");
+			fail();
+		} catch (ConditionalCheckFailedException e) {
+			verify(dynamoDB, never()).deleteItem(any(DeleteItemRequest.class));
+			verify(applicationContext, never()).publishEvent(any());
+		}
+	}
+
+	@Test
+	public void testDeleteByKeyOfVersionedEntityIsConditionalOnVersion() {
+		dynamoDBTemplate = new DynamoDBTemplate(dynamoDB, dynamoDBMapper, dynamoDBMapperConfig);
+		when(dynamoDBMapper.getTableModel(VersionedEntity.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(VersionedEntity.class, DynamoDBMapperConfig.DEFAULT));
+		VersionedEntity entity = new VersionedEntity();
+		when(dynamoDBMapper.load(VersionedEntity.class, "id", (Object) null)).thenReturn(entity);
+
+		dynamoDBTemplate.delete(VersionedEntity.class, "id", null);
+
+		// The mapper adds the version condition
+		verify(dynamoDBMapper).delete(entity);
+		verify(dynamoDB, never()).deleteItem(any(DeleteItemRequest.class));
+	}
+
+	@Test(expected = OptimisticLockingFailureException.class)
+	public void testDeleteByKeyOfConcurrentlyModifiedVersionedEntity() {
+		dynamoDBTemplate = new DynamoDBTemplate(dynamoDB, dynamoDBMapper, dynamoDBMapperConfig);
+		when(dynamoDBMapper.getTableModel(VersionedEntity.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(VersionedEntity.class, DynamoDBMapperConfig.DEFAULT));
+		VersionedEntity entity = new VersionedEntity();
+		when(dynamoDBMapper.load(VersionedEntity.class, "id", (Object) null)).thenReturn(entity);
+		doThrow(new ConditionalCheckFailedException("version changed")).when(dynamoDBMapper).delete(entity);
+
+		dynamoDBTemplate.delete(VersionedEntity.class, "id", null);
+	}
+
+	@DynamoDBTable(tableName = "versioned")
+	public static class VersionedEntity {
+		private String id;
+		private Long version;
+
+		@DynamoDBHashKey
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		@DynamoDBVersionAttribute
+		public Long getVersion() {
+			return version;
+		}
+
+		public void setVersion(Long version) {
+			this.version = version;
+		}
+	}
+
 	@Test
 	public void testBatchDelete_CallsCorrectDynamoDBMapperMethod() {
 		List<User> users = new ArrayList<>();
@@ -118,6 +284,151 @@ public class DynamoDBTemplateTest {
 		verify(dynamoDBMapper).batchDelete(anyList());
 	}
 
+	@Test
+	public void testBatchDeleteByScanReadsOnlyKeys() {
+		// Without delete listeners
+		dynamoDBTemplate = new DynamoDBTemplate(dynamoDB, dynamoDBMapper, dynamoDBMapperConfig);
+		when(dynamoDBMapper.getTableModel(Playlist.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(Playlist.class, DynamoDBMapperConfig.DEFAULT));
+		List<Map<String, AttributeValue>> keys = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			keys.add(Collections.singletonMap("PlaylistName", new AttributeValue("playlist" + i)));
+		}
+		when(dynamoDB.scan(any(ScanRequest.class))).thenReturn(
+				new ScanResult().withItems(keys.subList(0, 20)).withLastEvaluatedKey(keys.get(19)),
+				new ScanResult().withItems(keys.subList(20, 30)));
+		when(dynamoDB.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(new BatchWriteItemResult());
+		dynamoDBTemplate.setBatchWriteParallelism(1);
+
+		List<FailedBatch> actual = dynamoDBTemplate.batchDelete(Playlist.class, new DynamoDBScanExpression(), 1);
+
+		assertTrue(actual.isEmpty());
+		ArgumentCaptor<ScanRequest> scanRequest = ArgumentCaptor.forClass(ScanRequest.class);
+		verify(dynamoDB, times(2)).scan(scanRequest.capture());
+		assertEquals(new HashSet<>(Arrays.asList("UserName", "PlaylistName")),
+				new HashSet<>(scanRequest.getValue().getExpressionAttributeNames().values()));
+		assertEquals("#k0, #k1", scanRequest.getValue().getProjectionExpression());
+
+		ArgumentCaptor<BatchWriteItemRequest> batches = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+		verify(dynamoDB, times(2)).batchWriteItem(batches.capture());
+		List<Map<String, AttributeValue>> deleted = new ArrayList<>();
+		for (BatchWriteItemRequest batch : batches.getAllValues()) {
+			batch.getRequestItems().get("playlist").forEach(it -> deleted.add(it.getDeleteRequest().getKey()));
+		}
+		assertEquals(keys, deleted);
+		verify(dynamoDBMapper, never()).marshallIntoObjects(any(), anyList(), any());
+		verify(applicationContext, never()).publishEvent(any());
+	}
+
+	@Test
+	public void testBatchDeleteByScanLoadsEntitiesForDeleteListeners() {
+		Map<String, AttributeValue> item = Collections.singletonMap("Id", new AttributeValue("userId"));
+		when(dynamoDB.scan(any(ScanRequest.class))).thenReturn(new ScanResult().withItems(item));
+		User user = new User();
+		when(dynamoDBMapper.marshallIntoObject(User.class, item, dynamoDBMapperConfig)).thenReturn(user);
+		when(dynamoDBMapper.batchDelete(anyList())).thenReturn(Collections.emptyList());
+
+		List<FailedBatch> actual = dynamoDBTemplate.batchDelete(User.class, new DynamoDBScanExpression(), 3);
+
+		assertTrue(actual.isEmpty());
+		ArgumentCaptor<ScanRequest> scanRequest = ArgumentCaptor.forClass(ScanRequest.class);
+		verify(dynamoDB).scan(scanRequest.capture());
+		assertNull(scanRequest.getValue().getProjectionExpression());
+		assertNull(scanRequest.getValue().getSegment());
+		verify(dynamoDBMapper).batchDelete(Collections.singletonList(user));
+		verify(applicationContext).publishEvent(any(BeforeDeleteEvent.class));
+		verify(applicationContext).publishEvent(any(AfterDeleteEvent.class));
+	}
+
+	@Test
+	public void testBatchDeleteByGlobalSecondaryIndexQueriesIndexHashKey() {
+		// Without delete listeners
+		dynamoDBTemplate = new DynamoDBTemplate(dynamoDB, dynamoDBMapper, dynamoDBMapperConfig);
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(User.class, DynamoDBMapperConfig.DEFAULT));
+		when(dynamoDB.query(any(QueryRequest.class))).thenReturn(new QueryResult().withItems());
+		User hashKeyValues = new User();
+		hashKeyValues.setPostCode("postCode");
+
+		dynamoDBTemplate.batchDelete(User.class, new DynamoDBQueryExpression<User>()
+				.withIndexName("idx_postCode_numberOfPlaylist").withHashKeyValues(hashKeyValues));
+
+		ArgumentCaptor<QueryRequest> queryRequest = ArgumentCaptor.forClass(QueryRequest.class);
+		verify(dynamoDB).query(queryRequest.capture());
+		assertEquals(Collections.singleton("postCode"), queryRequest.getValue().getKeyConditions().keySet());
+		assertEquals(Collections.singletonList(new AttributeValue("postCode")),
+				queryRequest.getValue().getKeyConditions().get("postCode").getAttributeValueList());
+	}
+
+	@Test
+	public void testBatchDeleteByQueryRejectsRangeKeyOfHashKeyValues() {
+		when(dynamoDBMapper.getTableModel(Playlist.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(Playlist.class, DynamoDBMapperConfig.DEFAULT));
+		Playlist hashKeyValues = new Playlist();
+		hashKeyValues.setUserName("michael");
+		hashKeyValues.setPlaylistName("playlist1");
+
+		try {
+			dynamoDBTemplate.batchDelete(Playlist.class,
+					new DynamoDBQueryExpression<Playlist>().withHashKeyValues(hashKeyValues));
+			fail();
+		} catch (IllegalArgumentException e) {
+			verify(dynamoDB, never()).query(any(QueryRequest.class));
+		}
+	}
+
+	@Test
+	public void testBatchDeleteByParallelScan() {
+		// Without delete listeners
+		dynamoDBTemplate = new DynamoDBTemplate(dynamoDB, dynamoDBMapper, dynamoDBMapperConfig);
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(User.class, DynamoDBMapperConfig.DEFAULT));
+		when(dynamoDB.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+			Integer segment = invocation.<ScanRequest>getArgument(0).getSegment();
+			return new ScanResult().withItems(Collections.singletonMap("id", new AttributeValue("" + segment)));
+		});
+		when(dynamoDB.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(new BatchWriteItemResult());
+
+		List<FailedBatch> actual = dynamoDBTemplate.batchDelete(User.class, new DynamoDBScanExpression(), 3);
+
+		assertTrue(actual.isEmpty());
+		ArgumentCaptor<ScanRequest> segments = ArgumentCaptor.forClass(ScanRequest.class);
+		verify(dynamoDB, times(3)).scan(segments.capture());
+		Set<Integer> scannedSegments = new HashSet<>();
+		for (ScanRequest segment : segments.getAllValues()) {
+			assertEquals(Integer.valueOf(3), segment.getTotalSegments());
+			scannedSegments.add(segment.getSegment());
+		}
+		assertEquals(new HashSet<>(Arrays.asList(0, 1, 2)), scannedSegments);
+		verify(dynamoDB, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+	}
+
+	@Test
+	public void testBatchDeleteByQueryRetriesUnprocessedItems() {
+		// Without delete listeners
+		dynamoDBTemplate = new DynamoDBTemplate(dynamoDB, dynamoDBMapper, dynamoDBMapperConfig);
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(User.class, DynamoDBMapperConfig.DEFAULT));
+		BatchWriteRetryStrategy retryStrategy = mock(BatchWriteRetryStrategy.class);
+		when(retryStrategy.getMaxRetryOnUnprocessedItems(anyMap())).thenReturn(1);
+		when(dynamoDBMapperConfig.getBatchWriteRetryStrategy()).thenReturn(retryStrategy);
+		Map<String, AttributeValue> key = Collections.singletonMap("id", new AttributeValue("1"));
+		Map<String, List<WriteRequest>> unprocessed = Collections.singletonMap("user",
+				Collections.singletonList(new WriteRequest(new DeleteRequest(key))));
+		when(dynamoDB.query(any(QueryRequest.class))).thenReturn(new QueryResult().withItems(key));
+		when(dynamoDB.batchWriteItem(any(BatchWriteItemRequest.class)))
+				.thenReturn(new BatchWriteItemResult().withUnprocessedItems(unprocessed));
+		QueryRequest queryRequest = new QueryRequest("user").withKeyConditionExpression("id = :id")
+				.withProjectionExpression("id, name");
+
+		List<FailedBatch> actual = dynamoDBTemplate.batchDelete(User.class, queryRequest);
+
+		assertEquals(1, actual.size());
+		assertEquals(unprocessed, actual.get(0).getUnprocessedItems());
+		verify(dynamoDB, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+		assertEquals("The given request must not be modified", "id, name", queryRequest.getProjectionExpression());
+	}
+
 	@Test
 	public void testSave() {
 		User user = new User();
@@ -126,6 +437,75 @@ public class DynamoDBTemplateTest {
 		verify(dynamoDBMapper).save(user);
 	}
 
+	@Test
+	public void testSaveDeliversAfterEventByExecutor() {
+		List<Runnable> deliveries = new ArrayList<>();
+		dynamoDBTemplate.setAfterEventExecutor(deliveries::add);
+		User user = new User();
+
+		dynamoDBTemplate.save(user);
+
+		verify(applicationContext).publishEvent(any(BeforeSaveEvent.class));
+		verify(applicationContext, never()).publishEvent(any(AfterSaveEvent.class));
+		assertEquals(1, deliveries.size());
+		deliveries.get(0).run();
+		verify(applicationContext).publishEvent(any(AfterSaveEvent.class));
+	}
+
+	@Test
+	public void testBatchSavePublishesBatchEvent() {
+		List<User> users = Arrays.asList(new User(), new User());
+		dynamoDBTemplate.setBatchAfterEvents(true);
+
+		dynamoDBTemplate.batchSave(users);
+
+		verify(applicationContext, times(2)).publishEvent(any(BeforeSaveEvent.class));
+		verify(applicationContext, never()).publishEvent(any(AfterSaveEvent.class));
+		ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+		verify(applicationContext, times(3)).publishEvent(events.capture());
+		assertTrue(events.getValue() instanceof AfterBatchSaveEvent);
+		assertEquals(users, events.getValue().getSource());
+	}
+
+	@Test
+	public void testLoadRecordsMetrics() {
+		DynamoDBMetricsRecorder recorder = mock(DynamoDBMetricsRecorder.class);
+		dynamoDBTemplate.setMetricsRecorder(recorder);
+		when(dynamoDBMapper.load(User.class, "id")).thenReturn(new User());
+
+		String previous = RepositoryMethodContext.enter("UserRepository.findById");
+		try {
+			dynamoDBTemplate.load(User.class, "id");
+		} finally {
+			RepositoryMethodContext.restore(previous);
+		}
+
+		DynamoDBOperationTags tags = new DynamoDBOperationTags(Operation.LOAD, "user", null,
+				"UserRepository.findById");
+		verify(recorder).recordItems(tags, 1);
+		verify(recorder).recordOperation(eq(tags), anyLong(), isNull());
+	}
+
+	@Test
+	public void testBatchSaveRecordsUnprocessedItemsAndThrottling() {
+		DynamoDBMetricsRecorder recorder = mock(DynamoDBMetricsRecorder.class);
+		dynamoDBTemplate.setMetricsRecorder(recorder);
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setUnprocessedItems(Collections.singletonMap("user",
+				Arrays.asList(new WriteRequest(), new WriteRequest())));
+		ProvisionedThroughputExceededException throttled = new ProvisionedThroughputExceededException("Throttled");
+		throttled.setErrorCode("ProvisionedThroughputExceededException");
+		failedBatch.setException(throttled);
+		when(dynamoDBMapper.batchSave(anyList())).thenReturn(Collections.singletonList(failedBatch));
+
+		dynamoDBTemplate.batchSave(Arrays.asList(new User(), new User()));
+
+		DynamoDBOperationTags tags = new DynamoDBOperationTags(Operation.BATCH_SAVE, null, null, null);
+		verify(recorder).recordUnprocessedItems(tags, 2);
+		verify(recorder).recordThrottling(tags);
+		verify(recorder).recordOperation(eq(tags), anyLong(), isNull());
+	}
+
 	@Test
 	public void testBatchSave_CallsCorrectDynamoDBMapperMethod() {
 		List<User> users = new ArrayList<>();
@@ -134,6 +514,204 @@ public class DynamoDBTemplateTest {
 		verify(dynamoDBMapper).batchSave(eq(users));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatchSave_SplitsIntoChunks() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 60; i++) {
+			users.add(new User());
+		}
+		FailedBatch failedBatch = new FailedBatch();
+		when(dynamoDBMapper.batchSave(anyList())).thenAnswer(
+				invocation -> invocation.<List<?>>getArgument(0).size() < 25
+						? Collections.singletonList(failedBatch)
+						: Collections.emptyList());
+		dynamoDBTemplate.setBatchWriteExecutor(Runnable::run);
+
+		List<FailedBatch> actual = dynamoDBTemplate.batchSave(users);
+
+		ArgumentCaptor<List<Object>> chunks = ArgumentCaptor.forClass(List.class);
+		verify(dynamoDBMapper, times(3)).batchSave(chunks.capture());
+		List<Object> written = new ArrayList<>();
+		chunks.getAllValues().forEach(written::addAll);
+		assertEquals(users, written);
+		assertEquals(Collections.singletonList(failedBatch), actual);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatchSave_UsesThreadsOfTheTemplateByDefault() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			users.add(new User());
+		}
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		when(dynamoDBMapper.batchSave(anyList())).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread());
+			return Collections.emptyList();
+		});
+
+		try {
+			dynamoDBTemplate.batchSave(users);
+		} finally {
+			dynamoDBTemplate.destroy();
+		}
+
+		verify(dynamoDBMapper, times(4)).batchSave(anyList());
+		for (Thread thread : threads) {
+			assertTrue(thread == Thread.currentThread()
+					|| thread.isDaemon() && thread.getName().startsWith("dynamodb-template-"));
+		}
+	}
+
+	@Test
+	public void testBatchSave_PublishesEventsOnTheCallingThread() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			users.add(new User());
+		}
+		when(dynamoDBMapper.batchSave(anyList())).thenReturn(Collections.emptyList());
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		doAnswer(invocation -> threads.add(Thread.currentThread())).when(applicationContext).publishEvent(any());
+
+		try {
+			dynamoDBTemplate.batchSave(users);
+		} finally {
+			dynamoDBTemplate.destroy();
+		}
+
+		verify(applicationContext, times(100)).publishEvent(any(BeforeSaveEvent.class));
+		verify(applicationContext, times(100)).publishEvent(any(AfterSaveEvent.class));
+		assertEquals(Collections.singleton(Thread.currentThread()), threads);
+	}
+
+	@Test
+	public void testBatchSave_Iterator() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			users.add(new User());
+		}
+		when(dynamoDBMapper.batchSave(anyList())).thenReturn(Collections.emptyList());
+		dynamoDBTemplate.setBatchWriteParallelism(1);
+
+		List<FailedBatch> actual = dynamoDBTemplate.batchSave(users.iterator());
+
+		assertTrue(actual.isEmpty());
+		InOrder inOrder = inOrder(applicationContext, dynamoDBMapper);
+		inOrder.verify(applicationContext, times(25)).publishEvent(any(BeforeSaveEvent.class));
+		inOrder.verify(dynamoDBMapper).batchSave(users.subList(0, 25));
+		inOrder.verify(applicationContext, times(25)).publishEvent(any(AfterSaveEvent.class));
+		inOrder.verify(applicationContext, times(5)).publishEvent(any(BeforeSaveEvent.class));
+		inOrder.verify(dynamoDBMapper).batchSave(users.subList(25, 30));
+		inOrder.verify(applicationContext, times(5)).publishEvent(any(AfterSaveEvent.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testQueryWithMaxResults() {
+		List<User> users = Arrays.asList(new User(), new User(), new User());
+		PaginatedQueryList<User> results = mock(PaginatedQueryList.class);
+		when(results.iterator()).thenReturn(users.iterator());
+		DynamoDBQueryExpression<User> query = new DynamoDBQueryExpression<>();
+		when(dynamoDBMapper.query(eq(User.class), eq(query), any(DynamoDBMapperConfig.class))).thenReturn(results);
+
+		List<User> actual = dynamoDBTemplate.query(User.class, query, 2);
+
+		assertEquals(users.subList(0, 2), actual);
+		ArgumentCaptor<DynamoDBMapperConfig> config = ArgumentCaptor.forClass(DynamoDBMapperConfig.class);
+		verify(dynamoDBMapper).query(eq(User.class), eq(query), config.capture());
+		assertEquals(PaginationLoadingStrategy.ITERATION_ONLY, config.getValue().getPaginationLoadingStrategy());
+		verify(applicationContext).publishEvent(any(AfterQueryEvent.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScanWithMaxResults() {
+		List<User> users = Arrays.asList(new User(), new User());
+		PaginatedScanList<User> results = mock(PaginatedScanList.class);
+		when(results.iterator()).thenReturn(users.iterator());
+		DynamoDBScanExpression scan = new DynamoDBScanExpression();
+		when(dynamoDBMapper.scan(eq(User.class), eq(scan), any(DynamoDBMapperConfig.class))).thenReturn(results);
+
+		List<User> actual = dynamoDBTemplate.scan(User.class, scan, 5);
+
+		assertEquals(users, actual);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testQueryPublishesEventsWhileIterating() {
+		List<User> users = Arrays.asList(new User(), new User(), new User());
+		PaginatedQueryList<User> results = mock(PaginatedQueryList.class);
+		when(results.iterator()).thenReturn(users.iterator());
+		DynamoDBQueryExpression<User> query = new DynamoDBQueryExpression<>();
+		when(dynamoDBMapper.query(eq(User.class), eq(query), any(DynamoDBMapperConfig.class))).thenReturn(results);
+
+		Iterator<User> actual = dynamoDBTemplate.query(User.class, query).iterator();
+
+		verify(applicationContext, never()).publishEvent(any());
+		assertEquals(users.get(0), actual.next());
+		ArgumentCaptor<AfterQueryEvent<User>> event = ArgumentCaptor.forClass(AfterQueryEvent.class);
+		verify(applicationContext).publishEvent(event.capture());
+		assertEquals(Collections.singletonList(users.get(0)), event.getValue().getSource());
+		ArgumentCaptor<DynamoDBMapperConfig> config = ArgumentCaptor.forClass(DynamoDBMapperConfig.class);
+		verify(dynamoDBMapper).query(eq(User.class), eq(query), config.capture());
+		assertEquals(PaginationLoadingStrategy.ITERATION_ONLY, config.getValue().getPaginationLoadingStrategy());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testParallelScanPublishesEventsWhileIterating() {
+		List<User> users = Arrays.asList(new User(), new User());
+		PaginatedParallelScanList<User> results = mock(PaginatedParallelScanList.class);
+		when(results.iterator()).thenReturn(users.iterator());
+		DynamoDBScanExpression scan = new DynamoDBScanExpression();
+		when(dynamoDBMapper.parallelScan(eq(User.class), eq(scan), eq(2), any(DynamoDBMapperConfig.class)))
+				.thenReturn(results);
+
+		List<User> actual = dynamoDBTemplate.parallelScan(User.class, scan, 2);
+
+		verify(applicationContext, never()).publishEvent(any());
+		assertEquals(users, new ArrayList<>(actual));
+		verify(applicationContext, times(2)).publishEvent(any(AfterScanEvent.class));
+	}
+
+	@Test
+	public void testQueryWithoutEventPublisherReturnsMapperResults() {
+		dynamoDBTemplate = new DynamoDBTemplate(dynamoDB, dynamoDBMapper, dynamoDBMapperConfig);
+		DynamoDBQueryExpression<User> query = new DynamoDBQueryExpression<>();
+		@SuppressWarnings("unchecked")
+		PaginatedQueryList<User> results = mock(PaginatedQueryList.class);
+		when(dynamoDBMapper.query(User.class, query)).thenReturn(results);
+
+		assertEquals(results, dynamoDBTemplate.query(User.class, query));
+	}
+
+	@Test
+	public void testEventsOnlyPublishedToInterestedListeners() {
+		List<User> saved = new ArrayList<>();
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+			context.getBeanFactory().registerSingleton("userSaveListener", new AbstractDynamoDBEventListener<User>() {
+				@Override
+				public void onAfterSave(User source) {
+					saved.add(source);
+				}
+			});
+			context.refresh();
+			dynamoDBTemplate.setApplicationContext(context);
+			DynamoDBQueryExpression<User> query = new DynamoDBQueryExpression<>();
+			@SuppressWarnings("unchecked")
+			PaginatedQueryList<User> results = mock(PaginatedQueryList.class);
+			when(dynamoDBMapper.query(User.class, query)).thenReturn(results);
+			User user = new User();
+
+			assertSame(results, dynamoDBTemplate.query(User.class, query));
+			dynamoDBTemplate.save(user);
+
+			assertEquals(Collections.singletonList(user), saved);
+		}
+	}
+
 	@Test
 	public void testCountQuery() {
 		DynamoDBQueryExpression<User> query = countUserQuery;
@@ -151,6 +729,141 @@ public class DynamoDBTemplateTest {
 		verify(dynamoDBMapper).count(User.class, scan);
 	}
 
+	@Test
+	public void testParallelCount() {
+		when(dynamoDBMapper.count(eq(User.class), any(DynamoDBScanExpression.class)))
+				.thenAnswer(invocation -> invocation.<DynamoDBScanExpression>getArgument(1).getSegment() + 1);
+
+		int actual = dynamoDBTemplate.parallelCount(User.class, new DynamoDBScanExpression(), 3);
+
+		assertEquals(1 + 2 + 3, actual);
+		ArgumentCaptor<DynamoDBScanExpression> segments = ArgumentCaptor.forClass(DynamoDBScanExpression.class);
+		verify(dynamoDBMapper, times(3)).count(eq(User.class), segments.capture());
+		for (DynamoDBScanExpression segment : segments.getAllValues()) {
+			assertEquals(Integer.valueOf(3), segment.getTotalSegments());
+		}
+	}
+
+	@Test
+	public void testParallelCountExecutesSegmentsNotPickedUpByTheExecutor() {
+		when(dynamoDBMapper.count(eq(User.class), any(DynamoDBScanExpression.class))).thenReturn(2);
+		// A saturated executor never gets to the segments
+		dynamoDBTemplate.setParallelScanExecutor(task -> {
+		});
+
+		int actual = dynamoDBTemplate.parallelCount(User.class, new DynamoDBScanExpression(), 3);
+
+		assertEquals(6, actual);
+	}
+
+	@Test
+	public void testEstimateCount() {
+		when(dynamoDB.describeTable("UserTable"))
+				.thenReturn(new DescribeTableResult().withTable(new TableDescription().withItemCount(4711L)));
+
+		long actual = dynamoDBTemplate.estimateCount(User.class, "UserTable");
+
+		assertEquals(4711L, actual);
+	}
+
+	@Test
+	public void testExistsReadsOnlyTheKey() {
+		when(dynamoDBMapper.getTableModel(Playlist.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(Playlist.class, DynamoDBMapperConfig.DEFAULT));
+		when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(new GetItemResult()
+				.withItem(Collections.singletonMap("UserName", new AttributeValue("michael"))));
+
+		boolean actual = dynamoDBTemplate.exists(Playlist.class, "michael", "playlist1");
+
+		assertTrue(actual);
+		ArgumentCaptor<GetItemRequest> request = ArgumentCaptor.forClass(GetItemRequest.class);
+		verify(dynamoDB).getItem(request.capture());
+		assertEquals(new HashSet<>(Arrays.asList("UserName", "PlaylistName")),
+				new HashSet<>(request.getValue().getExpressionAttributeNames().values()));
+		assertEquals(2, request.getValue().getKey().size());
+		verify(dynamoDBMapper, never()).load(any(), any(), any());
+		verify(applicationContext, never()).publishEvent(any());
+	}
+
+	@Test
+	public void testExistsStopsAtFirstMatch() {
+		ScanResultPage<User> empty = new ScanResultPage<>();
+		empty.setCount(0);
+		empty.setLastEvaluatedKey(Collections.singletonMap("id", new AttributeValue("1")));
+		ScanResultPage<User> match = new ScanResultPage<>();
+		match.setCount(1);
+		match.setLastEvaluatedKey(Collections.singletonMap("id", new AttributeValue("2")));
+		DynamoDBScanExpression scan = new DynamoDBScanExpression();
+		when(dynamoDBMapper.scanPage(User.class, scan)).thenReturn(empty, match);
+
+		boolean actual = dynamoDBTemplate.exists(User.class, scan);
+
+		assertTrue(actual);
+		assertEquals(Select.COUNT.toString(), scan.getSelect());
+		verify(dynamoDBMapper, times(2)).scanPage(User.class, scan);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatchLoadChunksAndKeepsOrder() {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(User.class, DynamoDBMapperConfig.DEFAULT));
+		when(dynamoDBMapper.batchLoad(anyMap())).thenAnswer(invocation -> {
+			List<KeyPair> keyPairs = invocation.<Map<Class<?>, List<KeyPair>>>getArgument(0).get(User.class);
+			assertTrue(keyPairs.size() <= 100);
+			List<Object> users = new ArrayList<>();
+			// Reverse order and skip the first key of each chunk
+			for (int i = keyPairs.size() - 1; i > 0; i--) {
+				User user = new User();
+				user.setId((String) keyPairs.get(i).getHashKey());
+				users.add(user);
+			}
+			return Collections.singletonMap("user", users);
+		});
+		dynamoDBTemplate.setBatchLoadExecutor(Runnable::run);
+
+		List<KeyPair> keyPairs = new ArrayList<>();
+		for (int i = 0; i < 250; i++) {
+			keyPairs.add(new KeyPair().withHashKey("id" + i));
+		}
+		keyPairs.add(new KeyPair().withHashKey("id1"));
+		List<User> actual = dynamoDBTemplate.batchLoad(User.class, keyPairs);
+
+		verify(dynamoDBMapper, times(3)).batchLoad(anyMap());
+		assertEquals(247, actual.size());
+		assertEquals("id1", actual.get(0).getId());
+		assertEquals("id2", actual.get(1).getId());
+		assertEquals("id249", actual.get(246).getId());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatchLoadUsesThreadsOfTheTemplateByDefault() {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig)).thenReturn(
+				new DynamoDBMapper(dynamoDB).getTableModel(User.class, DynamoDBMapperConfig.DEFAULT));
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		when(dynamoDBMapper.batchLoad(anyMap())).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread());
+			return Collections.emptyMap();
+		});
+
+		List<KeyPair> keyPairs = new ArrayList<>();
+		for (int i = 0; i < 400; i++) {
+			keyPairs.add(new KeyPair().withHashKey("id" + i));
+		}
+		try {
+			dynamoDBTemplate.batchLoad(User.class, keyPairs);
+		} finally {
+			dynamoDBTemplate.destroy();
+		}
+
+		verify(dynamoDBMapper, times(4)).batchLoad(anyMap());
+		for (Thread thread : threads) {
+			assertTrue(thread == Thread.currentThread()
+					|| thread.isDaemon() && thread.getName().startsWith("dynamodb-template-"));
+		}
+	}
+
 	@Test
 	public void testLoadByHashKey_WhenDynamoDBMapperReturnsNull() {
 		User user = dynamoDBTemplate.load(User.class, "someHashKey");
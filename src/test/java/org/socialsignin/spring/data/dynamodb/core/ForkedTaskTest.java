@@ -0,0 +1,88 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ForkedTaskTest {
+
+	@Test
+	public void testJoinExecutesTaskNotPickedUpByTheExecutor() {
+		List<Runnable> queued = new ArrayList<>();
+		ForkedTask<Thread> forkedTask = ForkedTask.fork(queued::add, Thread::currentThread);
+
+		assertSame(Thread.currentThread(), forkedTask.join());
+
+		// The executor finally picking up the task doesn't execute it again
+		queued.forEach(Runnable::run);
+		assertEquals(1, queued.size());
+		assertSame(Thread.currentThread(), forkedTask.join());
+	}
+
+	@Test
+	public void testJoinReturnsResultOfTheExecutor() {
+		ForkedTask<String> forkedTask = ForkedTask.fork(Runnable::run, () -> "result");
+
+		assertEquals("result", forkedTask.join());
+	}
+
+	@Test
+	public void testRejectedTaskIsExecutedByJoin() {
+		ForkedTask<String> forkedTask = ForkedTask.fork(task -> {
+			throw new RejectedExecutionException();
+		}, () -> "result");
+
+		assertEquals("result", forkedTask.join());
+	}
+
+	@Test
+	public void testJoinRethrowsFailureOfTheTask() {
+		IllegalStateException failure = new IllegalStateException();
+		ForkedTask<String> forkedTask = ForkedTask.fork(Runnable::run, () -> {
+			throw failure;
+		});
+
+		try {
+			forkedTask.join();
+			fail();
+		} catch (IllegalStateException e) {
+			assertSame(failure, e);
+		}
+	}
+
+	@Test
+	public void testTaskIsExecutedInTheRepositoryMethod() {
+		List<Runnable> queued = new ArrayList<>();
+		String previous = RepositoryMethodContext.enter("UserRepository.findAll");
+		ForkedTask<String> forkedTask;
+		try {
+			forkedTask = ForkedTask.fork(queued::add, RepositoryMethodContext::getCurrentRepositoryMethod);
+		} finally {
+			RepositoryMethodContext.restore(previous);
+		}
+
+		queued.forEach(Runnable::run);
+		assertEquals("UserRepository.findAll", forkedTask.join());
+	}
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WriteCapacityRateLimiterTest {
+
+	@Test
+	public void testBurstWithinOneSecond() {
+		WriteCapacityRateLimiter underTest = new WriteCapacityRateLimiter(50);
+
+		assertEquals(0, underTest.reserve(25));
+		assertEquals(0, underTest.reserve(25));
+	}
+
+	@Test
+	public void testWaitsWhenExhausted() {
+		WriteCapacityRateLimiter underTest = new WriteCapacityRateLimiter(50);
+		underTest.reserve(50);
+
+		long waitNanos = underTest.reserve(25);
+
+		assertTrue(waitNanos > TimeUnit.MILLISECONDS.toNanos(400));
+		assertTrue(waitNanos <= TimeUnit.MILLISECONDS.toNanos(500));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidRate() {
+		new WriteCapacityRateLimiter(0);
+	}
+}
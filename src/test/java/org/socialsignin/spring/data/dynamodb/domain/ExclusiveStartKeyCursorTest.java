@@ -0,0 +1,102 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class ExclusiveStartKeyCursorTest {
+
+	@Test
+	public void testRoundTrip() {
+		Map<String, AttributeValue> key = new HashMap<>();
+		key.put("id", new AttributeValue().withS("a~b.c/d+e"));
+		key.put("rank", new AttributeValue().withN("-12.5"));
+		key.put("data", new AttributeValue().withB(ByteBuffer.wrap(new byte[]{0, 1, (byte) 255})));
+
+		String cursor = ExclusiveStartKeyCursor.encode(key);
+
+		assertFalse(cursor.contains("/"));
+		assertFalse(cursor.contains("+"));
+		assertEquals(key, ExclusiveStartKeyCursor.decode(cursor));
+	}
+
+	@Test
+	public void testPosition() {
+		Map<String, AttributeValue> key = Collections.singletonMap("id", new AttributeValue().withS("42"));
+
+		String cursor = ExclusiveStartKeyCursor.encode(key, 25);
+
+		assertEquals(key, ExclusiveStartKeyCursor.decode(cursor));
+		assertEquals(25, ExclusiveStartKeyCursor.decodePosition(cursor));
+		assertEquals(25, CursorPageRequest.of(10, cursor).getPosition());
+		assertEquals(0, ExclusiveStartKeyCursor.decodePosition(ExclusiveStartKeyCursor.encode(key)));
+		assertEquals(0, ExclusiveStartKeyCursor.decodePosition(null));
+	}
+
+	@Test
+	public void testStableOrder() {
+		Map<String, AttributeValue> key = new HashMap<>();
+		key.put("b", new AttributeValue().withS("1"));
+		key.put("a", new AttributeValue().withS("2"));
+		Map<String, AttributeValue> reversed = new HashMap<>();
+		reversed.put("a", new AttributeValue().withS("2"));
+		reversed.put("b", new AttributeValue().withS("1"));
+
+		assertEquals(ExclusiveStartKeyCursor.encode(key), ExclusiveStartKeyCursor.encode(reversed));
+	}
+
+	@Test
+	public void testNoKey() {
+		assertNull(ExclusiveStartKeyCursor.encode(null));
+		assertNull(ExclusiveStartKeyCursor.encode(Collections.emptyMap()));
+		assertNull(ExclusiveStartKeyCursor.decode(null));
+		assertNull(ExclusiveStartKeyCursor.decode(""));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnsupportedAttributeType() {
+		ExclusiveStartKeyCursor.encode(Collections.singletonMap("id", new AttributeValue().withBOOL(true)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCursor() {
+		ExclusiveStartKeyCursor.decode("aWQ~X~YQ");
+	}
+
+	@Test
+	public void testCursorPageRequest() {
+		Map<String, AttributeValue> key = Collections.singletonMap("id", new AttributeValue().withS("42"));
+		CursorPageRequest pageable = new CursorPageRequest(3, 10, ExclusiveStartKeyCursor.encode(key));
+
+		assertEquals(key, pageable.getExclusiveStartKey());
+		assertEquals(new CursorPageRequest(0, 10, null), pageable.first());
+
+		CursorSlice<String> slice = new CursorSlice<>(Collections.singletonList("x"), pageable, "next");
+		assertEquals(new CursorPageRequest(4, 10, "next"), slice.nextPageable());
+		CursorPage<String> page = new CursorPage<>(Collections.singletonList("x"), pageable, 31, null);
+		assertFalse(page.hasNext());
+	}
+}
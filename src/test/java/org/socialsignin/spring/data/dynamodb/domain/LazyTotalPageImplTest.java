@@ -0,0 +1,90 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LazyTotalPageImplTest {
+
+	@Mock
+	private Supplier<Long> totalSupplier;
+
+	private final List<String> content = Arrays.asList("a", "b");
+
+	@Test
+	public void testTotalIsRequestedOnceOnDemand() {
+		when(totalSupplier.get()).thenReturn(42L);
+		LazyTotalPageImpl<String> underTest = new LazyTotalPageImpl<>(content, PageRequest.of(1, 2), true,
+				totalSupplier);
+
+		assertTrue(underTest.hasNext());
+		assertEquals(PageRequest.of(2, 2), underTest.nextPageable());
+		verify(totalSupplier, never()).get();
+
+		assertEquals(42L, underTest.getTotalElements());
+		assertEquals(21, underTest.getTotalPages());
+		verify(totalSupplier, times(1)).get();
+	}
+
+	@Test
+	public void testLastPageDoesNotRequestTotal() {
+		LazyTotalPageImpl<String> underTest = new LazyTotalPageImpl<>(content, PageRequest.of(3, 5), false,
+				totalSupplier);
+
+		assertFalse(underTest.hasNext());
+		assertTrue(underTest.isLast());
+		assertEquals(17L, underTest.getTotalElements());
+		verify(totalSupplier, never()).get();
+	}
+
+	@Test
+	public void testOutdatedTotalIsCorrected() {
+		// e.g. an estimated total lower than what has been read already
+		when(totalSupplier.get()).thenReturn(1L);
+		LazyTotalPageImpl<String> underTest = new LazyTotalPageImpl<>(content, PageRequest.of(1, 2), true,
+				totalSupplier);
+
+		assertEquals(5L, underTest.getTotalElements());
+	}
+
+	@Test
+	public void testMap() {
+		when(totalSupplier.get()).thenReturn(42L);
+		Page<Integer> actual = new LazyTotalPageImpl<>(content, PageRequest.of(0, 2), true, totalSupplier)
+				.map(String::length);
+
+		assertEquals(Arrays.asList(1, 1), actual.getContent());
+		assertEquals(42L, actual.getTotalElements());
+	}
+}
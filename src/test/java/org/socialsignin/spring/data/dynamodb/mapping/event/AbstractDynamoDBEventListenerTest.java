@@ -26,6 +26,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertSame;
@@ -148,6 +149,19 @@ public class AbstractDynamoDBEventListenerTest {
 		verify(underTest, never()).onBeforeSave(any());
 	}
 
+	@Test
+	public void testAfterBatchSave() {
+		underTest.onApplicationEvent(new AfterBatchSaveEvent<>(Collections.singletonList(sampleEntity)));
+
+		verify(underTest, never()).onAfterDelete(any());
+		verify(underTest, never()).onAfterLoad(any());
+		verify(underTest, never()).onAfterQuery(any());
+		verify(underTest).onAfterSave(sampleEntity);
+		verify(underTest, never()).onAfterScan(any());
+		verify(underTest, never()).onBeforeDelete(any());
+		verify(underTest, never()).onBeforeSave(any());
+	}
+
 	@Test
 	public void testBeforeDelete() {
 		underTest.onApplicationEvent(new BeforeDeleteEvent<>(sampleEntity));
@@ -0,0 +1,145 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.mapping.event;
+
+import org.junit.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DynamoDBEventListenerRegistryTest {
+
+	static class UserLoadListener implements ApplicationListener<AfterLoadEvent<User>> {
+		static final AtomicInteger INSTANCES = new AtomicInteger();
+
+		UserLoadListener() {
+			INSTANCES.incrementAndGet();
+		}
+
+		@Override
+		public void onApplicationEvent(AfterLoadEvent<User> event) {
+		}
+	}
+
+	static class PlaylistListener extends AbstractDynamoDBEventListener<Playlist> {
+	}
+
+	private final AbstractDynamoDBEventListener<User> userSaveListener = new AbstractDynamoDBEventListener<User>() {
+		@Override
+		public void onAfterSave(User source) {
+		}
+	};
+
+	@Test
+	public void testDomainClassSpecificListenerMatchesOverriddenCallbacks() {
+		DynamoDBEventListenerRegistry underTest = new DynamoDBEventListenerRegistry(
+				Collections.singletonList(userSaveListener));
+
+		assertTrue(underTest.hasListener(AfterSaveEvent.class, User.class));
+		assertFalse(underTest.hasListener(AfterLoadEvent.class, User.class));
+		assertFalse(underTest.hasListener(AfterSaveEvent.class, Playlist.class));
+	}
+
+	@Test
+	public void testOtherListenersMatchedByEventType() {
+		ApplicationListener<AfterLoadEvent<User>> loadListener = new ApplicationListener<AfterLoadEvent<User>>() {
+			@Override
+			public void onApplicationEvent(AfterLoadEvent<User> event) {
+			}
+		};
+		ApplicationListener<ContextRefreshedEvent> refreshListener = new ApplicationListener<ContextRefreshedEvent>() {
+			@Override
+			public void onApplicationEvent(ContextRefreshedEvent event) {
+			}
+		};
+		DynamoDBEventListenerRegistry underTest = new DynamoDBEventListenerRegistry(
+				Arrays.asList(loadListener, refreshListener, new LoggingEventListener()));
+
+		assertTrue(underTest.hasListener(AfterLoadEvent.class, Playlist.class));
+		assertTrue(underTest.hasListener(AfterScanEvent.class, Playlist.class));
+		assertFalse(new DynamoDBEventListenerRegistry(Arrays.asList(loadListener, refreshListener))
+				.hasListener(AfterSaveEvent.class, User.class));
+	}
+
+	@Test
+	public void testListenersOnlyKnownOnceContextIsRefreshed() {
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+			context.getBeanFactory().registerSingleton("userSaveListener", userSaveListener);
+
+			assertNull(DynamoDBEventListenerRegistry.of(context));
+
+			context.refresh();
+			DynamoDBEventListenerRegistry underTest = DynamoDBEventListenerRegistry.of(context);
+
+			assertNotNull(underTest);
+			assertTrue(underTest.hasListener(AfterSaveEvent.class, User.class));
+			assertFalse(underTest.hasListener(BeforeSaveEvent.class, User.class));
+		}
+	}
+
+	@Test
+	public void testNonSingletonListenersMatchedByTypeWithoutInstantiation() {
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+			RootBeanDefinition loadListener = new RootBeanDefinition(UserLoadListener.class);
+			loadListener.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			context.registerBeanDefinition("userLoadListener", loadListener);
+			RootBeanDefinition playlistListener = new RootBeanDefinition(PlaylistListener.class);
+			playlistListener.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			context.registerBeanDefinition("playlistListener", playlistListener);
+			context.refresh();
+			int instances = UserLoadListener.INSTANCES.get();
+
+			DynamoDBEventListenerRegistry underTest = DynamoDBEventListenerRegistry.of(context);
+
+			assertNotNull(underTest);
+			assertTrue(underTest.hasListener(AfterLoadEvent.class, User.class));
+			assertFalse(underTest.hasListener(AfterSaveEvent.class, User.class));
+			assertTrue(underTest.hasListener(AfterSaveEvent.class, Playlist.class));
+			assertEquals(instances, UserLoadListener.INSTANCES.get());
+		}
+	}
+
+	@Test
+	public void testOutdatedOnceListenersAreAdded() {
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+			context.refresh();
+			DynamoDBEventListenerRegistry underTest = DynamoDBEventListenerRegistry.of(context);
+
+			assertNotNull(underTest);
+			assertFalse(underTest.isOutdated(context));
+			assertFalse(underTest.hasListener(AfterSaveEvent.class, User.class));
+
+			context.addApplicationListener(userSaveListener);
+
+			assertTrue(underTest.isOutdated(context));
+			assertTrue(DynamoDBEventListenerRegistry.of(context).hasListener(AfterSaveEvent.class, User.class));
+		}
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -22,12 +23,19 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
@@ -36,6 +44,8 @@ public class AbstractMultipleEntityQueryTest {
 
 	private static class TestAbstractMultipleEntityQuery extends AbstractMultipleEntityQuery<User> {
 		private final List<User> resultList;
+		private final Deque<ResultPage<User>> resultPages = new ArrayDeque<>();
+		private final List<Integer> requestedLimits = new ArrayList<>();
 
 		public TestAbstractMultipleEntityQuery(DynamoDBOperations dynamoDBOperations, User... resultEntities) {
 			super(dynamoDBOperations, User.class);
@@ -46,6 +56,12 @@ public class AbstractMultipleEntityQueryTest {
 		public List<User> getResultList() {
 			return resultList;
 		}
+
+		@Override
+		protected ResultPage<User> loadResultPage(Map<String, AttributeValue> exclusiveStartKey, int limit) {
+			requestedLimits.add(limit);
+			return resultPages.pop();
+		}
 	}
 
 	@Rule
@@ -79,4 +95,32 @@ public class AbstractMultipleEntityQueryTest {
 
 		underTest.getSingleResult();
 	}
+
+	@Test
+	public void testResultPageIsFilled() {
+		Map<String, AttributeValue> key1 = Collections.singletonMap("id", new AttributeValue("1"));
+		Map<String, AttributeValue> key2 = Collections.singletonMap("id", new AttributeValue("2"));
+		TestAbstractMultipleEntityQuery query = new TestAbstractMultipleEntityQuery(dynamoDBOperations);
+		// Filtered pages might contain less items than requested
+		query.resultPages.add(new ResultPage<>(Collections.singletonList(entity), key1));
+		query.resultPages.add(new ResultPage<>(Collections.emptyList(), key2));
+		query.resultPages.add(new ResultPage<>(Arrays.asList(entity, entity), key1));
+
+		ResultPage<User> actual = query.getResultPage(null, 3);
+
+		assertEquals(Arrays.asList(entity, entity, entity), actual.getItems());
+		assertEquals(key1, actual.getLastEvaluatedKey());
+		assertEquals(Arrays.asList(3, 2, 2), query.requestedLimits);
+	}
+
+	@Test
+	public void testResultPageStopsAtEnd() {
+		TestAbstractMultipleEntityQuery query = new TestAbstractMultipleEntityQuery(dynamoDBOperations);
+		query.resultPages.add(new ResultPage<>(Collections.singletonList(entity), null));
+
+		ResultPage<User> actual = query.getResultPage(null, 3);
+
+		assertEquals(Collections.singletonList(entity), actual.getItems());
+		assertNull(actual.getLastEvaluatedKey());
+	}
 }
@@ -0,0 +1,100 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MultipleEntityBatchLoadQueryTest {
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private User user1;
+	@Mock
+	private User user2;
+
+	private final List<KeyPair> keyPairs = Arrays.asList(new KeyPair().withHashKey("1"),
+			new KeyPair().withHashKey("2"));
+
+	@Test
+	public void testResultsAreLimited() {
+		when(dynamoDBOperations.batchLoad(User.class, keyPairs)).thenReturn(Arrays.asList(user1, user2));
+		MultipleEntityBatchLoadQuery<User> underTest = new MultipleEntityBatchLoadQuery<>(dynamoDBOperations,
+				User.class, keyPairs, 1);
+
+		assertEquals(Collections.singletonList(user1), underTest.getResultList());
+	}
+
+	@Test
+	public void testResultPagesLoadTheNextKeys() {
+		when(dynamoDBOperations.batchLoad(User.class, keyPairs.subList(0, 1)))
+				.thenReturn(Collections.singletonList(user1));
+		when(dynamoDBOperations.batchLoad(User.class, keyPairs.subList(1, 2)))
+				.thenReturn(Collections.singletonList(user2));
+		MultipleEntityBatchLoadQuery<User> underTest = new MultipleEntityBatchLoadQuery<>(dynamoDBOperations,
+				User.class, keyPairs, null);
+
+		ResultPage<User> first = underTest.getResultPage(null, 1);
+		ResultPage<User> second = underTest.getResultPage(first.getLastEvaluatedKey(), 1);
+
+		assertEquals(Collections.singletonList(user1), first.getItems());
+		assertNotNull(first.getLastEvaluatedKey());
+		assertEquals(Collections.singletonList(user2), second.getItems());
+		assertNull(second.getLastEvaluatedKey());
+	}
+
+	@Test
+	public void testResultPageSkipsKeysWithoutEntity() {
+		when(dynamoDBOperations.batchLoad(User.class, keyPairs.subList(0, 1))).thenReturn(Collections.emptyList());
+		when(dynamoDBOperations.batchLoad(User.class, keyPairs.subList(1, 2)))
+				.thenReturn(Collections.singletonList(user2));
+		MultipleEntityBatchLoadQuery<User> underTest = new MultipleEntityBatchLoadQuery<>(dynamoDBOperations,
+				User.class, keyPairs, null);
+
+		ResultPage<User> actual = underTest.getResultPage(null, 1);
+
+		assertEquals(Collections.singletonList(user2), actual.getItems());
+		assertNull(actual.getLastEvaluatedKey());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testResultPageAfterForeignStartKey() {
+		Map<String, AttributeValue> startKey = Collections.singletonMap("id", new AttributeValue("1"));
+		MultipleEntityBatchLoadQuery<User> underTest = new MultipleEntityBatchLoadQuery<>(dynamoDBOperations,
+				User.class, keyPairs, null);
+
+		underTest.getResultPage(startKey, 1);
+	}
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MultipleEntityUnionQueryTest {
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private Query<User> query1;
+	@Mock
+	private Query<User> query2;
+
+	private User user1;
+	private User user2;
+	private boolean executing;
+
+	@Before
+	public void setUp() {
+		user1 = new User();
+		user1.setId("1");
+		user2 = new User();
+		user2.setId("2");
+	}
+
+	private MultipleEntityUnionQuery<User> union(Integer maxResults) {
+		return new MultipleEntityUnionQuery<>(dynamoDBOperations, User.class, Arrays.asList(query1, query2),
+				User::getId, maxResults);
+	}
+
+	private MultipleEntityUnionQuery<User> executedUnion(Integer maxResults) {
+		when(dynamoDBOperations.getQueryExecutor()).thenReturn(task -> {
+			executing = true;
+			try {
+				task.run();
+			} finally {
+				executing = false;
+			}
+		});
+		return union(maxResults);
+	}
+
+	@Test
+	public void testResultsAreMergedByKey() {
+		when(query1.getResultList()).thenReturn(Arrays.asList(user1, user2));
+		when(query2.getResultList()).thenReturn(Arrays.asList(user2, null));
+
+		assertEquals(Arrays.asList(user1, user2), executedUnion(null).getResultList());
+	}
+
+	@Test
+	public void testResultsAreLimited() {
+		when(query1.getResultList()).thenReturn(Collections.singletonList(user1));
+		when(query2.getResultList()).thenReturn(Collections.singletonList(user2));
+
+		assertEquals(Collections.singletonList(user1), executedUnion(1).getResultList());
+	}
+
+	@Test
+	public void testResultsAreReadByTheForkedTask() {
+		List<User> lazyResults = new AbstractList<User>() {
+			@Override
+			public User get(int index) {
+				assertTrue("Lazy results must be read by the forked task", executing);
+				return user1;
+			}
+
+			@Override
+			public int size() {
+				assertTrue("Lazy results must be read by the forked task", executing);
+				return 1;
+			}
+		};
+		when(query1.getResultList()).thenReturn(lazyResults);
+		when(query2.getResultList()).thenReturn(Collections.singletonList(user2));
+
+		assertEquals(Arrays.asList(user1, user2), executedUnion(null).getResultList());
+	}
+
+	@Test
+	public void testResultPagesAreLimited() {
+		when(query1.getResultList()).thenReturn(Collections.singletonList(user1));
+		when(query2.getResultList()).thenReturn(Collections.singletonList(user2));
+		MultipleEntityUnionQuery<User> underTest = executedUnion(null);
+
+		ResultPage<User> first = underTest.getResultPage(null, 1);
+		ResultPage<User> second = underTest.getResultPage(first.getLastEvaluatedKey(), 1);
+
+		assertEquals(Collections.singletonList(user1), first.getItems());
+		assertNotNull(first.getLastEvaluatedKey());
+		assertEquals(Collections.singletonList(user2), second.getItems());
+		assertNull(second.getLastEvaluatedKey());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testResultPageAfterForeignStartKey() {
+		Map<String, AttributeValue> startKey = Collections.singletonMap("id", new AttributeValue("1"));
+
+		union(null).getResultPage(startKey, 1);
+	}
+}
@@ -18,39 +18,77 @@ package org.socialsignin.spring.data.dynamodb.repository.query;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBPagePublisher.ResultPage;
+import org.socialsignin.spring.data.dynamodb.domain.CursorPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.CursorSlice;
+import org.socialsignin.spring.data.dynamodb.domain.ExclusiveStartKeyCursor;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.repository.PageCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.core.RepositoryMetadata;
 
 @RunWith(MockitoJUnitRunner.class)
 public class AbstractDynamoDBQueryTest {
 
+	public static interface UserName {
+		String getName();
+	}
+
 	public static interface UserRepository extends CrudRepository<User, String> {
 		public Page<User> findByName(String name, Pageable pageable);
+
+		public Publisher<UserName> findByName(String name);
+
+		public CompletableFuture<List<User>> findByPostCode(String postCode);
+
+		public Slice<User> findByPostCode(String postCode, Pageable pageable);
+
+		@PageCount(PageCount.Mode.LAZY)
+		public Page<User> findByLastName(String lastName, Pageable pageable);
+
+		@PageCount(PageCount.Mode.CONCURRENT)
+		public Page<User> findByNumberOfPlaylists(Integer numberOfPlaylists, Pageable pageable);
 	}
 	@Mock
 	private Query<User> query;
@@ -108,6 +146,8 @@ public class AbstractDynamoDBQueryTest {
 	@Mock
 	private DynamoDBOperations dynamoDBOperations;
 	@Mock
+	private AsyncDynamoDBOperations asyncDynamoDBOperations;
+	@Mock
 	private RepositoryMetadata metadata;
 	@Mock
 	private ProjectionFactory factory;
@@ -180,4 +220,170 @@ public class AbstractDynamoDBQueryTest {
 		verify(content).iterator();
 	}
 
+	@Test
+	public void testAsync() throws Exception {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(2);
+
+		Method method = UserRepository.class.getMethod("findByPostCode", String.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getResultList()).thenReturn(content);
+		when(asyncDynamoDBOperations.executeAsync(any())).thenAnswer(
+				invocation -> CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(asyncDynamoDBOperations,
+				dynamoDBQueryMethod);
+
+		Object actual = underTest.execute(new Object[]{"postCode"});
+
+		assertThat(actual, instanceOf(CompletableFuture.class));
+		assertThat(((CompletableFuture<?>) actual).get(), is(content));
+	}
+
+
+	@Test
+	public void testCursorSlice() throws NoSuchMethodException, SecurityException {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(2);
+		Map<String, AttributeValue> startKey = Collections.singletonMap("id", new AttributeValue("1"));
+		Map<String, AttributeValue> lastKey = Collections.singletonMap("id", new AttributeValue("3"));
+
+		Method method = UserRepository.class.getMethod("findByPostCode", String.class, Pageable.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getResultPage(eq(startKey), eq(2))).thenReturn(new ResultPage<>(content, lastKey));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		Object actual = underTest.execute(
+				new Object[]{"postCode", new CursorPageRequest(0, 2, ExclusiveStartKeyCursor.encode(startKey))});
+
+		assertThat(actual, instanceOf(CursorSlice.class));
+		CursorSlice<User> actualSlice = (CursorSlice<User>) actual;
+		assertThat(content, is(actualSlice.getContent()));
+		assertEquals(lastKey, ExclusiveStartKeyCursor.decode(actualSlice.getNextCursor()));
+		verify(query, never()).getResultList();
+	}
+
+	@Test
+	public void testCursorSliceKeepsResultsRestrictionAcrossPages() throws NoSuchMethodException, SecurityException {
+		resultsRestrictionIfApplicable = 5;
+		List<User> content = generateContent(2);
+		Map<String, AttributeValue> startKey = Collections.singletonMap("id", new AttributeValue("1"));
+		Map<String, AttributeValue> lastKey = Collections.singletonMap("id", new AttributeValue("3"));
+
+		Method method = UserRepository.class.getMethod("findByPostCode", String.class, Pageable.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getResultPage(eq(startKey), eq(2))).thenReturn(new ResultPage<>(content, lastKey));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		// Second page of size 3 - only 2 of the restricted 5 results are left
+		Object actual = underTest.execute(
+				new Object[]{"postCode", new CursorPageRequest(1, 3, ExclusiveStartKeyCursor.encode(startKey, 3))});
+
+		CursorSlice<User> actualSlice = (CursorSlice<User>) actual;
+		assertThat(content, is(actualSlice.getContent()));
+		assertFalse(actualSlice.hasNext());
+		assertNull(actualSlice.getNextCursor());
+	}
+
+
+	@Test
+	public void testLazyTotal() throws NoSuchMethodException, SecurityException {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(3);
+
+		Method method = UserRepository.class.getMethod("findByLastName", String.class, Pageable.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(countQuery.getSingleResult()).thenReturn(3L);
+		when(query.getResultList()).thenReturn(content);
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		Page<User> firstPage = (Page<User>) underTest.execute(new Object[]{"lastName", PageRequest.of(0, 2)});
+		Page<User> lastPage = (Page<User>) underTest.execute(new Object[]{"lastName", PageRequest.of(1, 2)});
+
+		assertThat(firstPage.getContent(), is(content.subList(0, 2)));
+		assertThat(lastPage.getContent(), is(content.subList(2, 3)));
+		verify(countQuery, never()).getSingleResult();
+
+		// The total of the last page is known without counting
+		assertEquals(3, lastPage.getTotalElements());
+		verify(countQuery, never()).getSingleResult();
+		assertEquals(3, firstPage.getTotalElements());
+		verify(countQuery, times(1)).getSingleResult();
+	}
+
+	@Test
+	public void testConcurrentTotal() throws NoSuchMethodException, SecurityException {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(3);
+
+		Method method = UserRepository.class.getMethod("findByNumberOfPlaylists", Integer.class, Pageable.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(countQuery.getSingleResult()).thenReturn(3L);
+		when(query.getResultList()).thenReturn(content);
+		when(asyncDynamoDBOperations.getQueryExecutor()).thenReturn(Runnable::run);
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(asyncDynamoDBOperations,
+				dynamoDBQueryMethod);
+
+		Page<User> actual = (Page<User>) underTest.execute(new Object[]{1, PageRequest.of(0, 2)});
+
+		verify(countQuery).getSingleResult();
+		assertThat(actual.getContent(), is(content.subList(0, 2)));
+		assertEquals(3, actual.getTotalElements());
+	}
+
+	@Test
+	public void testPublisherConvertsEntitiesIntoProjection() throws NoSuchMethodException, SecurityException {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(2);
+		content.get(0).setName("first");
+		content.get(1).setName("second");
+
+		Method method = UserRepository.class.getMethod("findByName", String.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				new SpelAwareProxyProjectionFactory());
+
+		when(query.getResultPublisher()).thenReturn(DynamoDBPagePublisher.fromList(() -> content));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		List<String> names = new ArrayList<>();
+		((Publisher<UserName>) underTest.execute(new Object[]{"name"})).subscribe(new Subscriber<UserName>() {
+			@Override
+			public void onSubscribe(Subscription subscription) {
+				subscription.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(UserName userName) {
+				names.add(userName.getName());
+			}
+
+			@Override
+			public void onError(Throwable error) {
+				throw new AssertionError(error);
+			}
+
+			@Override
+			public void onComplete() {
+				names.add("complete");
+			}
+		});
+
+		assertEquals(Arrays.asList("first", "second", "complete"), names);
+	}
+
 }
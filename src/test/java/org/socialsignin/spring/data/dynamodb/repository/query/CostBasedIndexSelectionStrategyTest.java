@@ -0,0 +1,66 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertSame;
+
+public class CostBasedIndexSelectionStrategyTest {
+
+	private CostBasedIndexSelectionStrategy underTest;
+
+	@Before
+	public void setUp() {
+		underTest = new CostBasedIndexSelectionStrategy();
+	}
+
+	@Test
+	public void testSelect_PrefersCoveringProjection() {
+		IndexCandidate keysOnly = new IndexCandidate("keysOnly", false, true, true, true, false, null);
+		IndexCandidate unknown = new IndexCandidate("unknown", false, false, false, false, null, null);
+		IndexCandidate all = new IndexCandidate("all", false, false, false, false, true, null);
+
+		assertSame(all, underTest.select(Arrays.asList(keysOnly, unknown, all)));
+		assertSame(unknown, underTest.select(Arrays.asList(keysOnly, unknown)));
+	}
+
+	@Test
+	public void testSelect_PrefersHashKeyEqualityOverRangeKeyCondition() {
+		IndexCandidate range = new IndexCandidate("range", false, false, false, true, null, null);
+		IndexCandidate hash = new IndexCandidate("hash", false, false, true, false, null, null);
+		IndexCandidate hashAndRange = new IndexCandidate("hashAndRange", true, false, true, true, null, null);
+
+		assertSame(hash, underTest.select(Arrays.asList(range, hash)));
+		assertSame(hashAndRange, underTest.select(Arrays.asList(range, hash, hashAndRange)));
+	}
+
+	@Test
+	public void testSelect_PrefersHigherCardinalityThenDeclarationOrder() {
+		IndexCandidate first = new IndexCandidate("first", false, false, true, false, null, null);
+		IndexCandidate second = new IndexCandidate("second", false, false, true, false, null, 10L);
+		IndexCandidate third = new IndexCandidate("third", false, false, true, false, null, 1000L);
+
+		assertSame(first, underTest.select(Arrays.asList(first, first)));
+		assertSame(third, underTest.select(Arrays.asList(first, second, third)));
+		assertSame(first, underTest.select(Arrays.asList(first,
+				new IndexCandidate("other", false, false, true, false, null, null))));
+	}
+
+}
@@ -15,16 +15,34 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
+import com.amazonaws.services.dynamodbv2.model.ProjectionType;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityBatchLoadQuery;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityUnionQuery;
+import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.query.SumCountQuery;
+import org.socialsignin.spring.data.dynamodb.repository.DynamoDBIndexStatistics;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBIdIsHashAndRangeKeyEntityInformation;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @RunWith(MockitoJUnitRunner.class)
 public class DynamoDBEntityWithHashAndRangeKeyCriteriaUnitTest
 		extends
@@ -32,6 +50,8 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteriaUnitTest
 
 	@Mock
 	private DynamoDBIdIsHashAndRangeKeyEntityInformation<Playlist, String> entityInformation;
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
 
 	@Before
 	public void setUp() {
@@ -249,4 +269,150 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteriaUnitTest
 		Assert.assertFalse(hasIndexRangeKeyCondition);
 	}
 
+	@Test
+	public void testQueryPlan_IsSharedBetweenCriteriaOfTheSameShape() {
+		Map<Integer, DynamoDBQueryPlan> queryPlans = new ConcurrentHashMap<>();
+
+		criteria.withQueryPlanCache(queryPlans, 0);
+		criteria.withPropertyEquals("userName", "some user name", String.class);
+		DynamoDBQueryPlan queryPlan = criteria.getQueryPlan();
+
+		DynamoDBEntityWithHashAndRangeKeyCriteria<Playlist, String> sameShape = new DynamoDBEntityWithHashAndRangeKeyCriteria<>(
+				entityInformation, null);
+		sameShape.withQueryPlanCache(queryPlans, 0);
+		sameShape.withPropertyEquals("userName", "some other user name", String.class);
+
+		Assert.assertSame(queryPlan, sameShape.getQueryPlan());
+		Assert.assertEquals(1, queryPlans.size());
+		Assert.assertFalse(queryPlan.isApplicableForLoad());
+		Assert.assertTrue(queryPlan.isApplicableForQuery());
+	}
+
+	@Test
+	public void testQueryPlan_IsNotSharedBetweenCriteriaOfDifferentShape() {
+		Map<Integer, DynamoDBQueryPlan> queryPlans = new ConcurrentHashMap<>();
+
+		criteria.withQueryPlanCache(queryPlans, 0);
+		criteria.withPropertyEquals("userName", "some user name", String.class);
+		DynamoDBQueryPlan queryPlan = criteria.getQueryPlan();
+
+		DynamoDBEntityWithHashAndRangeKeyCriteria<Playlist, String> otherShape = new DynamoDBEntityWithHashAndRangeKeyCriteria<>(
+				entityInformation, null);
+		otherShape.withQueryPlanCache(queryPlans, 0);
+		otherShape.withPropertyEquals("userName", "some user name", String.class);
+		otherShape.withPropertyEquals("playlistName", "some playlist name", String.class);
+
+		Assert.assertNotSame(queryPlan, otherShape.getQueryPlan());
+		Assert.assertEquals(2, queryPlans.size());
+		Assert.assertTrue(otherShape.getQueryPlan().isApplicableForLoad());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testBuildQuery_WhenCompositeIdIn_LoadsKeysInBatch() {
+		Mockito.when(entityInformation.isCompositeHashAndRangeKeyProperty("playlistId")).thenReturn(true);
+		Mockito.when(entityInformation.getHashKey("id1")).thenReturn("some user name");
+		Mockito.when(entityInformation.getRangeKey("id1")).thenReturn("some playlist name");
+		Mockito.when(entityInformation.getHashKey("id2")).thenReturn("some user name");
+		Mockito.when(entityInformation.getRangeKey("id2")).thenReturn("some other playlist name");
+		ArgumentCaptor<List<KeyPair>> keyPairs = ArgumentCaptor.forClass(List.class);
+		Mockito.when(dynamoDBOperations.batchLoad(Mockito.any(), keyPairs.capture()))
+				.thenReturn(Collections.emptyList());
+		criteria.withPropertyIn("playlistId", Arrays.asList("id1", "id2"), String.class);
+
+		Query<Playlist> query = criteria.buildQuery(dynamoDBOperations);
+
+		Assert.assertTrue(query instanceof MultipleEntityBatchLoadQuery);
+		query.getResultList();
+		Assert.assertEquals(2, keyPairs.getValue().size());
+		Assert.assertEquals("some user name", keyPairs.getValue().get(1).getHashKey());
+		Assert.assertEquals("some other playlist name", keyPairs.getValue().get(1).getRangeKey());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testBuildQuery_WhenHashKeyInAndRangeKeyEquals_LoadsKeysInBatch() {
+		ArgumentCaptor<List<KeyPair>> keyPairs = ArgumentCaptor.forClass(List.class);
+		Mockito.when(dynamoDBOperations.batchLoad(Mockito.any(), keyPairs.capture()))
+				.thenReturn(Collections.emptyList());
+		criteria.withPropertyIn("userName", Arrays.asList("some user name", "some other user name"), String.class);
+		criteria.withPropertyEquals("playlistName", "some playlist name", String.class);
+
+		criteria.buildQuery(dynamoDBOperations).getResultList();
+
+		Assert.assertEquals(2, keyPairs.getValue().size());
+		Assert.assertEquals("some other user name", keyPairs.getValue().get(1).getHashKey());
+		Assert.assertEquals("some playlist name", keyPairs.getValue().get(1).getRangeKey());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testBuildQuery_WhenHashKeyIn_QueriesEachHashKey() {
+		ArgumentCaptor<DynamoDBQueryExpression<Playlist>> queryExpressions = ArgumentCaptor
+				.forClass(DynamoDBQueryExpression.class);
+		Mockito.when(dynamoDBOperations.count(Mockito.<Class<Playlist>>any(), queryExpressions.capture()))
+				.thenReturn(2, 3);
+		criteria.withPropertyIn("userName", Arrays.asList("some user name", "some other user name"), String.class);
+
+		Assert.assertTrue(criteria.buildQuery(dynamoDBOperations) instanceof MultipleEntityUnionQuery);
+		Query<Long> countQuery = criteria.buildCountQuery(dynamoDBOperations, false);
+
+		Assert.assertTrue(countQuery instanceof SumCountQuery);
+		Assert.assertEquals(Long.valueOf(5), countQuery.getSingleResult());
+		Assert.assertEquals(2, queryExpressions.getAllValues().size());
+		for (DynamoDBQueryExpression<Playlist> queryExpression : queryExpressions.getAllValues()) {
+			Assert.assertEquals("#n0 = :v0", queryExpression.getKeyConditionExpression());
+			Assert.assertEquals("userName", queryExpression.getExpressionAttributeNames().get("#n0"));
+		}
+	}
+
+	@Test
+	public void testBuildQueryExpression_WhenHashKeyAndLocalSecondaryIndexRangeKeyCondition_QueriesLocalIndex() {
+		Mockito.when(entityInformation.getIndexRangeKeyPropertyNames())
+				.thenReturn(Collections.singleton("displayName"));
+		Mockito.when(entityInformation.getLocalSecondaryIndexNamesByPropertyName())
+				.thenReturn(Collections.singletonMap("displayName", new String[]{"idx_displayName"}));
+		criteria = new DynamoDBEntityWithHashAndRangeKeyCriteria<>(entityInformation, null);
+		criteria.withHashKeyEquals("some user name");
+		criteria.withSingleValueCriteria("displayName", ComparisonOperator.BEGINS_WITH, "some", String.class);
+
+		DynamoDBQueryExpression<Playlist> queryExpression = criteria.buildQueryExpression();
+
+		Assert.assertEquals("idx_displayName", queryExpression.getIndexName());
+		Assert.assertEquals("#n0 = :v0 AND begins_with(#n1, :v1)", queryExpression.getKeyConditionExpression());
+	}
+
+	@Test
+	public void testQueryPlan_WithCostBasedIndexSelection_PrefersCoveringIndex() {
+		Map<String, String[]> indexNamesByPropertyName = new HashMap<>();
+		indexNamesByPropertyName.put("displayName", new String[]{"idx_keysOnly", "idx_all"});
+		indexNamesByPropertyName.put("keysOnlyRange", new String[]{"idx_keysOnly"});
+		indexNamesByPropertyName.put("allRange", new String[]{"idx_all"});
+		Map<String, DynamoDBIndexStatistics> statistics = new HashMap<>();
+		for (DynamoDBIndexStatistics indexStatistics : IndexedPlaylist.class
+				.getAnnotationsByType(DynamoDBIndexStatistics.class)) {
+			statistics.put(indexStatistics.indexName(), indexStatistics);
+		}
+		Mockito.when(entityInformation.getGlobalSecondaryIndexNamesByPropertyName())
+				.thenReturn(indexNamesByPropertyName);
+		Mockito.when(entityInformation.getIndexStatisticsByIndexName()).thenReturn(statistics);
+		Mockito.when(entityInformation.isGlobalIndexHashKeyProperty("displayName")).thenReturn(true);
+		criteria.withPropertyEquals("displayName", "some display name", String.class);
+
+		Assert.assertEquals("idx_keysOnly", criteria.getQueryPlan().getGlobalSecondaryIndexName());
+
+		DynamoDBEntityWithHashAndRangeKeyCriteria<Playlist, String> costBased = new DynamoDBEntityWithHashAndRangeKeyCriteria<>(
+				entityInformation, null);
+		costBased.withIndexSelectionStrategy(new CostBasedIndexSelectionStrategy());
+		costBased.withPropertyEquals("displayName", "some display name", String.class);
+
+		Assert.assertEquals("idx_all", costBased.getQueryPlan().getGlobalSecondaryIndexName());
+		Assert.assertTrue(costBased.getQueryPlan().isApplicableForGlobalSecondaryIndex());
+	}
+
+	@DynamoDBIndexStatistics(indexName = "idx_keysOnly", projectionType = ProjectionType.KEYS_ONLY)
+	@DynamoDBIndexStatistics(indexName = "idx_all", hashKeyCardinality = 1000)
+	private static class IndexedPlaylist {
+	}
+
 }
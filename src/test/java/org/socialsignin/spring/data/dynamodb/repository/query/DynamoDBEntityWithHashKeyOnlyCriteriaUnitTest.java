@@ -15,17 +15,27 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityBatchLoadQuery;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityScanExpressionQuery;
+import org.socialsignin.spring.data.dynamodb.query.Query;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 @RunWith(MockitoJUnitRunner.class)
 public class DynamoDBEntityWithHashKeyOnlyCriteriaUnitTest
@@ -34,6 +44,8 @@ public class DynamoDBEntityWithHashKeyOnlyCriteriaUnitTest
 
 	@Mock
 	private DynamoDBEntityInformation<User, String> entityInformation;
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
 
 	@Before
 	public void setUp() {
@@ -171,4 +183,78 @@ public class DynamoDBEntityWithHashKeyOnlyCriteriaUnitTest
 		Assert.assertFalse(hasIndexRangeKeyCondition);
 	}
 
+	@Test
+	public void testBuildScanExpression_WhenUnfiltered_ReadsOnlyProjectedAttributes() {
+		criteria.withProjectedAttributes(Arrays.asList("id", "name"));
+
+		DynamoDBScanExpression scanExpression = criteria.buildScanExpression();
+
+		Assert.assertEquals("#p0, #p1", scanExpression.getProjectionExpression());
+		Assert.assertEquals("id", scanExpression.getExpressionAttributeNames().get("#p0"));
+		Assert.assertEquals("name", scanExpression.getExpressionAttributeNames().get("#p1"));
+	}
+
+	@Test
+	public void testBuildScanExpression_WhenFiltered_ReadsOnlyProjectedAttributes() {
+		criteria.withPropertyEquals("name", "some name", String.class);
+		criteria.withProjectedAttributes(Arrays.asList("id", "name"));
+
+		DynamoDBScanExpression scanExpression = criteria.buildScanExpression();
+
+		Assert.assertEquals("#n0 = :v0", scanExpression.getFilterExpression());
+		Assert.assertEquals("#p0, #p1", scanExpression.getProjectionExpression());
+		Assert.assertEquals("name", scanExpression.getExpressionAttributeNames().get("#n0"));
+		Assert.assertEquals("id", scanExpression.getExpressionAttributeNames().get("#p0"));
+		Assert.assertEquals("name", scanExpression.getExpressionAttributeNames().get("#p1"));
+		Assert.assertEquals("some name", scanExpression.getExpressionAttributeValues().get(":v0").getS());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testBuildQuery_WhenHashKeyIn_LoadsDistinctKeysInBatch() {
+		User user = new User();
+		ArgumentCaptor<List<KeyPair>> keyPairs = ArgumentCaptor.forClass(List.class);
+		Mockito.when(dynamoDBOperations.batchLoad(Mockito.any(), keyPairs.capture()))
+				.thenReturn(Collections.singletonList(user));
+		criteria.withPropertyIn("id", Arrays.asList("id1", "id2", "id1"), String.class);
+
+		Query<User> query = criteria.buildQuery(dynamoDBOperations);
+
+		Assert.assertTrue(query instanceof MultipleEntityBatchLoadQuery);
+		Assert.assertEquals(Collections.singletonList(user), query.getResultList());
+		Assert.assertEquals(2, keyPairs.getValue().size());
+		Assert.assertEquals("id1", keyPairs.getValue().get(0).getHashKey());
+		Assert.assertEquals("id2", keyPairs.getValue().get(1).getHashKey());
+		Mockito.verify(dynamoDBOperations, Mockito.never()).scan(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void testBuildQuery_WhenHashKeyInIsEmpty_ReadsNothing() {
+		criteria.withPropertyIn("id", Collections.emptyList(), String.class);
+
+		Assert.assertTrue(criteria.buildQuery(dynamoDBOperations).getResultList().isEmpty());
+		Assert.assertEquals(Long.valueOf(0), criteria.buildCountQuery(dynamoDBOperations, false).getSingleResult());
+		Mockito.verifyZeroInteractions(dynamoDBOperations);
+	}
+
+	@Test
+	public void testBuildQuery_WhenHashKeyInAndFiltered_ScansForAllKeysAtOnce() {
+		criteria.withPropertyIn("id", Arrays.asList("id1", "id2"), String.class);
+		criteria.withPropertyEquals("name", "some name", String.class);
+
+		Assert.assertTrue(criteria.buildQuery(dynamoDBOperations) instanceof MultipleEntityScanExpressionQuery);
+
+		DynamoDBScanExpression scanExpression = criteria.buildScanExpression();
+		Assert.assertEquals("(#n0 = :v0 OR #n0 = :v1) AND #n1 = :v2", scanExpression.getFilterExpression());
+		Assert.assertEquals("id", scanExpression.getExpressionAttributeNames().get("#n0"));
+		Assert.assertEquals("id1", scanExpression.getExpressionAttributeValues().get(":v0").getS());
+		Assert.assertEquals("id2", scanExpression.getExpressionAttributeValues().get(":v1").getS());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testWithPropertyEquals_WhenHashKeyIn_Throws() {
+		criteria.withPropertyIn("id", Arrays.asList("id1", "id2"), String.class);
+		criteria.withPropertyEquals("id", "id1", String.class);
+	}
+
 }
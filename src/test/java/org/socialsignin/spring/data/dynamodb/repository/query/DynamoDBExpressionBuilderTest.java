@@ -0,0 +1,102 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
+import com.amazonaws.services.dynamodbv2.model.Condition;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DynamoDBExpressionBuilderTest {
+
+	private DynamoDBExpressionBuilder underTest;
+
+	@Before
+	public void setUp() {
+		underTest = new DynamoDBExpressionBuilder();
+	}
+
+	private static Condition condition(ComparisonOperator comparisonOperator, String... values) {
+		Condition condition = new Condition().withComparisonOperator(comparisonOperator);
+		for (String value : values) {
+			condition.withAttributeValueList(new AttributeValue(value));
+		}
+		return condition;
+	}
+
+	@Test
+	public void testComparisonOperators() {
+		String name = underTest.name("name");
+
+		assertEquals("#n0 = :v0", underTest.condition(name, condition(ComparisonOperator.EQ, "a")));
+		assertEquals("#n0 <> :v1", underTest.condition(name, condition(ComparisonOperator.NE, "a")));
+		assertEquals("#n0 <= :v2", underTest.condition(name, condition(ComparisonOperator.LE, "a")));
+		assertEquals("#n0 < :v3", underTest.condition(name, condition(ComparisonOperator.LT, "a")));
+		assertEquals("#n0 >= :v4", underTest.condition(name, condition(ComparisonOperator.GE, "a")));
+		assertEquals("#n0 > :v5", underTest.condition(name, condition(ComparisonOperator.GT, "a")));
+		assertEquals("#n0 BETWEEN :v6 AND :v7",
+				underTest.condition(name, condition(ComparisonOperator.BETWEEN, "a", "b")));
+		assertEquals("#n0 IN (:v8, :v9)", underTest.condition(name, condition(ComparisonOperator.IN, "a", "b")));
+		assertEquals("begins_with(#n0, :v10)",
+				underTest.condition(name, condition(ComparisonOperator.BEGINS_WITH, "a")));
+		assertEquals("contains(#n0, :v11)", underTest.condition(name, condition(ComparisonOperator.CONTAINS, "a")));
+		assertEquals("NOT contains(#n0, :v12)",
+				underTest.condition(name, condition(ComparisonOperator.NOT_CONTAINS, "a")));
+		assertEquals("attribute_not_exists(#n0)", underTest.condition(name, condition(ComparisonOperator.NULL)));
+		assertEquals("attribute_exists(#n0)", underTest.condition(name, condition(ComparisonOperator.NOT_NULL)));
+
+		assertEquals(1, underTest.getExpressionAttributeNames().size());
+		assertEquals(13, underTest.getExpressionAttributeValues().size());
+		assertEquals("b", underTest.getExpressionAttributeValues().get(":v9").getS());
+	}
+
+	@Test
+	public void testAndReusesNamePlaceholders() {
+		Map<String, Condition> conditions = new LinkedHashMap<>();
+		conditions.put("userName", condition(ComparisonOperator.EQ, "someUserName"));
+		conditions.put("name", condition(ComparisonOperator.BEGINS_WITH, "some"));
+
+		assertEquals("#n0 = :v0 AND begins_with(#n1, :v1)", underTest.and(conditions));
+		assertEquals("#n1", underTest.name("name"));
+		assertEquals("userName", underTest.getExpressionAttributeNames().get("#n0"));
+		assertEquals("name", underTest.getExpressionAttributeNames().get("#n1"));
+	}
+
+	@Test
+	public void testOr() {
+		String userName = underTest.condition(underTest.name("userName"),
+				condition(ComparisonOperator.EQ, "someUserName"));
+		String name = underTest.condition(underTest.name("name"), condition(ComparisonOperator.BEGINS_WITH, "some"));
+
+		assertEquals("(#n0 = :v0 OR begins_with(#n1, :v1))", underTest.or(Arrays.asList(userName, name)));
+		assertEquals("#n0 = :v0", underTest.or(Arrays.asList(userName)));
+	}
+
+	@Test
+	public void testEmpty() {
+		assertNull(underTest.and(new LinkedHashMap<>()));
+		assertNull(underTest.getExpressionAttributeNames());
+		assertNull(underTest.getExpressionAttributeValues());
+	}
+}
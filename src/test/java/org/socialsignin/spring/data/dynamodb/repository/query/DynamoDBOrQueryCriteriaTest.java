@@ -0,0 +1,155 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityScanExpressionQuery;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityUnionQuery;
+import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.query.UnionCountQuery;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DynamoDBOrQueryCriteriaTest {
+
+	@Mock
+	private DynamoDBEntityInformation<User, String> entityInformation;
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+
+	private User user1;
+	private User user2;
+
+	@Before
+	public void setUp() {
+		Mockito.when(entityInformation.getHashKeyPropertyName()).thenReturn("id");
+
+		user1 = new User();
+		user1.setId("id1");
+		user2 = new User();
+		user2.setId("id2");
+	}
+
+	private DynamoDBEntityWithHashKeyOnlyCriteria<User, String> disjunct(String propertyName, String value) {
+		DynamoDBEntityWithHashKeyOnlyCriteria<User, String> disjunct = new DynamoDBEntityWithHashKeyOnlyCriteria<>(
+				entityInformation, null);
+		disjunct.withPropertyEquals(propertyName, value, String.class);
+		return disjunct;
+	}
+
+	@Test
+	public void testBuildQuery_WhenAllDisjunctsAreKeyAddressable_MergesLoads() {
+		Mockito.when(entityInformation.getJavaType()).thenReturn(User.class);
+		Mockito.when(entityInformation.getId(user1)).thenReturn("id1");
+		Mockito.when(entityInformation.getId(user2)).thenReturn("id2");
+		Mockito.when(dynamoDBOperations.load(User.class, "id1")).thenReturn(user1);
+		Mockito.when(dynamoDBOperations.load(User.class, "id2")).thenReturn(user2);
+		Mockito.when(dynamoDBOperations.load(User.class, "id3")).thenReturn(null);
+
+		DynamoDBOrQueryCriteria<User, String> underTest = new DynamoDBOrQueryCriteria<>(entityInformation,
+				disjunct("id", "id1"));
+		underTest.or(disjunct("id", "id2")).or(disjunct("id", "id3")).or(disjunct("id", "id1"));
+
+		Query<User> query = underTest.buildQuery(dynamoDBOperations);
+
+		assertTrue(query instanceof MultipleEntityUnionQuery);
+		List<User> actual = query.getResultList();
+		assertEquals(2, actual.size());
+		assertEquals(user1, actual.get(0));
+		assertEquals(user2, actual.get(1));
+	}
+
+	@Test
+	public void testBuildCountQuery_WhenAllDisjunctsAreKeyAddressable_CountsDistinctEntities() {
+		Mockito.when(entityInformation.getJavaType()).thenReturn(User.class);
+		Mockito.when(entityInformation.getId(user1)).thenReturn("id1");
+		Mockito.when(dynamoDBOperations.load(User.class, "id1")).thenReturn(user1);
+
+		DynamoDBOrQueryCriteria<User, String> underTest = new DynamoDBOrQueryCriteria<>(entityInformation,
+				disjunct("id", "id1"));
+		underTest.or(disjunct("id", "id1"));
+
+		Query<Long> query = underTest.buildCountQuery(dynamoDBOperations, false);
+
+		assertTrue(query instanceof UnionCountQuery);
+		assertEquals(Long.valueOf(1), query.getSingleResult());
+	}
+
+	@Test
+	public void testBuildQuery_WhenADisjunctRequiresAScan_ScansWithFilterExpression() {
+		Mockito.when(entityInformation.getJavaType()).thenReturn(User.class);
+
+		DynamoDBOrQueryCriteria<User, String> underTest = new DynamoDBOrQueryCriteria<>(entityInformation,
+				disjunct("id", "id1"));
+		underTest.or(disjunct("name", "some name"));
+
+		assertTrue(underTest.buildQuery(dynamoDBOperations) instanceof MultipleEntityScanExpressionQuery);
+
+		DynamoDBScanExpression scanExpression = underTest.buildScanExpression(Optional.empty(),
+				Collections.emptyList());
+		assertEquals("(#n0 = :v0 OR #n1 = :v1)", scanExpression.getFilterExpression());
+		assertEquals("id", scanExpression.getExpressionAttributeNames().get("#n0"));
+		assertEquals("name", scanExpression.getExpressionAttributeNames().get("#n1"));
+		assertEquals("id1", scanExpression.getExpressionAttributeValues().get(":v0").getS());
+		assertEquals("some name", scanExpression.getExpressionAttributeValues().get(":v1").getS());
+	}
+
+	@Test
+	public void testBuildScanExpression_WhenADisjunctHasSeveralConditions_GroupsThem() {
+		DynamoDBEntityWithHashKeyOnlyCriteria<User, String> conjunction = disjunct("name", "some name");
+		conjunction.withPropertyEquals("postCode", "some post code", String.class);
+
+		DynamoDBOrQueryCriteria<User, String> underTest = new DynamoDBOrQueryCriteria<>(entityInformation,
+				disjunct("id", "id1"));
+		underTest.or(conjunction);
+
+		DynamoDBScanExpression scanExpression = underTest.buildScanExpression(Optional.empty(),
+				Collections.emptyList());
+		assertEquals("(#n0 = :v0 OR (#n1 = :v1 AND #n2 = :v2))", scanExpression.getFilterExpression());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testBuildQuery_WhenSorted_Throws() {
+		DynamoDBOrQueryCriteria<User, String> underTest = new DynamoDBOrQueryCriteria<>(entityInformation,
+				disjunct("id", "id1"));
+		underTest.or(disjunct("id", "id2"));
+		underTest.withSort(Sort.by("name"));
+
+		underTest.buildQuery(dynamoDBOperations);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testWithPropertyEquals_Throws() {
+		new DynamoDBOrQueryCriteria<>(entityInformation, disjunct("id", "id1")).withPropertyEquals("name",
+				"some name", String.class);
+	}
+}
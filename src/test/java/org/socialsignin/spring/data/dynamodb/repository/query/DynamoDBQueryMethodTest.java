@@ -0,0 +1,122 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
+import org.socialsignin.spring.data.dynamodb.repository.Query;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DynamoDBQueryMethodTest {
+
+	interface PlaylistSummary {
+		String getDisplayName();
+	}
+
+	static class PlaylistDto {
+		private final String displayName;
+
+		PlaylistDto(String displayName) {
+			this.displayName = displayName;
+		}
+
+		String getDisplayName() {
+			return displayName;
+		}
+	}
+
+	interface PlaylistRepository extends Repository<Playlist, PlaylistId> {
+		List<Playlist> findByUserName(String userName);
+
+		List<PlaylistSummary> findSummariesByUserName(String userName);
+
+		List<PlaylistDto> findDtosByUserName(String userName);
+
+		@Query(fields = "DisplayName")
+		List<PlaylistSummary> findFieldsByUserName(String userName);
+
+		Publisher<Playlist> findPublisherByUserName(String userName);
+
+		Publisher<PlaylistSummary> findSummaryPublisherByUserName(String userName);
+	}
+
+	private DynamoDBQueryMethod<Playlist, PlaylistId> queryMethod(String name) throws NoSuchMethodException {
+		return new DynamoDBQueryMethod<>(PlaylistRepository.class.getDeclaredMethod(name, String.class),
+				new DefaultRepositoryMetadata(PlaylistRepository.class), new SpelAwareProxyProjectionFactory());
+	}
+
+	@Test
+	public void testEntityIsReadCompletely() throws NoSuchMethodException {
+		DynamoDBQueryMethod<Playlist, PlaylistId> actual = queryMethod("findByUserName");
+
+		assertFalse(actual.isProjectionQuery());
+		assertEquals(Collections.emptyList(), actual.getProjectedAttributeNames());
+	}
+
+	@Test
+	public void testInterfaceProjectionReadsKeysAndProjectedAttributes() throws NoSuchMethodException {
+		DynamoDBQueryMethod<Playlist, PlaylistId> actual = queryMethod("findSummariesByUserName");
+
+		assertTrue(actual.isProjectionQuery());
+		assertEquals(Arrays.asList("UserName", "PlaylistName", "DisplayName"), actual.getProjectedAttributeNames());
+	}
+
+	@Test
+	public void testDtoProjectionReadsKeysAndConstructorArguments() throws NoSuchMethodException {
+		DynamoDBQueryMethod<Playlist, PlaylistId> actual = queryMethod("findDtosByUserName");
+
+		assertTrue(actual.isProjectionQuery());
+		assertEquals(Arrays.asList("UserName", "PlaylistName", "DisplayName"), actual.getProjectedAttributeNames());
+	}
+
+	@Test
+	public void testDeclaredFieldsTakePrecedence() throws NoSuchMethodException {
+		DynamoDBQueryMethod<Playlist, PlaylistId> actual = queryMethod("findFieldsByUserName");
+
+		assertEquals(Collections.emptyList(), actual.getProjectedAttributeNames());
+	}
+
+	@Test
+	public void testPublisherOfEntitiesIsNoProjection() throws NoSuchMethodException {
+		DynamoDBQueryMethod<Playlist, PlaylistId> actual = queryMethod("findPublisherByUserName");
+
+		assertFalse(actual.isProjectionQuery());
+	}
+
+	@Test
+	public void testPublisherOfProjectionsConvertsEachElement() throws NoSuchMethodException {
+		DynamoDBQueryMethod<Playlist, PlaylistId> actual = queryMethod("findSummaryPublisherByUserName");
+		Playlist playlist = new Playlist();
+		playlist.setDisplayName("displayName");
+
+		assertTrue(actual.isProjectionQuery());
+		Object converted = actual.getResultProcessor().processResult(playlist);
+		assertTrue(converted instanceof PlaylistSummary);
+		assertEquals("displayName", ((PlaylistSummary) converted).getDisplayName());
+	}
+}
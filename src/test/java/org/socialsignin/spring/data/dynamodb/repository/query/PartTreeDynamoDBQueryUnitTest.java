@@ -48,6 +48,7 @@ import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -61,6 +62,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.socialsignin.spring.data.dynamodb.repository.query.RenderedConditions.filterConditions;
+import static org.socialsignin.spring.data.dynamodb.repository.query.RenderedConditions.keyConditions;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PartTreeDynamoDBQueryUnitTest {
@@ -300,7 +303,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals(playlistClassCaptor.getValue(), Playlist.class);
 
 		// Assert that we only one filter condition for the one property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("playlistName");
 
@@ -359,7 +362,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals(playlistClassCaptor.getValue(), Playlist.class);
 
 		// Assert that we only one filter condition for the one property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("playlistName");
 
@@ -392,10 +395,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
 				Playlist.class, "findByUserName", 1, "userName", "playlistName");
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 
 		Mockito.when(mockPlaylistQueryResults.get(0)).thenReturn(mockPlaylist);
 		Mockito.when(mockPlaylistQueryResults.size()).thenReturn(1);
@@ -416,15 +415,47 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Object hashKeyPrototypeObject = playlistQueryCaptor.getValue().getHashKeyValues();
-		assertTrue(hashKeyPrototypeObject instanceof Playlist);
-		Playlist hashKeyPropertyPlaylist = (Playlist) hashKeyPrototypeObject;
-		assertEquals("someUserName", hashKeyPropertyPlaylist.getUserName());
+		Condition hashKeyCondition = keyConditions(playlistQueryCaptor.getValue()).get("userName");
+		assertEquals(ComparisonOperator.EQ.name(), hashKeyCondition.getComparisonOperator());
+		assertEquals("someUserName", hashKeyCondition.getAttributeValueList().get(0).getS());
 
 		// Verify that the expected DynamoDBOperations method was called
 		Mockito.verify(mockDynamoDBOperations).query(playlistClassCaptor.getValue(), playlistQueryCaptor.getValue());
 	}
 
+	@Test
+	public void testExecute_WhenFinderMethodIsRestricted_LimitIsPushedDown() {
+		setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
+				Playlist.class, "findTop3ByUserName", 1, "userName", "playlistName");
+		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
+		Mockito.when(mockDynamoDBOperations.query(playlistClassCaptor.capture(), playlistQueryCaptor.capture(),
+				Mockito.eq(3))).thenReturn(Arrays.asList(mockPlaylist, mockPlaylist));
+
+		Object o = partTreeDynamoDBQuery.execute(new Object[]{"someUserName"});
+
+		assertEquals(Arrays.asList(mockPlaylist, mockPlaylist), o);
+		// No filter - thus DynamoDB itself stops after 3 items
+		assertEquals(Integer.valueOf(3), playlistQueryCaptor.getValue().getLimit());
+		Mockito.verify(mockDynamoDBOperations, Mockito.never()).query(Mockito.eq(Playlist.class),
+				Mockito.<DynamoDBQueryExpression<Playlist>>any());
+	}
+
+	@Test
+	public void testExecute_WhenFinderMethodIsRestricted_FilteredScanStopsEarly() {
+		setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
+				Playlist.class, "findFirst2ByPlaylistName", 1, "userName", "playlistName");
+		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
+		Mockito.when(mockDynamoDBOperations.scan(playlistClassCaptor.capture(), scanCaptor.capture(), Mockito.eq(2)))
+				.thenReturn(Collections.singletonList(mockPlaylist));
+
+		Object o = partTreeDynamoDBQuery.execute(new Object[]{"somePlaylistName"});
+
+		assertEquals(Collections.singletonList(mockPlaylist), o);
+		// DynamoDB applies the Limit before the filter
+		assertNull(scanCaptor.getValue().getLimit());
+		assertEquals(1, filterConditions(scanCaptor.getValue()).size());
+	}
+
 	@Test
 	public void testExecute_WhenFinderMethodIsCountingEntityWithCompositeIdList_WhenFindingByRangeKeyOnly_ScanCountEnabled() {
 
@@ -448,7 +479,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals(playlistClassCaptor.getValue(), Playlist.class);
 
 		// Assert that we only one filter condition for the one property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("playlistName");
 
@@ -530,7 +561,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals(playlistClassCaptor.getValue(), Playlist.class);
 
 		// Assert that we have the correct filter conditions
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(2, filterConditions.size());
 		Condition filterCondition1 = filterConditions.get("userName");
 		Condition filterCondition2 = filterConditions.get("playlistName");
@@ -581,10 +612,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
 				Playlist.class, "findByPlaylistId", 1, "userName", "playlistName");
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 		Mockito.when(mockPlaylistEntityMetadata.getHashKey(playlistId)).thenReturn("someUserName");
 		Mockito.when(mockPlaylistEntityMetadata.getRangeKey(playlistId)).thenReturn(null);
 
@@ -608,12 +635,11 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Object hashKeyPrototypeObject = playlistQueryCaptor.getValue().getHashKeyValues();
-		assertTrue(hashKeyPrototypeObject instanceof Playlist);
-		Playlist hashKeyPropertyPlaylist = (Playlist) hashKeyPrototypeObject;
-		assertEquals("someUserName", hashKeyPropertyPlaylist.getUserName());
+		Condition hashKeyCondition = keyConditions(playlistQueryCaptor.getValue()).get("userName");
+		assertEquals(ComparisonOperator.EQ.name(), hashKeyCondition.getComparisonOperator());
+		assertEquals("someUserName", hashKeyCondition.getAttributeValueList().get(0).getS());
 
-		assertEquals(0, playlistQueryCaptor.getValue().getRangeKeyConditions().size());
+		assertEquals(1, keyConditions(playlistQueryCaptor.getValue()).size());
 
 		// Verify that the expected DynamoDBOperations method was called
 		Mockito.verify(mockDynamoDBOperations).query(playlistClassCaptor.getValue(), playlistQueryCaptor.getValue());
@@ -628,10 +654,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
 				Playlist.class, "findByPlaylistIdUserName", 1, "userName", "playlistName");
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 		// Mockito.when(mockPlaylistEntityMetadata.getHashKey(playlistId)).thenReturn("someUserName");
 		// Mockito.when(mockPlaylistEntityMetadata.getRangeKey(playlistId)).thenReturn(null);
 
@@ -655,12 +677,11 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Object hashKeyPrototypeObject = playlistQueryCaptor.getValue().getHashKeyValues();
-		assertTrue(hashKeyPrototypeObject instanceof Playlist);
-		Playlist hashKeyPropertyPlaylist = (Playlist) hashKeyPrototypeObject;
-		assertEquals("someUserName", hashKeyPropertyPlaylist.getUserName());
+		Condition hashKeyCondition = keyConditions(playlistQueryCaptor.getValue()).get("userName");
+		assertEquals(ComparisonOperator.EQ.name(), hashKeyCondition.getComparisonOperator());
+		assertEquals("someUserName", hashKeyCondition.getAttributeValueList().get(0).getS());
 
-		assertEquals(0, playlistQueryCaptor.getValue().getRangeKeyConditions().size());
+		assertEquals(1, keyConditions(playlistQueryCaptor.getValue()).size());
 
 		// Verify that the expected DynamoDBOperations method was called
 		Mockito.verify(mockDynamoDBOperations).query(playlistClassCaptor.getValue(), playlistQueryCaptor.getValue());
@@ -675,10 +696,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
 				Playlist.class, "findByPlaylistIdUserNameAndDisplayName", 2, "userName", "playlistName");
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 		// Mockito.when(mockPlaylistEntityMetadata.getHashKey(playlistId)).thenReturn("someUserName");
 		// Mockito.when(mockPlaylistEntityMetadata.getRangeKey(playlistId)).thenReturn(null);
 		Set<String> indexRangeKeyPropertyNames = new HashSet<String>();
@@ -705,14 +722,13 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have two filter condition, for the name of the
 		// property
-		Object hashKeyPrototypeObject = playlistQueryCaptor.getValue().getHashKeyValues();
-		assertTrue(hashKeyPrototypeObject instanceof Playlist);
-		Playlist hashKeyPropertyPlaylist = (Playlist) hashKeyPrototypeObject;
-		assertEquals("someUserName", hashKeyPropertyPlaylist.getUserName());
+		Condition hashKeyCondition = keyConditions(playlistQueryCaptor.getValue()).get("userName");
+		assertEquals(ComparisonOperator.EQ.name(), hashKeyCondition.getComparisonOperator());
+		assertEquals("someUserName", hashKeyCondition.getAttributeValueList().get(0).getS());
 
-		assertEquals(1, playlistQueryCaptor.getValue().getRangeKeyConditions().size());
+		assertEquals(2, keyConditions(playlistQueryCaptor.getValue()).size());
 
-		Condition condition = (Condition) playlistQueryCaptor.getValue().getRangeKeyConditions().get("displayName");
+		Condition condition = keyConditions(playlistQueryCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.EQ.name(), condition.getComparisonOperator());
 		assertEquals(1, condition.getAttributeValueList().size());
 		assertEquals("someDisplayName", condition.getAttributeValueList().get(0).getS());
@@ -757,10 +773,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
 				Playlist.class, "findByPlaylistIdOrderByPlaylistNameDesc", 1, "userName", "playlistName");
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 		Mockito.when(mockPlaylistEntityMetadata.getHashKey(playlistId)).thenReturn("someUserName");
 		Mockito.when(mockPlaylistEntityMetadata.getRangeKey(playlistId)).thenReturn(null);
 
@@ -783,12 +795,11 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Object hashKeyPrototypeObject = playlistQueryCaptor.getValue().getHashKeyValues();
-		assertTrue(hashKeyPrototypeObject instanceof Playlist);
-		Playlist hashKeyPropertyPlaylist = (Playlist) hashKeyPrototypeObject;
-		assertEquals("someUserName", hashKeyPropertyPlaylist.getUserName());
+		Condition hashKeyCondition = keyConditions(playlistQueryCaptor.getValue()).get("userName");
+		assertEquals(ComparisonOperator.EQ.name(), hashKeyCondition.getComparisonOperator());
+		assertEquals("someUserName", hashKeyCondition.getAttributeValueList().get(0).getS());
 
-		assertEquals(0, playlistQueryCaptor.getValue().getRangeKeyConditions().size());
+		assertEquals(1, keyConditions(playlistQueryCaptor.getValue()).size());
 
 		// Verify that the expected DynamoDBOperations method was called
 		Mockito.verify(mockDynamoDBOperations).query(playlistClassCaptor.getValue(), playlistQueryCaptor.getValue());
@@ -804,10 +815,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
 				Playlist.class, "findByPlaylistIdOrderByDisplayNameDesc", 1, "userName", "playlistName");
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 		Mockito.when(mockPlaylistEntityMetadata.getHashKey(playlistId)).thenReturn("someUserName");
 		Mockito.when(mockPlaylistEntityMetadata.getRangeKey(playlistId)).thenReturn(null);
 		Set<String> indexRangeKeyPropertyNames = new HashSet<String>();
@@ -839,10 +846,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		indexRangeKeyPropertyNames.add("displayName");
 		Mockito.when(mockPlaylistEntityMetadata.getIndexRangeKeyPropertyNames()).thenReturn(indexRangeKeyPropertyNames);
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 
 		Mockito.when(mockPlaylistQueryResults.get(0)).thenReturn(mockPlaylist);
 		Mockito.when(mockPlaylistQueryResults.size()).thenReturn(1);
@@ -863,11 +866,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition for the hash key,and for the
 		// index range key
-		Playlist hashKeyPropertyPlaylist = playlistQueryCaptor.getValue().getHashKeyValues();
-		assertEquals("someUserName", hashKeyPropertyPlaylist.getUserName());
+		Condition hashKeyCondition = keyConditions(playlistQueryCaptor.getValue()).get("userName");
+		assertEquals(ComparisonOperator.EQ.name(), hashKeyCondition.getComparisonOperator());
+		assertEquals("someUserName", hashKeyCondition.getAttributeValueList().get(0).getS());
 
-		assertEquals(1, playlistQueryCaptor.getValue().getRangeKeyConditions().size());
-		Condition condition = (Condition) playlistQueryCaptor.getValue().getRangeKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(playlistQueryCaptor.getValue()).size());
+		Condition condition = keyConditions(playlistQueryCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.EQ.name(), condition.getComparisonOperator());
 		assertEquals(1, condition.getAttributeValueList().size());
 		assertEquals("someDisplayName", condition.getAttributeValueList().get(0).getS());
@@ -886,10 +890,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		indexRangeKeyPropertyNames.add("displayName");
 		Mockito.when(mockPlaylistEntityMetadata.getIndexRangeKeyPropertyNames()).thenReturn(indexRangeKeyPropertyNames);
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 
 		Mockito.when(mockPlaylistQueryResults.get(0)).thenReturn(mockPlaylist);
 		Mockito.when(mockPlaylistQueryResults.size()).thenReturn(1);
@@ -910,13 +910,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition for the hash key,and for the
 		// index range key
-		Object hashKeyPrototypeObject = playlistQueryCaptor.getValue().getHashKeyValues();
-		assertTrue(hashKeyPrototypeObject instanceof Playlist);
-		Playlist hashKeyPropertyPlaylist = (Playlist) hashKeyPrototypeObject;
-		assertEquals("someUserName", hashKeyPropertyPlaylist.getUserName());
+		Condition hashKeyCondition = keyConditions(playlistQueryCaptor.getValue()).get("userName");
+		assertEquals(ComparisonOperator.EQ.name(), hashKeyCondition.getComparisonOperator());
+		assertEquals("someUserName", hashKeyCondition.getAttributeValueList().get(0).getS());
 
-		assertEquals(1, playlistQueryCaptor.getValue().getRangeKeyConditions().size());
-		Condition condition = (Condition) playlistQueryCaptor.getValue().getRangeKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(playlistQueryCaptor.getValue()).size());
+		Condition condition = keyConditions(playlistQueryCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.EQ.name(), condition.getComparisonOperator());
 		assertEquals(1, condition.getAttributeValueList().size());
 		assertEquals("someDisplayName", condition.getAttributeValueList().get(0).getS());
@@ -937,10 +936,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		indexRangeKeyPropertyNames.add("displayName");
 		Mockito.when(mockPlaylistEntityMetadata.getIndexRangeKeyPropertyNames()).thenReturn(indexRangeKeyPropertyNames);
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 
 		// Mock out specific DynamoDBOperations behavior expected by this method
 		// ArgumentCaptor<DynamoDBQueryExpression<Playlist>> queryCaptor =
@@ -968,10 +963,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		indexRangeKeyPropertyNames.add("displayName");
 		Mockito.when(mockPlaylistEntityMetadata.getIndexRangeKeyPropertyNames()).thenReturn(indexRangeKeyPropertyNames);
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 
 		Mockito.when(mockPlaylistQueryResults.get(0)).thenReturn(mockPlaylist);
 		Mockito.when(mockPlaylistQueryResults.size()).thenReturn(1);
@@ -992,11 +983,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition for the hash key,and for the
 		// index range key
-		Playlist hashKeyPropertyPlaylist = playlistQueryCaptor.getValue().getHashKeyValues();
-		assertEquals("someUserName", hashKeyPropertyPlaylist.getUserName());
+		Condition hashKeyCondition = keyConditions(playlistQueryCaptor.getValue()).get("userName");
+		assertEquals(ComparisonOperator.EQ.name(), hashKeyCondition.getComparisonOperator());
+		assertEquals("someUserName", hashKeyCondition.getAttributeValueList().get(0).getS());
 
-		assertEquals(1, playlistQueryCaptor.getValue().getRangeKeyConditions().size());
-		Condition condition = (Condition) playlistQueryCaptor.getValue().getRangeKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(playlistQueryCaptor.getValue()).size());
+		Condition condition = keyConditions(playlistQueryCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.EQ.name(), condition.getComparisonOperator());
 		assertEquals(1, condition.getAttributeValueList().size());
 		assertEquals("someDisplayName", condition.getAttributeValueList().get(0).getS());
@@ -1016,10 +1008,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		indexRangeKeyPropertyNames.add("displayName");
 		Mockito.when(mockPlaylistEntityMetadata.getIndexRangeKeyPropertyNames()).thenReturn(indexRangeKeyPropertyNames);
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 
 		// Mock out specific DynamoDBOperations behavior expected by this method
 		// ArgumentCaptor<DynamoDBQueryExpression<Playlist>> queryCaptor =
@@ -1050,10 +1038,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 				.thenReturn(Optional.of("DisplayName"));
 
 		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
-		Playlist prototypeHashKey = new Playlist();
-		prototypeHashKey.setUserName("someUserName");
-		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
-				.thenReturn(prototypeHashKey);
 
 		Mockito.when(mockPlaylistQueryResults.get(0)).thenReturn(mockPlaylist);
 		Mockito.when(mockPlaylistQueryResults.size()).thenReturn(1);
@@ -1074,11 +1058,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition for the hash key,and for the
 		// index range key
-		Playlist hashKeyPropertyPlaylist = playlistQueryCaptor.getValue().getHashKeyValues();
-		assertEquals("someUserName", hashKeyPropertyPlaylist.getUserName());
+		Condition hashKeyCondition = keyConditions(playlistQueryCaptor.getValue()).get("userName");
+		assertEquals(ComparisonOperator.EQ.name(), hashKeyCondition.getComparisonOperator());
+		assertEquals("someUserName", hashKeyCondition.getAttributeValueList().get(0).getS());
 
-		assertEquals(1, playlistQueryCaptor.getValue().getRangeKeyConditions().size());
-		Condition condition = (Condition) playlistQueryCaptor.getValue().getRangeKeyConditions().get("DisplayName");
+		assertEquals(2, keyConditions(playlistQueryCaptor.getValue()).size());
+		Condition condition = keyConditions(playlistQueryCaptor.getValue()).get("DisplayName");
 		assertEquals(ComparisonOperator.EQ.name(), condition.getComparisonOperator());
 		assertEquals(1, condition.getAttributeValueList().size());
 		assertEquals("someDisplayName", condition.getAttributeValueList().get(0).getS());
@@ -1118,7 +1103,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals(userClassCaptor.getValue(), Playlist.class);
 
 		// Assert that we have only three filter conditions
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(2, filterConditions.size());
 		Condition filterCondition1 = filterConditions.get("userName");
 		Condition filterCondition2 = filterConditions.get("DisplayName");
@@ -1183,7 +1168,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals(userClassCaptor.getValue(), Playlist.class);
 
 		// Assert that we have only three filter conditions
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(2, filterConditions.size());
 		Condition filterCondition1 = filterConditions.get("playlistName");
 		Condition filterCondition2 = filterConditions.get("DisplayName");
@@ -1240,7 +1225,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals(userClassCaptor.getValue(), Playlist.class);
 
 		// Assert that we have only three filter conditions
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(2, filterConditions.size());
 		Condition filterCondition1 = filterConditions.get("userName");
 		Condition filterCondition2 = filterConditions.get("playlistName");
@@ -1309,7 +1294,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals(userClassCaptor.getValue(), Playlist.class);
 
 		// Assert that we have only three filter conditions
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(3, filterConditions.size());
 		Condition filterCondition1 = filterConditions.get("userName");
 		Condition filterCondition2 = filterConditions.get("playlistName");
@@ -1378,7 +1363,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("name");
 		assertNotNull(filterCondition);
@@ -1428,7 +1413,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("Name");
 		assertNotNull(filterCondition);
@@ -1476,7 +1461,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals(userClassCaptor.getValue(), User.class);
 
 		// Assert that we have two filter conditions, for the id and name
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(2, filterConditions.size());
 		Condition nameFilterCondition = filterConditions.get("name");
 		assertNotNull(nameFilterCondition);
@@ -1537,7 +1522,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals(userClassCaptor.getValue(), User.class);
 
 		// Assert that we have one filter condition
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition testSetFilterCondition = filterConditions.get("testSet");
 		assertNotNull(testSetFilterCondition);
@@ -1595,7 +1580,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals(userClassCaptor.getValue(), User.class);
 
 		// Assert that we have two filter conditions, for the id and name
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(2, filterConditions.size());
 		Condition nameFilterCondition = filterConditions.get("Name");
 		assertNotNull(nameFilterCondition);
@@ -1659,7 +1644,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("name");
 		assertNotNull(filterCondition);
@@ -1686,6 +1671,34 @@ public class PartTreeDynamoDBQueryUnitTest {
 		Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
 	}
 
+	@Test
+	public void testExecute_WhenFinderMethodIsFindingEntityList_WithOrParameters_WhenNotFindingByHashKeyOnly() {
+		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+				"findByIdOrName", 2, "id", null);
+		Mockito.when(mockDynamoDBUserQueryMethod.isCollectionQuery()).thenReturn(true);
+
+		Mockito.when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
+				.thenReturn(mockUserScanResults);
+
+		// Execute the query
+		Object[] parameters = new Object[]{"someId", "someName"};
+		Object o = partTreeDynamoDBQuery.execute(parameters);
+
+		// Assert that we obtain the expected list of results
+		assertEquals(o, mockUserScanResults);
+
+		// Assert that both disjuncts are evaluated by a single scan
+		DynamoDBScanExpression scanExpression = scanCaptor.getValue();
+		assertEquals("(#n0 = :v0 OR #n1 = :v1)", scanExpression.getFilterExpression());
+		Map<String, Condition> filterConditions = filterConditions(scanExpression);
+		assertEquals(2, filterConditions.size());
+		assertEquals("someId", filterConditions.get("id").getAttributeValueList().get(0).getS());
+		assertEquals("someName", filterConditions.get("name").getAttributeValueList().get(0).getS());
+
+		// Verify that the expected DynamoDBOperations method was called
+		Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	// Not yet supported
 	public void testExecute_WhenFinderMethodIsFindingEntityList_WithSingleStringParameterIgnoringCase_WhenNotFindingByHashKey() {
@@ -1763,7 +1776,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("name");
 		assertNotNull(filterCondition);
@@ -1820,7 +1833,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("name");
 		assertNotNull(filterCondition);
@@ -1881,7 +1894,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("joinDate");
 		assertNotNull(filterCondition);
@@ -1943,7 +1956,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("joinYear");
 		assertNotNull(filterCondition);
@@ -2020,8 +2033,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one range condition for the global secondary index
 		// hash key
-		assertEquals(1, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition condition = queryResultCaptor.getValue().getKeyConditions().get("joinYear");
+		assertEquals(1, keyConditions(queryResultCaptor.getValue()).size());
+		Condition condition = keyConditions(queryResultCaptor.getValue()).get("joinYear");
 		assertEquals(ComparisonOperator.EQ.name(), condition.getComparisonOperator());
 		assertEquals(1, condition.getAttributeValueList().size());
 		assertEquals(joinYearString, condition.getAttributeValueList().get(0).getS());
@@ -2089,12 +2102,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only two range conditions for the global secondary index
 		// hash key and range key
-		assertEquals(2, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition yearCondition = queryResultCaptor.getValue().getKeyConditions().get("joinYear");
+		assertEquals(2, keyConditions(queryResultCaptor.getValue()).size());
+		Condition yearCondition = keyConditions(queryResultCaptor.getValue()).get("joinYear");
 		assertEquals(ComparisonOperator.EQ.name(), yearCondition.getComparisonOperator());
 		assertEquals(1, yearCondition.getAttributeValueList().size());
 		assertEquals(joinYearString, yearCondition.getAttributeValueList().get(0).getS());
-		Condition postCodeCondition = queryResultCaptor.getValue().getKeyConditions().get("postCode");
+		Condition postCodeCondition = keyConditions(queryResultCaptor.getValue()).get("postCode");
 		assertEquals(ComparisonOperator.EQ.name(), postCodeCondition.getComparisonOperator());
 		assertEquals(1, postCodeCondition.getAttributeValueList().size());
 		assertEquals("nw1", postCodeCondition.getAttributeValueList().get(0).getS());
@@ -2162,8 +2175,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one range condition for the global secondary index
 		// hash key
-		assertEquals(1, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition condition = queryResultCaptor.getValue().getKeyConditions().get("displayName");
+		assertEquals(1, keyConditions(queryResultCaptor.getValue()).size());
+		Condition condition = keyConditions(queryResultCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.EQ.name(), condition.getComparisonOperator());
 		assertEquals(1, condition.getAttributeValueList().size());
 		assertEquals("Michael", condition.getAttributeValueList().get(0).getS());
@@ -2222,8 +2235,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals("playlist", queryResultCaptor.getValue().getTableName());
 
 		// Assert that we have the correct conditions
-		assertEquals(1, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition condition = queryResultCaptor.getValue().getKeyConditions().get("playlistName");
+		assertEquals(1, keyConditions(queryResultCaptor.getValue()).size());
+		Condition condition = keyConditions(queryResultCaptor.getValue()).get("playlistName");
 		assertEquals(ComparisonOperator.EQ.name(), condition.getComparisonOperator());
 		assertEquals(1, condition.getAttributeValueList().size());
 		assertEquals("Some Playlist", condition.getAttributeValueList().get(0).getS());
@@ -2287,12 +2300,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals("playlist", queryResultCaptor.getValue().getTableName());
 
 		// Assert that we the correct conditions
-		assertEquals(2, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition globalRangeKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(queryResultCaptor.getValue()).size());
+		Condition globalRangeKeyCondition = keyConditions(queryResultCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.EQ.name(), globalRangeKeyCondition.getComparisonOperator());
 		assertEquals(1, globalRangeKeyCondition.getAttributeValueList().size());
 		assertEquals("Michael", globalRangeKeyCondition.getAttributeValueList().get(0).getS());
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("userName");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("userName");
 		assertEquals(ComparisonOperator.EQ.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("1", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -2361,12 +2374,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals("playlist", queryResultCaptor.getValue().getTableName());
 
 		// Assert that we have the correct conditions
-		assertEquals(2, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition globalRangeKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(queryResultCaptor.getValue()).size());
+		Condition globalRangeKeyCondition = keyConditions(queryResultCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.EQ.name(), globalRangeKeyCondition.getComparisonOperator());
 		assertEquals(1, globalRangeKeyCondition.getAttributeValueList().size());
 		assertEquals("Michael", globalRangeKeyCondition.getAttributeValueList().get(0).getS());
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("playlistName");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("playlistName");
 		assertEquals(ComparisonOperator.EQ.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("SomePlaylistName", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -2437,12 +2450,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have the correct conditions
 
-		assertEquals(2, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition globalRangeKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(queryResultCaptor.getValue()).size());
+		Condition globalRangeKeyCondition = keyConditions(queryResultCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.EQ.name(), globalRangeKeyCondition.getComparisonOperator());
 		assertEquals(1, globalRangeKeyCondition.getAttributeValueList().size());
 		assertEquals("SomeDisplayName", globalRangeKeyCondition.getAttributeValueList().get(0).getS());
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("playlistName");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("playlistName");
 		assertEquals(ComparisonOperator.EQ.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("SomePlaylistName", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -2513,12 +2526,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have the correct conditions
 
-		assertEquals(2, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition globalRangeKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(queryResultCaptor.getValue()).size());
+		Condition globalRangeKeyCondition = keyConditions(queryResultCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.EQ.name(), globalRangeKeyCondition.getComparisonOperator());
 		assertEquals(1, globalRangeKeyCondition.getAttributeValueList().size());
 		assertEquals("SomeDisplayName", globalRangeKeyCondition.getAttributeValueList().get(0).getS());
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("userName");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("userName");
 		assertEquals(ComparisonOperator.EQ.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("SomeUserName", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -2588,12 +2601,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals("playlist", queryResultCaptor.getValue().getTableName());
 
 		// Assert that we the correct conditions
-		assertEquals(2, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition globalRangeKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(queryResultCaptor.getValue()).size());
+		Condition globalRangeKeyCondition = keyConditions(queryResultCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.GT.name(), globalRangeKeyCondition.getComparisonOperator());
 		assertEquals(1, globalRangeKeyCondition.getAttributeValueList().size());
 		assertEquals("Michael", globalRangeKeyCondition.getAttributeValueList().get(0).getS());
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("userName");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("userName");
 		assertEquals(ComparisonOperator.EQ.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("1", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -2663,12 +2676,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals("playlist", queryResultCaptor.getValue().getTableName());
 
 		// Assert that we the correct conditions
-		assertEquals(2, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition globalRangeKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(queryResultCaptor.getValue()).size());
+		Condition globalRangeKeyCondition = keyConditions(queryResultCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.GT.name(), globalRangeKeyCondition.getComparisonOperator());
 		assertEquals(1, globalRangeKeyCondition.getAttributeValueList().size());
 		assertEquals("Michael", globalRangeKeyCondition.getAttributeValueList().get(0).getS());
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("userName");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("userName");
 		assertEquals(ComparisonOperator.EQ.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("1", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -2737,12 +2750,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals("playlist", queryResultCaptor.getValue().getTableName());
 
 		// Assert that we have the correct conditions
-		assertEquals(2, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition globalRangeKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(queryResultCaptor.getValue()).size());
+		Condition globalRangeKeyCondition = keyConditions(queryResultCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.GT.name(), globalRangeKeyCondition.getComparisonOperator());
 		assertEquals(1, globalRangeKeyCondition.getAttributeValueList().size());
 		assertEquals("Michael", globalRangeKeyCondition.getAttributeValueList().get(0).getS());
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("playlistName");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("playlistName");
 		assertEquals(ComparisonOperator.EQ.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("SomePlaylistName", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -2813,12 +2826,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have the correct conditions
 
-		assertEquals(2, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition globalRangeKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(queryResultCaptor.getValue()).size());
+		Condition globalRangeKeyCondition = keyConditions(queryResultCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.EQ.name(), globalRangeKeyCondition.getComparisonOperator());
 		assertEquals(1, globalRangeKeyCondition.getAttributeValueList().size());
 		assertEquals("SomeDisplayName", globalRangeKeyCondition.getAttributeValueList().get(0).getS());
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("playlistName");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("playlistName");
 		assertEquals(ComparisonOperator.GT.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("SomePlaylistName", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -2889,12 +2902,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have the correct conditions
 
-		assertEquals(2, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition globalRangeKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("displayName");
+		assertEquals(2, keyConditions(queryResultCaptor.getValue()).size());
+		Condition globalRangeKeyCondition = keyConditions(queryResultCaptor.getValue()).get("displayName");
 		assertEquals(ComparisonOperator.EQ.name(), globalRangeKeyCondition.getComparisonOperator());
 		assertEquals(1, globalRangeKeyCondition.getAttributeValueList().size());
 		assertEquals("SomeDisplayName", globalRangeKeyCondition.getAttributeValueList().get(0).getS());
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("userName");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("userName");
 		assertEquals(ComparisonOperator.GT.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("SomeUserName", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -2965,12 +2978,12 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have the correct conditions
 
-		assertEquals(2, queryResultCaptor.getValue().getKeyConditions().size());
-		Condition globalRangeKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("name");
+		assertEquals(2, keyConditions(queryResultCaptor.getValue()).size());
+		Condition globalRangeKeyCondition = keyConditions(queryResultCaptor.getValue()).get("name");
 		assertEquals(ComparisonOperator.EQ.name(), globalRangeKeyCondition.getComparisonOperator());
 		assertEquals(1, globalRangeKeyCondition.getAttributeValueList().size());
 		assertEquals("SomeName", globalRangeKeyCondition.getAttributeValueList().get(0).getS());
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("postCode");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("postCode");
 		assertEquals(ComparisonOperator.GT.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("SomePostCode", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -3044,7 +3057,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals("user", queryResultCaptor.getValue().getTableName());
 
 		// Assert that we have the correct conditions
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("name");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("name");
 		assertEquals(ComparisonOperator.EQ.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("SomeName", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -3111,7 +3124,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertEquals("user", queryResultCaptor.getValue().getTableName());
 
 		// Assert that we have the correct conditions
-		Condition globalHashKeyCondition = queryResultCaptor.getValue().getKeyConditions().get("name");
+		Condition globalHashKeyCondition = keyConditions(queryResultCaptor.getValue()).get("name");
 		assertEquals(ComparisonOperator.EQ.name(), globalHashKeyCondition.getComparisonOperator());
 		assertEquals(1, globalHashKeyCondition.getAttributeValueList().size());
 		assertEquals("SomeName", globalHashKeyCondition.getAttributeValueList().get(0).getS());
@@ -3160,7 +3173,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("postCode");
 		assertNotNull(filterCondition);
@@ -3216,7 +3229,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("numberOfPlaylists");
 		assertNotNull(filterCondition);
@@ -3270,7 +3283,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("id");
 		assertNotNull(filterCondition);
@@ -3324,7 +3337,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("name");
 		assertNotNull(filterCondition);
@@ -3357,10 +3370,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 				"existsByName", 1, "id", null);
 		Mockito.when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("Name"));
 
-		// Mockito.when(mockUserScanResults.size()).thenReturn(0);
-		Mockito.when(mockUserScanResults.isEmpty()).thenReturn(true);
-		Mockito.when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
-				.thenReturn(mockUserScanResults);
+		Mockito.when(mockDynamoDBOperations.exists(userClassCaptor.capture(), scanCaptor.capture()))
+				.thenReturn(false);
 
 		// Execute the query
 		Object[] parameters = new Object[]{"someName"};
@@ -3374,7 +3385,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("Name");
 		assertNotNull(filterCondition);
@@ -3398,7 +3409,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertNull(filterCondition.getAttributeValueList().get(0).getBS());
 
 		// Verify that the expected DynamoDBOperations method was called
-		Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
+		Mockito.verify(mockDynamoDBOperations).exists(userClassCaptor.getValue(), scanCaptor.getValue());
 	}
 
 	@Test
@@ -3407,11 +3418,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 				"existsByName", 1, "id", null);
 		Mockito.when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("Name"));
 
-		// Mockito.when(mockUserScanResults.get(0)).thenReturn(mockUser);
-		// Mockito.when(mockUserScanResults.size()).thenReturn(1);
-		Mockito.when(mockUserScanResults.isEmpty()).thenReturn(false);
-		Mockito.when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
-				.thenReturn(mockUserScanResults);
+		Mockito.when(mockDynamoDBOperations.exists(userClassCaptor.capture(), scanCaptor.capture()))
+				.thenReturn(true);
 
 		// Execute the query
 		Object[] parameters = new Object[]{"someName"};
@@ -3425,7 +3433,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("Name");
 		assertNotNull(filterCondition);
@@ -3449,7 +3457,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertNull(filterCondition.getAttributeValueList().get(0).getBS());
 
 		// Verify that the expected DynamoDBOperations method was called
-		Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
+		Mockito.verify(mockDynamoDBOperations).exists(userClassCaptor.getValue(), scanCaptor.getValue());
 	}
 
 	@Test
@@ -3458,12 +3466,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 				"existsByName", 1, "id", null);
 		Mockito.when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("Name"));
 
-		// Mockito.when(mockUserScanResults.get(0)).thenReturn(mockUser);
-		// Mockito.when(mockUserScanResults.get(1)).thenReturn(mockUser);
-		// Mockito.when(mockUserScanResults.size()).thenReturn(2);
-		Mockito.when(mockUserScanResults.isEmpty()).thenReturn(false);
-		Mockito.when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
-				.thenReturn(mockUserScanResults);
+		Mockito.when(mockDynamoDBOperations.exists(userClassCaptor.capture(), scanCaptor.capture()))
+				.thenReturn(true);
 
 		// Execute the query
 		Object[] parameters = new Object[]{"someName"};
@@ -3477,7 +3481,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("Name");
 		assertNotNull(filterCondition);
@@ -3501,7 +3505,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertNull(filterCondition.getAttributeValueList().get(0).getBS());
 
 		// Verify that the expected DynamoDBOperations method was called
-		Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
+		Mockito.verify(mockDynamoDBOperations).exists(userClassCaptor.getValue(), scanCaptor.getValue());
 	}
 
 	@Test
@@ -3510,10 +3514,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 				"existsTop1ByName", 1, "id", null);
 		Mockito.when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("Name"));
 
-		// Mockito.when(mockUserScanResults.size()).thenReturn(0);
-		Mockito.when(mockUserScanResults.isEmpty()).thenReturn(true);
-		Mockito.when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
-				.thenReturn(mockUserScanResults);
+		Mockito.when(mockDynamoDBOperations.exists(userClassCaptor.capture(), scanCaptor.capture()))
+				.thenReturn(false);
 
 		// Execute the query
 		Object[] parameters = new Object[]{"someName"};
@@ -3527,7 +3529,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("Name");
 		assertNotNull(filterCondition);
@@ -3551,7 +3553,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertNull(filterCondition.getAttributeValueList().get(0).getBS());
 
 		// Verify that the expected DynamoDBOperations method was called
-		Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
+		Mockito.verify(mockDynamoDBOperations).exists(userClassCaptor.getValue(), scanCaptor.getValue());
 	}
 
 	@Test
@@ -3560,11 +3562,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 				"existsTop1ByName", 1, "id", null);
 		Mockito.when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("Name"));
 
-		// Mockito.when(mockUserScanResults.get(0)).thenReturn(mockUser);
-		// Mockito.when(mockUserScanResults.size()).thenReturn(1);
-		Mockito.when(mockUserScanResults.isEmpty()).thenReturn(false);
-		Mockito.when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
-				.thenReturn(mockUserScanResults);
+		Mockito.when(mockDynamoDBOperations.exists(userClassCaptor.capture(), scanCaptor.capture()))
+				.thenReturn(true);
 
 		// Execute the query
 		Object[] parameters = new Object[]{"someName"};
@@ -3578,7 +3577,7 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
-		Map<String, Condition> filterConditions = scanCaptor.getValue().getScanFilter();
+		Map<String, Condition> filterConditions = filterConditions(scanCaptor.getValue());
 		assertEquals(1, filterConditions.size());
 		Condition filterCondition = filterConditions.get("Name");
 		assertNotNull(filterCondition);
@@ -3602,6 +3601,6 @@ public class PartTreeDynamoDBQueryUnitTest {
 		assertNull(filterCondition.getAttributeValueList().get(0).getBS());
 
 		// Verify that the expected DynamoDBOperations method was called
-		Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
+		Mockito.verify(mockDynamoDBOperations).exists(userClassCaptor.getValue(), scanCaptor.getValue());
 	}
 }
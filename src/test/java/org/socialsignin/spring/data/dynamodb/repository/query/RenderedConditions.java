@@ -0,0 +1,134 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
+import com.amazonaws.services.dynamodbv2.model.Condition;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the {@link Condition}s back from the expressions rendered by
+ * {@link DynamoDBExpressionBuilder} so tests can assert them per attribute.
+ */
+final class RenderedConditions {
+
+	private static final Pattern CONDITION = Pattern.compile("(?<not>NOT )?(?<function>begins_with|contains"
+			+ "|attribute_exists|attribute_not_exists)\\((?<argument>#\\w+)(, (?<operand>:\\w+))?\\)"
+			+ "|(?<name>#\\w+) (?:(?<operator><>|<=|>=|=|<|>) (?<value>:\\w+)"
+			+ "|BETWEEN (?<from>:\\w+) AND (?<to>:\\w+)|IN \\((?<values>[^)]*)\\))");
+
+	private RenderedConditions() {
+	}
+
+	static Map<String, Condition> filterConditions(DynamoDBScanExpression scanExpression) {
+		return of(scanExpression.getFilterExpression(), scanExpression.getExpressionAttributeNames(),
+				scanExpression.getExpressionAttributeValues());
+	}
+
+	static Map<String, Condition> keyConditions(DynamoDBQueryExpression<?> queryExpression) {
+		return of(queryExpression.getKeyConditionExpression(), queryExpression.getExpressionAttributeNames(),
+				queryExpression.getExpressionAttributeValues());
+	}
+
+	static Map<String, Condition> keyConditions(QueryRequest queryRequest) {
+		return of(queryRequest.getKeyConditionExpression(), queryRequest.getExpressionAttributeNames(),
+				queryRequest.getExpressionAttributeValues());
+	}
+
+	static Map<String, Condition> of(String expression, Map<String, String> names,
+			Map<String, AttributeValue> values) {
+		if (expression == null) {
+			return Collections.emptyMap();
+		}
+		Map<String, Condition> conditions = new LinkedHashMap<>();
+		Matcher matcher = CONDITION.matcher(expression);
+		while (matcher.find()) {
+			List<AttributeValue> attributeValues = new ArrayList<>();
+			ComparisonOperator comparisonOperator;
+			String name;
+			if (matcher.group("function") != null) {
+				name = matcher.group("argument");
+				switch (matcher.group("function")) {
+					case "begins_with" :
+						comparisonOperator = ComparisonOperator.BEGINS_WITH;
+						break;
+					case "contains" :
+						comparisonOperator = matcher.group("not") == null
+								? ComparisonOperator.CONTAINS
+								: ComparisonOperator.NOT_CONTAINS;
+						break;
+					case "attribute_exists" :
+						comparisonOperator = ComparisonOperator.NOT_NULL;
+						break;
+					default :
+						comparisonOperator = ComparisonOperator.NULL;
+				}
+				if (matcher.group("operand") != null) {
+					attributeValues.add(values.get(matcher.group("operand")));
+				}
+			} else {
+				name = matcher.group("name");
+				if (matcher.group("operator") != null) {
+					comparisonOperator = toComparisonOperator(matcher.group("operator"));
+					attributeValues.add(values.get(matcher.group("value")));
+				} else if (matcher.group("from") != null) {
+					comparisonOperator = ComparisonOperator.BETWEEN;
+					attributeValues.add(values.get(matcher.group("from")));
+					attributeValues.add(values.get(matcher.group("to")));
+				} else {
+					comparisonOperator = ComparisonOperator.IN;
+					for (String value : matcher.group("values").split(", ")) {
+						attributeValues.add(values.get(value));
+					}
+				}
+			}
+			Condition condition = new Condition().withComparisonOperator(comparisonOperator);
+			if (!attributeValues.isEmpty()) {
+				condition.setAttributeValueList(attributeValues);
+			}
+			conditions.put(names.get(name), condition);
+		}
+		return conditions;
+	}
+
+	private static ComparisonOperator toComparisonOperator(String operator) {
+		switch (operator) {
+			case "=" :
+				return ComparisonOperator.EQ;
+			case "<>" :
+				return ComparisonOperator.NE;
+			case "<=" :
+				return ComparisonOperator.LE;
+			case "<" :
+				return ComparisonOperator.LT;
+			case ">=" :
+				return ComparisonOperator.GE;
+			default :
+				return ComparisonOperator.GT;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+
+public class DynamoDBEntityInformationRegistryUnitTest {
+
+	@Test
+	public void testGetEntityInformation_ReturnsSameInstanceForSameDomainClass() {
+		DynamoDBEntityInformation<User, String> first = DynamoDBEntityInformationRegistry
+				.getEntityInformation(User.class);
+		DynamoDBEntityInformation<User, String> second = DynamoDBEntityInformationRegistry
+				.getEntityInformation(User.class);
+
+		Assert.assertSame(first, second);
+		Assert.assertEquals(User.class, first.getJavaType());
+	}
+
+	@Test
+	public void testGetEntityInformation_WhenDomainClassHasRangeKey() {
+		DynamoDBEntityInformation<Playlist, ?> entityInformation = DynamoDBEntityInformationRegistry
+				.getEntityInformation(Playlist.class);
+
+		Assert.assertTrue(entityInformation.isRangeKeyAware());
+		Assert.assertSame(entityInformation, DynamoDBEntityInformationRegistry.getEntityInformation(Playlist.class));
+	}
+
+	@Test
+	public void testClear_CreatesNewInstance() {
+		DynamoDBEntityInformation<User, String> first = DynamoDBEntityInformationRegistry
+				.getEntityInformation(User.class);
+		DynamoDBEntityInformationRegistry.clear();
+
+		Assert.assertNotSame(first, DynamoDBEntityInformationRegistry.getEntityInformation(User.class));
+	}
+}
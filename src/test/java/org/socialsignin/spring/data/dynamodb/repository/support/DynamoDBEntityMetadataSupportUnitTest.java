@@ -40,4 +40,15 @@ public class DynamoDBEntityMetadataSupportUnitTest {
 		DynamoDBMarshaller<?> methodAnnotation = support.getMarshallerForProperty("leaveDate");
 		Assert.assertNotNull(methodAnnotation);
 	}
+
+	@Test
+	public void testGetMarshallerForProperty_IsOnlyCreatedOnce() {
+		DynamoDBEntityMetadataSupport<User, ?> support = new DynamoDBEntityMetadataSupport<>(User.class);
+		@SuppressWarnings("deprecation")
+		DynamoDBMarshaller<?> first = support.getMarshallerForProperty("joinYear");
+		@SuppressWarnings("deprecation")
+		DynamoDBMarshaller<?> second = support.getMarshallerForProperty("joinYear");
+		Assert.assertSame(first, second);
+		Assert.assertNull(support.getMarshallerForProperty("name"));
+	}
 }
@@ -20,11 +20,13 @@ import org.junit.Test;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScan;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScanCount;
+import org.socialsignin.spring.data.dynamodb.repository.PageCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -58,6 +60,30 @@ public class EnableScanAnnotationPermissionTest {
 
 	}
 
+	@EnableScan(totalSegments = 8)
+	public interface SampleParallelRepository {
+		List<User> findAll();
+	}
+
+	public interface SampleParallelMethodRepository {
+		@EnableScan(totalSegments = 4)
+		List<User> findAll();
+
+		@EnableScan
+		int count();
+	}
+
+	@PageCount(PageCount.Mode.LAZY)
+	public interface SamplePageCountRepository {
+		List<User> findAll();
+	}
+
+	@PageCount(PageCount.Mode.LAZY)
+	public interface SamplePageCountMethodRepository {
+		@PageCount(PageCount.Mode.ESTIMATED)
+		Page<User> findAll(Pageable pageable);
+	}
+
 	@Before
 	public void setUp() {
 
@@ -94,6 +120,39 @@ public class EnableScanAnnotationPermissionTest {
 		assertFalse(underTest.isFindAllPaginatedScanEnabled());
 		assertFalse(underTest.isFindAllUnpaginatedScanCountEnabled());
 		assertFalse(underTest.isFindAllUnpaginatedScanEnabled());
+		assertEquals(1, underTest.getFindAllUnpaginatedScanTotalSegments());
+		assertEquals(1, underTest.getCountUnpaginatedScanTotalSegments());
+		assertEquals(1, underTest.getDeleteAllUnpaginatedScanTotalSegments());
+	}
+
+	@Test
+	public void testSampleParallelRepository() {
+		EnableScanAnnotationPermissions underTest = new EnableScanAnnotationPermissions(
+				SampleParallelRepository.class);
+
+		assertEquals(8, underTest.getFindAllUnpaginatedScanTotalSegments());
+		assertEquals(8, underTest.getCountUnpaginatedScanTotalSegments());
+		assertEquals(8, underTest.getDeleteAllUnpaginatedScanTotalSegments());
+	}
+
+	@Test
+	public void testSampleParallelMethodRepository() {
+		EnableScanAnnotationPermissions underTest = new EnableScanAnnotationPermissions(
+				SampleParallelMethodRepository.class);
+
+		assertEquals(4, underTest.getFindAllUnpaginatedScanTotalSegments());
+		assertEquals(1, underTest.getCountUnpaginatedScanTotalSegments());
+	}
+
+	@Test
+	public void testPageCountMode() {
+		assertEquals(PageCount.Mode.EAGER,
+				new EnableScanAnnotationPermissions(SampleRepository.class).getFindAllPaginatedPageCountMode());
+		assertEquals(PageCount.Mode.LAZY, new EnableScanAnnotationPermissions(SamplePageCountRepository.class)
+				.getFindAllPaginatedPageCountMode());
+		assertEquals(PageCount.Mode.ESTIMATED,
+				new EnableScanAnnotationPermissions(SamplePageCountMethodRepository.class)
+						.getFindAllPaginatedPageCountMode());
 	}
 
 }
@@ -0,0 +1,65 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.function.Function;
+
+public class MethodHandleKeyAccessorFactoryUnitTest {
+
+	public static class PublicKey {
+		private String hashKey = "hash";
+		private int rangeKey = 42;
+
+		public String getHashKey() {
+			return hashKey;
+		}
+
+		@SuppressWarnings("unused")
+		private int getRangeKey() {
+			return rangeKey;
+		}
+	}
+
+	private final KeyAccessorFactory underTest = new MethodHandleKeyAccessorFactory();
+
+	@Test
+	public void testCreateAccessor_WhenGetterIsPublic() {
+		Function<PublicKey, String> accessor = underTest
+				.createAccessor(ReflectionUtils.findMethod(PublicKey.class, "getHashKey"));
+
+		Assert.assertEquals("hash", accessor.apply(new PublicKey()));
+	}
+
+	@Test
+	public void testCreateAccessor_WhenGetterIsPrivateAndReturnsPrimitive() {
+		Function<PublicKey, Integer> accessor = underTest
+				.createAccessor(ReflectionUtils.findMethod(PublicKey.class, "getRangeKey"));
+
+		Assert.assertEquals(Integer.valueOf(42), accessor.apply(new PublicKey()));
+	}
+
+	@Test
+	public void testCreateAccessor_WhenFieldIsPrivate() {
+		Function<PublicKey, String> accessor = underTest
+				.createAccessor(ReflectionUtils.findField(PublicKey.class, "hashKey"));
+
+		Assert.assertEquals("hash", accessor.apply(new PublicKey()));
+	}
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.EnableScan;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveDynamoDBRepositoryFactoryTest {
+
+	@Mock
+	private AsyncDynamoDBOperations dynamoDBOperations;
+
+	private UserRepository underTest;
+
+	@EnableScan
+	public interface UserRepository extends ReactiveDynamoDBCrudRepository<User, String> {
+		Publisher<User> findByName(String name);
+	}
+
+	@Before
+	public void setUp() {
+		underTest = new ReactiveDynamoDBRepositoryFactory(dynamoDBOperations).getRepository(UserRepository.class);
+	}
+
+	@Test
+	public void testFindAll() {
+		@SuppressWarnings("unchecked")
+		Publisher<User> expected = mock(Publisher.class);
+		when(dynamoDBOperations.scanPublisher(eq(User.class), any())).thenReturn(expected);
+
+		assertSame(expected, underTest.findAll());
+	}
+
+	@Test
+	public void testQueryMethod() {
+		@SuppressWarnings("unchecked")
+		Publisher<User> expected = mock(Publisher.class);
+		ArgumentCaptor<DynamoDBScanExpression> scanExpression = ArgumentCaptor.forClass(DynamoDBScanExpression.class);
+		when(dynamoDBOperations.scanPublisher(eq(User.class), scanExpression.capture())).thenReturn(expected);
+
+		assertSame(expected, underTest.findByName("someName"));
+		verify(dynamoDBOperations).scanPublisher(eq(User.class), any());
+		assertEquals("#n0 = :v0", scanExpression.getValue().getFilterExpression());
+		assertEquals("name", scanExpression.getValue().getExpressionAttributeNames().get("#n0"));
+		assertEquals("someName", scanExpression.getValue().getExpressionAttributeValues().get(":v0").getS());
+	}
+}
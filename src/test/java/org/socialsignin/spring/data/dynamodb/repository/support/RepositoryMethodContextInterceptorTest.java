@@ -0,0 +1,46 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/derjust/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.core.RepositoryMethodContext;
+import org.socialsignin.spring.data.dynamodb.domain.sample.UserRepository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RepositoryMethodContextInterceptorTest {
+
+	@Mock
+	private MethodInvocation invocation;
+
+	@Test
+	public void testExposesRepositoryMethodDuringInvocation() throws Throwable {
+		when(invocation.getMethod()).thenReturn(UserRepository.class.getMethod("findAll"));
+		when(invocation.proceed()).thenAnswer(i -> RepositoryMethodContext.getCurrentRepositoryMethod());
+
+		Object actual = new RepositoryMethodContextInterceptor(UserRepository.class).invoke(invocation);
+
+		assertEquals("UserRepository.findAll", actual);
+		assertNull(RepositoryMethodContext.getCurrentRepositoryMethod());
+	}
+}
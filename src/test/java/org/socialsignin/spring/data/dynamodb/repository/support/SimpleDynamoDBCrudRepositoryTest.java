@@ -17,7 +17,10 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedParallelScanList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -32,20 +35,26 @@ import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -64,6 +73,8 @@ public class SimpleDynamoDBCrudRepositoryTest {
 	@Mock
 	private PaginatedScanList<User> findAllResultMock;
 	@Mock
+	private PaginatedParallelScanList<User> parallelScanResultMock;
+	@Mock
 	private DynamoDBOperations dynamoDBOperations;
 	@Mock
 	private EnableScanPermissions mockEnableScanPermissions;
@@ -115,17 +126,21 @@ public class SimpleDynamoDBCrudRepositoryTest {
 	@Test
 	public void deleteById() {
 		final long id = ThreadLocalRandom.current().nextLong();
-		User testResult = new User();
-		testResult.setId(Long.toString(id));
 
 		when(entityWithSimpleIdInformation.getHashKey(id)).thenReturn(id);
-		when(dynamoDBOperations.load(User.class, id)).thenReturn(testResult);
 
 		repoForEntityWithOnlyHashKey.deleteById(id);
 
-		ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
-		Mockito.verify(dynamoDBOperations).delete(captor.capture());
-		Assert.assertEquals(Long.toString(id), captor.getValue().getId());
+		// Deleted by key without reading the entity first
+		Mockito.verify(dynamoDBOperations).delete(User.class, id, null);
+		Mockito.verify(dynamoDBOperations, Mockito.never()).load(User.class, id);
+	}
+
+	@Test
+	public void deleteByIdWithHashAndRangeKey() {
+		repoForEntityWithHashAndRangeKey.deleteById(testPlaylistId);
+
+		Mockito.verify(dynamoDBOperations).delete(Playlist.class, "michael", "playlist1");
 	}
 
 	@Test
@@ -142,12 +157,32 @@ public class SimpleDynamoDBCrudRepositoryTest {
 		verify(dynamoDBOperations).batchDelete(findAllResultMock);
 	}
 
+	@Test(expected = BatchDeleteException.class)
+	public void deleteIterableFailure() {
+		when(dynamoDBOperations.batchDelete(findAllResultMock))
+				.thenReturn(Collections.singletonList(new FailedBatch()));
+
+		repoForEntityWithOnlyHashKey.deleteAll(findAllResultMock);
+	}
+
 	@Test
 	public void deleteAll() {
-		when(dynamoDBOperations.scan(eq(User.class), any(DynamoDBScanExpression.class))).thenReturn(findAllResultMock);
+		when(mockEnableScanPermissions.getDeleteAllUnpaginatedScanTotalSegments()).thenReturn(4);
+		when(dynamoDBOperations.batchDelete(eq(User.class), any(DynamoDBScanExpression.class), eq(4)))
+				.thenReturn(Collections.emptyList());
+
+		repoForEntityWithOnlyHashKey.deleteAll();
+		verify(dynamoDBOperations).batchDelete(eq(User.class), any(DynamoDBScanExpression.class), eq(4));
+		verify(dynamoDBOperations, Mockito.never()).scan(eq(User.class), any(DynamoDBScanExpression.class));
+	}
+
+	@Test(expected = BatchDeleteException.class)
+	public void deleteAllFailure() {
+		when(mockEnableScanPermissions.getDeleteAllUnpaginatedScanTotalSegments()).thenReturn(1);
+		when(dynamoDBOperations.batchDelete(eq(User.class), any(DynamoDBScanExpression.class), eq(1)))
+				.thenReturn(Collections.singletonList(new FailedBatch()));
 
 		repoForEntityWithOnlyHashKey.deleteAll();
-		verify(dynamoDBOperations).batchDelete(findAllResultMock);
 	}
 
 	@Test
@@ -166,6 +201,16 @@ public class SimpleDynamoDBCrudRepositoryTest {
 	 */
 	@Test(expected = EmptyResultDataAccessException.class)
 	public void throwsExceptionIfEntityOnlyHashKeyToDeleteDoesNotExist() {
+		Mockito.doThrow(new ConditionalCheckFailedException("The conditional request failed"))
+				.when(dynamoDBOperations).delete(eq(User.class), any(), any());
+
+		repoForEntityWithOnlyHashKey.deleteById(4711L);
+	}
+
+	@Test(expected = OptimisticLockingFailureException.class)
+	public void throwsVersionConflictOfEntityToDelete() {
+		Mockito.doThrow(new OptimisticLockingFailureException("The version changed")).when(dynamoDBOperations)
+				.delete(eq(User.class), any(), any());
 
 		repoForEntityWithOnlyHashKey.deleteById(4711L);
 	}
@@ -185,11 +230,21 @@ public class SimpleDynamoDBCrudRepositoryTest {
 
 	@Test
 	public void existsEntityWithOnlyHashKey() {
-		when(dynamoDBOperations.load(User.class, 1l)).thenReturn(null);
+		when(dynamoDBOperations.exists(User.class, 1l, null)).thenReturn(false);
 
 		boolean actual = repoForEntityWithOnlyHashKey.existsById(1l);
 
 		assertFalse(actual);
+		Mockito.verify(dynamoDBOperations, Mockito.never()).load(User.class, 1l);
+	}
+
+	@Test
+	public void existsEntityWithHashAndRangeKey() {
+		when(dynamoDBOperations.exists(Playlist.class, "michael", "playlist1")).thenReturn(true);
+
+		boolean actual = repoForEntityWithHashAndRangeKey.existsById(testPlaylistId);
+
+		assertTrue(actual);
 	}
 
 	@Test
@@ -199,6 +254,40 @@ public class SimpleDynamoDBCrudRepositoryTest {
 		verify(dynamoDBOperations).count(eq(User.class), any(DynamoDBScanExpression.class));
 	}
 
+	@Test
+	public void testFindAllByIdWithRangeKey() {
+		List<Playlist> expected = Collections.singletonList(testPlaylist);
+		when(dynamoDBOperations.batchLoad(eq(Playlist.class), anyList())).thenReturn(expected);
+
+		List<Playlist> actual = repoForEntityWithHashAndRangeKey
+				.findAllById(Collections.singletonList(testPlaylistId));
+
+		assertSame(expected, actual);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<KeyPair>> keyPairs = ArgumentCaptor.forClass(List.class);
+		verify(dynamoDBOperations).batchLoad(eq(Playlist.class), keyPairs.capture());
+		assertEquals("michael", keyPairs.getValue().get(0).getHashKey());
+		assertEquals("playlist1", keyPairs.getValue().get(0).getRangeKey());
+	}
+
+	@Test
+	public void testCountParallel() {
+		when(mockEnableScanPermissions.getCountUnpaginatedScanTotalSegments()).thenReturn(4);
+		when(dynamoDBOperations.parallelCount(eq(User.class), any(DynamoDBScanExpression.class), eq(4)))
+				.thenReturn(42);
+
+		assertEquals(42, repoForEntityWithOnlyHashKey.count());
+	}
+
+	@Test
+	public void testFindAllParallel() {
+		when(mockEnableScanPermissions.getFindAllUnpaginatedScanTotalSegments()).thenReturn(4);
+		when(dynamoDBOperations.parallelScan(eq(User.class), any(DynamoDBScanExpression.class), eq(4)))
+				.thenReturn(parallelScanResultMock);
+
+		assertSame(parallelScanResultMock, repoForEntityWithOnlyHashKey.findAll());
+	}
+
 	@Test
 	public void findOneEntityWithOnlyHashKey() {
 		Optional<User> user = repoForEntityWithOnlyHashKey.findById(1l);
@@ -232,6 +321,8 @@ public class SimpleDynamoDBCrudRepositoryTest {
 		PlaylistId playlistId = new PlaylistId();
 		playlistId.setUserName("someUser");
 		playlistId.setPlaylistName("somePlaylistName");
+		Mockito.doThrow(new ConditionalCheckFailedException("The conditional request failed"))
+				.when(dynamoDBOperations).delete(eq(Playlist.class), any(), any());
 
 		repoForEntityWithHashAndRangeKey.deleteById(playlistId);
 	}
@@ -249,6 +340,21 @@ public class SimpleDynamoDBCrudRepositoryTest {
 		verify(dynamoDBOperations).batchSave(anyIterable());
 	}
 
+	@Test
+	public void testSaveAllStream() {
+		repoForEntityWithOnlyHashKey.saveAll(Stream.of(new User(), new User()));
+
+		verify(dynamoDBOperations).batchSave(any(Iterator.class));
+	}
+
+	@Test(expected = BatchWriteException.class)
+	public void testSaveAllStreamFailure() {
+		when(dynamoDBOperations.batchSave(any(Iterator.class)))
+				.thenReturn(Collections.singletonList(new FailedBatch()));
+
+		repoForEntityWithOnlyHashKey.saveAll(Stream.of(new User()));
+	}
+
 	@Test
 	public void testBatchSaveFailure() {
 		List<FailedBatch> failures = new ArrayList<>();
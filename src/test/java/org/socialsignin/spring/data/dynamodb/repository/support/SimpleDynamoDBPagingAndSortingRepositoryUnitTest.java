@@ -15,21 +15,43 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.CursorPage;
+import org.socialsignin.spring.data.dynamodb.domain.CursorPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.ExclusiveStartKeyCursor;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.PageCount;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -97,6 +119,8 @@ public class SimpleDynamoDBPagingAndSortingRepositoryUnitTest {
 	 */
 	@Test(expected = EmptyResultDataAccessException.class)
 	public void throwsExceptionIfEntityWithOnlyHashKeyToDeleteDoesNotExist() {
+		Mockito.doThrow(new ConditionalCheckFailedException("The conditional request failed"))
+				.when(dynamoDBOperations).delete(eq(User.class), any(), any());
 
 		repoForEntityWithOnlyHashKey.deleteById(4711L);
 	}
@@ -123,7 +147,60 @@ public class SimpleDynamoDBPagingAndSortingRepositoryUnitTest {
 		PlaylistId playlistId = new PlaylistId();
 		playlistId.setUserName("someUser");
 		playlistId.setPlaylistName("somePlaylistName");
+		Mockito.doThrow(new ConditionalCheckFailedException("The conditional request failed"))
+				.when(dynamoDBOperations).delete(eq(Playlist.class), any(), any());
 
 		repoForEntityWithHashAndRangeKey.deleteById(playlistId);
 	}
+
+	@Test
+	public void findAllWithCursorScansOnlyThePage() {
+		Map<String, AttributeValue> startKey = Collections.singletonMap("id", new AttributeValue("41"));
+		Map<String, AttributeValue> lastKey = Collections.singletonMap("id", new AttributeValue("42"));
+		ScanResultPage<User> scanResultPage = new ScanResultPage<>();
+		scanResultPage.setResults(Collections.singletonList(testUser));
+		scanResultPage.setLastEvaluatedKey(lastKey);
+		when(mockEnableScanPermissions.isFindAllPaginatedScanEnabled()).thenReturn(true);
+		when(mockEnableScanPermissions.isFindAllUnpaginatedScanCountEnabled()).thenReturn(true);
+		when(mockEnableScanPermissions.getFindAllPaginatedPageCountMode()).thenReturn(PageCount.Mode.EAGER);
+		when(dynamoDBOperations.scanPage(eq(User.class), any(DynamoDBScanExpression.class)))
+				.thenReturn(scanResultPage);
+		when(dynamoDBOperations.count(eq(User.class), any(DynamoDBScanExpression.class))).thenReturn(100);
+
+		Page<User> actual = repoForEntityWithOnlyHashKey
+				.findAll(new CursorPageRequest(5, 1, ExclusiveStartKeyCursor.encode(startKey)));
+
+		ArgumentCaptor<DynamoDBScanExpression> scan = ArgumentCaptor.forClass(DynamoDBScanExpression.class);
+		verify(dynamoDBOperations).scanPage(eq(User.class), scan.capture());
+		assertEquals(Integer.valueOf(1), scan.getValue().getLimit());
+		assertEquals(startKey, scan.getValue().getExclusiveStartKey());
+
+		assertTrue(actual instanceof CursorPage);
+		assertEquals(Collections.singletonList(testUser), actual.getContent());
+		assertEquals(100, actual.getTotalElements());
+		assertEquals(lastKey, ((CursorPageRequest) actual.nextPageable()).getExclusiveStartKey());
+	}
+
+	@Test
+	public void findAllWithEstimatedTotal() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			users.add(new User());
+		}
+		PaginatedScanList<User> scanList = Mockito.mock(PaginatedScanList.class);
+		when(scanList.iterator()).thenReturn(users.iterator());
+		when(mockEnableScanPermissions.isFindAllPaginatedScanEnabled()).thenReturn(true);
+		when(mockEnableScanPermissions.getFindAllPaginatedPageCountMode()).thenReturn(PageCount.Mode.ESTIMATED);
+		when(entityWithOnlyHashKeyInformation.getDynamoDBTableName()).thenReturn("user");
+		when(dynamoDBOperations.scan(eq(User.class), any(DynamoDBScanExpression.class))).thenReturn(scanList);
+		when(dynamoDBOperations.estimateCount(User.class, "user")).thenReturn(1000L);
+
+		Page<User> actual = repoForEntityWithOnlyHashKey.findAll(PageRequest.of(1, 2));
+
+		assertEquals(users.subList(2, 4), actual.getContent());
+		assertTrue(actual.hasNext());
+		verify(dynamoDBOperations, never()).estimateCount(any(), anyString());
+		assertEquals(1000L, actual.getTotalElements());
+		verify(dynamoDBOperations, never()).count(eq(User.class), any(DynamoDBScanExpression.class));
+	}
 }